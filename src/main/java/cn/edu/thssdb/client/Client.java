@@ -11,6 +11,7 @@ import org.apache.commons.cli.ParseException;
 import org.apache.thrift.TException;
 import org.apache.thrift.protocol.TBinaryProtocol;
 import org.apache.thrift.protocol.TProtocol;
+import org.apache.thrift.transport.TFramedTransport;
 import org.apache.thrift.transport.TSocket;
 import org.apache.thrift.transport.TTransport;
 import org.apache.thrift.transport.TTransportException;
@@ -18,6 +19,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.PrintStream;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Scanner;
 
@@ -34,6 +36,9 @@ public class Client {
     static final String PORT_ARGS = "p";
     static final String PORT_NAME = "port";
 
+    static final String FRAMED_ARGS = "f";
+    static final String FRAMED_NAME = "framed";
+
     private static final PrintStream SCREEN_PRINTER = new PrintStream(System.out);
     private static final Scanner SCANNER = new Scanner(System.in);
 
@@ -53,6 +58,7 @@ public class Client {
             echoStarting();
             String host = commandLine.getOptionValue(HOST_ARGS, Global.DEFAULT_SERVER_HOST);
             int port = Integer.parseInt(commandLine.getOptionValue(PORT_ARGS, String.valueOf(Global.DEFAULT_SERVER_PORT)));
+            boolean framed = commandLine.hasOption(FRAMED_ARGS);
             boolean open = true;
             do {
                 print(Global.CLI_PREFIX + inTransaction + ">");
@@ -60,6 +66,7 @@ public class Client {
                 long startTime = System.currentTimeMillis();
 
                 TTransport transport = new TSocket(host, port);
+                if (framed) transport = new TFramedTransport(transport);
                 transport.open();
                 TProtocol protocol = new TBinaryProtocol(transport);
                 client = new IService.Client(protocol);
@@ -131,6 +138,10 @@ public class Client {
             println("you're not connected. plz connect first.");
             return;
         }
+        if (Arrays.stream(msg.split(";")).filter(s -> !s.isBlank()).count() == 1) {
+            query(msg);
+            return;
+        }
         ExecuteStatementReq req = new ExecuteStatementReq();
         req.setSessionId(session);
         req.setStatement(msg);
@@ -143,30 +154,11 @@ public class Client {
                 if (resp.isAbort) {
                     println("illegal SQL statement!");
                 } else if (resp.isSetRowList()) {
-                    StringBuilder column_str = new StringBuilder();
-                    int column_size = resp.columnsList.size();
-                    for (int i = 0; i < column_size; ++i) {
-                        column_str.append(resp.columnsList.get(i));
-                        if (i != column_size - 1) column_str.append(", ");
-                    }
-                    println(column_str.toString());
-                    println("----------------------------------------------------------------");
-
-                    for (List<String> row : resp.rowList) {
-                        StringBuilder row_str = new StringBuilder();
-                        for (int i = 0; i < column_size; ++i) {
-                            row_str.append(row.get(i));
-                            if (i != column_size - 1) row_str.append(", ");
-                        }
-                        println(row_str.toString());
-                    }
+                    printColumns(resp.columnsList);
+                    for (List<String> row : resp.rowList)
+                        printRow(row, resp.columnsList.size());
                 } else {
-                    for (String column : resp.columnsList) {
-                        column = column.trim();
-                        if (column.equals("start transaction")) inTransaction = "(T)";
-                        else if (column.equals("commit transaction")) inTransaction = "";
-                        println(column);
-                    }
+                    printMessages(resp.columnsList);
                 }
             }
         } catch (TException e) {
@@ -174,6 +166,61 @@ public class Client {
         }
     }
 
+    // a single statement, rows of a query are fetched and printed a batch at a time
+    private static void query(String msg) {
+        ExecuteQueryReq req = new ExecuteQueryReq();
+        req.setSessionId(session);
+        req.setStatement(msg);
+        try {
+            ExecuteQueryResp resp = client.executeQuery(req);
+            if (resp.getStatus().code == Global.FAILURE_CODE) {
+                println("Connection Failure!");
+                println(resp.getStatus().msg);
+            } else if (resp.isAbort) {
+                println("illegal SQL statement!");
+            } else if (resp.isSetQueryId()) {
+                printColumns(resp.columnsList);
+                FetchResultsResp rows;
+                do {
+                    rows = client.fetchResults(new FetchResultsReq(session, resp.getQueryId(), Global.fetchSize));
+                    if (rows.getStatus().code == Global.FAILURE_CODE) {
+                        println(rows.getStatus().msg);
+                        break;
+                    }
+                    for (List<String> row : rows.rowList)
+                        printRow(row, resp.columnsList.size());
+                } while (rows.hasMore);
+            } else {
+                printMessages(resp.columnsList);
+            }
+        } catch (TException e) {
+            logger.error(e.getMessage());
+        }
+    }
+
+    private static void printColumns(List<String> columns) {
+        println(String.join(", ", columns));
+        println("----------------------------------------------------------------");
+    }
+
+    private static void printRow(List<String> row, int column_size) {
+        StringBuilder row_str = new StringBuilder();
+        for (int i = 0; i < column_size; ++i) {
+            row_str.append(row.get(i));
+            if (i != column_size - 1) row_str.append(", ");
+        }
+        println(row_str.toString());
+    }
+
+    private static void printMessages(List<String> messages) {
+        for (String column : messages) {
+            column = column.trim();
+            if (column.equals("start transaction")) inTransaction = "(T)";
+            else if (column.equals("commit transaction")) inTransaction = "";
+            println(column);
+        }
+    }
+
     static Options createOptions() {
         Options options = new Options();
         options.addOption(Option.builder(HELP_ARGS)
@@ -197,6 +244,13 @@ public class Client {
                 .required(false)
                 .build()
         );
+        options.addOption(Option.builder(FRAMED_ARGS)
+                .argName(FRAMED_NAME)
+                .desc("Framed transport, for a server in selector mode (optional)")
+                .hasArg(false)
+                .required(false)
+                .build()
+        );
         return options;
     }
 
@@ -2,6 +2,20 @@ package cn.edu.thssdb.common;
 
 public class Global {
   public static int fanout = 129;
+  public static int pageSize = 4096;
+  public static int bufferPoolSize = 64 * 1024 * 1024; // bytes
+  public static int sortBufferRows = 100000; // rows kept in memory by a sort or join before spilling to disk
+  public static int analyzeSampleRows = 30000; // rows sampled by ANALYZE for distinct counts and histograms
+  public static int batchSize = 1024; // values filtered at a time by scans of columnar tables
+  public static int fetchSize = 1000; // rows of a query result sent to the client at a time
+  public static long cursorIdleTimeout = 10 * 60 * 1000; // ms without a fetch after which an open query is closed, 0: never
+  public static String walSyncPolicy = "commit"; // "commit": a commit waits for the log on disk, "interval": forced every walSyncInterval ms, "os": never forced
+  public static int walSyncInterval = 10; // ms
+  public static long checkpointLogSize = 1 << 20; // bytes of log after which a commit asks for a checkpoint
+  public static int checkpointInterval = 60000; // ms between checkpoints of databases whose log has grown
+  public static long tableIdleTimeout = 10 * 60 * 1000; // ms without access after which a table may be closed, 0: never
+  public static double tableUnloadMemoryRatio = 0.75; // idle tables are closed while more of the heap than this is used
+  public static int recoveryThreads = Runtime.getRuntime().availableProcessors(); // load tables and redo their logs at startup
 
   public static int SUCCESS_CODE = 0;
   public static int FAILURE_CODE = -1;
@@ -9,6 +23,14 @@ public class Global {
   public static String DEFAULT_SERVER_HOST = "127.0.0.1";
   public static int DEFAULT_SERVER_PORT = 6667;
 
+  public static String serverMode = "threadpool"; // "threadpool": a thread per connection, "selector": selector threads and a worker pool
+  public static int selectorThreads = 2;
+  public static int workerThreads = 64; // of the selector mode
+  public static int workerQueueSize = 1024; // requests waiting for a worker of the selector mode, the connection of more is closed
+  public static long lockWaitTimeout = 30 * 1000; // ms a statement waits for a table or database lock before it fails, 0: never
+  public static int maxConnections = 4096;
+  public static long maxReadBufferBytes = 64L * 1024 * 1024; // requests buffered by the selectors before they stop reading
+
   public static String CLI_PREFIX = "ThssDB";
   public static final String SHOW_TIME = "show time;";
   public static final String QUIT = "quit;";
@@ -24,6 +46,11 @@ public class Global {
 
   public static final String DBMS_DIR = "thssdb";
   public static final String META_SUFFIX = "_meta";
+  public static final String INDEX_SUFFIX = "_index";
+  public static final String INDEXES_SUFFIX = "_indexes"; // secondary index definitions
+  public static final String STATISTICS_SUFFIX = "_stats"; // collected by ANALYZE
+  public static final String COLUMNAR_SUFFIX = "_columnar"; // present if the table keeps a columnar copy
+  public static final String LEGACY_SUFFIX = ".legacy"; // table file of the old format, until it is migrated
 
   public static final String LOG_BEGIN_TRANSACTION = "begin transaction";
   public static final String LOG_COMMIT = "commit";
@@ -0,0 +1,16 @@
+package cn.edu.thssdb.exception;
+
+public class DatabaseRecoveryException extends RuntimeException {
+    private final String databaseName;
+
+    public DatabaseRecoveryException(String databaseName, Throwable cause) {
+        super(cause);
+        this.databaseName = databaseName;
+    }
+
+    @Override
+    public String getMessage() {
+        return "Exception: database " + databaseName + " can't be recovered, its files or log may be damaged: "
+                + getCause().getMessage() + "!";
+    }
+}
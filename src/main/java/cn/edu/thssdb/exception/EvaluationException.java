@@ -0,0 +1,12 @@
+package cn.edu.thssdb.exception;
+
+public class EvaluationException extends RuntimeException {
+    public EvaluationException(Exception cause) {
+        super(cause);
+    }
+
+    @Override
+    public String getMessage() {
+        return getCause().getMessage();
+    }
+}
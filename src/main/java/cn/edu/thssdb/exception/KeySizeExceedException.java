@@ -0,0 +1,22 @@
+package cn.edu.thssdb.exception;
+
+public class KeySizeExceedException extends RuntimeException {
+    private final String tableName;
+    private final String columnName;
+    private final int keySize;
+    private final int maxKeySize;
+
+    public KeySizeExceedException(String tableName, String columnName, int keySize, int maxKeySize) {
+        super();
+        this.tableName = tableName;
+        this.columnName = columnName;
+        this.keySize = keySize;
+        this.maxKeySize = maxKeySize;
+    }
+
+    @Override
+    public String getMessage() {
+        return "Exception: an index key on column " + columnName + " of table " + tableName + " may take " + keySize
+                + " bytes, more than the " + maxKeySize + " bytes an index page allows, shorten the column!";
+    }
+}
@@ -0,0 +1,15 @@
+package cn.edu.thssdb.exception;
+
+public class LockWaitTimeoutException extends RuntimeException {
+    private final long timeout;
+
+    public LockWaitTimeoutException(long timeout) {
+        super();
+        this.timeout = timeout;
+    }
+
+    @Override
+    public String getMessage() {
+        return "Exception: waited " + timeout + " ms for a lock held by another session, commit and try again!";
+    }
+}
@@ -0,0 +1,17 @@
+package cn.edu.thssdb.exception;
+
+public class PageCorruptException extends RuntimeException {
+    private final String filename;
+    private final int pageId;
+
+    public PageCorruptException(String filename, int pageId) {
+        super();
+        this.filename = filename;
+        this.pageId = pageId;
+    }
+
+    @Override
+    public String getMessage() {
+        return "Exception: checksum mismatch in page " + pageId + " of file " + filename + "!";
+    }
+}
@@ -0,0 +1,20 @@
+package cn.edu.thssdb.exception;
+
+public class RowSizeExceedException extends RuntimeException {
+    private final String tableName;
+    private final int rowSize;
+    private final int pageCapacity;
+
+    public RowSizeExceedException(String tableName, int rowSize, int pageCapacity) {
+        super();
+        this.tableName = tableName;
+        this.rowSize = rowSize;
+        this.pageCapacity = pageCapacity;
+    }
+
+    @Override
+    public String getMessage() {
+        return "Exception: a row of table " + tableName + " may take " + rowSize + " bytes, more than the "
+                + pageCapacity + " bytes a page holds, shorten its string columns!";
+    }
+}
@@ -57,6 +57,11 @@ public final class BPlusTree<K extends Comparable<K>, V> implements Iterable<Pai
     }
   }
 
+  // entries with key in the range, null for an unbounded side
+  public BPlusTreeCursor<K, V> cursor(K lower, boolean lowerInclusive, K upper, boolean upperInclusive, boolean reverse) {
+    return new BPlusTreeCursor<>(this, lower, lowerInclusive, upper, upperInclusive, reverse);
+  }
+
   @Override
   public BPlusTreeIterator<K, V> iterator() {
     return new BPlusTreeIterator<>(this);
@@ -0,0 +1,81 @@
+package cn.edu.thssdb.index;
+
+/**
+ * Range scan over the leaf chain of BPlusTree, forward along next or reverse along prev.
+ * A null bound is unbounded.
+ */
+public class BPlusTreeCursor<K extends Comparable<K>, V> implements IndexCursor<K, V> {
+  private final K lower;
+  private final boolean lowerInclusive;
+  private final K upper;
+  private final boolean upperInclusive;
+  private final boolean reverse;
+  private BPlusTreeLeafNode<K, V> leaf;
+  private int position;
+
+  BPlusTreeCursor(BPlusTree<K, V> tree, K lower, boolean lowerInclusive, K upper, boolean upperInclusive, boolean reverse) {
+    this.lower = lower;
+    this.lowerInclusive = lowerInclusive;
+    this.upper = upper;
+    this.upperInclusive = upperInclusive;
+    this.reverse = reverse;
+    K bound = reverse ? upper : lower;
+    BPlusTreeNode<K, V> node = tree.root;
+    while (node instanceof BPlusTreeInternalNode) {
+      var internal = (BPlusTreeInternalNode<K, V>) node;
+      int index;
+      if (bound == null) index = reverse ? internal.size() : 0;
+      else {
+        index = internal.binarySearch(bound);
+        index = index >= 0 ? index + 1 : -index - 1;
+      }
+      node = internal.children.get(index);
+    }
+    leaf = (BPlusTreeLeafNode<K, V>) node;
+    // position is one step before the first entry in scan direction
+    if (bound == null) {
+      position = reverse ? leaf.size() : -1;
+      return;
+    }
+    int index = leaf.binarySearch(bound);
+    if (reverse)
+      position = index >= 0 ? (upperInclusive ? index + 1 : index) : -index - 1;
+    else
+      position = index >= 0 ? (lowerInclusive ? index - 1 : index) : -index - 2;
+  }
+
+  @Override
+  public boolean advance() {
+    if (leaf == null) return false;
+    if (reverse) {
+      position--;
+      while (position < 0) {
+        leaf = leaf.prev;
+        if (leaf == null) return false;
+        position = leaf.size() - 1;
+      }
+      int cmp = lower == null ? 1 : key().compareTo(lower);
+      if (cmp < 0 || cmp == 0 && !lowerInclusive) leaf = null;
+    } else {
+      position++;
+      while (position >= leaf.size()) {
+        leaf = leaf.next;
+        if (leaf == null) return false;
+        position = 0;
+      }
+      int cmp = upper == null ? -1 : key().compareTo(upper);
+      if (cmp > 0 || cmp == 0 && !upperInclusive) leaf = null;
+    }
+    return leaf != null;
+  }
+
+  @Override
+  public K key() {
+    return leaf.keys.get(position);
+  }
+
+  @Override
+  public V value() {
+    return leaf.values.get(position);
+  }
+}
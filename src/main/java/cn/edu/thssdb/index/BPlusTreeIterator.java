@@ -3,39 +3,30 @@ package cn.edu.thssdb.index;
 import cn.edu.thssdb.common.Pair;
 
 import java.util.Iterator;
-import java.util.LinkedList;
+import java.util.NoSuchElementException;
 
 public class BPlusTreeIterator<K extends Comparable<K>, V> implements Iterator<Pair<K, V>> {
-  private LinkedList<BPlusTreeNode<K, V>> queue;
-  private LinkedList<Pair<K, V>> buffer;
+  private final BPlusTreeCursor<K, V> cursor;
+  private boolean advanced;
+  private boolean hasNext;
 
   BPlusTreeIterator(BPlusTree<K, V> tree) {
-    queue = new LinkedList<>();
-    buffer = new LinkedList<>();
-    if (tree.size() == 0) return;
-    queue.add(tree.root);
+    cursor = tree.cursor(null, true, null, true, false);
   }
 
   @Override
   public boolean hasNext() {
-    return !queue.isEmpty() || !buffer.isEmpty();
+    if (!advanced) {
+      hasNext = cursor.advance();
+      advanced = true;
+    }
+    return hasNext;
   }
 
   @Override
   public Pair<K, V> next() {
-    if (buffer.isEmpty()) {
-      while (true) {
-        BPlusTreeNode<K, V> node = queue.poll();
-        if (node instanceof BPlusTreeLeafNode) {
-          for (int i = 0; i < node.size(); i++)
-            buffer.add(
-                    new Pair<>(node.keys.get(i), ((BPlusTreeLeafNode<K, V>) node).values.get(i)));
-          break;
-        } else if (node instanceof BPlusTreeInternalNode)
-          for (int i = 0; i <= node.size(); i++)
-            queue.add(((BPlusTreeInternalNode<K, V>) node).children.get(i));
-      }
-    }
-    return buffer.poll();
+    if (!hasNext()) throw new NoSuchElementException();
+    advanced = false;
+    return new Pair<>(cursor.key(), cursor.value());
   }
 }
@@ -10,7 +10,8 @@ import java.util.Collections;
 public class BPlusTreeLeafNode<K extends Comparable<K>, V> extends BPlusTreeNode<K, V> {
 
   ArrayList<V> values;
-  private BPlusTreeLeafNode<K, V> next;
+  BPlusTreeLeafNode<K, V> next;
+  BPlusTreeLeafNode<K, V> prev;
 
   BPlusTreeLeafNode(int size) {
     keys = new ArrayList<>(Collections.nCopies((int) (1.5 * Global.fanout) + 1, null));
@@ -82,6 +83,8 @@ public class BPlusTreeLeafNode<K extends Comparable<K>, V> extends BPlusTreeNode
     }
     nodeSize = from;
     newSiblingNode.next = next;
+    newSiblingNode.prev = this;
+    if (next != null) next.prev = newSiblingNode;
     next = newSiblingNode;
     return newSiblingNode;
   }
@@ -97,5 +100,6 @@ public class BPlusTreeLeafNode<K extends Comparable<K>, V> extends BPlusTreeNode
     }
     nodeSize = index + length;
     next = node.next;
+    if (next != null) next.prev = this;
   }
 }
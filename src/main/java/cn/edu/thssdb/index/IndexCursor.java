@@ -0,0 +1,14 @@
+package cn.edu.thssdb.index;
+
+/**
+ * Position in a key range of an index, moved along the leaf chain by advance().
+ * key() and value() refer to the current entry and are valid after advance() returned true.
+ */
+public interface IndexCursor<K, V> {
+  // move to the next entry in scan direction, false if the range is exhausted
+  boolean advance();
+
+  K key();
+
+  V value();
+}
@@ -0,0 +1,102 @@
+package cn.edu.thssdb.index;
+
+/**
+ * Interval of index keys, a null bound is unbounded.
+ * Ranges are combined by intersect (AND) and span (OR, the smallest range covering both).
+ */
+public final class KeyRange<K extends Comparable<K>> {
+  public final K lower;
+  public final boolean lowerInclusive;
+  public final K upper;
+  public final boolean upperInclusive;
+  private final boolean empty;
+
+  private KeyRange(K lower, boolean lowerInclusive, K upper, boolean upperInclusive, boolean empty) {
+    this.lower = lower;
+    this.lowerInclusive = lowerInclusive;
+    this.upper = upper;
+    this.upperInclusive = upperInclusive;
+    this.empty = empty || lower != null && upper != null && isEmpty(lower, lowerInclusive, upper, upperInclusive);
+  }
+
+  private static <K extends Comparable<K>> boolean isEmpty(K lower, boolean lowerInclusive, K upper, boolean upperInclusive) {
+    int cmp = lower.compareTo(upper);
+    return cmp > 0 || cmp == 0 && !(lowerInclusive && upperInclusive);
+  }
+
+  public static <K extends Comparable<K>> KeyRange<K> all() {
+    return new KeyRange<>(null, true, null, true, false);
+  }
+
+  public static <K extends Comparable<K>> KeyRange<K> empty() {
+    return new KeyRange<>(null, true, null, true, true);
+  }
+
+  public static <K extends Comparable<K>> KeyRange<K> of(K lower, boolean lowerInclusive, K upper, boolean upperInclusive) {
+    return new KeyRange<>(lower, lowerInclusive, upper, upperInclusive, false);
+  }
+
+  public static <K extends Comparable<K>> KeyRange<K> atLeast(K lower, boolean inclusive) {
+    return new KeyRange<>(lower, inclusive, null, true, false);
+  }
+
+  public static <K extends Comparable<K>> KeyRange<K> atMost(K upper, boolean inclusive) {
+    return new KeyRange<>(null, true, upper, inclusive, false);
+  }
+
+  public boolean isEmpty() {
+    return empty;
+  }
+
+  public boolean isAll() {
+    return !empty && lower == null && upper == null;
+  }
+
+  public boolean isPoint() {
+    return !empty && lower != null && upper != null && lower.compareTo(upper) == 0;
+  }
+
+  public KeyRange<K> intersect(KeyRange<K> other) {
+    if (empty || other.empty) return empty();
+    K lower = this.lower;
+    boolean lowerInclusive = this.lowerInclusive;
+    if (lower == null || other.lower != null && other.lower.compareTo(lower) >= 0) {
+      lowerInclusive = lower == null || other.lower.compareTo(lower) > 0 ? other.lowerInclusive : lowerInclusive && other.lowerInclusive;
+      lower = other.lower;
+    }
+    K upper = this.upper;
+    boolean upperInclusive = this.upperInclusive;
+    if (upper == null || other.upper != null && other.upper.compareTo(upper) <= 0) {
+      upperInclusive = upper == null || other.upper.compareTo(upper) < 0 ? other.upperInclusive : upperInclusive && other.upperInclusive;
+      upper = other.upper;
+    }
+    return of(lower, lowerInclusive, upper, upperInclusive);
+  }
+
+  public KeyRange<K> span(KeyRange<K> other) {
+    if (empty) return other;
+    if (other.empty) return this;
+    K lower = null;
+    boolean lowerInclusive = true;
+    if (this.lower != null && other.lower != null) {
+      int cmp = this.lower.compareTo(other.lower);
+      lower = cmp <= 0 ? this.lower : other.lower;
+      lowerInclusive = cmp < 0 ? this.lowerInclusive : cmp > 0 ? other.lowerInclusive : this.lowerInclusive || other.lowerInclusive;
+    }
+    K upper = null;
+    boolean upperInclusive = true;
+    if (this.upper != null && other.upper != null) {
+      int cmp = this.upper.compareTo(other.upper);
+      upper = cmp >= 0 ? this.upper : other.upper;
+      upperInclusive = cmp > 0 ? this.upperInclusive : cmp < 0 ? other.upperInclusive : this.upperInclusive || other.upperInclusive;
+    }
+    return of(lower, lowerInclusive, upper, upperInclusive);
+  }
+
+  @Override
+  public String toString() {
+    if (empty) return "(empty)";
+    return (lower == null ? "(-inf" : (lowerInclusive ? "[" : "(") + lower) + ", "
+            + (upper == null ? "+inf)" : upper + (upperInclusive ? "]" : ")"));
+  }
+}
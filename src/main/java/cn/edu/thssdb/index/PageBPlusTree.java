@@ -0,0 +1,498 @@
+package cn.edu.thssdb.index;
+
+import cn.edu.thssdb.common.Global;
+import cn.edu.thssdb.common.Pair;
+import cn.edu.thssdb.exception.DuplicateKeyException;
+import cn.edu.thssdb.exception.KeyNotExistException;
+import cn.edu.thssdb.storage.BufferPool;
+import cn.edu.thssdb.storage.Page;
+import cn.edu.thssdb.storage.PageCodec;
+import cn.edu.thssdb.storage.PageFile;
+import cn.edu.thssdb.storage.WriteAheadLog;
+
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * B+ tree whose nodes are pages of a PageFile, searched and modified in place through the BufferPool.
+ * It has the get/put/remove/contains/iterator/cursor contract of BPlusTree, and is reopened from its file instead of rebuilt.
+ * <p>
+ * Page 0 is the meta page, other pages are nodes. Node layout after the page header:
+ * <pre>
+ *   24 short key count n
+ *   26 int   next leaf page id, -1 for the last leaf
+ *   30 int   previous leaf page id, -1 for the first leaf
+ *   34       leaf: n (key, value) entries
+ *            internal: child 0, then n (key i, child i + 1) entries
+ * </pre>
+ * Fanout is derived from page size and key size, optionally capped.
+ * Removal doesn't rebalance: an underfull leaf stays in place and is refilled by later insertions in its key range.
+ */
+public final class PageBPlusTree<K extends Comparable<K>, V> implements Iterable<Pair<K, V>> {
+  private static final int META_ROOT = 24;
+  private static final int META_SIZE = 28;
+  private static final int META_KEY_SIZE = 32;
+  private static final int META_VALUE_SIZE = 36;
+
+  private static final int NODE_COUNT = 24;
+  private static final int NODE_NEXT = 26;
+  private static final int NODE_PREV = 30;
+  private static final int NODE_ENTRIES = 34;
+  private static final int CHILD_SIZE = 4;
+
+  private final PageFile file;
+  private final BufferPool pool;
+  private final PageCodec<K> keyCodec;
+  private final PageCodec<V> valueCodec;
+  private final int keySize;
+  private final int leafEntrySize;
+  private final int internalEntrySize;
+  private final int leafCapacity;
+  private final int internalCapacity;
+  private int root;
+  private int size;
+
+  // largest key size of a tree with values of valueSize bytes, whose nodes hold two entries at least
+  public static int maxKeySize(int valueSize) {
+    int space = Global.pageSize - NODE_ENTRIES;
+    return Math.min(space / 2 - valueSize, (space - CHILD_SIZE) / 2 - CHILD_SIZE);
+  }
+
+  public PageBPlusTree(String path, PageCodec<K> keyCodec, PageCodec<V> valueCodec) {
+    this(path, keyCodec, valueCodec, Integer.MAX_VALUE, BufferPool.getInstance());
+  }
+
+  public PageBPlusTree(String path, PageCodec<K> keyCodec, PageCodec<V> valueCodec, int fanout, BufferPool pool) {
+    this.pool = pool;
+    this.keyCodec = keyCodec;
+    this.valueCodec = valueCodec;
+    keySize = keyCodec.size();
+    leafEntrySize = keySize + valueCodec.size();
+    internalEntrySize = keySize + CHILD_SIZE;
+    int space = Global.pageSize - NODE_ENTRIES;
+    leafCapacity = Math.min(fanout - 1, space / leafEntrySize);
+    internalCapacity = Math.min(fanout - 1, (space - CHILD_SIZE) / internalEntrySize);
+    if (leafCapacity < 2 || internalCapacity < 2)
+      throw new IllegalArgumentException("index key of " + keySize + " bytes is too large for page size " + Global.pageSize);
+    this.file = new PageFile(path); // not created for a key too large
+
+    if (file.numPages() == 0) {
+      Page meta = pool.allocate(file, Page.TYPE_INDEX_META);
+      Page leaf = allocateNode(Page.TYPE_INDEX_LEAF);
+      root = leaf.getPageId();
+      size = 0;
+      unpin(leaf);
+      meta.getBuffer().putInt(META_KEY_SIZE, keySize).putInt(META_VALUE_SIZE, valueCodec.size());
+      unpin(meta);
+      writeMeta();
+    } else {
+      Page meta = fetch(0);
+      ByteBuffer buffer = meta.getBuffer();
+      root = buffer.getInt(META_ROOT);
+      size = buffer.getInt(META_SIZE);
+      boolean match = buffer.getInt(META_KEY_SIZE) == keySize && buffer.getInt(META_VALUE_SIZE) == valueCodec.size();
+      unpin(meta);
+      if (!match) throw new IllegalArgumentException("index file " + path + " doesn't match the key/value format");
+    }
+  }
+
+  public synchronized int size() {
+    return size;
+  }
+
+  public synchronized V get(K key) {
+    if (key == null) throw new IllegalArgumentException("argument key to get() is null");
+    Page leaf = findLeaf(key);
+    try {
+      int index = search(leaf, key);
+      if (index < 0) throw new KeyNotExistException();
+      return valueCodec.read(leaf.getBuffer(), leafKeyOffset(index) + keySize);
+    } finally {
+      unpin(leaf);
+    }
+  }
+
+  public synchronized void update(K key, V value) {
+    if (key == null) throw new IllegalArgumentException("argument key to update() is null");
+    Page leaf = findLeaf(key);
+    try {
+      int index = search(leaf, key);
+      if (index < 0) throw new KeyNotExistException();
+      valueCodec.write(leaf.getBuffer(), leafKeyOffset(index) + keySize, value);
+      leaf.markDirty();
+    } finally {
+      unpin(leaf);
+    }
+  }
+
+  public synchronized void put(K key, V value) {
+    if (key == null) throw new IllegalArgumentException("argument key to put() is null");
+    byte[] entry = new byte[leafEntrySize];
+    ByteBuffer entryBuffer = ByteBuffer.wrap(entry);
+    keyCodec.write(entryBuffer, 0, key);
+    valueCodec.write(entryBuffer, keySize, value);
+    Split split = insert(root, key, entry);
+    if (split != null) { // grow a new root
+      Page newRoot = allocateNode(Page.TYPE_INDEX_INTERNAL);
+      ByteBuffer buffer = newRoot.getBuffer();
+      buffer.putInt(NODE_ENTRIES, root);
+      System.arraycopy(split.entry, 0, buffer.array(), NODE_ENTRIES + CHILD_SIZE, internalEntrySize);
+      setCount(newRoot, 1);
+      root = newRoot.getPageId();
+      unpin(newRoot);
+    }
+    size++;
+    writeMeta();
+  }
+
+  public synchronized void remove(K key) {
+    if (key == null) throw new IllegalArgumentException("argument key to remove() is null");
+    Page leaf = findLeaf(key);
+    try {
+      int index = search(leaf, key);
+      if (index < 0) throw new KeyNotExistException();
+      int count = getCount(leaf);
+      int offset = leafKeyOffset(index);
+      byte[] data = leaf.getBuffer().array();
+      System.arraycopy(data, offset + leafEntrySize, data, offset, (count - index - 1) * leafEntrySize);
+      setCount(leaf, count - 1);
+    } finally {
+      unpin(leaf);
+    }
+    size--;
+    writeMeta();
+  }
+
+  public synchronized boolean contains(K key) {
+    if (key == null) throw new IllegalArgumentException("argument key to contains() is null");
+    Page leaf = findLeaf(key);
+    try {
+      return search(leaf, key) >= 0;
+    } finally {
+      unpin(leaf);
+    }
+  }
+
+  // changes from now on are logged at or before the LSN, see PageFile
+  public void logged(WriteAheadLog log, long lsn) {
+    file.logged(log, lsn);
+  }
+
+  // write back dirty nodes and make them durable
+  public synchronized void flush() {
+    pool.flush(file);
+  }
+
+  public synchronized void close() {
+    pool.flush(file);
+    pool.discard(file);
+    file.close();
+  }
+
+  // drop cached nodes without writing them, for drop table
+  public synchronized void discard() {
+    pool.discard(file);
+    file.close();
+  }
+
+  // Node access
+
+  private Page fetch(int pageId) {
+    return pool.fetch(file, pageId);
+  }
+
+  private void unpin(Page page) {
+    pool.unpin(file, page);
+  }
+
+  private Page allocateNode(byte type) {
+    Page page = pool.allocate(file, type);
+    setCount(page, 0);
+    setNext(page, -1);
+    setPrev(page, -1);
+    return page;
+  }
+
+  private void writeMeta() {
+    Page meta = fetch(0);
+    meta.getBuffer().putInt(META_ROOT, root).putInt(META_SIZE, size);
+    meta.markDirty();
+    unpin(meta);
+  }
+
+  private static boolean isLeaf(Page page) {
+    return page.getType() == Page.TYPE_INDEX_LEAF;
+  }
+
+  private static int getCount(Page page) {
+    return page.getBuffer().getChar(NODE_COUNT);
+  }
+
+  private static void setCount(Page page, int count) {
+    page.getBuffer().putChar(NODE_COUNT, (char) count);
+    page.markDirty();
+  }
+
+  private static int getNext(Page page) {
+    return page.getBuffer().getInt(NODE_NEXT);
+  }
+
+  private static void setNext(Page page, int next) {
+    page.getBuffer().putInt(NODE_NEXT, next);
+    page.markDirty();
+  }
+
+  private static int getPrev(Page page) {
+    return page.getBuffer().getInt(NODE_PREV);
+  }
+
+  private static void setPrev(Page page, int prev) {
+    page.getBuffer().putInt(NODE_PREV, prev);
+    page.markDirty();
+  }
+
+  private int leafKeyOffset(int index) {
+    return NODE_ENTRIES + index * leafEntrySize;
+  }
+
+  private int internalKeyOffset(int index) {
+    return NODE_ENTRIES + CHILD_SIZE + index * internalEntrySize;
+  }
+
+  private int child(Page page, int index) {
+    return page.getBuffer().getInt(NODE_ENTRIES + index * internalEntrySize);
+  }
+
+  // same result as Collections.binarySearch over the keys of the node, keys compared in place
+  private int search(Page page, K key) {
+    boolean leaf = isLeaf(page);
+    int low = 0;
+    int high = getCount(page) - 1;
+    while (low <= high) {
+      int mid = (low + high) >>> 1;
+      int cmp = keyCodec.compare(page.getBuffer(), leaf ? leafKeyOffset(mid) : internalKeyOffset(mid), key);
+      if (cmp < 0) low = mid + 1;
+      else if (cmp > 0) high = mid - 1;
+      else return mid;
+    }
+    return -(low + 1);
+  }
+
+  private int childIndex(Page page, K key) {
+    int index = search(page, key);
+    return index >= 0 ? index + 1 : -index - 1;
+  }
+
+  // pinned leaf that may contain the key
+  private Page findLeaf(K key) {
+    Page page = fetch(root);
+    while (!isLeaf(page)) {
+      int child = child(page, childIndex(page, key));
+      unpin(page);
+      page = fetch(child);
+    }
+    return page;
+  }
+
+  // Insertion
+
+  // separator entry (key, right page id) to be inserted in the parent
+  private static class Split {
+    final byte[] entry;
+
+    Split(byte[] entry) {
+      this.entry = entry;
+    }
+  }
+
+  private Split insert(int pageId, K key, byte[] entry) {
+    Page page = fetch(pageId);
+    try {
+      int index = search(page, key);
+      if (isLeaf(page)) {
+        if (index >= 0) throw new DuplicateKeyException();
+        return insertEntry(page, -index - 1, entry);
+      }
+      Split split = insert(child(page, index >= 0 ? index + 1 : -index - 1), key, entry);
+      if (split == null) return null;
+      return insertEntry(page, index >= 0 ? index + 1 : -index - 1, split.entry);
+    } finally {
+      unpin(page);
+    }
+  }
+
+  // insert an entry at position, split the node if it overflows
+  private Split insertEntry(Page page, int position, byte[] entry) {
+    boolean leaf = isLeaf(page);
+    int entrySize = leaf ? leafEntrySize : internalEntrySize;
+    int base = leaf ? NODE_ENTRIES : NODE_ENTRIES + CHILD_SIZE;
+    int count = getCount(page);
+    byte[] data = page.getBuffer().array();
+    int offset = base + position * entrySize;
+    if (count < (leaf ? leafCapacity : internalCapacity)) {
+      System.arraycopy(data, offset, data, offset + entrySize, (count - position) * entrySize);
+      System.arraycopy(entry, 0, data, offset, entrySize);
+      setCount(page, count + 1);
+      return null;
+    }
+
+    // lay out all count + 1 entries, then move the upper half to a new sibling
+    byte[] all = new byte[(count + 1) * entrySize];
+    System.arraycopy(data, base, all, 0, position * entrySize);
+    System.arraycopy(entry, 0, all, position * entrySize, entrySize);
+    System.arraycopy(data, offset, all, (position + 1) * entrySize, (count - position) * entrySize);
+    int from = (count + 1) / 2;
+    Page sibling = allocateNode(page.getType());
+    try {
+      byte[] siblingData = sibling.getBuffer().array();
+      byte[] separator = new byte[internalEntrySize];
+      System.arraycopy(all, 0, data, base, from * entrySize);
+      setCount(page, from);
+      if (leaf) {
+        // leaf: separator is a copy of the first key of the sibling
+        System.arraycopy(all, from * entrySize, siblingData, base, (count + 1 - from) * entrySize);
+        setCount(sibling, count + 1 - from);
+        int next = getNext(page);
+        setNext(sibling, next);
+        setPrev(sibling, page.getPageId());
+        setNext(page, sibling.getPageId());
+        if (next >= 0) {
+          Page nextPage = fetch(next);
+          setPrev(nextPage, sibling.getPageId());
+          unpin(nextPage);
+        }
+        System.arraycopy(all, from * entrySize, separator, 0, keySize);
+      } else {
+        // internal: the middle key moves up, its child becomes child 0 of the sibling
+        System.arraycopy(all, from * entrySize, separator, 0, keySize);
+        System.arraycopy(all, from * entrySize + keySize, siblingData, NODE_ENTRIES, CHILD_SIZE);
+        System.arraycopy(all, (from + 1) * entrySize, siblingData, base, (count - from) * entrySize);
+        setCount(sibling, count - from);
+      }
+      ByteBuffer.wrap(separator).putInt(keySize, sibling.getPageId());
+      return new Split(separator);
+    } finally {
+      unpin(sibling);
+    }
+  }
+
+  // Range scans along the leaf chain
+
+  // entries with key in the range, null for an unbounded side
+  public IndexCursor<K, V> cursor(K lower, boolean lowerInclusive, K upper, boolean upperInclusive, boolean reverse) {
+    return new PageBPlusTreeCursor(lower, lowerInclusive, upper, upperInclusive, reverse);
+  }
+
+  // no page stays pinned between advance() calls, the current entry is decoded on advance()
+  private class PageBPlusTreeCursor implements IndexCursor<K, V> {
+    private final K lower;
+    private final boolean lowerInclusive;
+    private final K upper;
+    private final boolean upperInclusive;
+    private final boolean reverse;
+    private int leafId;
+    private int position;
+    private K key;
+    private V value;
+
+    PageBPlusTreeCursor(K lower, boolean lowerInclusive, K upper, boolean upperInclusive, boolean reverse) {
+      this.lower = lower;
+      this.lowerInclusive = lowerInclusive;
+      this.upper = upper;
+      this.upperInclusive = upperInclusive;
+      this.reverse = reverse;
+      K bound = reverse ? upper : lower;
+      synchronized (PageBPlusTree.this) {
+        Page page = fetch(root);
+        while (!isLeaf(page)) {
+          int index = bound == null ? (reverse ? getCount(page) : 0) : childIndex(page, bound);
+          int child = child(page, index);
+          unpin(page);
+          page = fetch(child);
+        }
+        leafId = page.getPageId();
+        // position is one step before the first entry in scan direction
+        if (bound == null) position = reverse ? getCount(page) : -1;
+        else {
+          int index = search(page, bound);
+          if (reverse)
+            position = index >= 0 ? (upperInclusive ? index + 1 : index) : -index - 1;
+          else
+            position = index >= 0 ? (lowerInclusive ? index - 1 : index) : -index - 2;
+        }
+        unpin(page);
+      }
+    }
+
+    @Override
+    public boolean advance() {
+      synchronized (PageBPlusTree.this) {
+        if (leafId < 0) return false;
+        Page page = fetch(leafId);
+        position += reverse ? -1 : 1;
+        // skip exhausted and empty leaves
+        while (reverse ? position < 0 : position >= getCount(page)) {
+          int sibling = reverse ? getPrev(page) : getNext(page);
+          unpin(page);
+          leafId = sibling;
+          if (leafId < 0) return false;
+          page = fetch(leafId);
+          position = reverse ? getCount(page) - 1 : 0;
+        }
+        try {
+          int offset = leafKeyOffset(position);
+          // bound checked in place, the key is decoded only once it is known to be in range
+          int cmp = reverse ? (lower == null ? 1 : keyCodec.compare(page.getBuffer(), offset, lower))
+              : (upper == null ? 1 : -Integer.signum(keyCodec.compare(page.getBuffer(), offset, upper)));
+          if (cmp < 0 || cmp == 0 && !(reverse ? lowerInclusive : upperInclusive)) {
+            leafId = -1;
+            return false;
+          }
+          key = keyCodec.read(page.getBuffer(), offset);
+          value = valueCodec.read(page.getBuffer(), offset + keySize);
+          return true;
+        } finally {
+          unpin(page);
+        }
+      }
+    }
+
+    @Override
+    public K key() {
+      return key;
+    }
+
+    @Override
+    public V value() {
+      return value;
+    }
+  }
+
+  private class PageBPlusTreeIterator implements Iterator<Pair<K, V>> {
+    private final IndexCursor<K, V> cursor = cursor(null, true, null, true, false);
+    private boolean advanced;
+    private boolean hasNext;
+
+    @Override
+    public boolean hasNext() {
+      if (!advanced) {
+        hasNext = cursor.advance();
+        advanced = true;
+      }
+      return hasNext;
+    }
+
+    @Override
+    public Pair<K, V> next() {
+      if (!hasNext()) throw new NoSuchElementException();
+      advanced = false;
+      return new Pair<>(cursor.key(), cursor.value());
+    }
+  }
+
+  @Override
+  public Iterator<Pair<K, V>> iterator() {
+    return new PageBPlusTreeIterator();
+  }
+}
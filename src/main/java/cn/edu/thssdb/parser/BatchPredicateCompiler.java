@@ -0,0 +1,98 @@
+package cn.edu.thssdb.parser;
+
+import cn.edu.thssdb.query.BatchPredicate;
+import cn.edu.thssdb.schema.Table;
+import cn.edu.thssdb.storage.ColumnarTable;
+import cn.edu.thssdb.type.ColumnType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Turns the conjuncts of a WHERE condition comparing a column of the table with a literal into batch predicates
+ * over its columnar copy. Other conjuncts, and comparisons between mismatched types, are left out:
+ * the whole condition is still evaluated on every row the batch predicates keep.
+ */
+class BatchPredicateCompiler {
+    private final Table table;
+    private final ColumnarTable columnar;
+    private final boolean allowUnqualified;
+
+    /**
+     * @param allowUnqualified whether a column name without table name refers to this table
+     */
+    BatchPredicateCompiler(Table table, ColumnarTable columnar, boolean allowUnqualified) {
+        this.table = table;
+        this.columnar = columnar;
+        this.allowUnqualified = allowUnqualified;
+    }
+
+    List<BatchPredicate> compile(SQLParser.Multiple_conditionContext ctx) {
+        var predicates = new ArrayList<BatchPredicate>();
+        if (ctx != null) collect(ctx, predicates);
+        return predicates;
+    }
+
+    private void collect(SQLParser.Multiple_conditionContext ctx, List<BatchPredicate> predicates) {
+        if (ctx.AND() != null) {
+            collect(ctx.multiple_condition(0), predicates);
+            collect(ctx.multiple_condition(1), predicates);
+        } else if (ctx.condition() != null) {
+            var predicate = compile(ctx.condition());
+            if (predicate != null) predicates.add(predicate);
+        }
+    }
+
+    private BatchPredicate compile(SQLParser.ConditionContext ctx) {
+        var lhs = KeyRangeAnalyzer.unwrap(ctx.expression(0));
+        var rhs = KeyRangeAnalyzer.unwrap(ctx.expression(1));
+        int accept = accept(ctx.comparator());
+        int column = column(lhs);
+        if (column >= 0 && rhs != null && rhs.literal_value() != null)
+            return compare(column, accept, rhs.literal_value());
+        column = column(rhs);
+        if (column >= 0 && lhs != null && lhs.literal_value() != null) {
+            int flipped = accept & BatchPredicate.EQUAL;
+            if ((accept & BatchPredicate.LESS) != 0) flipped |= BatchPredicate.GREATER;
+            if ((accept & BatchPredicate.GREATER) != 0) flipped |= BatchPredicate.LESS;
+            return compare(column, flipped, lhs.literal_value());
+        }
+        return null;
+    }
+
+    private static int accept(SQLParser.ComparatorContext cp) {
+        if (cp.EQ() != null) return BatchPredicate.EQUAL;
+        if (cp.NE() != null) return BatchPredicate.LESS | BatchPredicate.GREATER;
+        if (cp.LE() != null) return BatchPredicate.LESS | BatchPredicate.EQUAL;
+        if (cp.GE() != null) return BatchPredicate.GREATER | BatchPredicate.EQUAL;
+        if (cp.LT() != null) return BatchPredicate.LESS;
+        return BatchPredicate.GREATER;
+    }
+
+    // index of the column of the table the comparer names, -1 if it isn't one
+    private int column(SQLParser.ComparerContext ctx) {
+        if (ctx == null || ctx.column_full_name() == null) return -1;
+        var name = ctx.column_full_name();
+        if (name.table_name() == null ? !allowUnqualified : !name.table_name().getText().equals(table.tableName))
+            return -1;
+        var columnName = name.column_name().getText();
+        for (int c = 0; c < table.columns.size(); c++)
+            if (table.columns.get(c).getColumnName().equals(columnName)) return c;
+        return -1;
+    }
+
+    private BatchPredicate compare(int column, int accept, SQLParser.Literal_valueContext v) {
+        var vector = columnar.vectors.get(column);
+        boolean isString = table.columns.get(column).getColumnType() == ColumnType.STRING;
+        if (v.NUMERIC_LITERAL() != null) {
+            if (isString) return null; // a type error, left to evaluation
+            return BatchPredicate.compare(vector, accept, Double.parseDouble(v.getText()));
+        }
+        if (v.STRING_LITERAL() != null) {
+            if (!isString) return null;
+            var s = v.getText();
+            return BatchPredicate.compare(vector, accept, s.substring(1, s.length() - 1));
+        }
+        return BatchPredicate.none(); // comparison with NULL is never true
+    }
+}
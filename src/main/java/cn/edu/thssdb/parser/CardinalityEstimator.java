@@ -0,0 +1,47 @@
+package cn.edu.thssdb.parser;
+
+import cn.edu.thssdb.index.KeyRange;
+import cn.edu.thssdb.schema.Cell;
+import cn.edu.thssdb.schema.Table;
+
+/**
+ * Row count estimates from the statistics collected by ANALYZE, or from fixed selectivities for a table never analyzed.
+ * The row count itself always comes from the primary index, statistics only contribute fractions.
+ */
+class CardinalityEstimator {
+    private static final double DEFAULT_POINT_SELECTIVITY = 0.1;
+    private static final double DEFAULT_RANGE_SELECTIVITY = 1.0 / 3;
+
+    static double rowCount(Table table) {
+        return table.index.size();
+    }
+
+    // rows satisfying the column ranges of the conjuncts of the condition, columns assumed independent
+    static double rows(Table table, SQLParser.Multiple_conditionContext ctx, boolean allowUnqualified) {
+        double rows = rowCount(table);
+        if (ctx == null) return rows;
+        for (int c = 0; c < table.columns.size(); ++c) {
+            var range = new KeyRangeAnalyzer(table.columns.get(c), table.tableName, allowUnqualified).analyze(ctx);
+            rows *= selectivity(table, c, range);
+        }
+        return rows;
+    }
+
+    // fraction of rows with value of the column in range
+    static double selectivity(Table table, int column, KeyRange<Cell> range) {
+        if (range.isAll()) return 1;
+        if (range.isEmpty()) return 0;
+        if (table.statistics != null) return table.statistics.columns.get(column).selectivity(range);
+        if (range.isPoint())
+            return column == table.primaryIndex ? 1 / Math.max(1, rowCount(table)) : DEFAULT_POINT_SELECTIVITY;
+        return DEFAULT_RANGE_SELECTIVITY;
+    }
+
+    // distinct non-NULL values of the column among the given number of rows of the table, unknown columns are taken as unique
+    static double distinct(Table table, int column, double rows) {
+        double distinct = rowCount(table);
+        if (column != table.primaryIndex && table.statistics != null)
+            distinct = table.statistics.columns.get(column).distinct;
+        return Math.max(1, Math.min(distinct, rows));
+    }
+}
@@ -0,0 +1,134 @@
+package cn.edu.thssdb.parser;
+
+import cn.edu.thssdb.query.Evaluator;
+import cn.edu.thssdb.schema.Cell;
+import cn.edu.thssdb.schema.Column;
+import cn.edu.thssdb.schema.Row;
+import cn.edu.thssdb.schema.Table;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+
+/**
+ * Compiles conditions and expressions once per statement into evaluators over a tuple (one row per table),
+ * with column names resolved to (position in tuple, column) up front and literals parsed once.
+ * Name errors are reported at compile time, type errors still depend on the values and are reported on evaluation.
+ */
+class ExpressionCompiler {
+    private final Map<String, List<String>> tableToColumnsName;
+    private final Map<String, List<int[]>> tableToColumns; // (position in tuple, column) of each column name of a table
+
+    ExpressionCompiler(Map<String, List<String>> tableToColumnsName, Map<String, List<int[]>> tableToColumns) {
+        this.tableToColumnsName = tableToColumnsName;
+        this.tableToColumns = tableToColumns;
+    }
+
+    // scope of a statement on a single table, evaluated on tuples of one row
+    static ExpressionCompiler of(Table table) {
+        var columnsName = table.columns.stream().map(Column::getColumnName).toList();
+        var columns = IntStream.range(0, columnsName.size()).mapToObj(c -> new int[]{0, c}).toList();
+        return new ExpressionCompiler(Map.of(table.tableName, columnsName), Map.of(table.tableName, columns));
+    }
+
+    // unqualified column names refer to tableName, or are an error if it is null
+    Evaluator<List<Row>, Boolean> condition(SQLParser.Multiple_conditionContext ctx, String tableName) throws Exception {
+        if (ctx.condition() != null) return condition(ctx.condition(), tableName);
+        var lhs = condition(ctx.multiple_condition(0), tableName);
+        var rhs = condition(ctx.multiple_condition(1), tableName);
+        if (ctx.AND() != null) return tuple -> lhs.evaluate(tuple) && rhs.evaluate(tuple);
+        if (ctx.OR() != null) return tuple -> lhs.evaluate(tuple) || rhs.evaluate(tuple);
+        throw new Exception();
+    }
+
+    private Evaluator<List<Row>, Boolean> condition(SQLParser.ConditionContext ctx, String tableName) throws Exception {
+        var cp = ctx.comparator();
+        IntPredicate accept;
+        if (cp.EQ() != null) accept = c -> c == 0;
+        else if (cp.NE() != null) accept = c -> c != 0;
+        else if (cp.LE() != null) accept = c -> c <= 0;
+        else if (cp.GE() != null) accept = c -> c >= 0;
+        else if (cp.LT() != null) accept = c -> c < 0;
+        else if (cp.GT() != null) accept = c -> c > 0;
+        else throw new Exception();
+        var lhs = expression(ctx.expression(0), tableName);
+        var rhs = expression(ctx.expression(1), tableName);
+        var column = KeyRangeAnalyzer.unwrap(ctx.expression(0));
+        var literal = KeyRangeAnalyzer.unwrap(ctx.expression(1));
+        if (column != null && column.column_full_name() != null && literal != null && literal.literal_value() != null
+                && literal.literal_value().NUMERIC_LITERAL() != null) {
+            // column compared with a number, the common case of WHERE
+            var position = column(column.column_full_name(), tableName);
+            int t = position[0], c = position[1];
+            var number = Double.parseDouble(literal.getText());
+            var numberCell = new Cell(number);
+            return tuple -> {
+                var cell = tuple.get(t).getEntries().get(c);
+                if (cell.value instanceof Number)
+                    return accept.test(Double.compare(((Number) cell.value).doubleValue(), number));
+                return cell.value != null && accept.test(cell.SQLCompare(numberCell));
+            };
+        }
+        return tuple -> {
+            var a = lhs.evaluate(tuple);
+            var b = rhs.evaluate(tuple);
+            return a.value != null && b.value != null && accept.test(a.SQLCompare(b));
+        };
+    }
+
+    Evaluator<List<Row>, Cell> expression(SQLParser.ExpressionContext ctx, String tableName) throws Exception {
+        if (ctx.comparer() != null) return comparer(ctx.comparer(), tableName);
+        var subExpr = ctx.expression();
+        var arg0 = expression(subExpr.get(0), tableName);
+        if (subExpr.size() == 1) return arg0; // (expression) case
+        var arg1 = expression(subExpr.get(1), tableName);
+        DoubleBinaryOperator op;
+        if (ctx.ADD() != null) op = Double::sum;
+        else if (ctx.SUB() != null) op = (a, b) -> a - b;
+        else if (ctx.MUL() != null) op = (a, b) -> a * b;
+        else if (ctx.DIV() != null) op = (a, b) -> a / b;
+        else throw new Exception();
+        var constant0 = KeyRangeAnalyzer.unwrap(subExpr.get(0));
+        var constant1 = KeyRangeAnalyzer.unwrap(subExpr.get(1));
+        if (isNumber(constant0) && isNumber(constant1)) { // folded
+            var value = new Cell(op.applyAsDouble(Double.parseDouble(constant0.getText()), Double.parseDouble(constant1.getText())));
+            return tuple -> value;
+        }
+        return tuple -> arg0.evaluate(tuple).arithmetic(arg1.evaluate(tuple), op);
+    }
+
+    private static boolean isNumber(SQLParser.ComparerContext ctx) {
+        return ctx != null && ctx.literal_value() != null && ctx.literal_value().NUMERIC_LITERAL() != null;
+    }
+
+    private Evaluator<List<Row>, Cell> comparer(SQLParser.ComparerContext ctx, String tableName) throws Exception {
+        if (ctx.column_full_name() != null) {
+            var position = column(ctx.column_full_name(), tableName);
+            int t = position[0], c = position[1];
+            return tuple -> tuple.get(t).getEntries().get(c);
+        }
+        var v = ctx.literal_value();
+        Cell value;
+        if (v.NUMERIC_LITERAL() != null) value = new Cell(Double.valueOf(v.getText()));
+        else if (v.STRING_LITERAL() != null) {
+            var s = v.getText();
+            value = new Cell(s.substring(1, s.length() - 1));
+        } else value = new Cell(null);
+        return tuple -> value;
+    }
+
+    // (position in tuple, column) of a column name
+    int[] column(SQLParser.Column_full_nameContext ctx, String tableName) throws Exception {
+        if (ctx.table_name() != null) tableName = ctx.table_name().getText();
+        if (tableName == null) throw new Exception("Ambitious attribute, need table name");
+        if (!tableToColumnsName.containsKey(tableName) || !tableToColumns.containsKey(tableName))
+            throw new Exception("Invalid table name " + tableName);
+        var columnName = ctx.column_name().getText();
+        var idx = tableToColumnsName.get(tableName).indexOf(columnName);
+        if (idx == -1)
+            throw new Exception("Column " + columnName + " doesn't exist in table " + tableName + " definition");
+        return tableToColumns.get(tableName).get(idx);
+    }
+}
@@ -5,17 +5,19 @@ package cn.edu.thssdb.parser;
 
 import cn.edu.thssdb.common.Global;
 import cn.edu.thssdb.exception.DatabaseNotExistException;
-import cn.edu.thssdb.query.ProductIterator;
-import cn.edu.thssdb.query.QueryResult;
+import cn.edu.thssdb.index.KeyRange;
+import cn.edu.thssdb.query.*;
 import cn.edu.thssdb.schema.*;
+import cn.edu.thssdb.storage.RowCodec;
 import cn.edu.thssdb.type.ColumnType;
 import org.antlr.v4.runtime.RuleContext;
 
+import java.nio.ByteBuffer;
 import java.util.*;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
-import java.util.stream.StreamSupport;
 
 /**
  * When use SQL sentence, e.g., "SELECT avg(A) FROM TableX;"
@@ -57,12 +59,16 @@ public class ImpVisitor extends SQLBaseVisitor<Object> {
         if (ctx.use_db_stmt() != null) return new QueryResult(visitUse_db_stmt(ctx.use_db_stmt()));
         if (ctx.create_table_stmt() != null) return new QueryResult(visitCreate_table_stmt(ctx.create_table_stmt()));
         if (ctx.drop_table_stmt() != null) return new QueryResult(visitDrop_table_stmt(ctx.drop_table_stmt()));
+        if (ctx.create_index_stmt() != null) return new QueryResult(visitCreate_index_stmt(ctx.create_index_stmt()));
+        if (ctx.drop_index_stmt() != null) return new QueryResult(visitDrop_index_stmt(ctx.drop_index_stmt()));
         if (ctx.insert_stmt() != null) return new QueryResult(visitInsert_stmt(ctx.insert_stmt()));
         if (ctx.delete_stmt() != null) return new QueryResult(visitDelete_stmt(ctx.delete_stmt()));
         if (ctx.update_stmt() != null) return new QueryResult(visitUpdate_stmt(ctx.update_stmt()));
         if (ctx.select_stmt() != null) return visitSelect_stmt(ctx.select_stmt());
         if (ctx.quit_stmt() != null) return new QueryResult(visitQuit_stmt(ctx.quit_stmt()));
         if (ctx.show_meta_stmt() != null) return new QueryResult(visitShow_meta_stmt(ctx.show_meta_stmt()));
+        if (ctx.analyze_stmt() != null) return new QueryResult(visitAnalyze_stmt(ctx.analyze_stmt()));
+        if (ctx.alter_table_stmt() != null) return new QueryResult(visitAlter_table_stmt(ctx.alter_table_stmt()));
         return null;
     }
 
@@ -121,6 +127,36 @@ public class ImpVisitor extends SQLBaseVisitor<Object> {
     }
 
 
+    /**
+     * 创建索引
+     */
+    @Override
+    public String visitCreate_index_stmt(SQLParser.Create_index_stmtContext ctx) {
+        try {
+            var table = GetCurrentDB().get(ctx.table_name().getText());
+            table.createIndex(ctx.index_name().getText(), ctx.column_name().getText());
+        } catch (Exception e) {
+            return e.getMessage();
+        }
+        return "Create index " + ctx.index_name().getText() + ".";
+    }
+
+    /**
+     * 删除索引
+     */
+    @Override
+    public String visitDrop_index_stmt(SQLParser.Drop_index_stmtContext ctx) {
+        try {
+            var table = GetCurrentDB().get(ctx.table_name().getText());
+            var name = ctx.index_name().getText();
+            if (ctx.K_IF() != null && !table.indexes.containsKey(name)) return "Index " + name + " doesn't exist.";
+            table.dropIndex(name);
+        } catch (Exception e) {
+            return e.getMessage();
+        }
+        return "Drop index " + ctx.index_name().getText() + ".";
+    }
+
     private ColumnType getColumnType(SQLParser.Type_nameContext ctx) {
         if (ctx.T_INT() != null) return ColumnType.INT;
         if (ctx.T_LONG() != null) return ColumnType.LONG;
@@ -196,12 +232,42 @@ public class ImpVisitor extends SQLBaseVisitor<Object> {
                 s.append("\n");
             }
             s.append(")");
+            for (var index : table.indexes.values())
+                s.append("\nINDEX ").append(index.name).append(" (").append(table.columns.get(index.columnIndex).getColumnName()).append(")");
             return s.toString();
         } catch (Exception e) {
             return e.getMessage();
         }
     }
 
+    /**
+     * 收集表格统计信息
+     */
+    @Override
+    public String visitAnalyze_stmt(SQLParser.Analyze_stmtContext ctx) {
+        try {
+            var table = GetCurrentDB().get(ctx.table_name().getText());
+            table.analyze();
+            return "Analyze table " + table.tableName + ": " + table.statistics.rowCount + " row(s).";
+        } catch (Exception e) {
+            return e.getMessage();
+        }
+    }
+
+    /**
+     * 设置表格列存
+     */
+    @Override
+    public String visitAlter_table_stmt(SQLParser.Alter_table_stmtContext ctx) {
+        try {
+            var table = GetCurrentDB().get(ctx.table_name().getText());
+            table.setColumnar(ctx.K_ON() != null);
+            return "Alter table " + table.tableName + ": columnar " + (table.isColumnar() ? "on." : "off.");
+        } catch (Exception e) {
+            return e.getMessage();
+        }
+    }
+
     /**
      * 表格项插入
      */
@@ -256,90 +322,63 @@ public class ImpVisitor extends SQLBaseVisitor<Object> {
                 }
                 data.add(new Row(entry_completed));
             }
-            table.insert(data);
+            table.insert(data, session);
             return "INSERT succeed";
         } catch (Exception e) {
             return e.getMessage();
         }
     }
 
-    private boolean evaluateMultipleCondition(SQLParser.Multiple_conditionContext ctx, Map<String, Row> tableToRow, Map<String, List<String>> tableToColumnsName, String tableName) throws Exception {
-        if (ctx.condition() != null)
-            return evaluateCondition(ctx.condition(), tableToRow, tableToColumnsName, tableName);
-        var lhs = evaluateMultipleCondition(ctx.multiple_condition(0), tableToRow, tableToColumnsName, tableName);
-        var rhs = evaluateMultipleCondition(ctx.multiple_condition(1), tableToRow, tableToColumnsName, tableName);
-        if (ctx.AND() != null) return lhs && rhs;
-        if (ctx.OR() != null) return lhs || rhs;
-        throw new Exception();
-    }
-
-    private boolean evaluateCondition(SQLParser.ConditionContext ctx, Map<String, Row> tableToRow, Map<String, List<String>> tableToColumnsName, String tableName) throws Exception {
-        var lhs = evaluateExpression(ctx.expression(0), tableToRow, tableToColumnsName, tableName);
-        var rhs = evaluateExpression(ctx.expression(1), tableToRow, tableToColumnsName, tableName);
-        var cp = ctx.comparator();
-        assert cp != null;
-        if (cp.EQ() != null) return lhs.SQLCompareTo(rhs, List.of(0));
-        if (cp.NE() != null) return lhs.SQLCompareTo(rhs, List.of(-1, 1));
-        if (cp.LE() != null) return lhs.SQLCompareTo(rhs, List.of(-1, 0));
-        if (cp.GE() != null) return lhs.SQLCompareTo(rhs, List.of(0, 1));
-        if (cp.LT() != null) return lhs.SQLCompareTo(rhs, List.of(-1));
-        if (cp.GT() != null) return lhs.SQLCompareTo(rhs, List.of(1));
-        throw new Exception();
-    }
-
-    private Cell evaluateExpression(SQLParser.ExpressionContext ctx, Map<String, Row> tableToRow, Map<String, List<String>> tableToColumnsName, String tableName) throws Exception {
-        if (ctx.comparer() != null) {
-            return evaluateComparer(ctx.comparer(), tableToRow, tableToColumnsName, tableName);
-        }
-        var subExpr = ctx.expression();
-        var arg0 = evaluateExpression(subExpr.get(0), tableToRow, tableToColumnsName, tableName);
-        var arg1 = subExpr.size() > 1 ? evaluateExpression(subExpr.get(1), tableToRow, tableToColumnsName, tableName) : null;
-        if (ctx.ADD() != null) return arg0.arithmetic(arg1, Double::sum);
-        if (ctx.SUB() != null) return arg0.arithmetic(arg1, (a, b) -> a - b);
-        if (ctx.MUL() != null) return arg0.arithmetic(arg1, (a, b) -> a * b);
-        if (ctx.DIV() != null) return arg0.arithmetic(arg1, (a, b) -> a / b);
-        return arg0; // (expression) case
-    }
-
-    private Cell evaluateComparer(SQLParser.ComparerContext ctx, Map<String, Row> tableToRow, Map<String, List<String>> tableToColumnsName, String tableName) throws Exception {
-        if (ctx.column_full_name() != null)
-            return evaluateColumn(ctx.column_full_name(), tableToRow, tableToColumnsName, tableName);
-        var v = ctx.literal_value();
-        assert v != null;
-        if (v.NUMERIC_LITERAL() != null) {
-            return new Cell(Double.valueOf(v.getText()));
-        }
-        if (v.STRING_LITERAL() != null) {
-            var s = v.getText();
-            return new Cell(s.substring(1, s.length() - 1));
-        }
-        assert v.K_NULL() != null;
-        return new Cell(null);
-    }
-
-    private Cell evaluateColumn(SQLParser.Column_full_nameContext ctx, Map<String, Row> tableToRow, Map<String, List<String>> tableToColumnsName, String tableName) throws Exception {
-        if (ctx.table_name() != null) tableName = ctx.table_name().getText();
-        if (tableName == null) throw new Exception("Ambitious attribute, need table name");
-        if (!tableToRow.containsKey(tableName) || !tableToColumnsName.containsKey(tableName))
-            throw new Exception("Invalid table name " + tableName);
-        var columnName = ctx.column_name().getText();
-        var idx = tableToColumnsName.get(tableName).indexOf(columnName);
-        if (idx == -1)
-            throw new Exception("Column " + columnName + " doesn't exist in table " + tableName + " definition");
-        return tableToRow.get(tableName).getEntries().get(idx);
+    private record Candidates(Operator<Row> rows, boolean primaryKeyOrder) {
     }
 
-    private List<Row> filterSingleTable(SQLParser.Multiple_conditionContext ctx, Table table) throws Exception {
-        var index = table.index;
-        var name = table.tableName;
-        var tableToColumnsName = Map.of(name, table.columns.stream().map(Column::getColumnName).toList());
-        var data = new ArrayList<Row>();
-        for (var pair : index) {
-            var row = pair.right;
-            if (ctx == null || evaluateMultipleCondition(ctx, Map.of(name, row), tableToColumnsName, name))
-                data.add(row);
+    // rows that may satisfy the condition, through the primary key range if it is restricted, else through a secondary index
+    private Candidates candidates(Table table, SQLParser.Multiple_conditionContext ctx, boolean allowUnqualified, boolean primaryKeyOrder) {
+        var range = new KeyRangeAnalyzer(table.columns.get(table.primaryIndex), table.tableName, allowUnqualified).analyze(ctx);
+        if (!range.isAll()) return new Candidates(new ScanOperator(table, range), true);
+        var access = primaryKeyOrder ? null : secondaryAccess(table, ctx, allowUnqualified);
+        if (access == null) return new Candidates(fullScan(table, ctx, allowUnqualified), true);
+        return new Candidates(new IndexScanOperator(table, access.index(), access.range()), false);
+    }
+
+    private record SecondaryAccess(SecondaryIndex index, KeyRange<Cell> range) {
+    }
+
+    // the secondary index candidates are taken through when the primary key range isn't restricted, or null;
+    // decided from the condition and the indexes only, without touching the rows
+    private static SecondaryAccess secondaryAccess(Table table, SQLParser.Multiple_conditionContext ctx, boolean allowUnqualified) {
+        SecondaryAccess best = null;
+        for (var index : table.indexes.values()) {
+            var indexRange = new KeyRangeAnalyzer(table.columns.get(index.columnIndex), table.tableName, allowUnqualified).analyze(ctx);
+            if (indexRange.isAll() || best != null && !indexRange.isPoint()) continue;
+            best = new SecondaryAccess(index, indexRange);
+            if (indexRange.isPoint() || indexRange.isEmpty()) break; // equality is the most selective we can tell without statistics
+        }
+        return best;
+    }
+
+    // all rows in primary key order, a columnar table drops a batch at a time those failing comparisons with literals;
+    // its columnar copy is built when the scan is opened
+    private static Operator<Row> fullScan(Table table, SQLParser.Multiple_conditionContext ctx, boolean allowUnqualified) {
+        if (!table.isColumnar()) return new ScanOperator(table);
+        return new VectorScanOperator(table::columnar, columnar -> new BatchPredicateCompiler(table, columnar, allowUnqualified).compile(ctx));
+    }
+
+    private static <T> List<T> collect(Operator<T> plan) {
+        var list = new ArrayList<T>();
+        try (plan) {
+            plan.open();
+            for (T item = plan.next(); item != null; item = plan.next())
+                list.add(item);
         }
-        return data;
+        return list;
+    }
+
+    private List<Row> filterSingleTable(SQLParser.Multiple_conditionContext ctx, Table table) throws Exception {
+        var candidates = candidates(table, ctx, true, false).rows();
+        if (ctx == null) return collect(candidates);
+        var condition = ExpressionCompiler.of(table).condition(ctx, table.tableName);
+        return collect(new FilterOperator<>(candidates, row -> condition.evaluate(List.of(row))));
     }
 
     /**
@@ -350,7 +389,7 @@ public class ImpVisitor extends SQLBaseVisitor<Object> {
         try {
             var table = GetCurrentDB().get(ctx.table_name().getText());
             var filteredTable = filterSingleTable(ctx.multiple_condition(), table);
-            table.delete(filteredTable.stream().map(r -> r.getEntries().get(table.primaryIndex)).toList());
+            table.delete(filteredTable.stream().map(r -> r.getEntries().get(table.primaryIndex)).toList(), session);
             return "DELETE " + filteredTable.size() + " row(s)";
         } catch (Exception e) {
             return e.getMessage();
@@ -372,136 +411,77 @@ public class ImpVisitor extends SQLBaseVisitor<Object> {
             if (setIdx < 0)
                 throw new Exception("Column " + setColumnName + " doesn't exist in table " + name + " definition");
             var primaryIdx = table.primaryIndex;
+            var expression = ExpressionCompiler.of(table).expression(ctx.expression(), name);
             var filteredTable = filterSingleTable(ctx.multiple_condition(), table);
             var oldKeys = new ArrayList<Cell>();
             var newRows = new ArrayList<Row>();
             for (var row : filteredTable) {
                 var entries = new ArrayList<>(row.getEntries()); // copy
                 var key = entries.get(primaryIdx);
-                var val = evaluateExpression(ctx.expression(), Map.of(name, row), Map.of(name, columnsName), name);
+                var val = expression.evaluate(List.of(row));
                 entries.set(setIdx, val.fitToColumn(columns.get(setIdx).getColumnType()));
                 oldKeys.add(key);
                 newRows.add(new Row(entries));
             }
-            table.update(oldKeys, newRows);
+            table.update(oldKeys, newRows, session);
             return "UPDATE " + filteredTable.size() + " row(s)";
         } catch (Exception e) {
             return e.getMessage();
         }
     }
 
-    private QueryResult joinFilterProjectTables(SQLParser.Table_queryContext ctx, SQLParser.Multiple_conditionContext whereCtx, List<SQLParser.Result_columnContext> projections) throws Exception {
+    private QueryResult joinFilterProjectTables(SQLParser.Select_stmtContext select) throws Exception {
+        var ctx = select.table_query(0);
+        var whereCtx = select.multiple_condition();
+        var projections = select.result_column();
+        var groupBy = select.column_full_name();
+        var limit = limit(select);
         var tables = new ArrayList<Table>();
         for (var name : ctx.table_name())
             tables.add(GetCurrentDB().get(name.getText()));
         var tableToColumnsName = new HashMap<String, List<String>>();
-        var tablesColumnsName = new ArrayList<List<String>>();
-        var tablesData = new ArrayList<List<Row>>();
-        var tablesName = new ArrayList<String>();
-        for (var t : tables) {
-            var columnsName = t.columns.stream().map(Column::getColumnName).toList();
-            tableToColumnsName.put(t.tableName, columnsName);
-            tablesColumnsName.add(columnsName);
-            tablesData.add(StreamSupport.stream(t.index.spliterator(), false).map(p -> p.right).toList());
-            tablesName.add(t.tableName);
-        }
-        var numTables = tablesData.size();
-        var defaultTableName = "natural join or " + tablesName.get(0); // identifier can't contain space, won't conflict with real table name
-        Function<List<Row>, Boolean> naturalJoinPredicate = null;
-        Function<List<Row>, Row> naturalJoinProjector = rows -> null;
+        var tableToColumns = new HashMap<String, List<int[]>>(); // (table, column) in the joined tuple
+        for (int t = 0; t < tables.size(); ++t) {
+            var table = tables.get(t);
+            int position = t;
+            tableToColumnsName.put(table.tableName, table.columns.stream().map(Column::getColumnName).toList());
+            tableToColumns.put(table.tableName, IntStream.range(0, table.columns.size()).mapToObj(c -> new int[]{position, c}).toList());
+        }
+        var defaultTableName = "natural join or " + tables.get(0).tableName; // identifier can't contain space, won't conflict with real table name
         List<String> naturalJoinColumnsName = null;
+        var naturalJoinColumns = new ArrayList<int[]>(); // shared columns are taken from the first table having them
+        var sharedColumns = new ArrayList<List<int[]>>(); // every occurrence of each column name shared by several tables
         var onConditions = ctx.multiple_condition();
         if (onConditions == null) { // natural join or single table
-            Map<String, Integer> columnCount = new HashMap<>();
-            for (var ns : tablesColumnsName)
-                for (var n : ns) {
-                    var c = columnCount.getOrDefault(n, 0);
-                    columnCount.put(n, c + 1);
-                }
-            Set<String> sharedColumnNameSet = new HashSet<>();
-            columnCount.forEach((n, c) -> {
-                if (c > 1) sharedColumnNameSet.add(n);
-            });
-            var columnIdx = new ArrayList<List<Integer>>(); // [sharedColumns, tables]
-            for (var columnName : sharedColumnNameSet)
-                columnIdx.add(tables.stream().map(t -> t.columns.stream().map(Column::getColumnName).toList().indexOf(columnName)).toList());
-            naturalJoinPredicate = rows -> {
-                for (var idx : columnIdx) {
-                    Cell ref = null;
-                    for (int i = 0; i < numTables; ++i) {
-                        if (idx.get(i) < 0) continue;
-                        var current = rows.get(i).getEntries().get(idx.get(i));
-                        if (ref == null) {
-                            ref = current;
-                            continue;
-                        }
-                        if (ref.value == null || current.value == null) return false;
-                        if (ref.value.getClass() != current.value.getClass()) return false;
-                        if (!ref.value.equals(current.value)) return false;
-                    }
-                }
-                return true;
-            };
-            naturalJoinProjector = rows -> {
-                var addedShared = new HashSet<String>();
-                var entries = new ArrayList<Cell>();
-                for (int i = 0; i < numTables; ++i) {
-                    var tableColumnsName = tablesColumnsName.get(i);
-                    for (int j = 0; j < tableColumnsName.size(); ++j) {
-                        var n = tableColumnsName.get(j);
-                        if (sharedColumnNameSet.contains(n)) {
-                            if (addedShared.contains(n)) continue;
-                            addedShared.add(n);
-                        }
-                        entries.add(rows.get(i).getEntries().get(j));
-                    }
-                }
-                return new Row(entries);
-            };
-            var addedShared = new HashSet<String>();
-            naturalJoinColumnsName = new ArrayList<>();
-            for (var ns : tablesColumnsName)
-                for (var n : ns) {
-                    if (sharedColumnNameSet.contains(n)) {
-                        if (addedShared.contains(n)) continue;
-                        addedShared.add(n);
-                    }
-                    naturalJoinColumnsName.add(n);
+            var occurrences = new LinkedHashMap<String, List<int[]>>();
+            for (var table : tables)
+                for (var position : tableToColumns.get(table.tableName)) {
+                    var columnName = table.columns.get(position[1]).getColumnName();
+                    occurrences.computeIfAbsent(columnName, n -> new ArrayList<>()).add(position);
                 }
+            naturalJoinColumnsName = new ArrayList<>(occurrences.keySet());
+            for (var columns : occurrences.values()) {
+                naturalJoinColumns.add(columns.get(0));
+                if (columns.size() > 1) sharedColumns.add(columns);
+            }
             tableToColumnsName.put(defaultTableName, naturalJoinColumnsName);
+            tableToColumns.put(defaultTableName, naturalJoinColumns);
         }
 
-
-        Function<List<Row>, Boolean> finalNaturalJoinPredicate = naturalJoinPredicate;
-        Function<List<Row>, Row> finalNaturalJoinProjector = naturalJoinProjector;
-        Function<List<Row>, Map<String, Row>> tableToRowFn = rows -> IntStream.range(0, numTables).boxed().collect(Collectors.toMap(tablesName::get, rows::get));
-        var joinedTableIterator = new ProductIterator(tablesData) {
-            protected void fetchNext() throws Exception {
-                if (!currentUsed) return;
-                while (unfilteredHasNext()) {
-                    var rows = unfilteredNext();
-                    var tableToRow = tableToRowFn.apply(rows);
-                    if (onConditions != null) {
-                        if (!evaluateMultipleCondition(onConditions, tableToRow, tableToColumnsName, null)) continue;
-                    } else if (!finalNaturalJoinPredicate.apply(rows)) continue;
-                    if (whereCtx != null) {
-                        if (onConditions == null) // natural join or single table
-                            tableToRow.put(defaultTableName, finalNaturalJoinProjector.apply(rows));
-                        if (!evaluateMultipleCondition(whereCtx, tableToRow, tableToColumnsName, defaultTableName))
-                            continue;
-                    }
-                    current = rows;
-                    currentUsed = false;
-                    return;
-                }
-            }
-        };
-
-        var data = new ArrayList<Row>();
+        var compiler = new ExpressionCompiler(tableToColumnsName, tableToColumns);
+        var on = onConditions == null ? null : compiler.condition(onConditions, null);
+        var where = whereCtx == null ? null : compiler.condition(whereCtx, defaultTableName);
         var projectedColumnsName = new ArrayList<String>();
+        var projectedColumns = new ArrayList<int[]>();
+        boolean aggregated = !groupBy.isEmpty();
         for (var proj : projections) {
+            if (proj.aggregate() != null) {
+                aggregated = true;
+                continue;
+            }
             if (proj.column_full_name() != null) {
                 projectedColumnsName.add(proj.column_full_name().getText());
+                projectedColumns.add(compiler.column(proj.column_full_name(), defaultTableName));
                 continue;
             }
             if (proj.table_name() != null) {
@@ -509,35 +489,432 @@ public class ImpVisitor extends SQLBaseVisitor<Object> {
                 if (!tableToColumnsName.containsKey(tableName))
                     throw new Exception("Invalid table name in projection: " + tableName);
                 projectedColumnsName.addAll(tableToColumnsName.get(tableName).stream().map(c -> tableName + "." + c).toList());
+                projectedColumns.addAll(tableToColumns.get(tableName));
                 continue;
             }
             // * case
             if (naturalJoinColumnsName == null) throw new Exception("Ambiguous projection *");
             projectedColumnsName.addAll(naturalJoinColumnsName);
+            projectedColumns.addAll(naturalJoinColumns);
+        }
+
+        var joined = joinTables(tables, onConditions, whereCtx);
+        var filtered = new FilterOperator<>(joined.tuples(), rows -> {
+            // residual predicates, the join only matched on equality
+            if (on != null) {
+                if (!on.evaluate(rows)) return false;
+            } else if (!naturalJoinMatches(rows, sharedColumns)) return false;
+            return where == null || where.evaluate(rows);
+        });
+        if (aggregated) {
+            var groupColumns = new ArrayList<int[]>();
+            for (var column : groupBy)
+                groupColumns.add(compiler.column(column, defaultTableName));
+            // tuples sorted on the only group column come group after group
+            boolean sorted = joined.order() != null && groupColumns.size() == 1 && Arrays.equals(groupColumns.get(0), joined.order());
+            return aggregate(filtered, tables, compiler, defaultTableName, projections, groupColumns, sorted, select.ordering_term(), limit);
+        }
+        Operator<List<Row>> ordered = filtered;
+        if (!select.ordering_term().isEmpty()) {
+            var keys = new ArrayList<Function<List<Row>, Cell>>();
+            var descending = new ArrayList<Boolean>();
+            for (var term : select.ordering_term()) {
+                if (term.column_full_name() == null) throw new Exception("Aggregate " + term.aggregate().getText() + " in ORDER BY without aggregation");
+                var column = compiler.column(term.column_full_name(), defaultTableName);
+                keys.add(rows -> rows.get(column[0]).getEntries().get(column[1]));
+                descending.add(term.K_DESC() != null);
+            }
+            // ascending on the column the joined tuples are sorted on, the primary key of a single table decides the order alone
+            var first = compiler.column(select.ordering_term(0).column_full_name(), defaultTableName);
+            boolean inOrder = !descending.get(0) && Arrays.equals(first, joined.order())
+                    && (keys.size() == 1 || tables.size() == 1 && first[1] == tables.get(0).primaryIndex);
+            if (!inOrder) ordered = sort(filtered, ordering(keys, descending), limit, tupleEncoder(tables), tupleDecoder(tables));
+        }
+        Operator<Row> projected = new ProjectOperator<>(ordered, rows -> {
+            var entries = new ArrayList<Cell>(projectedColumns.size());
+            for (var column : projectedColumns)
+                entries.add(rows.get(column[0]).getEntries().get(column[1]));
+            return new Row(entries);
+        });
+        if (limit != null) projected = new LimitOperator<>(projected, limit.offset(), limit.count());
+        var types = projectedColumns.stream().map(column -> tables.get(column[0]).columns.get(column[1]).getColumnType()).toList();
+        return new QueryResult(projected, projectedColumnsName, types);
+    }
+
+    /**
+     * One row per group of tuples with equal values of the group columns, or of all tuples without group columns.
+     * Projections are group columns, taken from the first tuple of the group, or aggregates.
+     */
+    private static QueryResult aggregate(Operator<List<Row>> tuples, List<Table> tables, ExpressionCompiler compiler, String defaultTableName,
+                                         List<SQLParser.Result_columnContext> projections, List<int[]> groupColumns, boolean sorted,
+                                         List<SQLParser.Ordering_termContext> ordering, Limit limit) throws Exception {
+        var names = new ArrayList<String>();
+        var outputColumns = new ArrayList<Column>(); // types of the result rows
+        var columns = new ArrayList<int[]>(); // group column of each projection, or argument of the aggregate, null for COUNT(*)
+        var functions = new ArrayList<AggregateFunction>(); // null for group columns
+        for (var proj : projections) {
+            names.add(proj.getText());
+            var aggregate = proj.aggregate();
+            if (aggregate == null) {
+                if (proj.column_full_name() == null) throw new Exception("Projection " + proj.getText() + " can't be used with aggregates");
+                var column = compiler.column(proj.column_full_name(), defaultTableName);
+                if (groupColumns.stream().noneMatch(g -> Arrays.equals(g, column)))
+                    throw new Exception("Column " + proj.getText() + " must appear in GROUP BY or in an aggregate");
+                outputColumns.add(tables.get(column[0]).columns.get(column[1]));
+                columns.add(column);
+                functions.add(null);
+                continue;
+            }
+            var name = aggregate.IDENTIFIER().getText();
+            var function = Arrays.stream(AggregateFunction.values()).filter(f -> f.name().equalsIgnoreCase(name)).findFirst()
+                    .orElseThrow(() -> new Exception("Unknown aggregate function " + name));
+            if (aggregate.column_full_name() == null && function != AggregateFunction.COUNT)
+                throw new Exception(name + "(*) is not supported");
+            var column = aggregate.column_full_name() == null ? null : compiler.column(aggregate.column_full_name(), defaultTableName);
+            var argument = column == null ? null : tables.get(column[0]).columns.get(column[1]);
+            outputColumns.add(switch (function) {
+                case COUNT -> new Column(name, ColumnType.LONG, false, false, 0);
+                case SUM, AVG -> new Column(name, ColumnType.DOUBLE, false, false, 0);
+                case MIN, MAX -> argument;
+            });
+            columns.add(column);
+            functions.add(function);
+        }
+        var countAll = new Cell(0); // any non-NULL value
+        Supplier<AggregateOperator.Accumulator<List<Row>, Row>> accumulator = () -> new AggregateOperator.Accumulator<>() {
+            private List<Row> first;
+            private final List<AggregateFunction.State> states = functions.stream().map(f -> f == null ? null : f.start()).toList();
+
+            @Override
+            public void add(List<Row> tuple) throws Exception {
+                if (first == null) first = tuple;
+                for (int i = 0; i < states.size(); ++i) {
+                    var state = states.get(i);
+                    var column = columns.get(i);
+                    if (state != null) state.add(column == null ? countAll : tuple.get(column[0]).getEntries().get(column[1]));
+                }
+            }
+
+            @Override
+            public Row result() {
+                var entries = new ArrayList<Cell>(states.size());
+                for (int i = 0; i < states.size(); ++i) {
+                    var column = columns.get(i);
+                    entries.add(states.get(i) != null ? states.get(i).result() : first.get(column[0]).getEntries().get(column[1]));
+                }
+                return new Row(entries);
+            }
+        };
+        Function<List<Row>, Object> key = groupColumns.isEmpty() ? null : tuple -> {
+            var values = new ArrayList<>(groupColumns.size());
+            for (var column : groupColumns)
+                values.add(tuple.get(column[0]).getEntries().get(column[1]).value);
+            return values;
+        };
+        Operator<Row> rows = new AggregateOperator<>(tuples, key, accumulator, sorted, tupleEncoder(tables), tupleDecoder(tables));
+        if (!ordering.isEmpty()) {
+            // terms are projections, a group column may also be named as in GROUP BY
+            var keys = new ArrayList<Function<Row, Cell>>();
+            var descending = new ArrayList<Boolean>();
+            for (var term : ordering) {
+                var text = term.column_full_name() != null ? term.column_full_name().getText() : term.aggregate().getText();
+                int index = -1;
+                for (int i = 0; i < projections.size() && index < 0; ++i) {
+                    if (text.equals(projections.get(i).getText())) index = i;
+                    else if (term.column_full_name() != null && functions.get(i) == null
+                            && Arrays.equals(compiler.column(term.column_full_name(), defaultTableName), columns.get(i))) index = i;
+                }
+                if (index < 0) throw new Exception("ORDER BY " + text + " must appear in the projection");
+                int position = index;
+                keys.add(row -> row.getEntries().get(position));
+                descending.add(term.K_DESC() != null);
+            }
+            // groups streamed in order of the only group column
+            var first = ordering.get(0);
+            boolean inOrder = sorted && ordering.size() == 1 && first.K_DESC() == null && first.column_full_name() != null
+                    && Arrays.equals(compiler.column(first.column_full_name(), defaultTableName), groupColumns.get(0));
+            var codec = new RowCodec(outputColumns);
+            if (!inOrder) rows = sort(rows, ordering(keys, descending), limit, codec::encode, codec::decode);
+        }
+        if (limit != null) rows = new LimitOperator<>(rows, limit.offset(), limit.count());
+        return new QueryResult(rows, names, outputColumns.stream().map(Column::getColumnType).toList());
+    }
+
+    // LIMIT count OFFSET offset
+    private record Limit(long count, long offset) {
+    }
+
+    private static Limit limit(SQLParser.Select_stmtContext select) throws Exception {
+        if (select.K_LIMIT() == null) return null;
+        var numbers = select.NUMERIC_LITERAL();
+        return new Limit(count(numbers.get(0).getText()), numbers.size() > 1 ? count(numbers.get(1).getText()) : 0);
+    }
+
+    private static long count(String literal) throws Exception {
+        try {
+            return Long.parseLong(literal);
+        } catch (NumberFormatException e) {
+            throw new Exception("LIMIT and OFFSET take a non-negative integer, not " + literal);
+        }
+    }
+
+    // items in order, only the first ones kept by a top-N heap when LIMIT asks for few
+    private static <T> Operator<T> sort(Operator<T> items, Comparator<T> comparator, Limit limit,
+                                        Function<T, byte[]> encoder, Function<ByteBuffer, T> decoder) {
+        if (limit != null && limit.count() <= Global.sortBufferRows - limit.offset())
+            return new TopNOperator<>(items, comparator, (int) (limit.count() + limit.offset()));
+        return new SortOperator<>(items, comparator, encoder, decoder);
+    }
+
+    // lexicographic order on the keys, NULL first in ascending order and last in descending order
+    private static <T> Comparator<T> ordering(List<Function<T, Cell>> keys, List<Boolean> descending) {
+        return (a, b) -> {
+            for (int i = 0; i < keys.size(); ++i) {
+                var x = keys.get(i).apply(a);
+                var y = keys.get(i).apply(b);
+                int cmp = x.value == null || y.value == null ? Boolean.compare(x.value != null, y.value != null) : x.compareTo(y);
+                if (cmp != 0) return descending.get(i) ? -cmp : cmp;
+            }
+            return 0;
+        };
+    }
+
+    // shared columns of natural join hold equal values of the same type in every table
+    private static boolean naturalJoinMatches(List<Row> rows, List<List<int[]>> sharedColumns) {
+        for (var columns : sharedColumns) {
+            var first = columns.get(0);
+            var ref = rows.get(first[0]).getEntries().get(first[1]).value;
+            if (ref == null) return false;
+            for (int i = 1; i < columns.size(); ++i) {
+                var current = rows.get(columns.get(i)[0]).getEntries().get(columns.get(i)[1]).value;
+                if (current == null || ref.getClass() != current.getClass() || !ref.equals(current)) return false;
+            }
+        }
+        return true;
+    }
+
+    // rows of a table that may satisfy WHERE
+    private Candidates scanForJoin(Table table, SQLParser.Multiple_conditionContext onConditions, SQLParser.Multiple_conditionContext whereCtx, boolean primaryKeyOrder) {
+        // unqualified names refer to the natural join row, whose shared columns are equal in every table
+        return candidates(table, whereCtx, onConditions == null, primaryKeyOrder);
+    }
+
+    // order: (table, column) the tuples are sorted on, or null
+    private record JoinedTuples(Operator<List<Row>> tuples, int[] order) {
+    }
+
+    /**
+     * Plan the join of the tables on the equalities of ON, or on the shared columns of natural join:
+     * the join order and the join of each step are chosen by JoinPlanner from estimated cardinalities.
+     * The joined tuples are streamed, with rows in the order of the tables in the FROM clause.
+     */
+    private JoinedTuples joinTables(List<Table> tables, SQLParser.Multiple_conditionContext onConditions, SQLParser.Multiple_conditionContext whereCtx) {
+        int n = tables.size();
+        var candidateRows = new double[n];
+        var primaryKeyRows = new double[n];
+        var primaryKeyOrder = new boolean[n];
+        for (int t = 0; t < n; ++t) {
+            var table = tables.get(t);
+            boolean allowUnqualified = onConditions == null;
+            candidateRows[t] = CardinalityEstimator.rows(table, whereCtx, allowUnqualified);
+            var primaryRange = new KeyRangeAnalyzer(table.columns.get(table.primaryIndex), table.tableName, allowUnqualified).analyze(whereCtx);
+            primaryKeyRows[t] = CardinalityEstimator.rowCount(table) * CardinalityEstimator.selectivity(table, table.primaryIndex, primaryRange);
+            primaryKeyOrder[t] = !primaryRange.isAll() || secondaryAccess(table, whereCtx, allowUnqualified) == null; // as candidates takes them
         }
-        while (joinedTableIterator.hasNext()) {
-            var rows = joinedTableIterator.next();
-            var joinedRow = finalNaturalJoinProjector.apply(rows);
-            var tableToRow = tableToRowFn.apply(rows);
-            if (joinedRow != null) tableToRow.put(defaultTableName, joinedRow);
-            var projected = new ArrayList<Cell>();
-            for (var proj : projections) {
-                if (proj.column_full_name() != null) {
-                    projected.add(evaluateColumn(proj.column_full_name(), tableToRow, tableToColumnsName, defaultTableName));
-                    continue;
+        var edges = joinEdges(tables, onConditions);
+        var steps = new JoinPlanner(tables, edges, candidateRows, primaryKeyRows, primaryKeyOrder).plan();
+
+        var position = new int[n]; // position of each table in the joined tuples
+        var placed = new boolean[n];
+        var joinedTables = new ArrayList<Table>();
+        var firstTable = steps.get(0).table();
+        var first = scanForJoin(tables.get(firstTable), onConditions, whereCtx, false);
+        Operator<List<Row>> joined = new ProjectOperator<>(first.rows(), List::of);
+        int[] order = first.primaryKeyOrder() ? new int[]{0, tables.get(firstTable).primaryIndex} : null; // (position, column) joined tuples are sorted on
+        placed[firstTable] = true;
+        joinedTables.add(tables.get(firstTable));
+        for (var step : steps.subList(1, n)) {
+            int t = step.table();
+            var table = tables.get(t);
+            var leftKeys = new ArrayList<int[]>(); // (position, column) in the left tuple
+            var rightKeys = new ArrayList<Integer>(); // column of table t
+            for (var e : edges) {
+                if (e.rightTable() == t && placed[e.leftTable()]) {
+                    leftKeys.add(new int[]{position[e.leftTable()], e.leftColumn()});
+                    rightKeys.add(e.rightColumn());
+                } else if (e.leftTable() == t && placed[e.rightTable()]) {
+                    leftKeys.add(new int[]{position[e.rightTable()], e.rightColumn()});
+                    rightKeys.add(e.leftColumn());
                 }
-                if (proj.table_name() != null) { // assert tableToRow contains tableName
-                    projected.addAll(tableToRow.get(proj.table_name().getText()).getEntries());
-                    continue;
+            }
+            // "=" compares numbers as double, natural join compares values of the same type
+            Function<Object, Object> keyOf = onConditions != null ? HashJoinIterator::comparisonKey : v -> v;
+            var leftKey = tupleKey(leftKeys, keyOf);
+            var rightKey = rowKey(rightKeys, keyOf);
+            switch (step.method()) {
+                case INDEX_NESTED_LOOP -> {
+                    var outerColumn = leftKeys.get(rightKeys.indexOf(table.primaryIndex));
+                    var keyColumn = table.columns.get(table.primaryIndex);
+                    var analyzer = new KeyRangeAnalyzer(keyColumn, table.tableName, false);
+                    boolean natural = onConditions == null;
+                    joined = new JoinOperator(joined, null, (left, right) -> new IndexNestedLoopJoinIterator(left, rows -> {
+                        var v = rows.get(outerColumn[0]).getEntries().get(outerColumn[1]);
+                        if (!natural) return table.scan(analyzer.equalTo(v.value));
+                        // natural join matches values of the same type only
+                        if (!v.getValueType().equals(keyColumn.getColumnType().name())) return Collections.emptyIterator();
+                        return table.scan(KeyRange.of(v, true, v, true));
+                    }));
+                }
+                case MERGE -> {
+                    // both sides are in primary key order already, merge on that key and leave the others to evaluation
+                    var k = orderedKey(order, leftKeys, rightKeys, table);
+                    var orderedLeftKey = tupleKey(List.of(leftKeys.get(k)), keyOf);
+                    var orderedRightKey = rowKey(List.of(rightKeys.get(k)), keyOf);
+                    joined = new JoinOperator(joined, scanForJoin(table, onConditions, whereCtx, true).rows(),
+                            (left, right) -> new MergeJoinIterator(left, right, orderedLeftKey, orderedRightKey, MergeJoinIterator::compareKeys));
+                }
+                case SORT_MERGE -> {
+                    // neither side fits in memory for a hash table, sort both on disk
+                    var left = sortTuples(joined, joinedTables, leftKey);
+                    var rows = new ProjectOperator<>(scanForJoin(table, onConditions, whereCtx, false).rows(), List::of);
+                    var right = new ProjectOperator<>(sortTuples(rows, List.of(table), tuple -> rightKey.apply(tuple.get(0))), tuple -> tuple.get(0));
+                    joined = new JoinOperator(left, right, (l, r) -> new MergeJoinIterator(l, r, leftKey, rightKey, MergeJoinIterator::compareKeys));
+                    order = leftKeys.get(0);
                 }
-                // * case
-                assert joinedRow != null;
-                projected.addAll(joinedRow.getEntries());
+                case HASH -> joined = new JoinOperator(joined, scanForJoin(table, onConditions, whereCtx, false).rows(),
+                        (left, right) -> new HashJoinIterator(left, right, leftKey, rightKey));
             }
-            data.add(new Row(projected));
+            position[t] = joinedTables.size();
+            placed[t] = true;
+            joinedTables.add(table);
         }
+        Operator<List<Row>> tuples = new ProjectOperator<>(joined, tuple -> {
+            var rows = new ArrayList<Row>(n);
+            for (int t = 0; t < n; ++t)
+                rows.add(tuple.get(position[t]));
+            return rows;
+        });
+        if (order != null)
+            for (int t = 0; t < n; ++t)
+                if (position[t] == order[0]) return new JoinedTuples(tuples, new int[]{t, order[1]});
+        return new JoinedTuples(tuples, null);
+    }
+
+    private static Function<List<Row>, List<Object>> tupleKey(List<int[]> keys, Function<Object, Object> keyOf) {
+        return rows -> {
+            var key = new ArrayList<>(keys.size());
+            for (var k : keys) {
+                var v = rows.get(k[0]).getEntries().get(k[1]).value;
+                if (v == null) return null;
+                key.add(keyOf.apply(v));
+            }
+            return key;
+        };
+    }
+
+    private static Function<Row, List<Object>> rowKey(List<Integer> keys, Function<Object, Object> keyOf) {
+        return row -> {
+            var key = new ArrayList<>(keys.size());
+            for (var k : keys) {
+                var v = row.getEntries().get(k).value;
+                if (v == null) return null;
+                key.add(keyOf.apply(v));
+            }
+            return key;
+        };
+    }
 
-        return new QueryResult(data, projectedColumnsName);
+    // position of the key pair joining the column the tuples are sorted on to the primary key of the table, -1 if none
+    private static int orderedKey(int[] order, List<int[]> leftKeys, List<Integer> rightKeys, Table table) {
+        if (order == null) return -1;
+        for (int k = 0; k < leftKeys.size(); ++k)
+            if (Arrays.equals(leftKeys.get(k), order) && rightKeys.get(k) == table.primaryIndex) return k;
+        return -1;
+    }
+
+    // tuples with a non-NULL key in key order, spilled to temporary files when there are many
+    private static Operator<List<Row>> sortTuples(Operator<List<Row>> tuples, List<Table> tables, Function<List<Row>, List<Object>> key) {
+        return new SortOperator<>(new FilterOperator<>(tuples, tuple -> key.apply(tuple) != null),
+                (a, b) -> MergeJoinIterator.compareKeys(key.apply(a), key.apply(b)), tupleEncoder(tables), tupleDecoder(tables));
+    }
+
+    // binary form of tuples of rows of the tables, for operators spilling to temporary files
+    private static Function<List<Row>, byte[]> tupleEncoder(List<Table> tables) {
+        var codecs = tables.stream().map(t -> new RowCodec(t.columns)).toList();
+        return tuple -> {
+            var rows = new byte[codecs.size()][];
+            int size = 0;
+            for (int t = 0; t < rows.length; ++t)
+                size += 4 + (rows[t] = codecs.get(t).encode(tuple.get(t))).length;
+            var buffer = ByteBuffer.allocate(size);
+            for (var bytes : rows)
+                buffer.putInt(bytes.length).put(bytes);
+            return buffer.array();
+        };
+    }
+
+    private static Function<ByteBuffer, List<Row>> tupleDecoder(List<Table> tables) {
+        var codecs = tables.stream().map(t -> new RowCodec(t.columns)).toList();
+        return buffer -> {
+            var tuple = new ArrayList<Row>(codecs.size());
+            for (var codec : codecs) {
+                int length = buffer.getInt();
+                tuple.add(codec.decode(buffer.slice(buffer.position(), length)));
+                buffer.position(buffer.position() + length);
+            }
+            return tuple;
+        };
+    }
+
+    // equalities of the conjuncts "a.x = b.y" of ON, or between the shared columns of natural join, each between two tables
+    private static List<JoinPlanner.Edge> joinEdges(List<Table> tables, SQLParser.Multiple_conditionContext onConditions) {
+        var edges = new ArrayList<JoinPlanner.Edge>();
+        if (onConditions != null) {
+            collectEquiJoinEdges(onConditions, tables, edges);
+            return edges;
+        }
+        for (int i = 0; i < tables.size(); ++i)
+            for (int j = i + 1; j < tables.size(); ++j) {
+                var columnsName = tables.get(j).columns.stream().map(Column::getColumnName).toList();
+                for (int c = 0; c < tables.get(i).columns.size(); ++c) {
+                    var idx = columnsName.indexOf(tables.get(i).columns.get(c).getColumnName());
+                    if (idx >= 0) edges.add(new JoinPlanner.Edge(i, c, j, idx));
+                }
+            }
+        return edges;
+    }
+
+    // comparisons between incompatible types are left to evaluation
+    private static void collectEquiJoinEdges(SQLParser.Multiple_conditionContext ctx, List<Table> tables, List<JoinPlanner.Edge> edges) {
+        if (ctx.condition() == null) {
+            if (ctx.AND() != null) {
+                collectEquiJoinEdges(ctx.multiple_condition(0), tables, edges);
+                collectEquiJoinEdges(ctx.multiple_condition(1), tables, edges);
+            }
+            return;
+        }
+        var condition = ctx.condition();
+        if (condition.comparator().EQ() == null) return;
+        var lhs = resolveJoinColumn(KeyRangeAnalyzer.unwrap(condition.expression(0)), tables);
+        var rhs = resolveJoinColumn(KeyRangeAnalyzer.unwrap(condition.expression(1)), tables);
+        if (lhs == null || rhs == null || lhs[0] == rhs[0]) return;
+        var lhsString = tables.get(lhs[0]).columns.get(lhs[1]).getColumnType() == ColumnType.STRING;
+        var rhsString = tables.get(rhs[0]).columns.get(rhs[1]).getColumnType() == ColumnType.STRING;
+        if (lhsString != rhsString) return;
+        edges.add(new JoinPlanner.Edge(lhs[0], lhs[1], rhs[0], rhs[1]));
+    }
+
+    // (table, column) of a qualified column name, null for anything else
+    private static int[] resolveJoinColumn(SQLParser.ComparerContext ctx, List<Table> tables) {
+        if (ctx == null || ctx.column_full_name() == null || ctx.column_full_name().table_name() == null) return null;
+        var tableName = ctx.column_full_name().table_name().getText();
+        var columnName = ctx.column_full_name().column_name().getText();
+        for (int t = 0; t < tables.size(); ++t) {
+            if (!tables.get(t).tableName.equals(tableName)) continue;
+            var idx = tables.get(t).columns.stream().map(Column::getColumnName).toList().indexOf(columnName);
+            return idx < 0 ? null : new int[]{t, idx};
+        }
+        return null;
     }
 
     /**
@@ -548,7 +925,7 @@ public class ImpVisitor extends SQLBaseVisitor<Object> {
         try {
             var tableQueries = ctx.table_query();
             if (tableQueries.size() > 1) throw new Exception("doesn't support Cartesian product");
-            return joinFilterProjectTables(tableQueries.get(0), ctx.multiple_condition(), ctx.result_column());
+            return joinFilterProjectTables(ctx);
         } catch (Exception e) {
             return new QueryResult(e.getMessage());
         }
@@ -0,0 +1,170 @@
+package cn.edu.thssdb.parser;
+
+import cn.edu.thssdb.common.Global;
+import cn.edu.thssdb.schema.Table;
+import cn.edu.thssdb.type.ColumnType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Chooses the order the tables are joined in and the join algorithm of every step by estimated cost,
+ * counted in rows read, probed, sorted and produced.
+ * Left-deep orders are searched by dynamic programming over sets of tables, greedily when there are many tables.
+ * Tables joined on no equality are put off as long as some table can be joined on one.
+ */
+class JoinPlanner {
+    private static final int EXHAUSTIVE_TABLES = 10;
+
+    enum Method {INDEX_NESTED_LOOP, MERGE, SORT_MERGE, HASH}
+
+    // table joined to the tuples of the previous steps, the method of the first step is meaningless
+    record Step(int table, Method method) {
+    }
+
+    // equality between a column of each of two tables
+    record Edge(int leftTable, int leftColumn, int rightTable, int rightColumn) {
+    }
+
+    // order: (table, column) the joined tuples are sorted on, or null
+    private record Plan(List<Step> steps, long tables, double cost, double rows, int[] order) {
+    }
+
+    private final List<Table> tables;
+    private final List<Edge> edges;
+    private final double[] candidateRows; // rows of each table satisfying WHERE, read by a scan
+    private final double[] primaryKeyRows; // rows of each table read by a scan in primary key order
+    private final boolean[] primaryKeyOrder; // the candidate scan of each table is in primary key order
+
+    JoinPlanner(List<Table> tables, List<Edge> edges, double[] candidateRows, double[] primaryKeyRows, boolean[] primaryKeyOrder) {
+        this.tables = tables;
+        this.edges = edges;
+        this.candidateRows = candidateRows;
+        this.primaryKeyRows = primaryKeyRows;
+        this.primaryKeyOrder = primaryKeyOrder;
+    }
+
+    List<Step> plan() {
+        int n = tables.size();
+        var best = n <= EXHAUSTIVE_TABLES ? exhaustive() : greedy();
+        return best.steps();
+    }
+
+    private Plan start(int t) {
+        var order = primaryKeyOrder[t] ? new int[]{t, tables.get(t).primaryIndex} : null;
+        return new Plan(List.of(new Step(t, null)), 1L << t, candidateRows[t], candidateRows[t], order);
+    }
+
+    private Plan exhaustive() {
+        int n = tables.size();
+        var best = new Plan[1 << n];
+        for (int t = 0; t < n; ++t)
+            best[1 << t] = start(t);
+        for (int set = 1; set < 1 << n; ++set) {
+            var plan = best[set];
+            if (plan == null) continue;
+            for (var next : extensions(plan)) {
+                int joined = (int) next.tables();
+                if (best[joined] == null || next.cost() < best[joined].cost()) best[joined] = next;
+            }
+        }
+        return best[(1 << n) - 1];
+    }
+
+    private Plan greedy() {
+        Plan plan = null;
+        for (int t = 0; t < tables.size(); ++t)
+            if (plan == null || candidateRows[t] < plan.cost()) plan = start(t);
+        while (plan.steps().size() < tables.size()) {
+            Plan cheapest = null;
+            for (var next : extensions(plan))
+                if (cheapest == null || next.cost() < cheapest.cost()) cheapest = next;
+            plan = cheapest;
+        }
+        return plan;
+    }
+
+    // the plan joined with one more table, by its cheapest method
+    private List<Plan> extensions(Plan plan) {
+        var result = new ArrayList<Plan>();
+        boolean connected = false;
+        for (int t = 0; t < tables.size(); ++t)
+            if ((plan.tables() & 1L << t) == 0 && !keys(plan.tables(), t).isEmpty()) connected = true;
+        for (int t = 0; t < tables.size(); ++t) {
+            if ((plan.tables() & 1L << t) != 0) continue;
+            var keys = keys(plan.tables(), t);
+            if (connected && keys.isEmpty()) continue;
+            result.add(join(plan, t, keys));
+        }
+        return result;
+    }
+
+    // equalities between the tables in set (as left) and table t (as right)
+    private List<Edge> keys(long set, int t) {
+        var keys = new ArrayList<Edge>();
+        for (var e : edges) {
+            if (e.rightTable() == t && (set & 1L << e.leftTable()) != 0) keys.add(e);
+            else if (e.leftTable() == t && (set & 1L << e.rightTable()) != 0)
+                keys.add(new Edge(e.rightTable(), e.rightColumn(), e.leftTable(), e.leftColumn()));
+        }
+        return keys;
+    }
+
+    private Plan join(Plan plan, int t, List<Edge> keys) {
+        var table = tables.get(t);
+        double outer = plan.rows();
+        double inner = candidateRows[t];
+        double rows = outer * inner;
+        for (var k : keys) {
+            double leftDistinct = CardinalityEstimator.distinct(tables.get(k.leftTable()), k.leftColumn(), outer);
+            double rightDistinct = CardinalityEstimator.distinct(table, k.rightColumn(), inner);
+            rows /= Math.max(leftDistinct, rightDistinct);
+        }
+
+        var method = Method.HASH;
+        double cost = outer + inner;
+        var order = plan.order();
+        boolean comparable = comparable(keys);
+        if (comparable && !keys.isEmpty() && inner > Global.sortBufferRows) { // no room to hash the inner rows
+            method = Method.SORT_MERGE;
+            cost = sortCost(outer) + sortCost(inner) + outer + inner;
+        }
+        if (comparable && order != null) {
+            for (var k : keys) {
+                if (k.leftTable() != order[0] || k.leftColumn() != order[1] || k.rightColumn() != table.primaryIndex) continue;
+                double mergeCost = outer + primaryKeyRows[t];
+                if (mergeCost < cost) {
+                    method = Method.MERGE;
+                    cost = mergeCost;
+                }
+            }
+        }
+        for (var k : keys) {
+            if (k.rightColumn() != table.primaryIndex) continue;
+            double lookupCost = outer * (Math.log(Math.max(2, CardinalityEstimator.rowCount(table))) / Math.log(2) + 1);
+            if (lookupCost < cost) {
+                method = Method.INDEX_NESTED_LOOP;
+                cost = lookupCost;
+            }
+        }
+        if (method == Method.SORT_MERGE) order = new int[]{keys.get(0).leftTable(), keys.get(0).leftColumn()};
+
+        var steps = new ArrayList<>(plan.steps());
+        steps.add(new Step(t, method));
+        return new Plan(steps, plan.tables() | 1L << t, plan.cost() + cost + rows, rows, order);
+    }
+
+    private static double sortCost(double rows) {
+        return rows * Math.log(Math.max(2, rows)) / Math.log(2);
+    }
+
+    // merge join orders keys, which needs strings to be joined with strings only
+    private boolean comparable(List<Edge> keys) {
+        for (var k : keys) {
+            var left = tables.get(k.leftTable()).columns.get(k.leftColumn()).getColumnType() == ColumnType.STRING;
+            var right = tables.get(k.rightTable()).columns.get(k.rightColumn()).getColumnType() == ColumnType.STRING;
+            if (left != right) return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,136 @@
+package cn.edu.thssdb.parser;
+
+import cn.edu.thssdb.index.KeyRange;
+import cn.edu.thssdb.schema.Cell;
+import cn.edu.thssdb.schema.Column;
+import cn.edu.thssdb.type.ColumnType;
+
+/**
+ * Derives the range of values of an indexed column a WHERE condition can match, so that only that range of the index is scanned.
+ * Comparisons between the column and a literal become bounds, AND intersects and OR spans them,
+ * anything else matches all keys. The range may be wider than the condition, the whole condition is still evaluated on every row.
+ */
+class KeyRangeAnalyzer {
+    private static final double EXACT_LONG_LIMIT = 0x1p53; // beyond it neighbouring longs share the same double
+
+    private final String tableName;
+    private final boolean allowUnqualified;
+    private final String keyName;
+    private final ColumnType keyType;
+
+    /**
+     * @param allowUnqualified whether a column name without table name refers to this table
+     */
+    KeyRangeAnalyzer(Column key, String tableName, boolean allowUnqualified) {
+        this.tableName = tableName;
+        this.allowUnqualified = allowUnqualified;
+        this.keyName = key.getColumnName();
+        this.keyType = key.getColumnType();
+    }
+
+    KeyRange<Cell> analyze(SQLParser.Multiple_conditionContext ctx) {
+        if (ctx == null) return KeyRange.all();
+        if (ctx.condition() != null) return analyzeCondition(ctx.condition());
+        var lhs = analyze(ctx.multiple_condition(0));
+        var rhs = analyze(ctx.multiple_condition(1));
+        if (ctx.AND() != null) return lhs.intersect(rhs);
+        if (ctx.OR() != null) return lhs.span(rhs);
+        return KeyRange.all();
+    }
+
+    private KeyRange<Cell> analyzeCondition(SQLParser.ConditionContext ctx) {
+        var lhs = unwrap(ctx.expression(0));
+        var rhs = unwrap(ctx.expression(1));
+        var cp = ctx.comparator();
+        if (isKey(lhs) && rhs != null && rhs.literal_value() != null)
+            return compare(cp, false, rhs.literal_value());
+        if (isKey(rhs) && lhs != null && lhs.literal_value() != null)
+            return compare(cp, true, lhs.literal_value());
+        return KeyRange.all();
+    }
+
+    // comparer of an expression without arithmetic, null otherwise
+    static SQLParser.ComparerContext unwrap(SQLParser.ExpressionContext ctx) {
+        while (ctx.comparer() == null) {
+            if (ctx.expression().size() != 1) return null;
+            ctx = ctx.expression(0);
+        }
+        return ctx.comparer();
+    }
+
+    private boolean isKey(SQLParser.ComparerContext ctx) {
+        if (ctx == null || ctx.column_full_name() == null) return false;
+        var column = ctx.column_full_name();
+        if (column.table_name() == null ? !allowUnqualified : !column.table_name().getText().equals(tableName))
+            return false;
+        return column.column_name().getText().equals(keyName);
+    }
+
+    // key cp literal, or literal cp key if flipped
+    private KeyRange<Cell> compare(SQLParser.ComparatorContext cp, boolean flipped, SQLParser.Literal_valueContext v) {
+        Object literal;
+        if (v.NUMERIC_LITERAL() != null) {
+            if (keyType == ColumnType.STRING) return KeyRange.all(); // a type error, left to evaluation
+            literal = Double.valueOf(v.getText());
+        } else if (v.STRING_LITERAL() != null) {
+            if (keyType != ColumnType.STRING) return KeyRange.all();
+            var s = v.getText();
+            literal = s.substring(1, s.length() - 1);
+        } else {
+            return KeyRange.empty(); // comparison with NULL is never true
+        }
+        if (cp.EQ() != null) return lowerBound(literal, true).intersect(upperBound(literal, true));
+        if (cp.LE() != null) return flipped ? lowerBound(literal, true) : upperBound(literal, true);
+        if (cp.LT() != null) return flipped ? lowerBound(literal, false) : upperBound(literal, false);
+        if (cp.GE() != null) return flipped ? upperBound(literal, true) : lowerBound(literal, true);
+        if (cp.GT() != null) return flipped ? upperBound(literal, false) : lowerBound(literal, false);
+        return KeyRange.all(); // NE
+    }
+
+    // keys k with k = value as compared by "=", for a value of another column
+    KeyRange<Cell> equalTo(Object value) {
+        if (value == null) return KeyRange.empty();
+        Object literal = value instanceof Number ? (Object) ((Number) value).doubleValue() : value;
+        if (literal instanceof String != (keyType == ColumnType.STRING)) return KeyRange.all(); // a type error, left to evaluation
+        return lowerBound(literal, true).intersect(upperBound(literal, true));
+    }
+
+    // keys k with k > literal, or k >= literal if inclusive
+    private KeyRange<Cell> lowerBound(Object literal, boolean inclusive) {
+        if (keyType == ColumnType.STRING) return KeyRange.atLeast(new Cell(literal), inclusive);
+        double d = (Double) literal;
+        return switch (keyType) {
+            case INT, LONG -> {
+                if (keyType == ColumnType.LONG && Math.abs(d) >= EXACT_LONG_LIMIT) yield KeyRange.all();
+                double bound = inclusive ? Math.ceil(d) : Math.floor(d) + 1;
+                if (keyType == ColumnType.INT && bound > Integer.MAX_VALUE) yield KeyRange.empty();
+                if (keyType == ColumnType.INT && bound < Integer.MIN_VALUE) yield KeyRange.all();
+                yield KeyRange.atLeast(integral((long) bound), true);
+            }
+            // the float nearest to d may be on either side of it
+            case FLOAT -> KeyRange.atLeast(new Cell(Math.nextDown((float) d)), true);
+            default -> KeyRange.atLeast(new Cell(d), inclusive);
+        };
+    }
+
+    // keys k with k < literal, or k <= literal if inclusive
+    private KeyRange<Cell> upperBound(Object literal, boolean inclusive) {
+        if (keyType == ColumnType.STRING) return KeyRange.atMost(new Cell(literal), inclusive);
+        double d = (Double) literal;
+        return switch (keyType) {
+            case INT, LONG -> {
+                if (keyType == ColumnType.LONG && Math.abs(d) >= EXACT_LONG_LIMIT) yield KeyRange.all();
+                double bound = inclusive ? Math.floor(d) : Math.ceil(d) - 1;
+                if (keyType == ColumnType.INT && bound < Integer.MIN_VALUE) yield KeyRange.empty();
+                if (keyType == ColumnType.INT && bound > Integer.MAX_VALUE) yield KeyRange.all();
+                yield KeyRange.atMost(integral((long) bound), true);
+            }
+            case FLOAT -> KeyRange.atMost(new Cell(Math.nextUp((float) d)), true);
+            default -> KeyRange.atMost(new Cell(d), inclusive);
+        };
+    }
+
+    private Cell integral(long value) {
+        return keyType == ColumnType.INT ? new Cell((int) value) : new Cell(value);
+    }
+}
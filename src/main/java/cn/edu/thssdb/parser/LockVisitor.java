@@ -12,6 +12,7 @@ public class LockVisitor {
 
     static public List<String> visitTableSharedLock(SQLParser.Sql_stmtContext ctx) {
         if (ctx.show_meta_stmt() != null) return List.of(ctx.show_meta_stmt().table_name().getText());
+        if (ctx.analyze_stmt() != null) return List.of(ctx.analyze_stmt().table_name().getText());
         var data = new ArrayList<String>();
         var select = ctx.select_stmt();
         if (select != null) for (var q : select.table_query())
@@ -24,9 +25,12 @@ public class LockVisitor {
         if (ctx.drop_table_stmt() != null) return List.of(ctx.drop_table_stmt().table_name().getText());
         // if (ctx.create_table_stmt() != null) return List.of(ctx.create_table_stmt().table_name().getText());
         // can't lock table for create table since table haven't been created
+        if (ctx.create_index_stmt() != null) return List.of(ctx.create_index_stmt().table_name().getText());
+        if (ctx.drop_index_stmt() != null) return List.of(ctx.drop_index_stmt().table_name().getText());
         if (ctx.insert_stmt() != null) return List.of(ctx.insert_stmt().table_name().getText());
         if (ctx.delete_stmt() != null) return List.of(ctx.delete_stmt().table_name().getText());
         if (ctx.update_stmt() != null) return List.of(ctx.update_stmt().table_name().getText());
+        if (ctx.alter_table_stmt() != null) return List.of(ctx.alter_table_stmt().table_name().getText());
         return Collections.emptyList();
     }
 }
@@ -14,6 +14,8 @@ sql_stmt :
     | drop_user_stmt
     | delete_stmt
     | drop_table_stmt
+    | create_index_stmt
+    | drop_index_stmt
     | insert_stmt
     | select_stmt
     | create_view_stmt
@@ -24,6 +26,8 @@ sql_stmt :
     | show_db_stmt
     | show_table_stmt
     | show_meta_stmt
+    | analyze_stmt
+    | alter_table_stmt
     | quit_stmt
     | update_stmt ;
 
@@ -43,9 +47,21 @@ create_table_stmt :
     K_CREATE K_TABLE table_name
         '(' column_def ( ',' column_def )* ( ',' table_constraint )? ')' ;
 
+create_index_stmt :
+    K_CREATE K_INDEX index_name K_ON table_name '(' column_name ')' ;
+
+drop_index_stmt :
+    K_DROP K_INDEX ( K_IF K_EXISTS )? index_name K_ON table_name ;
+
 show_meta_stmt :
     K_SHOW K_TABLE table_name ;
 
+analyze_stmt :
+    K_ANALYZE table_name ;
+
+alter_table_stmt :
+    K_ALTER K_TABLE table_name K_SET K_COLUMNAR ( K_ON | K_OFF ) ;
+
 grant_stmt :
     K_GRANT auth_level ( ',' auth_level )* K_ON table_name K_TO user_name ;
 
@@ -79,7 +95,13 @@ value_entry :
 
 select_stmt :
     K_SELECT ( K_DISTINCT | K_ALL )? result_column ( ',' result_column )*
-        K_FROM table_query ( ',' table_query )* ( K_WHERE multiple_condition )? ;
+        K_FROM table_query ( ',' table_query )* ( K_WHERE multiple_condition )?
+        ( K_GROUP K_BY column_full_name ( ',' column_full_name )* )?
+        ( K_ORDER K_BY ordering_term ( ',' ordering_term )* )?
+        ( K_LIMIT NUMERIC_LITERAL ( K_OFFSET NUMERIC_LITERAL )? )? ;
+
+ordering_term :
+    ( column_full_name | aggregate ) ( K_ASC | K_DESC )? ;
 
 create_view_stmt :
     K_CREATE K_VIEW view_name K_AS select_stmt ;
@@ -132,7 +154,11 @@ table_constraint :
 result_column
     : '*'
     | table_name '.' '*'
-    | column_full_name;
+    | column_full_name
+    | aggregate ;
+
+aggregate :
+    IDENTIFIER '(' ( '*' | column_full_name ) ')' ;
 
 table_query :
     table_name
@@ -164,6 +190,9 @@ column_name :
 view_name :
     IDENTIFIER;
 
+index_name :
+    IDENTIFIER ;
+
 password :
     STRING_LITERAL ;
 
@@ -190,27 +219,38 @@ T_STRING : S T R I N G;
 
 K_ADD : A D D;
 K_ALL : A L L;
+K_ALTER : A L T E R;
+K_ANALYZE : A N A L Y Z E;
 K_AS : A S;
+K_ASC : A S C;
 K_BY : B Y;
 K_COLUMN : C O L U M N;
+K_COLUMNAR : C O L U M N A R;
 K_CREATE : C R E A T E;
 K_DATABASE : D A T A B A S E;
 K_DATABASES : D A T A B A S E S;
 K_DELETE : D E L E T E;
+K_DESC : D E S C;
 K_DISTINCT : D I S T I N C T;
 K_DROP : D R O P;
 K_EXISTS : E X I S T S;
 K_FROM : F R O M;
 K_GRANT : G R A N T;
+K_GROUP : G R O U P;
 K_IF : I F;
 K_IDENTIFIED : I D E N T I F I E D;
+K_INDEX : I N D E X;
 K_INSERT : I N S E R T;
 K_INTO : I N T O;
 K_JOIN : J O I N;
 K_KEY : K E Y;
+K_LIMIT : L I M I T;
 K_NOT : N O T;
 K_NULL : N U L L;
+K_OFF : O F F;
+K_OFFSET : O F F S E T;
 K_ON : O N;
+K_ORDER : O R D E R;
 K_PRIMARY : P R I M A R Y;
 K_QUIT : Q U I T;
 K_REVOKE : R E V O K E;
@@ -7,11 +7,6 @@ import cn.edu.thssdb.common.Global;
 import org.antlr.v4.runtime.CharStreams;
 import org.antlr.v4.runtime.CommonTokenStream;
 
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.StandardOpenOption;
-import java.nio.file.attribute.BasicFileAttributes;
 import java.util.HashSet;
 
 
@@ -23,6 +18,14 @@ public class SQLHandler {
     }
 
     public QueryResult evaluate(String statement, long session) {
+        var result = evaluateLazily(statement, session);
+        return result == null ? null : result.materialize();
+    }
+
+    /**
+     * Like evaluate, but the rows of a SELECT are left in its plan, to be pulled while the session holds its locks.
+     */
+    public QueryResult evaluateLazily(String statement, long session) {
         System.out.println("session:" + session + "  " + statement);
         var currentDB = manager.getCurrentDatabase();
         if (statement.equals(Global.LOG_BEGIN_TRANSACTION)) {
@@ -51,7 +54,7 @@ public class SQLHandler {
                 for (var tableName : manager.sessionToLocks.get(session))
                     currentDB.get(tableName).lock.Release(session);
                 manager.sessionToLocks.remove(session);
-                mayCheckPoint(currentDB.getDatabaseName());
+                if (session >= 0) manager.checkpointer.mayCheckPoint(currentDB.getDatabaseName()); // not while the log is replayed
             } catch (Exception e) {
                 return new QueryResult(e.getMessage());
             }
@@ -77,21 +80,18 @@ public class SQLHandler {
         var locks = manager.sessionToLocks.get(session);
         try {
             for (var tableName : SLockTables) {
-                currentDB.get(tableName).lock.SAcquire(session);
+                currentDB.acquire(tableName, session, false);
                 locks.add(tableName);
             }
             for (var tableName : XLockTables) {
-                currentDB.get(tableName).lock.XAcquire(session);
+                currentDB.acquire(tableName, session, true);
                 locks.add(tableName);
             }
         } catch (Exception e) {
             return new QueryResult(e.getMessage());
         }
 
-        // log after parse and lock
-        if (session >= 0) // don't log in recover
-            if (stmt.insert_stmt() != null || stmt.delete_stmt() != null || stmt.update_stmt() != null)
-                manager.writeLog(statement, session); // log only for write table
+        // row changes are logged by the table, after parse and lock
 
         return visitor.visitSql_stmt(stmt);
     }
@@ -108,20 +108,4 @@ public class SQLHandler {
         return parser.sql_stmt();
     }
 
-    // NOT Finished
-    private void mayCheckPoint(String databaseName) {
-        try {
-            var path = Path.of(manager.get(databaseName).getDatabaseLogFilePath());
-            var fileAttr = Files.readAttributes(path, BasicFileAttributes.class);
-            if (fileAttr.isRegularFile() && fileAttr.size() > 50000) {
-                System.out.println("Clear database log");
-                Files.writeString(path, "", StandardOpenOption.TRUNCATE_EXISTING);
-                // TODO: Handle active transaction
-                manager.persistDatabase(databaseName);
-            }
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
-    }
-
 }
@@ -19,15 +19,16 @@ public class SQLLexer extends Lexer {
 	public static final int
 		T__0=1, T__1=2, T__2=3, T__3=4, T__4=5, EQ=6, NE=7, LT=8, GT=9, LE=10, 
 		GE=11, ADD=12, SUB=13, MUL=14, DIV=15, AND=16, OR=17, T_INT=18, T_LONG=19, 
-		T_FLOAT=20, T_DOUBLE=21, T_STRING=22, K_ADD=23, K_ALL=24, K_AS=25, K_BY=26, 
-		K_COLUMN=27, K_CREATE=28, K_DATABASE=29, K_DATABASES=30, K_DELETE=31, 
-		K_DISTINCT=32, K_DROP=33, K_EXISTS=34, K_FROM=35, K_GRANT=36, K_IF=37, 
-		K_IDENTIFIED=38, K_INSERT=39, K_INTO=40, K_JOIN=41, K_KEY=42, K_NOT=43, 
-		K_NULL=44, K_ON=45, K_PRIMARY=46, K_QUIT=47, K_REVOKE=48, K_SELECT=49, 
-		K_SET=50, K_SHOW=51, K_TABLE=52, K_TO=53, K_UPDATE=54, K_USE=55, K_USER=56, 
-		K_VALUES=57, K_VIEW=58, K_WHERE=59, IDENTIFIER=60, NUMERIC_LITERAL=61, 
-		EXPONENT=62, STRING_LITERAL=63, SINGLE_LINE_COMMENT=64, MULTILINE_COMMENT=65, 
-		SPACES=66;
+		T_FLOAT=20, T_DOUBLE=21, T_STRING=22, K_ADD=23, K_ALL=24, K_ALTER=25, 
+		K_ANALYZE=26, K_AS=27, K_ASC=28, K_BY=29, K_COLUMN=30, K_COLUMNAR=31, 
+		K_CREATE=32, K_DATABASE=33, K_DATABASES=34, K_DELETE=35, K_DESC=36, K_DISTINCT=37, 
+		K_DROP=38, K_EXISTS=39, K_FROM=40, K_GRANT=41, K_GROUP=42, K_IF=43, K_IDENTIFIED=44, 
+		K_INDEX=45, K_INSERT=46, K_INTO=47, K_JOIN=48, K_KEY=49, K_LIMIT=50, K_NOT=51, 
+		K_NULL=52, K_OFF=53, K_OFFSET=54, K_ON=55, K_ORDER=56, K_PRIMARY=57, K_QUIT=58, 
+		K_REVOKE=59, K_SELECT=60, K_SET=61, K_SHOW=62, K_TABLE=63, K_TO=64, K_UPDATE=65, 
+		K_USE=66, K_USER=67, K_VALUES=68, K_VIEW=69, K_WHERE=70, IDENTIFIER=71, 
+		NUMERIC_LITERAL=72, EXPONENT=73, STRING_LITERAL=74, SINGLE_LINE_COMMENT=75, 
+		MULTILINE_COMMENT=76, SPACES=77;
 	public static String[] channelNames = {
 		"DEFAULT_TOKEN_CHANNEL", "HIDDEN"
 	};
@@ -40,16 +41,17 @@ public class SQLLexer extends Lexer {
 		return new String[] {
 			"T__0", "T__1", "T__2", "T__3", "T__4", "EQ", "NE", "LT", "GT", "LE", 
 			"GE", "ADD", "SUB", "MUL", "DIV", "AND", "OR", "T_INT", "T_LONG", "T_FLOAT", 
-			"T_DOUBLE", "T_STRING", "K_ADD", "K_ALL", "K_AS", "K_BY", "K_COLUMN", 
-			"K_CREATE", "K_DATABASE", "K_DATABASES", "K_DELETE", "K_DISTINCT", "K_DROP", 
-			"K_EXISTS", "K_FROM", "K_GRANT", "K_IF", "K_IDENTIFIED", "K_INSERT", 
-			"K_INTO", "K_JOIN", "K_KEY", "K_NOT", "K_NULL", "K_ON", "K_PRIMARY", 
-			"K_QUIT", "K_REVOKE", "K_SELECT", "K_SET", "K_SHOW", "K_TABLE", "K_TO", 
-			"K_UPDATE", "K_USE", "K_USER", "K_VALUES", "K_VIEW", "K_WHERE", "IDENTIFIER", 
-			"NUMERIC_LITERAL", "EXPONENT", "STRING_LITERAL", "SINGLE_LINE_COMMENT", 
-			"MULTILINE_COMMENT", "SPACES", "DIGIT", "A", "B", "C", "D", "E", "F", 
-			"G", "H", "I", "J", "K", "L", "M", "N", "O", "P", "Q", "R", "S", "T", 
-			"U", "V", "W", "X", "Y", "Z"
+			"T_DOUBLE", "T_STRING", "K_ADD", "K_ALL", "K_ALTER", "K_ANALYZE", "K_AS", 
+			"K_ASC", "K_BY", "K_COLUMN", "K_COLUMNAR", "K_CREATE", "K_DATABASE", 
+			"K_DATABASES", "K_DELETE", "K_DESC", "K_DISTINCT", "K_DROP", "K_EXISTS", 
+			"K_FROM", "K_GRANT", "K_GROUP", "K_IF", "K_IDENTIFIED", "K_INDEX", "K_INSERT", 
+			"K_INTO", "K_JOIN", "K_KEY", "K_LIMIT", "K_NOT", "K_NULL", "K_OFF", "K_OFFSET", 
+			"K_ON", "K_ORDER", "K_PRIMARY", "K_QUIT", "K_REVOKE", "K_SELECT", "K_SET", 
+			"K_SHOW", "K_TABLE", "K_TO", "K_UPDATE", "K_USE", "K_USER", "K_VALUES", 
+			"K_VIEW", "K_WHERE", "IDENTIFIER", "NUMERIC_LITERAL", "EXPONENT", "STRING_LITERAL", 
+			"SINGLE_LINE_COMMENT", "MULTILINE_COMMENT", "SPACES", "DIGIT", "A", "B", 
+			"C", "D", "E", "F", "G", "H", "I", "J", "K", "L", "M", "N", "O", "P", 
+			"Q", "R", "S", "T", "U", "V", "W", "X", "Y", "Z"
 		};
 	}
 	public static final String[] ruleNames = makeRuleNames();
@@ -65,14 +67,15 @@ public class SQLLexer extends Lexer {
 		return new String[] {
 			null, null, null, null, null, null, "EQ", "NE", "LT", "GT", "LE", "GE", 
 			"ADD", "SUB", "MUL", "DIV", "AND", "OR", "T_INT", "T_LONG", "T_FLOAT", 
-			"T_DOUBLE", "T_STRING", "K_ADD", "K_ALL", "K_AS", "K_BY", "K_COLUMN", 
-			"K_CREATE", "K_DATABASE", "K_DATABASES", "K_DELETE", "K_DISTINCT", "K_DROP", 
-			"K_EXISTS", "K_FROM", "K_GRANT", "K_IF", "K_IDENTIFIED", "K_INSERT", 
-			"K_INTO", "K_JOIN", "K_KEY", "K_NOT", "K_NULL", "K_ON", "K_PRIMARY", 
-			"K_QUIT", "K_REVOKE", "K_SELECT", "K_SET", "K_SHOW", "K_TABLE", "K_TO", 
-			"K_UPDATE", "K_USE", "K_USER", "K_VALUES", "K_VIEW", "K_WHERE", "IDENTIFIER", 
-			"NUMERIC_LITERAL", "EXPONENT", "STRING_LITERAL", "SINGLE_LINE_COMMENT", 
-			"MULTILINE_COMMENT", "SPACES"
+			"T_DOUBLE", "T_STRING", "K_ADD", "K_ALL", "K_ALTER", "K_ANALYZE", "K_AS", 
+			"K_ASC", "K_BY", "K_COLUMN", "K_COLUMNAR", "K_CREATE", "K_DATABASE", 
+			"K_DATABASES", "K_DELETE", "K_DESC", "K_DISTINCT", "K_DROP", "K_EXISTS", 
+			"K_FROM", "K_GRANT", "K_GROUP", "K_IF", "K_IDENTIFIED", "K_INDEX", "K_INSERT", 
+			"K_INTO", "K_JOIN", "K_KEY", "K_LIMIT", "K_NOT", "K_NULL", "K_OFF", "K_OFFSET", 
+			"K_ON", "K_ORDER", "K_PRIMARY", "K_QUIT", "K_REVOKE", "K_SELECT", "K_SET", 
+			"K_SHOW", "K_TABLE", "K_TO", "K_UPDATE", "K_USE", "K_USER", "K_VALUES", 
+			"K_VIEW", "K_WHERE", "IDENTIFIER", "NUMERIC_LITERAL", "EXPONENT", "STRING_LITERAL", 
+			"SINGLE_LINE_COMMENT", "MULTILINE_COMMENT", "SPACES"
 		};
 	}
 	private static final String[] _SYMBOLIC_NAMES = makeSymbolicNames();
@@ -134,7 +137,7 @@ public class SQLLexer extends Lexer {
 	public ATN getATN() { return _ATN; }
 
 	public static final String _serializedATN =
-		"\u0004\u0000B\u0266\u0006\uffff\uffff\u0002\u0000\u0007\u0000\u0002\u0001"+
+		"\u0004\u0000M\u02bf\u0006\uffff\uffff\u0002\u0000\u0007\u0000\u0002\u0001"+
 		"\u0007\u0001\u0002\u0002\u0007\u0002\u0002\u0003\u0007\u0003\u0002\u0004"+
 		"\u0007\u0004\u0002\u0005\u0007\u0005\u0002\u0006\u0007\u0006\u0002\u0007"+
 		"\u0007\u0007\u0002\b\u0007\b\u0002\t\u0007\t\u0002\n\u0007\n\u0002\u000b"+
@@ -156,350 +159,402 @@ public class SQLLexer extends Lexer {
 		"I\u0002J\u0007J\u0002K\u0007K\u0002L\u0007L\u0002M\u0007M\u0002N\u0007"+
 		"N\u0002O\u0007O\u0002P\u0007P\u0002Q\u0007Q\u0002R\u0007R\u0002S\u0007"+
 		"S\u0002T\u0007T\u0002U\u0007U\u0002V\u0007V\u0002W\u0007W\u0002X\u0007"+
-		"X\u0002Y\u0007Y\u0002Z\u0007Z\u0002[\u0007[\u0002\\\u0007\\\u0001\u0000"+
-		"\u0001\u0000\u0001\u0001\u0001\u0001\u0001\u0002\u0001\u0002\u0001\u0003"+
-		"\u0001\u0003\u0001\u0004\u0001\u0004\u0001\u0005\u0001\u0005\u0001\u0006"+
-		"\u0001\u0006\u0001\u0006\u0001\u0007\u0001\u0007\u0001\b\u0001\b\u0001"+
-		"\t\u0001\t\u0001\t\u0001\n\u0001\n\u0001\n\u0001\u000b\u0001\u000b\u0001"+
-		"\f\u0001\f\u0001\r\u0001\r\u0001\u000e\u0001\u000e\u0001\u000f\u0001\u000f"+
-		"\u0001\u000f\u0001\u000f\u0001\u0010\u0001\u0010\u0001\u0010\u0001\u0011"+
-		"\u0001\u0011\u0001\u0011\u0001\u0011\u0001\u0012\u0001\u0012\u0001\u0012"+
-		"\u0001\u0012\u0001\u0012\u0001\u0013\u0001\u0013\u0001\u0013\u0001\u0013"+
-		"\u0001\u0013\u0001\u0013\u0001\u0014\u0001\u0014\u0001\u0014\u0001\u0014"+
-		"\u0001\u0014\u0001\u0014\u0001\u0014\u0001\u0015\u0001\u0015\u0001\u0015"+
-		"\u0001\u0015\u0001\u0015\u0001\u0015\u0001\u0015\u0001\u0016\u0001\u0016"+
-		"\u0001\u0016\u0001\u0016\u0001\u0017\u0001\u0017\u0001\u0017\u0001\u0017"+
-		"\u0001\u0018\u0001\u0018\u0001\u0018\u0001\u0019\u0001\u0019\u0001\u0019"+
-		"\u0001\u001a\u0001\u001a\u0001\u001a\u0001\u001a\u0001\u001a\u0001\u001a"+
-		"\u0001\u001a\u0001\u001b\u0001\u001b\u0001\u001b\u0001\u001b\u0001\u001b"+
-		"\u0001\u001b\u0001\u001b\u0001\u001c\u0001\u001c\u0001\u001c\u0001\u001c"+
-		"\u0001\u001c\u0001\u001c\u0001\u001c\u0001\u001c\u0001\u001c\u0001\u001d"+
-		"\u0001\u001d\u0001\u001d\u0001\u001d\u0001\u001d\u0001\u001d\u0001\u001d"+
-		"\u0001\u001d\u0001\u001d\u0001\u001d\u0001\u001e\u0001\u001e\u0001\u001e"+
-		"\u0001\u001e\u0001\u001e\u0001\u001e\u0001\u001e\u0001\u001f\u0001\u001f"+
-		"\u0001\u001f\u0001\u001f\u0001\u001f\u0001\u001f\u0001\u001f\u0001\u001f"+
-		"\u0001\u001f\u0001 \u0001 \u0001 \u0001 \u0001 \u0001!\u0001!\u0001!\u0001"+
-		"!\u0001!\u0001!\u0001!\u0001\"\u0001\"\u0001\"\u0001\"\u0001\"\u0001#"+
-		"\u0001#\u0001#\u0001#\u0001#\u0001#\u0001$\u0001$\u0001$\u0001%\u0001"+
-		"%\u0001%\u0001%\u0001%\u0001%\u0001%\u0001%\u0001%\u0001%\u0001%\u0001"+
-		"&\u0001&\u0001&\u0001&\u0001&\u0001&\u0001&\u0001\'\u0001\'\u0001\'\u0001"+
-		"\'\u0001\'\u0001(\u0001(\u0001(\u0001(\u0001(\u0001)\u0001)\u0001)\u0001"+
-		")\u0001*\u0001*\u0001*\u0001*\u0001+\u0001+\u0001+\u0001+\u0001+\u0001"+
-		",\u0001,\u0001,\u0001-\u0001-\u0001-\u0001-\u0001-\u0001-\u0001-\u0001"+
-		"-\u0001.\u0001.\u0001.\u0001.\u0001.\u0001/\u0001/\u0001/\u0001/\u0001"+
-		"/\u0001/\u0001/\u00010\u00010\u00010\u00010\u00010\u00010\u00010\u0001"+
-		"1\u00011\u00011\u00011\u00012\u00012\u00012\u00012\u00012\u00013\u0001"+
-		"3\u00013\u00013\u00013\u00013\u00014\u00014\u00014\u00015\u00015\u0001"+
-		"5\u00015\u00015\u00015\u00015\u00016\u00016\u00016\u00016\u00017\u0001"+
-		"7\u00017\u00017\u00017\u00018\u00018\u00018\u00018\u00018\u00018\u0001"+
-		"8\u00019\u00019\u00019\u00019\u00019\u0001:\u0001:\u0001:\u0001:\u0001"+
-		":\u0001:\u0001;\u0001;\u0005;\u01d7\b;\n;\f;\u01da\t;\u0001<\u0004<\u01dd"+
-		"\b<\u000b<\f<\u01de\u0001<\u0003<\u01e2\b<\u0001<\u0004<\u01e5\b<\u000b"+
-		"<\f<\u01e6\u0001<\u0001<\u0005<\u01eb\b<\n<\f<\u01ee\t<\u0001<\u0003<"+
-		"\u01f1\b<\u0001<\u0001<\u0004<\u01f5\b<\u000b<\f<\u01f6\u0001<\u0003<"+
-		"\u01fa\b<\u0003<\u01fc\b<\u0001=\u0001=\u0003=\u0200\b=\u0001=\u0004="+
-		"\u0203\b=\u000b=\f=\u0204\u0001>\u0001>\u0001>\u0001>\u0005>\u020b\b>"+
-		"\n>\f>\u020e\t>\u0001>\u0001>\u0001?\u0001?\u0001?\u0001?\u0005?\u0216"+
-		"\b?\n?\f?\u0219\t?\u0001?\u0001?\u0001@\u0001@\u0001@\u0001@\u0005@\u0221"+
-		"\b@\n@\f@\u0224\t@\u0001@\u0001@\u0001@\u0003@\u0229\b@\u0001@\u0001@"+
-		"\u0001A\u0001A\u0001A\u0001A\u0001B\u0001B\u0001C\u0001C\u0001D\u0001"+
-		"D\u0001E\u0001E\u0001F\u0001F\u0001G\u0001G\u0001H\u0001H\u0001I\u0001"+
-		"I\u0001J\u0001J\u0001K\u0001K\u0001L\u0001L\u0001M\u0001M\u0001N\u0001"+
-		"N\u0001O\u0001O\u0001P\u0001P\u0001Q\u0001Q\u0001R\u0001R\u0001S\u0001"+
-		"S\u0001T\u0001T\u0001U\u0001U\u0001V\u0001V\u0001W\u0001W\u0001X\u0001"+
-		"X\u0001Y\u0001Y\u0001Z\u0001Z\u0001[\u0001[\u0001\\\u0001\\\u0001\u0222"+
-		"\u0000]\u0001\u0001\u0003\u0002\u0005\u0003\u0007\u0004\t\u0005\u000b"+
-		"\u0006\r\u0007\u000f\b\u0011\t\u0013\n\u0015\u000b\u0017\f\u0019\r\u001b"+
-		"\u000e\u001d\u000f\u001f\u0010!\u0011#\u0012%\u0013\'\u0014)\u0015+\u0016"+
-		"-\u0017/\u00181\u00193\u001a5\u001b7\u001c9\u001d;\u001e=\u001f? A!C\""+
-		"E#G$I%K&M\'O(Q)S*U+W,Y-[.]/_0a1c2e3g4i5k6m7o8q9s:u;w<y={>}?\u007f@\u0081"+
-		"A\u0083B\u0085\u0000\u0087\u0000\u0089\u0000\u008b\u0000\u008d\u0000\u008f"+
-		"\u0000\u0091\u0000\u0093\u0000\u0095\u0000\u0097\u0000\u0099\u0000\u009b"+
-		"\u0000\u009d\u0000\u009f\u0000\u00a1\u0000\u00a3\u0000\u00a5\u0000\u00a7"+
-		"\u0000\u00a9\u0000\u00ab\u0000\u00ad\u0000\u00af\u0000\u00b1\u0000\u00b3"+
-		"\u0000\u00b5\u0000\u00b7\u0000\u00b9\u0000\u0001\u0000!\u0003\u0000AZ"+
-		"__az\u0004\u000009AZ__az\u0002\u0000++--\u0001\u0000\'\'\u0002\u0000\n"+
-		"\n\r\r\u0003\u0000\t\u000b\r\r  \u0001\u000009\u0002\u0000AAaa\u0002\u0000"+
-		"BBbb\u0002\u0000CCcc\u0002\u0000DDdd\u0002\u0000EEee\u0002\u0000FFff\u0002"+
-		"\u0000GGgg\u0002\u0000HHhh\u0002\u0000IIii\u0002\u0000JJjj\u0002\u0000"+
-		"KKkk\u0002\u0000LLll\u0002\u0000MMmm\u0002\u0000NNnn\u0002\u0000OOoo\u0002"+
-		"\u0000PPpp\u0002\u0000QQqq\u0002\u0000RRrr\u0002\u0000SSss\u0002\u0000"+
-		"TTtt\u0002\u0000UUuu\u0002\u0000VVvv\u0002\u0000WWww\u0002\u0000XXxx\u0002"+
-		"\u0000YYyy\u0002\u0000ZZzz\u025b\u0000\u0001\u0001\u0000\u0000\u0000\u0000"+
-		"\u0003\u0001\u0000\u0000\u0000\u0000\u0005\u0001\u0000\u0000\u0000\u0000"+
-		"\u0007\u0001\u0000\u0000\u0000\u0000\t\u0001\u0000\u0000\u0000\u0000\u000b"+
-		"\u0001\u0000\u0000\u0000\u0000\r\u0001\u0000\u0000\u0000\u0000\u000f\u0001"+
-		"\u0000\u0000\u0000\u0000\u0011\u0001\u0000\u0000\u0000\u0000\u0013\u0001"+
-		"\u0000\u0000\u0000\u0000\u0015\u0001\u0000\u0000\u0000\u0000\u0017\u0001"+
-		"\u0000\u0000\u0000\u0000\u0019\u0001\u0000\u0000\u0000\u0000\u001b\u0001"+
-		"\u0000\u0000\u0000\u0000\u001d\u0001\u0000\u0000\u0000\u0000\u001f\u0001"+
-		"\u0000\u0000\u0000\u0000!\u0001\u0000\u0000\u0000\u0000#\u0001\u0000\u0000"+
-		"\u0000\u0000%\u0001\u0000\u0000\u0000\u0000\'\u0001\u0000\u0000\u0000"+
-		"\u0000)\u0001\u0000\u0000\u0000\u0000+\u0001\u0000\u0000\u0000\u0000-"+
-		"\u0001\u0000\u0000\u0000\u0000/\u0001\u0000\u0000\u0000\u00001\u0001\u0000"+
-		"\u0000\u0000\u00003\u0001\u0000\u0000\u0000\u00005\u0001\u0000\u0000\u0000"+
-		"\u00007\u0001\u0000\u0000\u0000\u00009\u0001\u0000\u0000\u0000\u0000;"+
-		"\u0001\u0000\u0000\u0000\u0000=\u0001\u0000\u0000\u0000\u0000?\u0001\u0000"+
-		"\u0000\u0000\u0000A\u0001\u0000\u0000\u0000\u0000C\u0001\u0000\u0000\u0000"+
-		"\u0000E\u0001\u0000\u0000\u0000\u0000G\u0001\u0000\u0000\u0000\u0000I"+
-		"\u0001\u0000\u0000\u0000\u0000K\u0001\u0000\u0000\u0000\u0000M\u0001\u0000"+
-		"\u0000\u0000\u0000O\u0001\u0000\u0000\u0000\u0000Q\u0001\u0000\u0000\u0000"+
-		"\u0000S\u0001\u0000\u0000\u0000\u0000U\u0001\u0000\u0000\u0000\u0000W"+
-		"\u0001\u0000\u0000\u0000\u0000Y\u0001\u0000\u0000\u0000\u0000[\u0001\u0000"+
-		"\u0000\u0000\u0000]\u0001\u0000\u0000\u0000\u0000_\u0001\u0000\u0000\u0000"+
-		"\u0000a\u0001\u0000\u0000\u0000\u0000c\u0001\u0000\u0000\u0000\u0000e"+
-		"\u0001\u0000\u0000\u0000\u0000g\u0001\u0000\u0000\u0000\u0000i\u0001\u0000"+
-		"\u0000\u0000\u0000k\u0001\u0000\u0000\u0000\u0000m\u0001\u0000\u0000\u0000"+
-		"\u0000o\u0001\u0000\u0000\u0000\u0000q\u0001\u0000\u0000\u0000\u0000s"+
-		"\u0001\u0000\u0000\u0000\u0000u\u0001\u0000\u0000\u0000\u0000w\u0001\u0000"+
-		"\u0000\u0000\u0000y\u0001\u0000\u0000\u0000\u0000{\u0001\u0000\u0000\u0000"+
-		"\u0000}\u0001\u0000\u0000\u0000\u0000\u007f\u0001\u0000\u0000\u0000\u0000"+
-		"\u0081\u0001\u0000\u0000\u0000\u0000\u0083\u0001\u0000\u0000\u0000\u0001"+
-		"\u00bb\u0001\u0000\u0000\u0000\u0003\u00bd\u0001\u0000\u0000\u0000\u0005"+
-		"\u00bf\u0001\u0000\u0000\u0000\u0007\u00c1\u0001\u0000\u0000\u0000\t\u00c3"+
-		"\u0001\u0000\u0000\u0000\u000b\u00c5\u0001\u0000\u0000\u0000\r\u00c7\u0001"+
-		"\u0000\u0000\u0000\u000f\u00ca\u0001\u0000\u0000\u0000\u0011\u00cc\u0001"+
-		"\u0000\u0000\u0000\u0013\u00ce\u0001\u0000\u0000\u0000\u0015\u00d1\u0001"+
-		"\u0000\u0000\u0000\u0017\u00d4\u0001\u0000\u0000\u0000\u0019\u00d6\u0001"+
-		"\u0000\u0000\u0000\u001b\u00d8\u0001\u0000\u0000\u0000\u001d\u00da\u0001"+
-		"\u0000\u0000\u0000\u001f\u00dc\u0001\u0000\u0000\u0000!\u00e0\u0001\u0000"+
-		"\u0000\u0000#\u00e3\u0001\u0000\u0000\u0000%\u00e7\u0001\u0000\u0000\u0000"+
-		"\'\u00ec\u0001\u0000\u0000\u0000)\u00f2\u0001\u0000\u0000\u0000+\u00f9"+
-		"\u0001\u0000\u0000\u0000-\u0100\u0001\u0000\u0000\u0000/\u0104\u0001\u0000"+
-		"\u0000\u00001\u0108\u0001\u0000\u0000\u00003\u010b\u0001\u0000\u0000\u0000"+
-		"5\u010e\u0001\u0000\u0000\u00007\u0115\u0001\u0000\u0000\u00009\u011c"+
-		"\u0001\u0000\u0000\u0000;\u0125\u0001\u0000\u0000\u0000=\u012f\u0001\u0000"+
-		"\u0000\u0000?\u0136\u0001\u0000\u0000\u0000A\u013f\u0001\u0000\u0000\u0000"+
-		"C\u0144\u0001\u0000\u0000\u0000E\u014b\u0001\u0000\u0000\u0000G\u0150"+
-		"\u0001\u0000\u0000\u0000I\u0156\u0001\u0000\u0000\u0000K\u0159\u0001\u0000"+
-		"\u0000\u0000M\u0164\u0001\u0000\u0000\u0000O\u016b\u0001\u0000\u0000\u0000"+
-		"Q\u0170\u0001\u0000\u0000\u0000S\u0175\u0001\u0000\u0000\u0000U\u0179"+
-		"\u0001\u0000\u0000\u0000W\u017d\u0001\u0000\u0000\u0000Y\u0182\u0001\u0000"+
-		"\u0000\u0000[\u0185\u0001\u0000\u0000\u0000]\u018d\u0001\u0000\u0000\u0000"+
-		"_\u0192\u0001\u0000\u0000\u0000a\u0199\u0001\u0000\u0000\u0000c\u01a0"+
-		"\u0001\u0000\u0000\u0000e\u01a4\u0001\u0000\u0000\u0000g\u01a9\u0001\u0000"+
-		"\u0000\u0000i\u01af\u0001\u0000\u0000\u0000k\u01b2\u0001\u0000\u0000\u0000"+
-		"m\u01b9\u0001\u0000\u0000\u0000o\u01bd\u0001\u0000\u0000\u0000q\u01c2"+
-		"\u0001\u0000\u0000\u0000s\u01c9\u0001\u0000\u0000\u0000u\u01ce\u0001\u0000"+
-		"\u0000\u0000w\u01d4\u0001\u0000\u0000\u0000y\u01fb\u0001\u0000\u0000\u0000"+
-		"{\u01fd\u0001\u0000\u0000\u0000}\u0206\u0001\u0000\u0000\u0000\u007f\u0211"+
-		"\u0001\u0000\u0000\u0000\u0081\u021c\u0001\u0000\u0000\u0000\u0083\u022c"+
-		"\u0001\u0000\u0000\u0000\u0085\u0230\u0001\u0000\u0000\u0000\u0087\u0232"+
-		"\u0001\u0000\u0000\u0000\u0089\u0234\u0001\u0000\u0000\u0000\u008b\u0236"+
-		"\u0001\u0000\u0000\u0000\u008d\u0238\u0001\u0000\u0000\u0000\u008f\u023a"+
-		"\u0001\u0000\u0000\u0000\u0091\u023c\u0001\u0000\u0000\u0000\u0093\u023e"+
-		"\u0001\u0000\u0000\u0000\u0095\u0240\u0001\u0000\u0000\u0000\u0097\u0242"+
-		"\u0001\u0000\u0000\u0000\u0099\u0244\u0001\u0000\u0000\u0000\u009b\u0246"+
-		"\u0001\u0000\u0000\u0000\u009d\u0248\u0001\u0000\u0000\u0000\u009f\u024a"+
-		"\u0001\u0000\u0000\u0000\u00a1\u024c\u0001\u0000\u0000\u0000\u00a3\u024e"+
-		"\u0001\u0000\u0000\u0000\u00a5\u0250\u0001\u0000\u0000\u0000\u00a7\u0252"+
-		"\u0001\u0000\u0000\u0000\u00a9\u0254\u0001\u0000\u0000\u0000\u00ab\u0256"+
-		"\u0001\u0000\u0000\u0000\u00ad\u0258\u0001\u0000\u0000\u0000\u00af\u025a"+
-		"\u0001\u0000\u0000\u0000\u00b1\u025c\u0001\u0000\u0000\u0000\u00b3\u025e"+
-		"\u0001\u0000\u0000\u0000\u00b5\u0260\u0001\u0000\u0000\u0000\u00b7\u0262"+
-		"\u0001\u0000\u0000\u0000\u00b9\u0264\u0001\u0000\u0000\u0000\u00bb\u00bc"+
-		"\u0005;\u0000\u0000\u00bc\u0002\u0001\u0000\u0000\u0000\u00bd\u00be\u0005"+
-		"(\u0000\u0000\u00be\u0004\u0001\u0000\u0000\u0000\u00bf\u00c0\u0005,\u0000"+
-		"\u0000\u00c0\u0006\u0001\u0000\u0000\u0000\u00c1\u00c2\u0005)\u0000\u0000"+
-		"\u00c2\b\u0001\u0000\u0000\u0000\u00c3\u00c4\u0005.\u0000\u0000\u00c4"+
-		"\n\u0001\u0000\u0000\u0000\u00c5\u00c6\u0005=\u0000\u0000\u00c6\f\u0001"+
-		"\u0000\u0000\u0000\u00c7\u00c8\u0005<\u0000\u0000\u00c8\u00c9\u0005>\u0000"+
-		"\u0000\u00c9\u000e\u0001\u0000\u0000\u0000\u00ca\u00cb\u0005<\u0000\u0000"+
-		"\u00cb\u0010\u0001\u0000\u0000\u0000\u00cc\u00cd\u0005>\u0000\u0000\u00cd"+
-		"\u0012\u0001\u0000\u0000\u0000\u00ce\u00cf\u0005<\u0000\u0000\u00cf\u00d0"+
-		"\u0005=\u0000\u0000\u00d0\u0014\u0001\u0000\u0000\u0000\u00d1\u00d2\u0005"+
-		">\u0000\u0000\u00d2\u00d3\u0005=\u0000\u0000\u00d3\u0016\u0001\u0000\u0000"+
-		"\u0000\u00d4\u00d5\u0005+\u0000\u0000\u00d5\u0018\u0001\u0000\u0000\u0000"+
-		"\u00d6\u00d7\u0005-\u0000\u0000\u00d7\u001a\u0001\u0000\u0000\u0000\u00d8"+
-		"\u00d9\u0005*\u0000\u0000\u00d9\u001c\u0001\u0000\u0000\u0000\u00da\u00db"+
-		"\u0005/\u0000\u0000\u00db\u001e\u0001\u0000\u0000\u0000\u00dc\u00dd\u0005"+
-		"a\u0000\u0000\u00dd\u00de\u0005n\u0000\u0000\u00de\u00df\u0005d\u0000"+
-		"\u0000\u00df \u0001\u0000\u0000\u0000\u00e0\u00e1\u0005o\u0000\u0000\u00e1"+
-		"\u00e2\u0005r\u0000\u0000\u00e2\"\u0001\u0000\u0000\u0000\u00e3\u00e4"+
-		"\u0003\u0097K\u0000\u00e4\u00e5\u0003\u00a1P\u0000\u00e5\u00e6\u0003\u00ad"+
-		"V\u0000\u00e6$\u0001\u0000\u0000\u0000\u00e7\u00e8\u0003\u009dN\u0000"+
-		"\u00e8\u00e9\u0003\u00a3Q\u0000\u00e9\u00ea\u0003\u00a1P\u0000\u00ea\u00eb"+
-		"\u0003\u0093I\u0000\u00eb&\u0001\u0000\u0000\u0000\u00ec\u00ed\u0003\u0091"+
-		"H\u0000\u00ed\u00ee\u0003\u009dN\u0000\u00ee\u00ef\u0003\u00a3Q\u0000"+
-		"\u00ef\u00f0\u0003\u0087C\u0000\u00f0\u00f1\u0003\u00adV\u0000\u00f1("+
-		"\u0001\u0000\u0000\u0000\u00f2\u00f3\u0003\u008dF\u0000\u00f3\u00f4\u0003"+
-		"\u00a3Q\u0000\u00f4\u00f5\u0003\u00afW\u0000\u00f5\u00f6\u0003\u0089D"+
-		"\u0000\u00f6\u00f7\u0003\u009dN\u0000\u00f7\u00f8\u0003\u008fG\u0000\u00f8"+
-		"*\u0001\u0000\u0000\u0000\u00f9\u00fa\u0003\u00abU\u0000\u00fa\u00fb\u0003"+
-		"\u00adV\u0000\u00fb\u00fc\u0003\u00a9T\u0000\u00fc\u00fd\u0003\u0097K"+
-		"\u0000\u00fd\u00fe\u0003\u00a1P\u0000\u00fe\u00ff\u0003\u0093I\u0000\u00ff"+
-		",\u0001\u0000\u0000\u0000\u0100\u0101\u0003\u0087C\u0000\u0101\u0102\u0003"+
-		"\u008dF\u0000\u0102\u0103\u0003\u008dF\u0000\u0103.\u0001\u0000\u0000"+
-		"\u0000\u0104\u0105\u0003\u0087C\u0000\u0105\u0106\u0003\u009dN\u0000\u0106"+
-		"\u0107\u0003\u009dN\u0000\u01070\u0001\u0000\u0000\u0000\u0108\u0109\u0003"+
-		"\u0087C\u0000\u0109\u010a\u0003\u00abU\u0000\u010a2\u0001\u0000\u0000"+
-		"\u0000\u010b\u010c\u0003\u0089D\u0000\u010c\u010d\u0003\u00b7[\u0000\u010d"+
-		"4\u0001\u0000\u0000\u0000\u010e\u010f\u0003\u008bE\u0000\u010f\u0110\u0003"+
-		"\u00a3Q\u0000\u0110\u0111\u0003\u009dN\u0000\u0111\u0112\u0003\u00afW"+
-		"\u0000\u0112\u0113\u0003\u009fO\u0000\u0113\u0114\u0003\u00a1P\u0000\u0114"+
-		"6\u0001\u0000\u0000\u0000\u0115\u0116\u0003\u008bE\u0000\u0116\u0117\u0003"+
-		"\u00a9T\u0000\u0117\u0118\u0003\u008fG\u0000\u0118\u0119\u0003\u0087C"+
-		"\u0000\u0119\u011a\u0003\u00adV\u0000\u011a\u011b\u0003\u008fG\u0000\u011b"+
-		"8\u0001\u0000\u0000\u0000\u011c\u011d\u0003\u008dF\u0000\u011d\u011e\u0003"+
-		"\u0087C\u0000\u011e\u011f\u0003\u00adV\u0000\u011f\u0120\u0003\u0087C"+
-		"\u0000\u0120\u0121\u0003\u0089D\u0000\u0121\u0122\u0003\u0087C\u0000\u0122"+
-		"\u0123\u0003\u00abU\u0000\u0123\u0124\u0003\u008fG\u0000\u0124:\u0001"+
-		"\u0000\u0000\u0000\u0125\u0126\u0003\u008dF\u0000\u0126\u0127\u0003\u0087"+
-		"C\u0000\u0127\u0128\u0003\u00adV\u0000\u0128\u0129\u0003\u0087C\u0000"+
-		"\u0129\u012a\u0003\u0089D\u0000\u012a\u012b\u0003\u0087C\u0000\u012b\u012c"+
-		"\u0003\u00abU\u0000\u012c\u012d\u0003\u008fG\u0000\u012d\u012e\u0003\u00ab"+
-		"U\u0000\u012e<\u0001\u0000\u0000\u0000\u012f\u0130\u0003\u008dF\u0000"+
-		"\u0130\u0131\u0003\u008fG\u0000\u0131\u0132\u0003\u009dN\u0000\u0132\u0133"+
-		"\u0003\u008fG\u0000\u0133\u0134\u0003\u00adV\u0000\u0134\u0135\u0003\u008f"+
-		"G\u0000\u0135>\u0001\u0000\u0000\u0000\u0136\u0137\u0003\u008dF\u0000"+
-		"\u0137\u0138\u0003\u0097K\u0000\u0138\u0139\u0003\u00abU\u0000\u0139\u013a"+
-		"\u0003\u00adV\u0000\u013a\u013b\u0003\u0097K\u0000\u013b\u013c\u0003\u00a1"+
-		"P\u0000\u013c\u013d\u0003\u008bE\u0000\u013d\u013e\u0003\u00adV\u0000"+
-		"\u013e@\u0001\u0000\u0000\u0000\u013f\u0140\u0003\u008dF\u0000\u0140\u0141"+
-		"\u0003\u00a9T\u0000\u0141\u0142\u0003\u00a3Q\u0000\u0142\u0143\u0003\u00a5"+
-		"R\u0000\u0143B\u0001\u0000\u0000\u0000\u0144\u0145\u0003\u008fG\u0000"+
-		"\u0145\u0146\u0003\u00b5Z\u0000\u0146\u0147\u0003\u0097K\u0000\u0147\u0148"+
-		"\u0003\u00abU\u0000\u0148\u0149\u0003\u00adV\u0000\u0149\u014a\u0003\u00ab"+
-		"U\u0000\u014aD\u0001\u0000\u0000\u0000\u014b\u014c\u0003\u0091H\u0000"+
-		"\u014c\u014d\u0003\u00a9T\u0000\u014d\u014e\u0003\u00a3Q\u0000\u014e\u014f"+
-		"\u0003\u009fO\u0000\u014fF\u0001\u0000\u0000\u0000\u0150\u0151\u0003\u0093"+
-		"I\u0000\u0151\u0152\u0003\u00a9T\u0000\u0152\u0153\u0003\u0087C\u0000"+
-		"\u0153\u0154\u0003\u00a1P\u0000\u0154\u0155\u0003\u00adV\u0000\u0155H"+
-		"\u0001\u0000\u0000\u0000\u0156\u0157\u0003\u0097K\u0000\u0157\u0158\u0003"+
-		"\u0091H\u0000\u0158J\u0001\u0000\u0000\u0000\u0159\u015a\u0003\u0097K"+
-		"\u0000\u015a\u015b\u0003\u008dF\u0000\u015b\u015c\u0003\u008fG\u0000\u015c"+
-		"\u015d\u0003\u00a1P\u0000\u015d\u015e\u0003\u00adV\u0000\u015e\u015f\u0003"+
-		"\u0097K\u0000\u015f\u0160\u0003\u0091H\u0000\u0160\u0161\u0003\u0097K"+
-		"\u0000\u0161\u0162\u0003\u008fG\u0000\u0162\u0163\u0003\u008dF\u0000\u0163"+
-		"L\u0001\u0000\u0000\u0000\u0164\u0165\u0003\u0097K\u0000\u0165\u0166\u0003"+
-		"\u00a1P\u0000\u0166\u0167\u0003\u00abU\u0000\u0167\u0168\u0003\u008fG"+
-		"\u0000\u0168\u0169\u0003\u00a9T\u0000\u0169\u016a\u0003\u00adV\u0000\u016a"+
-		"N\u0001\u0000\u0000\u0000\u016b\u016c\u0003\u0097K\u0000\u016c\u016d\u0003"+
-		"\u00a1P\u0000\u016d\u016e\u0003\u00adV\u0000\u016e\u016f\u0003\u00a3Q"+
-		"\u0000\u016fP\u0001\u0000\u0000\u0000\u0170\u0171\u0003\u0099L\u0000\u0171"+
-		"\u0172\u0003\u00a3Q\u0000\u0172\u0173\u0003\u0097K\u0000\u0173\u0174\u0003"+
-		"\u00a1P\u0000\u0174R\u0001\u0000\u0000\u0000\u0175\u0176\u0003\u009bM"+
-		"\u0000\u0176\u0177\u0003\u008fG\u0000\u0177\u0178\u0003\u00b7[\u0000\u0178"+
-		"T\u0001\u0000\u0000\u0000\u0179\u017a\u0003\u00a1P\u0000\u017a\u017b\u0003"+
-		"\u00a3Q\u0000\u017b\u017c\u0003\u00adV\u0000\u017cV\u0001\u0000\u0000"+
-		"\u0000\u017d\u017e\u0003\u00a1P\u0000\u017e\u017f\u0003\u00afW\u0000\u017f"+
-		"\u0180\u0003\u009dN\u0000\u0180\u0181\u0003\u009dN\u0000\u0181X\u0001"+
-		"\u0000\u0000\u0000\u0182\u0183\u0003\u00a3Q\u0000\u0183\u0184\u0003\u00a1"+
-		"P\u0000\u0184Z\u0001\u0000\u0000\u0000\u0185\u0186\u0003\u00a5R\u0000"+
-		"\u0186\u0187\u0003\u00a9T\u0000\u0187\u0188\u0003\u0097K\u0000\u0188\u0189"+
-		"\u0003\u009fO\u0000\u0189\u018a\u0003\u0087C\u0000\u018a\u018b\u0003\u00a9"+
-		"T\u0000\u018b\u018c\u0003\u00b7[\u0000\u018c\\\u0001\u0000\u0000\u0000"+
-		"\u018d\u018e\u0003\u00a7S\u0000\u018e\u018f\u0003\u00afW\u0000\u018f\u0190"+
-		"\u0003\u0097K\u0000\u0190\u0191\u0003\u00adV\u0000\u0191^\u0001\u0000"+
-		"\u0000\u0000\u0192\u0193\u0003\u00a9T\u0000\u0193\u0194\u0003\u008fG\u0000"+
-		"\u0194\u0195\u0003\u00b1X\u0000\u0195\u0196\u0003\u00a3Q\u0000\u0196\u0197"+
-		"\u0003\u009bM\u0000\u0197\u0198\u0003\u008fG\u0000\u0198`\u0001\u0000"+
-		"\u0000\u0000\u0199\u019a\u0003\u00abU\u0000\u019a\u019b\u0003\u008fG\u0000"+
-		"\u019b\u019c\u0003\u009dN\u0000\u019c\u019d\u0003\u008fG\u0000\u019d\u019e"+
-		"\u0003\u008bE\u0000\u019e\u019f\u0003\u00adV\u0000\u019fb\u0001\u0000"+
-		"\u0000\u0000\u01a0\u01a1\u0003\u00abU\u0000\u01a1\u01a2\u0003\u008fG\u0000"+
-		"\u01a2\u01a3\u0003\u00adV\u0000\u01a3d\u0001\u0000\u0000\u0000\u01a4\u01a5"+
-		"\u0003\u00abU\u0000\u01a5\u01a6\u0003\u0095J\u0000\u01a6\u01a7\u0003\u00a3"+
-		"Q\u0000\u01a7\u01a8\u0003\u00b3Y\u0000\u01a8f\u0001\u0000\u0000\u0000"+
-		"\u01a9\u01aa\u0003\u00adV\u0000\u01aa\u01ab\u0003\u0087C\u0000\u01ab\u01ac"+
-		"\u0003\u0089D\u0000\u01ac\u01ad\u0003\u009dN\u0000\u01ad\u01ae\u0003\u008f"+
-		"G\u0000\u01aeh\u0001\u0000\u0000\u0000\u01af\u01b0\u0003\u00adV\u0000"+
-		"\u01b0\u01b1\u0003\u00a3Q\u0000\u01b1j\u0001\u0000\u0000\u0000\u01b2\u01b3"+
-		"\u0003\u00afW\u0000\u01b3\u01b4\u0003\u00a5R\u0000\u01b4\u01b5\u0003\u008d"+
-		"F\u0000\u01b5\u01b6\u0003\u0087C\u0000\u01b6\u01b7\u0003\u00adV\u0000"+
-		"\u01b7\u01b8\u0003\u008fG\u0000\u01b8l\u0001\u0000\u0000\u0000\u01b9\u01ba"+
-		"\u0003\u00afW\u0000\u01ba\u01bb\u0003\u00abU\u0000\u01bb\u01bc\u0003\u008f"+
-		"G\u0000\u01bcn\u0001\u0000\u0000\u0000\u01bd\u01be\u0003\u00afW\u0000"+
-		"\u01be\u01bf\u0003\u00abU\u0000\u01bf\u01c0\u0003\u008fG\u0000\u01c0\u01c1"+
-		"\u0003\u00a9T\u0000\u01c1p\u0001\u0000\u0000\u0000\u01c2\u01c3\u0003\u00b1"+
-		"X\u0000\u01c3\u01c4\u0003\u0087C\u0000\u01c4\u01c5\u0003\u009dN\u0000"+
-		"\u01c5\u01c6\u0003\u00afW\u0000\u01c6\u01c7\u0003\u008fG\u0000\u01c7\u01c8"+
-		"\u0003\u00abU\u0000\u01c8r\u0001\u0000\u0000\u0000\u01c9\u01ca\u0003\u00b1"+
-		"X\u0000\u01ca\u01cb\u0003\u0097K\u0000\u01cb\u01cc\u0003\u008fG\u0000"+
-		"\u01cc\u01cd\u0003\u00b3Y\u0000\u01cdt\u0001\u0000\u0000\u0000\u01ce\u01cf"+
-		"\u0003\u00b3Y\u0000\u01cf\u01d0\u0003\u0095J\u0000\u01d0\u01d1\u0003\u008f"+
-		"G\u0000\u01d1\u01d2\u0003\u00a9T\u0000\u01d2\u01d3\u0003\u008fG\u0000"+
-		"\u01d3v\u0001\u0000\u0000\u0000\u01d4\u01d8\u0007\u0000\u0000\u0000\u01d5"+
-		"\u01d7\u0007\u0001\u0000\u0000\u01d6\u01d5\u0001\u0000\u0000\u0000\u01d7"+
-		"\u01da\u0001\u0000\u0000\u0000\u01d8\u01d6\u0001\u0000\u0000\u0000\u01d8"+
-		"\u01d9\u0001\u0000\u0000\u0000\u01d9x\u0001\u0000\u0000\u0000\u01da\u01d8"+
-		"\u0001\u0000\u0000\u0000\u01db\u01dd\u0003\u0085B\u0000\u01dc\u01db\u0001"+
-		"\u0000\u0000\u0000\u01dd\u01de\u0001\u0000\u0000\u0000\u01de\u01dc\u0001"+
-		"\u0000\u0000\u0000\u01de\u01df\u0001\u0000\u0000\u0000\u01df\u01e1\u0001"+
-		"\u0000\u0000\u0000\u01e0\u01e2\u0003{=\u0000\u01e1\u01e0\u0001\u0000\u0000"+
-		"\u0000\u01e1\u01e2\u0001\u0000\u0000\u0000\u01e2\u01fc\u0001\u0000\u0000"+
-		"\u0000\u01e3\u01e5\u0003\u0085B\u0000\u01e4\u01e3\u0001\u0000\u0000\u0000"+
-		"\u01e5\u01e6\u0001\u0000\u0000\u0000\u01e6\u01e4\u0001\u0000\u0000\u0000"+
-		"\u01e6\u01e7\u0001\u0000\u0000\u0000\u01e7\u01e8\u0001\u0000\u0000\u0000"+
-		"\u01e8\u01ec\u0005.\u0000\u0000\u01e9\u01eb\u0003\u0085B\u0000\u01ea\u01e9"+
-		"\u0001\u0000\u0000\u0000\u01eb\u01ee\u0001\u0000\u0000\u0000\u01ec\u01ea"+
-		"\u0001\u0000\u0000\u0000\u01ec\u01ed\u0001\u0000\u0000\u0000\u01ed\u01f0"+
-		"\u0001\u0000\u0000\u0000\u01ee\u01ec\u0001\u0000\u0000\u0000\u01ef\u01f1"+
-		"\u0003{=\u0000\u01f0\u01ef\u0001\u0000\u0000\u0000\u01f0\u01f1\u0001\u0000"+
-		"\u0000\u0000\u01f1\u01fc\u0001\u0000\u0000\u0000\u01f2\u01f4\u0005.\u0000"+
-		"\u0000\u01f3\u01f5\u0003\u0085B\u0000\u01f4\u01f3\u0001\u0000\u0000\u0000"+
-		"\u01f5\u01f6\u0001\u0000\u0000\u0000\u01f6\u01f4\u0001\u0000\u0000\u0000"+
-		"\u01f6\u01f7\u0001\u0000\u0000\u0000\u01f7\u01f9\u0001\u0000\u0000\u0000"+
-		"\u01f8\u01fa\u0003{=\u0000\u01f9\u01f8\u0001\u0000\u0000\u0000\u01f9\u01fa"+
-		"\u0001\u0000\u0000\u0000\u01fa\u01fc\u0001\u0000\u0000\u0000\u01fb\u01dc"+
-		"\u0001\u0000\u0000\u0000\u01fb\u01e4\u0001\u0000\u0000\u0000\u01fb\u01f2"+
-		"\u0001\u0000\u0000\u0000\u01fcz\u0001\u0000\u0000\u0000\u01fd\u01ff\u0003"+
-		"\u008fG\u0000\u01fe\u0200\u0007\u0002\u0000\u0000\u01ff\u01fe\u0001\u0000"+
-		"\u0000\u0000\u01ff\u0200\u0001\u0000\u0000\u0000\u0200\u0202\u0001\u0000"+
-		"\u0000\u0000\u0201\u0203\u0003\u0085B\u0000\u0202\u0201\u0001\u0000\u0000"+
-		"\u0000\u0203\u0204\u0001\u0000\u0000\u0000\u0204\u0202\u0001\u0000\u0000"+
-		"\u0000\u0204\u0205\u0001\u0000\u0000\u0000\u0205|\u0001\u0000\u0000\u0000"+
-		"\u0206\u020c\u0005\'\u0000\u0000\u0207\u020b\b\u0003\u0000\u0000\u0208"+
-		"\u0209\u0005\'\u0000\u0000\u0209\u020b\u0005\'\u0000\u0000\u020a\u0207"+
-		"\u0001\u0000\u0000\u0000\u020a\u0208\u0001\u0000\u0000\u0000\u020b\u020e"+
-		"\u0001\u0000\u0000\u0000\u020c\u020a\u0001\u0000\u0000\u0000\u020c\u020d"+
-		"\u0001\u0000\u0000\u0000\u020d\u020f\u0001\u0000\u0000\u0000\u020e\u020c"+
-		"\u0001\u0000\u0000\u0000\u020f\u0210\u0005\'\u0000\u0000\u0210~\u0001"+
-		"\u0000\u0000\u0000\u0211\u0212\u0005-\u0000\u0000\u0212\u0213\u0005-\u0000"+
-		"\u0000\u0213\u0217\u0001\u0000\u0000\u0000\u0214\u0216\b\u0004\u0000\u0000"+
-		"\u0215\u0214\u0001\u0000\u0000\u0000\u0216\u0219\u0001\u0000\u0000\u0000"+
-		"\u0217\u0215\u0001\u0000\u0000\u0000\u0217\u0218\u0001\u0000\u0000\u0000"+
-		"\u0218\u021a\u0001\u0000\u0000\u0000\u0219\u0217\u0001\u0000\u0000\u0000"+
-		"\u021a\u021b\u0006?\u0000\u0000\u021b\u0080\u0001\u0000\u0000\u0000\u021c"+
-		"\u021d\u0005/\u0000\u0000\u021d\u021e\u0005*\u0000\u0000\u021e\u0222\u0001"+
-		"\u0000\u0000\u0000\u021f\u0221\t\u0000\u0000\u0000\u0220\u021f\u0001\u0000"+
-		"\u0000\u0000\u0221\u0224\u0001\u0000\u0000\u0000\u0222\u0223\u0001\u0000"+
-		"\u0000\u0000\u0222\u0220\u0001\u0000\u0000\u0000\u0223\u0228\u0001\u0000"+
-		"\u0000\u0000\u0224\u0222\u0001\u0000\u0000\u0000\u0225\u0226\u0005*\u0000"+
-		"\u0000\u0226\u0229\u0005/\u0000\u0000\u0227\u0229\u0005\u0000\u0000\u0001"+
-		"\u0228\u0225\u0001\u0000\u0000\u0000\u0228\u0227\u0001\u0000\u0000\u0000"+
-		"\u0229\u022a\u0001\u0000\u0000\u0000\u022a\u022b\u0006@\u0000\u0000\u022b"+
-		"\u0082\u0001\u0000\u0000\u0000\u022c\u022d\u0007\u0005\u0000\u0000\u022d"+
-		"\u022e\u0001\u0000\u0000\u0000\u022e\u022f\u0006A\u0000\u0000\u022f\u0084"+
-		"\u0001\u0000\u0000\u0000\u0230\u0231\u0007\u0006\u0000\u0000\u0231\u0086"+
-		"\u0001\u0000\u0000\u0000\u0232\u0233\u0007\u0007\u0000\u0000\u0233\u0088"+
-		"\u0001\u0000\u0000\u0000\u0234\u0235\u0007\b\u0000\u0000\u0235\u008a\u0001"+
-		"\u0000\u0000\u0000\u0236\u0237\u0007\t\u0000\u0000\u0237\u008c\u0001\u0000"+
-		"\u0000\u0000\u0238\u0239\u0007\n\u0000\u0000\u0239\u008e\u0001\u0000\u0000"+
-		"\u0000\u023a\u023b\u0007\u000b\u0000\u0000\u023b\u0090\u0001\u0000\u0000"+
-		"\u0000\u023c\u023d\u0007\f\u0000\u0000\u023d\u0092\u0001\u0000\u0000\u0000"+
-		"\u023e\u023f\u0007\r\u0000\u0000\u023f\u0094\u0001\u0000\u0000\u0000\u0240"+
-		"\u0241\u0007\u000e\u0000\u0000\u0241\u0096\u0001\u0000\u0000\u0000\u0242"+
-		"\u0243\u0007\u000f\u0000\u0000\u0243\u0098\u0001\u0000\u0000\u0000\u0244"+
-		"\u0245\u0007\u0010\u0000\u0000\u0245\u009a\u0001\u0000\u0000\u0000\u0246"+
-		"\u0247\u0007\u0011\u0000\u0000\u0247\u009c\u0001\u0000\u0000\u0000\u0248"+
-		"\u0249\u0007\u0012\u0000\u0000\u0249\u009e\u0001\u0000\u0000\u0000\u024a"+
-		"\u024b\u0007\u0013\u0000\u0000\u024b\u00a0\u0001\u0000\u0000\u0000\u024c"+
-		"\u024d\u0007\u0014\u0000\u0000\u024d\u00a2\u0001\u0000\u0000\u0000\u024e"+
-		"\u024f\u0007\u0015\u0000\u0000\u024f\u00a4\u0001\u0000\u0000\u0000\u0250"+
-		"\u0251\u0007\u0016\u0000\u0000\u0251\u00a6\u0001\u0000\u0000\u0000\u0252"+
-		"\u0253\u0007\u0017\u0000\u0000\u0253\u00a8\u0001\u0000\u0000\u0000\u0254"+
-		"\u0255\u0007\u0018\u0000\u0000\u0255\u00aa\u0001\u0000\u0000\u0000\u0256"+
-		"\u0257\u0007\u0019\u0000\u0000\u0257\u00ac\u0001\u0000\u0000\u0000\u0258"+
-		"\u0259\u0007\u001a\u0000\u0000\u0259\u00ae\u0001\u0000\u0000\u0000\u025a"+
-		"\u025b\u0007\u001b\u0000\u0000\u025b\u00b0\u0001\u0000\u0000\u0000\u025c"+
-		"\u025d\u0007\u001c\u0000\u0000\u025d\u00b2\u0001\u0000\u0000\u0000\u025e"+
-		"\u025f\u0007\u001d\u0000\u0000\u025f\u00b4\u0001\u0000\u0000\u0000\u0260"+
-		"\u0261\u0007\u001e\u0000\u0000\u0261\u00b6\u0001\u0000\u0000\u0000\u0262"+
-		"\u0263\u0007\u001f\u0000\u0000\u0263\u00b8\u0001\u0000\u0000\u0000\u0264"+
-		"\u0265\u0007 \u0000\u0000\u0265\u00ba\u0001\u0000\u0000\u0000\u0011\u0000"+
-		"\u01d8\u01de\u01e1\u01e6\u01ec\u01f0\u01f6\u01f9\u01fb\u01ff\u0204\u020a"+
-		"\u020c\u0217\u0222\u0228\u0001\u0000\u0001\u0000";
+		"X\u0002Y\u0007Y\u0002Z\u0007Z\u0002[\u0007[\u0002\\\u0007\\\u0002]\u0007"+
+		"]\u0002^\u0007^\u0002_\u0007_\u0002`\u0007`\u0002a\u0007a\u0002b\u0007"+
+		"b\u0002c\u0007c\u0002d\u0007d\u0002e\u0007e\u0002f\u0007f\u0002g\u0007"+
+		"g\u0001\u0000\u0001\u0000\u0001\u0001\u0001\u0001\u0001\u0002\u0001\u0002"+
+		"\u0001\u0003\u0001\u0003\u0001\u0004\u0001\u0004\u0001\u0005\u0001\u0005"+
+		"\u0001\u0006\u0001\u0006\u0001\u0006\u0001\u0007\u0001\u0007\u0001\b\u0001"+
+		"\b\u0001\t\u0001\t\u0001\t\u0001\n\u0001\n\u0001\n\u0001\u000b\u0001\u000b"+
+		"\u0001\f\u0001\f\u0001\r\u0001\r\u0001\u000e\u0001\u000e\u0001\u000f\u0001"+
+		"\u000f\u0001\u000f\u0001\u000f\u0001\u0010\u0001\u0010\u0001\u0010\u0001"+
+		"\u0011\u0001\u0011\u0001\u0011\u0001\u0011\u0001\u0012\u0001\u0012\u0001"+
+		"\u0012\u0001\u0012\u0001\u0012\u0001\u0013\u0001\u0013\u0001\u0013\u0001"+
+		"\u0013\u0001\u0013\u0001\u0013\u0001\u0014\u0001\u0014\u0001\u0014\u0001"+
+		"\u0014\u0001\u0014\u0001\u0014\u0001\u0014\u0001\u0015\u0001\u0015\u0001"+
+		"\u0015\u0001\u0015\u0001\u0015\u0001\u0015\u0001\u0015\u0001\u0016\u0001"+
+		"\u0016\u0001\u0016\u0001\u0016\u0001\u0017\u0001\u0017\u0001\u0017\u0001"+
+		"\u0017\u0001\u0018\u0001\u0018\u0001\u0018\u0001\u0018\u0001\u0018\u0001"+
+		"\u0018\u0001\u0019\u0001\u0019\u0001\u0019\u0001\u0019\u0001\u0019\u0001"+
+		"\u0019\u0001\u0019\u0001\u0019\u0001\u001a\u0001\u001a\u0001\u001a\u0001"+
+		"\u001b\u0001\u001b\u0001\u001b\u0001\u001b\u0001\u001c\u0001\u001c\u0001"+
+		"\u001c\u0001\u001d\u0001\u001d\u0001\u001d\u0001\u001d\u0001\u001d\u0001"+
+		"\u001d\u0001\u001d\u0001\u001e\u0001\u001e\u0001\u001e\u0001\u001e\u0001"+
+		"\u001e\u0001\u001e\u0001\u001e\u0001\u001e\u0001\u001e\u0001\u001f\u0001"+
+		"\u001f\u0001\u001f\u0001\u001f\u0001\u001f\u0001\u001f\u0001\u001f\u0001"+
+		" \u0001 \u0001 \u0001 \u0001 \u0001 \u0001 \u0001 \u0001 \u0001!\u0001"+
+		"!\u0001!\u0001!\u0001!\u0001!\u0001!\u0001!\u0001!\u0001!\u0001\"\u0001"+
+		"\"\u0001\"\u0001\"\u0001\"\u0001\"\u0001\"\u0001#\u0001#\u0001#\u0001"+
+		"#\u0001#\u0001$\u0001$\u0001$\u0001$\u0001$\u0001$\u0001$\u0001$\u0001"+
+		"$\u0001%\u0001%\u0001%\u0001%\u0001%\u0001&\u0001&\u0001&\u0001&\u0001"+
+		"&\u0001&\u0001&\u0001\'\u0001\'\u0001\'\u0001\'\u0001\'\u0001(\u0001("+
+		"\u0001(\u0001(\u0001(\u0001(\u0001)\u0001)\u0001)\u0001)\u0001)\u0001"+
+		")\u0001*\u0001*\u0001*\u0001+\u0001+\u0001+\u0001+\u0001+\u0001+\u0001"+
+		"+\u0001+\u0001+\u0001+\u0001+\u0001,\u0001,\u0001,\u0001,\u0001,\u0001"+
+		",\u0001-\u0001-\u0001-\u0001-\u0001-\u0001-\u0001-\u0001.\u0001.\u0001"+
+		".\u0001.\u0001.\u0001/\u0001/\u0001/\u0001/\u0001/\u00010\u00010\u0001"+
+		"0\u00010\u00011\u00011\u00011\u00011\u00011\u00011\u00012\u00012\u0001"+
+		"2\u00012\u00013\u00013\u00013\u00013\u00013\u00014\u00014\u00014\u0001"+
+		"4\u00015\u00015\u00015\u00015\u00015\u00015\u00015\u00016\u00016\u0001"+
+		"6\u00017\u00017\u00017\u00017\u00017\u00017\u00018\u00018\u00018\u0001"+
+		"8\u00018\u00018\u00018\u00018\u00019\u00019\u00019\u00019\u00019\u0001"+
+		":\u0001:\u0001:\u0001:\u0001:\u0001:\u0001:\u0001;\u0001;\u0001;\u0001"+
+		";\u0001;\u0001;\u0001;\u0001<\u0001<\u0001<\u0001<\u0001=\u0001=\u0001"+
+		"=\u0001=\u0001=\u0001>\u0001>\u0001>\u0001>\u0001>\u0001>\u0001?\u0001"+
+		"?\u0001?\u0001@\u0001@\u0001@\u0001@\u0001@\u0001@\u0001@\u0001A\u0001"+
+		"A\u0001A\u0001A\u0001B\u0001B\u0001B\u0001B\u0001B\u0001C\u0001C\u0001"+
+		"C\u0001C\u0001C\u0001C\u0001C\u0001D\u0001D\u0001D\u0001D\u0001D\u0001"+
+		"E\u0001E\u0001E\u0001E\u0001E\u0001E\u0001F\u0001F\u0005F\u0230\bF\nF"+
+		"\fF\u0233\tF\u0001G\u0004G\u0236\bG\u000bG\fG\u0237\u0001G\u0003G\u023b"+
+		"\bG\u0001G\u0004G\u023e\bG\u000bG\fG\u023f\u0001G\u0001G\u0005G\u0244"+
+		"\bG\nG\fG\u0247\tG\u0001G\u0003G\u024a\bG\u0001G\u0001G\u0004G\u024e\b"+
+		"G\u000bG\fG\u024f\u0001G\u0003G\u0253\bG\u0003G\u0255\bG\u0001H\u0001"+
+		"H\u0003H\u0259\bH\u0001H\u0004H\u025c\bH\u000bH\fH\u025d\u0001I\u0001"+
+		"I\u0001I\u0001I\u0005I\u0264\bI\nI\fI\u0267\tI\u0001I\u0001I\u0001J\u0001"+
+		"J\u0001J\u0001J\u0005J\u026f\bJ\nJ\fJ\u0272\tJ\u0001J\u0001J\u0001K\u0001"+
+		"K\u0001K\u0001K\u0005K\u027a\bK\nK\fK\u027d\tK\u0001K\u0001K\u0001K\u0003"+
+		"K\u0282\bK\u0001K\u0001K\u0001L\u0001L\u0001L\u0001L\u0001M\u0001M\u0001"+
+		"N\u0001N\u0001O\u0001O\u0001P\u0001P\u0001Q\u0001Q\u0001R\u0001R\u0001"+
+		"S\u0001S\u0001T\u0001T\u0001U\u0001U\u0001V\u0001V\u0001W\u0001W\u0001"+
+		"X\u0001X\u0001Y\u0001Y\u0001Z\u0001Z\u0001[\u0001[\u0001\\\u0001\\\u0001"+
+		"]\u0001]\u0001^\u0001^\u0001_\u0001_\u0001`\u0001`\u0001a\u0001a\u0001"+
+		"b\u0001b\u0001c\u0001c\u0001d\u0001d\u0001e\u0001e\u0001f\u0001f\u0001"+
+		"g\u0001g\u0001\u027b\u0000h\u0001\u0001\u0003\u0002\u0005\u0003\u0007"+
+		"\u0004\t\u0005\u000b\u0006\r\u0007\u000f\b\u0011\t\u0013\n\u0015\u000b"+
+		"\u0017\f\u0019\r\u001b\u000e\u001d\u000f\u001f\u0010!\u0011#\u0012%\u0013"+
+		"\'\u0014)\u0015+\u0016-\u0017/\u00181\u00193\u001a5\u001b7\u001c9\u001d"+
+		";\u001e=\u001f? A!C\"E#G$I%K&M\'O(Q)S*U+W,Y-[.]/_0a1c2e3g4i5k6m7o8q9s"+
+		":u;w<y={>}?\u007f@\u0081A\u0083B\u0085C\u0087D\u0089E\u008bF\u008dG\u008f"+
+		"H\u0091I\u0093J\u0095K\u0097L\u0099M\u009b\u0000\u009d\u0000\u009f\u0000"+
+		"\u00a1\u0000\u00a3\u0000\u00a5\u0000\u00a7\u0000\u00a9\u0000\u00ab\u0000"+
+		"\u00ad\u0000\u00af\u0000\u00b1\u0000\u00b3\u0000\u00b5\u0000\u00b7\u0000"+
+		"\u00b9\u0000\u00bb\u0000\u00bd\u0000\u00bf\u0000\u00c1\u0000\u00c3\u0000"+
+		"\u00c5\u0000\u00c7\u0000\u00c9\u0000\u00cb\u0000\u00cd\u0000\u00cf\u0000"+
+		"\u0001\u0000!\u0003\u0000AZ__az\u0004\u000009AZ__az\u0002\u0000++--\u0001"+
+		"\u0000\'\'\u0002\u0000\n\n\r\r\u0003\u0000\t\u000b\r\r  \u0001\u00000"+
+		"9\u0002\u0000AAaa\u0002\u0000BBbb\u0002\u0000CCcc\u0002\u0000DDdd\u0002"+
+		"\u0000EEee\u0002\u0000FFff\u0002\u0000GGgg\u0002\u0000HHhh\u0002\u0000"+
+		"IIii\u0002\u0000JJjj\u0002\u0000KKkk\u0002\u0000LLll\u0002\u0000MMmm\u0002"+
+		"\u0000NNnn\u0002\u0000OOoo\u0002\u0000PPpp\u0002\u0000QQqq\u0002\u0000"+
+		"RRrr\u0002\u0000SSss\u0002\u0000TTtt\u0002\u0000UUuu\u0002\u0000VVvv\u0002"+
+		"\u0000WWww\u0002\u0000XXxx\u0002\u0000YYyy\u0002\u0000ZZzz\u02b4\u0000"+
+		"\u0001\u0001\u0000\u0000\u0000\u0000\u0003\u0001\u0000\u0000\u0000\u0000"+
+		"\u0005\u0001\u0000\u0000\u0000\u0000\u0007\u0001\u0000\u0000\u0000\u0000"+
+		"\t\u0001\u0000\u0000\u0000\u0000\u000b\u0001\u0000\u0000\u0000\u0000\r"+
+		"\u0001\u0000\u0000\u0000\u0000\u000f\u0001\u0000\u0000\u0000\u0000\u0011"+
+		"\u0001\u0000\u0000\u0000\u0000\u0013\u0001\u0000\u0000\u0000\u0000\u0015"+
+		"\u0001\u0000\u0000\u0000\u0000\u0017\u0001\u0000\u0000\u0000\u0000\u0019"+
+		"\u0001\u0000\u0000\u0000\u0000\u001b\u0001\u0000\u0000\u0000\u0000\u001d"+
+		"\u0001\u0000\u0000\u0000\u0000\u001f\u0001\u0000\u0000\u0000\u0000!\u0001"+
+		"\u0000\u0000\u0000\u0000#\u0001\u0000\u0000\u0000\u0000%\u0001\u0000\u0000"+
+		"\u0000\u0000\'\u0001\u0000\u0000\u0000\u0000)\u0001\u0000\u0000\u0000"+
+		"\u0000+\u0001\u0000\u0000\u0000\u0000-\u0001\u0000\u0000\u0000\u0000/"+
+		"\u0001\u0000\u0000\u0000\u00001\u0001\u0000\u0000\u0000\u00003\u0001\u0000"+
+		"\u0000\u0000\u00005\u0001\u0000\u0000\u0000\u00007\u0001\u0000\u0000\u0000"+
+		"\u00009\u0001\u0000\u0000\u0000\u0000;\u0001\u0000\u0000\u0000\u0000="+
+		"\u0001\u0000\u0000\u0000\u0000?\u0001\u0000\u0000\u0000\u0000A\u0001\u0000"+
+		"\u0000\u0000\u0000C\u0001\u0000\u0000\u0000\u0000E\u0001\u0000\u0000\u0000"+
+		"\u0000G\u0001\u0000\u0000\u0000\u0000I\u0001\u0000\u0000\u0000\u0000K"+
+		"\u0001\u0000\u0000\u0000\u0000M\u0001\u0000\u0000\u0000\u0000O\u0001\u0000"+
+		"\u0000\u0000\u0000Q\u0001\u0000\u0000\u0000\u0000S\u0001\u0000\u0000\u0000"+
+		"\u0000U\u0001\u0000\u0000\u0000\u0000W\u0001\u0000\u0000\u0000\u0000Y"+
+		"\u0001\u0000\u0000\u0000\u0000[\u0001\u0000\u0000\u0000\u0000]\u0001\u0000"+
+		"\u0000\u0000\u0000_\u0001\u0000\u0000\u0000\u0000a\u0001\u0000\u0000\u0000"+
+		"\u0000c\u0001\u0000\u0000\u0000\u0000e\u0001\u0000\u0000\u0000\u0000g"+
+		"\u0001\u0000\u0000\u0000\u0000i\u0001\u0000\u0000\u0000\u0000k\u0001\u0000"+
+		"\u0000\u0000\u0000m\u0001\u0000\u0000\u0000\u0000o\u0001\u0000\u0000\u0000"+
+		"\u0000q\u0001\u0000\u0000\u0000\u0000s\u0001\u0000\u0000\u0000\u0000u"+
+		"\u0001\u0000\u0000\u0000\u0000w\u0001\u0000\u0000\u0000\u0000y\u0001\u0000"+
+		"\u0000\u0000\u0000{\u0001\u0000\u0000\u0000\u0000}\u0001\u0000\u0000\u0000"+
+		"\u0000\u007f\u0001\u0000\u0000\u0000\u0000\u0081\u0001\u0000\u0000\u0000"+
+		"\u0000\u0083\u0001\u0000\u0000\u0000\u0000\u0085\u0001\u0000\u0000\u0000"+
+		"\u0000\u0087\u0001\u0000\u0000\u0000\u0000\u0089\u0001\u0000\u0000\u0000"+
+		"\u0000\u008b\u0001\u0000\u0000\u0000\u0000\u008d\u0001\u0000\u0000\u0000"+
+		"\u0000\u008f\u0001\u0000\u0000\u0000\u0000\u0091\u0001\u0000\u0000\u0000"+
+		"\u0000\u0093\u0001\u0000\u0000\u0000\u0000\u0095\u0001\u0000\u0000\u0000"+
+		"\u0000\u0097\u0001\u0000\u0000\u0000\u0000\u0099\u0001\u0000\u0000\u0000"+
+		"\u0001\u00d1\u0001\u0000\u0000\u0000\u0003\u00d3\u0001\u0000\u0000\u0000"+
+		"\u0005\u00d5\u0001\u0000\u0000\u0000\u0007\u00d7\u0001\u0000\u0000\u0000"+
+		"\t\u00d9\u0001\u0000\u0000\u0000\u000b\u00db\u0001\u0000\u0000\u0000\r"+
+		"\u00dd\u0001\u0000\u0000\u0000\u000f\u00e0\u0001\u0000\u0000\u0000\u0011"+
+		"\u00e2\u0001\u0000\u0000\u0000\u0013\u00e4\u0001\u0000\u0000\u0000\u0015"+
+		"\u00e7\u0001\u0000\u0000\u0000\u0017\u00ea\u0001\u0000\u0000\u0000\u0019"+
+		"\u00ec\u0001\u0000\u0000\u0000\u001b\u00ee\u0001\u0000\u0000\u0000\u001d"+
+		"\u00f0\u0001\u0000\u0000\u0000\u001f\u00f2\u0001\u0000\u0000\u0000!\u00f6"+
+		"\u0001\u0000\u0000\u0000#\u00f9\u0001\u0000\u0000\u0000%\u00fd\u0001\u0000"+
+		"\u0000\u0000\'\u0102\u0001\u0000\u0000\u0000)\u0108\u0001\u0000\u0000"+
+		"\u0000+\u010f\u0001\u0000\u0000\u0000-\u0116\u0001\u0000\u0000\u0000/"+
+		"\u011a\u0001\u0000\u0000\u00001\u011e\u0001\u0000\u0000\u00003\u0124\u0001"+
+		"\u0000\u0000\u00005\u012c\u0001\u0000\u0000\u00007\u012f\u0001\u0000\u0000"+
+		"\u00009\u0133\u0001\u0000\u0000\u0000;\u0136\u0001\u0000\u0000\u0000="+
+		"\u013d\u0001\u0000\u0000\u0000?\u0146\u0001\u0000\u0000\u0000A\u014d\u0001"+
+		"\u0000\u0000\u0000C\u0156\u0001\u0000\u0000\u0000E\u0160\u0001\u0000\u0000"+
+		"\u0000G\u0167\u0001\u0000\u0000\u0000I\u016c\u0001\u0000\u0000\u0000K"+
+		"\u0175\u0001\u0000\u0000\u0000M\u017a\u0001\u0000\u0000\u0000O\u0181\u0001"+
+		"\u0000\u0000\u0000Q\u0186\u0001\u0000\u0000\u0000S\u018c\u0001\u0000\u0000"+
+		"\u0000U\u0192\u0001\u0000\u0000\u0000W\u0195\u0001\u0000\u0000\u0000Y"+
+		"\u01a0\u0001\u0000\u0000\u0000[\u01a6\u0001\u0000\u0000\u0000]\u01ad\u0001"+
+		"\u0000\u0000\u0000_\u01b2\u0001\u0000\u0000\u0000a\u01b7\u0001\u0000\u0000"+
+		"\u0000c\u01bb\u0001\u0000\u0000\u0000e\u01c1\u0001\u0000\u0000\u0000g"+
+		"\u01c5\u0001\u0000\u0000\u0000i\u01ca\u0001\u0000\u0000\u0000k\u01ce\u0001"+
+		"\u0000\u0000\u0000m\u01d5\u0001\u0000\u0000\u0000o\u01d8\u0001\u0000\u0000"+
+		"\u0000q\u01de\u0001\u0000\u0000\u0000s\u01e6\u0001\u0000\u0000\u0000u"+
+		"\u01eb\u0001\u0000\u0000\u0000w\u01f2\u0001\u0000\u0000\u0000y\u01f9\u0001"+
+		"\u0000\u0000\u0000{\u01fd\u0001\u0000\u0000\u0000}\u0202\u0001\u0000\u0000"+
+		"\u0000\u007f\u0208\u0001\u0000\u0000\u0000\u0081\u020b\u0001\u0000\u0000"+
+		"\u0000\u0083\u0212\u0001\u0000\u0000\u0000\u0085\u0216\u0001\u0000\u0000"+
+		"\u0000\u0087\u021b\u0001\u0000\u0000\u0000\u0089\u0222\u0001\u0000\u0000"+
+		"\u0000\u008b\u0227\u0001\u0000\u0000\u0000\u008d\u022d\u0001\u0000\u0000"+
+		"\u0000\u008f\u0254\u0001\u0000\u0000\u0000\u0091\u0256\u0001\u0000\u0000"+
+		"\u0000\u0093\u025f\u0001\u0000\u0000\u0000\u0095\u026a\u0001\u0000\u0000"+
+		"\u0000\u0097\u0275\u0001\u0000\u0000\u0000\u0099\u0285\u0001\u0000\u0000"+
+		"\u0000\u009b\u0289\u0001\u0000\u0000\u0000\u009d\u028b\u0001\u0000\u0000"+
+		"\u0000\u009f\u028d\u0001\u0000\u0000\u0000\u00a1\u028f\u0001\u0000\u0000"+
+		"\u0000\u00a3\u0291\u0001\u0000\u0000\u0000\u00a5\u0293\u0001\u0000\u0000"+
+		"\u0000\u00a7\u0295\u0001\u0000\u0000\u0000\u00a9\u0297\u0001\u0000\u0000"+
+		"\u0000\u00ab\u0299\u0001\u0000\u0000\u0000\u00ad\u029b\u0001\u0000\u0000"+
+		"\u0000\u00af\u029d\u0001\u0000\u0000\u0000\u00b1\u029f\u0001\u0000\u0000"+
+		"\u0000\u00b3\u02a1\u0001\u0000\u0000\u0000\u00b5\u02a3\u0001\u0000\u0000"+
+		"\u0000\u00b7\u02a5\u0001\u0000\u0000\u0000\u00b9\u02a7\u0001\u0000\u0000"+
+		"\u0000\u00bb\u02a9\u0001\u0000\u0000\u0000\u00bd\u02ab\u0001\u0000\u0000"+
+		"\u0000\u00bf\u02ad\u0001\u0000\u0000\u0000\u00c1\u02af\u0001\u0000\u0000"+
+		"\u0000\u00c3\u02b1\u0001\u0000\u0000\u0000\u00c5\u02b3\u0001\u0000\u0000"+
+		"\u0000\u00c7\u02b5\u0001\u0000\u0000\u0000\u00c9\u02b7\u0001\u0000\u0000"+
+		"\u0000\u00cb\u02b9\u0001\u0000\u0000\u0000\u00cd\u02bb\u0001\u0000\u0000"+
+		"\u0000\u00cf\u02bd\u0001\u0000\u0000\u0000\u00d1\u00d2\u0005;\u0000\u0000"+
+		"\u00d2\u0002\u0001\u0000\u0000\u0000\u00d3\u00d4\u0005(\u0000\u0000\u00d4"+
+		"\u0004\u0001\u0000\u0000\u0000\u00d5\u00d6\u0005,\u0000\u0000\u00d6\u0006"+
+		"\u0001\u0000\u0000\u0000\u00d7\u00d8\u0005)\u0000\u0000\u00d8\b\u0001"+
+		"\u0000\u0000\u0000\u00d9\u00da\u0005.\u0000\u0000\u00da\n\u0001\u0000"+
+		"\u0000\u0000\u00db\u00dc\u0005=\u0000\u0000\u00dc\f\u0001\u0000\u0000"+
+		"\u0000\u00dd\u00de\u0005<\u0000\u0000\u00de\u00df\u0005>\u0000\u0000\u00df"+
+		"\u000e\u0001\u0000\u0000\u0000\u00e0\u00e1\u0005<\u0000\u0000\u00e1\u0010"+
+		"\u0001\u0000\u0000\u0000\u00e2\u00e3\u0005>\u0000\u0000\u00e3\u0012\u0001"+
+		"\u0000\u0000\u0000\u00e4\u00e5\u0005<\u0000\u0000\u00e5\u00e6\u0005=\u0000"+
+		"\u0000\u00e6\u0014\u0001\u0000\u0000\u0000\u00e7\u00e8\u0005>\u0000\u0000"+
+		"\u00e8\u00e9\u0005=\u0000\u0000\u00e9\u0016\u0001\u0000\u0000\u0000\u00ea"+
+		"\u00eb\u0005+\u0000\u0000\u00eb\u0018\u0001\u0000\u0000\u0000\u00ec\u00ed"+
+		"\u0005-\u0000\u0000\u00ed\u001a\u0001\u0000\u0000\u0000\u00ee\u00ef\u0005"+
+		"*\u0000\u0000\u00ef\u001c\u0001\u0000\u0000\u0000\u00f0\u00f1\u0005/\u0000"+
+		"\u0000\u00f1\u001e\u0001\u0000\u0000\u0000\u00f2\u00f3\u0005a\u0000\u0000"+
+		"\u00f3\u00f4\u0005n\u0000\u0000\u00f4\u00f5\u0005d\u0000\u0000\u00f5 "+
+		"\u0001\u0000\u0000\u0000\u00f6\u00f7\u0005o\u0000\u0000\u00f7\u00f8\u0005"+
+		"r\u0000\u0000\u00f8\"\u0001\u0000\u0000\u0000\u00f9\u00fa\u0003\u00ad"+
+		"V\u0000\u00fa\u00fb\u0003\u00b7[\u0000\u00fb\u00fc\u0003\u00c3a\u0000"+
+		"\u00fc$\u0001\u0000\u0000\u0000\u00fd\u00fe\u0003\u00b3Y\u0000\u00fe\u00ff"+
+		"\u0003\u00b9\\\u0000\u00ff\u0100\u0003\u00b7[\u0000\u0100\u0101\u0003"+
+		"\u00a9T\u0000\u0101&\u0001\u0000\u0000\u0000\u0102\u0103\u0003\u00a7S"+
+		"\u0000\u0103\u0104\u0003\u00b3Y\u0000\u0104\u0105\u0003\u00b9\\\u0000"+
+		"\u0105\u0106\u0003\u009dN\u0000\u0106\u0107\u0003\u00c3a\u0000\u0107("+
+		"\u0001\u0000\u0000\u0000\u0108\u0109\u0003\u00a3Q\u0000\u0109\u010a\u0003"+
+		"\u00b9\\\u0000\u010a\u010b\u0003\u00c5b\u0000\u010b\u010c\u0003\u009f"+
+		"O\u0000\u010c\u010d\u0003\u00b3Y\u0000\u010d\u010e\u0003\u00a5R\u0000"+
+		"\u010e*\u0001\u0000\u0000\u0000\u010f\u0110\u0003\u00c1`\u0000\u0110\u0111"+
+		"\u0003\u00c3a\u0000\u0111\u0112\u0003\u00bf_\u0000\u0112\u0113\u0003\u00ad"+
+		"V\u0000\u0113\u0114\u0003\u00b7[\u0000\u0114\u0115\u0003\u00a9T\u0000"+
+		"\u0115,\u0001\u0000\u0000\u0000\u0116\u0117\u0003\u009dN\u0000\u0117\u0118"+
+		"\u0003\u00a3Q\u0000\u0118\u0119\u0003\u00a3Q\u0000\u0119.\u0001\u0000"+
+		"\u0000\u0000\u011a\u011b\u0003\u009dN\u0000\u011b\u011c\u0003\u00b3Y\u0000"+
+		"\u011c\u011d\u0003\u00b3Y\u0000\u011d0\u0001\u0000\u0000\u0000\u011e\u011f"+
+		"\u0003\u009dN\u0000\u011f\u0120\u0003\u00b3Y\u0000\u0120\u0121\u0003\u00c3"+
+		"a\u0000\u0121\u0122\u0003\u00a5R\u0000\u0122\u0123\u0003\u00bf_\u0000"+
+		"\u01232\u0001\u0000\u0000\u0000\u0124\u0125\u0003\u009dN\u0000\u0125\u0126"+
+		"\u0003\u00b7[\u0000\u0126\u0127\u0003\u009dN\u0000\u0127\u0128\u0003\u00b3"+
+		"Y\u0000\u0128\u0129\u0003\u00cdf\u0000\u0129\u012a\u0003\u00cfg\u0000"+
+		"\u012a\u012b\u0003\u00a5R\u0000\u012b4\u0001\u0000\u0000\u0000\u012c\u012d"+
+		"\u0003\u009dN\u0000\u012d\u012e\u0003\u00c1`\u0000\u012e6\u0001\u0000"+
+		"\u0000\u0000\u012f\u0130\u0003\u009dN\u0000\u0130\u0131\u0003\u00c1`\u0000"+
+		"\u0131\u0132\u0003\u00a1P\u0000\u01328\u0001\u0000\u0000\u0000\u0133\u0134"+
+		"\u0003\u009fO\u0000\u0134\u0135\u0003\u00cdf\u0000\u0135:\u0001\u0000"+
+		"\u0000\u0000\u0136\u0137\u0003\u00a1P\u0000\u0137\u0138\u0003\u00b9\\"+
+		"\u0000\u0138\u0139\u0003\u00b3Y\u0000\u0139\u013a\u0003\u00c5b\u0000\u013a"+
+		"\u013b\u0003\u00b5Z\u0000\u013b\u013c\u0003\u00b7[\u0000\u013c<\u0001"+
+		"\u0000\u0000\u0000\u013d\u013e\u0003\u00a1P\u0000\u013e\u013f\u0003\u00b9"+
+		"\\\u0000\u013f\u0140\u0003\u00b3Y\u0000\u0140\u0141\u0003\u00c5b\u0000"+
+		"\u0141\u0142\u0003\u00b5Z\u0000\u0142\u0143\u0003\u00b7[\u0000\u0143\u0144"+
+		"\u0003\u009dN\u0000\u0144\u0145\u0003\u00bf_\u0000\u0145>\u0001\u0000"+
+		"\u0000\u0000\u0146\u0147\u0003\u00a1P\u0000\u0147\u0148\u0003\u00bf_\u0000"+
+		"\u0148\u0149\u0003\u00a5R\u0000\u0149\u014a\u0003\u009dN\u0000\u014a\u014b"+
+		"\u0003\u00c3a\u0000\u014b\u014c\u0003\u00a5R\u0000\u014c@\u0001\u0000"+
+		"\u0000\u0000\u014d\u014e\u0003\u00a3Q\u0000\u014e\u014f\u0003\u009dN\u0000"+
+		"\u014f\u0150\u0003\u00c3a\u0000\u0150\u0151\u0003\u009dN\u0000\u0151\u0152"+
+		"\u0003\u009fO\u0000\u0152\u0153\u0003\u009dN\u0000\u0153\u0154\u0003\u00c1"+
+		"`\u0000\u0154\u0155\u0003\u00a5R\u0000\u0155B\u0001\u0000\u0000\u0000"+
+		"\u0156\u0157\u0003\u00a3Q\u0000\u0157\u0158\u0003\u009dN\u0000\u0158\u0159"+
+		"\u0003\u00c3a\u0000\u0159\u015a\u0003\u009dN\u0000\u015a\u015b\u0003\u009f"+
+		"O\u0000\u015b\u015c\u0003\u009dN\u0000\u015c\u015d\u0003\u00c1`\u0000"+
+		"\u015d\u015e\u0003\u00a5R\u0000\u015e\u015f\u0003\u00c1`\u0000\u015fD"+
+		"\u0001\u0000\u0000\u0000\u0160\u0161\u0003\u00a3Q\u0000\u0161\u0162\u0003"+
+		"\u00a5R\u0000\u0162\u0163\u0003\u00b3Y\u0000\u0163\u0164\u0003\u00a5R"+
+		"\u0000\u0164\u0165\u0003\u00c3a\u0000\u0165\u0166\u0003\u00a5R\u0000\u0166"+
+		"F\u0001\u0000\u0000\u0000\u0167\u0168\u0003\u00a3Q\u0000\u0168\u0169\u0003"+
+		"\u00a5R\u0000\u0169\u016a\u0003\u00c1`\u0000\u016a\u016b\u0003\u00a1P"+
+		"\u0000\u016bH\u0001\u0000\u0000\u0000\u016c\u016d\u0003\u00a3Q\u0000\u016d"+
+		"\u016e\u0003\u00adV\u0000\u016e\u016f\u0003\u00c1`\u0000\u016f\u0170\u0003"+
+		"\u00c3a\u0000\u0170\u0171\u0003\u00adV\u0000\u0171\u0172\u0003\u00b7["+
+		"\u0000\u0172\u0173\u0003\u00a1P\u0000\u0173\u0174\u0003\u00c3a\u0000\u0174"+
+		"J\u0001\u0000\u0000\u0000\u0175\u0176\u0003\u00a3Q\u0000\u0176\u0177\u0003"+
+		"\u00bf_\u0000\u0177\u0178\u0003\u00b9\\\u0000\u0178\u0179\u0003\u00bb"+
+		"]\u0000\u0179L\u0001\u0000\u0000\u0000\u017a\u017b\u0003\u00a5R\u0000"+
+		"\u017b\u017c\u0003\u00cbe\u0000\u017c\u017d\u0003\u00adV\u0000\u017d\u017e"+
+		"\u0003\u00c1`\u0000\u017e\u017f\u0003\u00c3a\u0000\u017f\u0180\u0003\u00c1"+
+		"`\u0000\u0180N\u0001\u0000\u0000\u0000\u0181\u0182\u0003\u00a7S\u0000"+
+		"\u0182\u0183\u0003\u00bf_\u0000\u0183\u0184\u0003\u00b9\\\u0000\u0184"+
+		"\u0185\u0003\u00b5Z\u0000\u0185P\u0001\u0000\u0000\u0000\u0186\u0187\u0003"+
+		"\u00a9T\u0000\u0187\u0188\u0003\u00bf_\u0000\u0188\u0189\u0003\u009dN"+
+		"\u0000\u0189\u018a\u0003\u00b7[\u0000\u018a\u018b\u0003\u00c3a\u0000\u018b"+
+		"R\u0001\u0000\u0000\u0000\u018c\u018d\u0003\u00a9T\u0000\u018d\u018e\u0003"+
+		"\u00bf_\u0000\u018e\u018f\u0003\u00b9\\\u0000\u018f\u0190\u0003\u00c5"+
+		"b\u0000\u0190\u0191\u0003\u00bb]\u0000\u0191T\u0001\u0000\u0000\u0000"+
+		"\u0192\u0193\u0003\u00adV\u0000\u0193\u0194\u0003\u00a7S\u0000\u0194V"+
+		"\u0001\u0000\u0000\u0000\u0195\u0196\u0003\u00adV\u0000\u0196\u0197\u0003"+
+		"\u00a3Q\u0000\u0197\u0198\u0003\u00a5R\u0000\u0198\u0199\u0003\u00b7["+
+		"\u0000\u0199\u019a\u0003\u00c3a\u0000\u019a\u019b\u0003\u00adV\u0000\u019b"+
+		"\u019c\u0003\u00a7S\u0000\u019c\u019d\u0003\u00adV\u0000\u019d\u019e\u0003"+
+		"\u00a5R\u0000\u019e\u019f\u0003\u00a3Q\u0000\u019fX\u0001\u0000\u0000"+
+		"\u0000\u01a0\u01a1\u0003\u00adV\u0000\u01a1\u01a2\u0003\u00b7[\u0000\u01a2"+
+		"\u01a3\u0003\u00a3Q\u0000\u01a3\u01a4\u0003\u00a5R\u0000\u01a4\u01a5\u0003"+
+		"\u00cbe\u0000\u01a5Z\u0001\u0000\u0000\u0000\u01a6\u01a7\u0003\u00adV"+
+		"\u0000\u01a7\u01a8\u0003\u00b7[\u0000\u01a8\u01a9\u0003\u00c1`\u0000\u01a9"+
+		"\u01aa\u0003\u00a5R\u0000\u01aa\u01ab\u0003\u00bf_\u0000\u01ab\u01ac\u0003"+
+		"\u00c3a\u0000\u01ac\\\u0001\u0000\u0000\u0000\u01ad\u01ae\u0003\u00ad"+
+		"V\u0000\u01ae\u01af\u0003\u00b7[\u0000\u01af\u01b0\u0003\u00c3a\u0000"+
+		"\u01b0\u01b1\u0003\u00b9\\\u0000\u01b1^\u0001\u0000\u0000\u0000\u01b2"+
+		"\u01b3\u0003\u00afW\u0000\u01b3\u01b4\u0003\u00b9\\\u0000\u01b4\u01b5"+
+		"\u0003\u00adV\u0000\u01b5\u01b6\u0003\u00b7[\u0000\u01b6`\u0001\u0000"+
+		"\u0000\u0000\u01b7\u01b8\u0003\u00b1X\u0000\u01b8\u01b9\u0003\u00a5R\u0000"+
+		"\u01b9\u01ba\u0003\u00cdf\u0000\u01bab\u0001\u0000\u0000\u0000\u01bb\u01bc"+
+		"\u0003\u00b3Y\u0000\u01bc\u01bd\u0003\u00adV\u0000\u01bd\u01be\u0003\u00b5"+
+		"Z\u0000\u01be\u01bf\u0003\u00adV\u0000\u01bf\u01c0\u0003\u00c3a\u0000"+
+		"\u01c0d\u0001\u0000\u0000\u0000\u01c1\u01c2\u0003\u00b7[\u0000\u01c2\u01c3"+
+		"\u0003\u00b9\\\u0000\u01c3\u01c4\u0003\u00c3a\u0000\u01c4f\u0001\u0000"+
+		"\u0000\u0000\u01c5\u01c6\u0003\u00b7[\u0000\u01c6\u01c7\u0003\u00c5b\u0000"+
+		"\u01c7\u01c8\u0003\u00b3Y\u0000\u01c8\u01c9\u0003\u00b3Y\u0000\u01c9h"+
+		"\u0001\u0000\u0000\u0000\u01ca\u01cb\u0003\u00b9\\\u0000\u01cb\u01cc\u0003"+
+		"\u00a7S\u0000\u01cc\u01cd\u0003\u00a7S\u0000\u01cdj\u0001\u0000\u0000"+
+		"\u0000\u01ce\u01cf\u0003\u00b9\\\u0000\u01cf\u01d0\u0003\u00a7S\u0000"+
+		"\u01d0\u01d1\u0003\u00a7S\u0000\u01d1\u01d2\u0003\u00c1`\u0000\u01d2\u01d3"+
+		"\u0003\u00a5R\u0000\u01d3\u01d4\u0003\u00c3a\u0000\u01d4l\u0001\u0000"+
+		"\u0000\u0000\u01d5\u01d6\u0003\u00b9\\\u0000\u01d6\u01d7\u0003\u00b7["+
+		"\u0000\u01d7n\u0001\u0000\u0000\u0000\u01d8\u01d9\u0003\u00b9\\\u0000"+
+		"\u01d9\u01da\u0003\u00bf_\u0000\u01da\u01db\u0003\u00a3Q\u0000\u01db\u01dc"+
+		"\u0003\u00a5R\u0000\u01dc\u01dd\u0003\u00bf_\u0000\u01ddp\u0001\u0000"+
+		"\u0000\u0000\u01de\u01df\u0003\u00bb]\u0000\u01df\u01e0\u0003\u00bf_\u0000"+
+		"\u01e0\u01e1\u0003\u00adV\u0000\u01e1\u01e2\u0003\u00b5Z\u0000\u01e2\u01e3"+
+		"\u0003\u009dN\u0000\u01e3\u01e4\u0003\u00bf_\u0000\u01e4\u01e5\u0003\u00cd"+
+		"f\u0000\u01e5r\u0001\u0000\u0000\u0000\u01e6\u01e7\u0003\u00bd^\u0000"+
+		"\u01e7\u01e8\u0003\u00c5b\u0000\u01e8\u01e9\u0003\u00adV\u0000\u01e9\u01ea"+
+		"\u0003\u00c3a\u0000\u01eat\u0001\u0000\u0000\u0000\u01eb\u01ec\u0003\u00bf"+
+		"_\u0000\u01ec\u01ed\u0003\u00a5R\u0000\u01ed\u01ee\u0003\u00c7c\u0000"+
+		"\u01ee\u01ef\u0003\u00b9\\\u0000\u01ef\u01f0\u0003\u00b1X\u0000\u01f0"+
+		"\u01f1\u0003\u00a5R\u0000\u01f1v\u0001\u0000\u0000\u0000\u01f2\u01f3\u0003"+
+		"\u00c1`\u0000\u01f3\u01f4\u0003\u00a5R\u0000\u01f4\u01f5\u0003\u00b3Y"+
+		"\u0000\u01f5\u01f6\u0003\u00a5R\u0000\u01f6\u01f7\u0003\u00a1P\u0000\u01f7"+
+		"\u01f8\u0003\u00c3a\u0000\u01f8x\u0001\u0000\u0000\u0000\u01f9\u01fa\u0003"+
+		"\u00c1`\u0000\u01fa\u01fb\u0003\u00a5R\u0000\u01fb\u01fc\u0003\u00c3a"+
+		"\u0000\u01fcz\u0001\u0000\u0000\u0000\u01fd\u01fe\u0003\u00c1`\u0000\u01fe"+
+		"\u01ff\u0003\u00abU\u0000\u01ff\u0200\u0003\u00b9\\\u0000\u0200\u0201"+
+		"\u0003\u00c9d\u0000\u0201|\u0001\u0000\u0000\u0000\u0202\u0203\u0003\u00c3"+
+		"a\u0000\u0203\u0204\u0003\u009dN\u0000\u0204\u0205\u0003\u009fO\u0000"+
+		"\u0205\u0206\u0003\u00b3Y\u0000\u0206\u0207\u0003\u00a5R\u0000\u0207~"+
+		"\u0001\u0000\u0000\u0000\u0208\u0209\u0003\u00c3a\u0000\u0209\u020a\u0003"+
+		"\u00b9\\\u0000\u020a\u0080\u0001\u0000\u0000\u0000\u020b\u020c\u0003\u00c5"+
+		"b\u0000\u020c\u020d\u0003\u00bb]\u0000\u020d\u020e\u0003\u00a3Q\u0000"+
+		"\u020e\u020f\u0003\u009dN\u0000\u020f\u0210\u0003\u00c3a\u0000\u0210\u0211"+
+		"\u0003\u00a5R\u0000\u0211\u0082\u0001\u0000\u0000\u0000\u0212\u0213\u0003"+
+		"\u00c5b\u0000\u0213\u0214\u0003\u00c1`\u0000\u0214\u0215\u0003\u00a5R"+
+		"\u0000\u0215\u0084\u0001\u0000\u0000\u0000\u0216\u0217\u0003\u00c5b\u0000"+
+		"\u0217\u0218\u0003\u00c1`\u0000\u0218\u0219\u0003\u00a5R\u0000\u0219\u021a"+
+		"\u0003\u00bf_\u0000\u021a\u0086\u0001\u0000\u0000\u0000\u021b\u021c\u0003"+
+		"\u00c7c\u0000\u021c\u021d\u0003\u009dN\u0000\u021d\u021e\u0003\u00b3Y"+
+		"\u0000\u021e\u021f\u0003\u00c5b\u0000\u021f\u0220\u0003\u00a5R\u0000\u0220"+
+		"\u0221\u0003\u00c1`\u0000\u0221\u0088\u0001\u0000\u0000\u0000\u0222\u0223"+
+		"\u0003\u00c7c\u0000\u0223\u0224\u0003\u00adV\u0000\u0224\u0225\u0003\u00a5"+
+		"R\u0000\u0225\u0226\u0003\u00c9d\u0000\u0226\u008a\u0001\u0000\u0000\u0000"+
+		"\u0227\u0228\u0003\u00c9d\u0000\u0228\u0229\u0003\u00abU\u0000\u0229\u022a"+
+		"\u0003\u00a5R\u0000\u022a\u022b\u0003\u00bf_\u0000\u022b\u022c\u0003\u00a5"+
+		"R\u0000\u022c\u008c\u0001\u0000\u0000\u0000\u022d\u0231\u0007\u0000\u0000"+
+		"\u0000\u022e\u0230\u0007\u0001\u0000\u0000\u022f\u022e\u0001\u0000\u0000"+
+		"\u0000\u0230\u0233\u0001\u0000\u0000\u0000\u0231\u022f\u0001\u0000\u0000"+
+		"\u0000\u0231\u0232\u0001\u0000\u0000\u0000\u0232\u008e\u0001\u0000\u0000"+
+		"\u0000\u0233\u0231\u0001\u0000\u0000\u0000\u0234\u0236\u0003\u009bM\u0000"+
+		"\u0235\u0234\u0001\u0000\u0000\u0000\u0236\u0237\u0001\u0000\u0000\u0000"+
+		"\u0237\u0235\u0001\u0000\u0000\u0000\u0237\u0238\u0001\u0000\u0000\u0000"+
+		"\u0238\u023a\u0001\u0000\u0000\u0000\u0239\u023b\u0003\u0091H\u0000\u023a"+
+		"\u0239\u0001\u0000\u0000\u0000\u023a\u023b\u0001\u0000\u0000\u0000\u023b"+
+		"\u0255\u0001\u0000\u0000\u0000\u023c\u023e\u0003\u009bM\u0000\u023d\u023c"+
+		"\u0001\u0000\u0000\u0000\u023e\u023f\u0001\u0000\u0000\u0000\u023f\u023d"+
+		"\u0001\u0000\u0000\u0000\u023f\u0240\u0001\u0000\u0000\u0000\u0240\u0241"+
+		"\u0001\u0000\u0000\u0000\u0241\u0245\u0005.\u0000\u0000\u0242\u0244\u0003"+
+		"\u009bM\u0000\u0243\u0242\u0001\u0000\u0000\u0000\u0244\u0247\u0001\u0000"+
+		"\u0000\u0000\u0245\u0243\u0001\u0000\u0000\u0000\u0245\u0246\u0001\u0000"+
+		"\u0000\u0000\u0246\u0249\u0001\u0000\u0000\u0000\u0247\u0245\u0001\u0000"+
+		"\u0000\u0000\u0248\u024a\u0003\u0091H\u0000\u0249\u0248\u0001\u0000\u0000"+
+		"\u0000\u0249\u024a\u0001\u0000\u0000\u0000\u024a\u0255\u0001\u0000\u0000"+
+		"\u0000\u024b\u024d\u0005.\u0000\u0000\u024c\u024e\u0003\u009bM\u0000\u024d"+
+		"\u024c\u0001\u0000\u0000\u0000\u024e\u024f\u0001\u0000\u0000\u0000\u024f"+
+		"\u024d\u0001\u0000\u0000\u0000\u024f\u0250\u0001\u0000\u0000\u0000\u0250"+
+		"\u0252\u0001\u0000\u0000\u0000\u0251\u0253\u0003\u0091H\u0000\u0252\u0251"+
+		"\u0001\u0000\u0000\u0000\u0252\u0253\u0001\u0000\u0000\u0000\u0253\u0255"+
+		"\u0001\u0000\u0000\u0000\u0254\u0235\u0001\u0000\u0000\u0000\u0254\u023d"+
+		"\u0001\u0000\u0000\u0000\u0254\u024b\u0001\u0000\u0000\u0000\u0255\u0090"+
+		"\u0001\u0000\u0000\u0000\u0256\u0258\u0003\u00a5R\u0000\u0257\u0259\u0007"+
+		"\u0002\u0000\u0000\u0258\u0257\u0001\u0000\u0000\u0000\u0258\u0259\u0001"+
+		"\u0000\u0000\u0000\u0259\u025b\u0001\u0000\u0000\u0000\u025a\u025c\u0003"+
+		"\u009bM\u0000\u025b\u025a\u0001\u0000\u0000\u0000\u025c\u025d\u0001\u0000"+
+		"\u0000\u0000\u025d\u025b\u0001\u0000\u0000\u0000\u025d\u025e\u0001\u0000"+
+		"\u0000\u0000\u025e\u0092\u0001\u0000\u0000\u0000\u025f\u0265\u0005\'\u0000"+
+		"\u0000\u0260\u0264\b\u0003\u0000\u0000\u0261\u0262\u0005\'\u0000\u0000"+
+		"\u0262\u0264\u0005\'\u0000\u0000\u0263\u0260\u0001\u0000\u0000\u0000\u0263"+
+		"\u0261\u0001\u0000\u0000\u0000\u0264\u0267\u0001\u0000\u0000\u0000\u0265"+
+		"\u0263\u0001\u0000\u0000\u0000\u0265\u0266\u0001\u0000\u0000\u0000\u0266"+
+		"\u0268\u0001\u0000\u0000\u0000\u0267\u0265\u0001\u0000\u0000\u0000\u0268"+
+		"\u0269\u0005\'\u0000\u0000\u0269\u0094\u0001\u0000\u0000\u0000\u026a\u026b"+
+		"\u0005-\u0000\u0000\u026b\u026c\u0005-\u0000\u0000\u026c\u0270\u0001\u0000"+
+		"\u0000\u0000\u026d\u026f\b\u0004\u0000\u0000\u026e\u026d\u0001\u0000\u0000"+
+		"\u0000\u026f\u0272\u0001\u0000\u0000\u0000\u0270\u026e\u0001\u0000\u0000"+
+		"\u0000\u0270\u0271\u0001\u0000\u0000\u0000\u0271\u0273\u0001\u0000\u0000"+
+		"\u0000\u0272\u0270\u0001\u0000\u0000\u0000\u0273\u0274\u0006J\u0000\u0000"+
+		"\u0274\u0096\u0001\u0000\u0000\u0000\u0275\u0276\u0005/\u0000\u0000\u0276"+
+		"\u0277\u0005*\u0000\u0000\u0277\u027b\u0001\u0000\u0000\u0000\u0278\u027a"+
+		"\t\u0000\u0000\u0000\u0279\u0278\u0001\u0000\u0000\u0000\u027a\u027d\u0001"+
+		"\u0000\u0000\u0000\u027b\u027c\u0001\u0000\u0000\u0000\u027b\u0279\u0001"+
+		"\u0000\u0000\u0000\u027c\u0281\u0001\u0000\u0000\u0000\u027d\u027b\u0001"+
+		"\u0000\u0000\u0000\u027e\u027f\u0005*\u0000\u0000\u027f\u0282\u0005/\u0000"+
+		"\u0000\u0280\u0282\u0005\u0000\u0000\u0001\u0281\u027e\u0001\u0000\u0000"+
+		"\u0000\u0281\u0280\u0001\u0000\u0000\u0000\u0282\u0283\u0001\u0000\u0000"+
+		"\u0000\u0283\u0284\u0006K\u0000\u0000\u0284\u0098\u0001\u0000\u0000\u0000"+
+		"\u0285\u0286\u0007\u0005\u0000\u0000\u0286\u0287\u0001\u0000\u0000\u0000"+
+		"\u0287\u0288\u0006L\u0000\u0000\u0288\u009a\u0001\u0000\u0000\u0000\u0289"+
+		"\u028a\u0007\u0006\u0000\u0000\u028a\u009c\u0001\u0000\u0000\u0000\u028b"+
+		"\u028c\u0007\u0007\u0000\u0000\u028c\u009e\u0001\u0000\u0000\u0000\u028d"+
+		"\u028e\u0007\b\u0000\u0000\u028e\u00a0\u0001\u0000\u0000\u0000\u028f\u0290"+
+		"\u0007\t\u0000\u0000\u0290\u00a2\u0001\u0000\u0000\u0000\u0291\u0292\u0007"+
+		"\n\u0000\u0000\u0292\u00a4\u0001\u0000\u0000\u0000\u0293\u0294\u0007\u000b"+
+		"\u0000\u0000\u0294\u00a6\u0001\u0000\u0000\u0000\u0295\u0296\u0007\f\u0000"+
+		"\u0000\u0296\u00a8\u0001\u0000\u0000\u0000\u0297\u0298\u0007\r\u0000\u0000"+
+		"\u0298\u00aa\u0001\u0000\u0000\u0000\u0299\u029a\u0007\u000e\u0000\u0000"+
+		"\u029a\u00ac\u0001\u0000\u0000\u0000\u029b\u029c\u0007\u000f\u0000\u0000"+
+		"\u029c\u00ae\u0001\u0000\u0000\u0000\u029d\u029e\u0007\u0010\u0000\u0000"+
+		"\u029e\u00b0\u0001\u0000\u0000\u0000\u029f\u02a0\u0007\u0011\u0000\u0000"+
+		"\u02a0\u00b2\u0001\u0000\u0000\u0000\u02a1\u02a2\u0007\u0012\u0000\u0000"+
+		"\u02a2\u00b4\u0001\u0000\u0000\u0000\u02a3\u02a4\u0007\u0013\u0000\u0000"+
+		"\u02a4\u00b6\u0001\u0000\u0000\u0000\u02a5\u02a6\u0007\u0014\u0000\u0000"+
+		"\u02a6\u00b8\u0001\u0000\u0000\u0000\u02a7\u02a8\u0007\u0015\u0000\u0000"+
+		"\u02a8\u00ba\u0001\u0000\u0000\u0000\u02a9\u02aa\u0007\u0016\u0000\u0000"+
+		"\u02aa\u00bc\u0001\u0000\u0000\u0000\u02ab\u02ac\u0007\u0017\u0000\u0000"+
+		"\u02ac\u00be\u0001\u0000\u0000\u0000\u02ad\u02ae\u0007\u0018\u0000\u0000"+
+		"\u02ae\u00c0\u0001\u0000\u0000\u0000\u02af\u02b0\u0007\u0019\u0000\u0000"+
+		"\u02b0\u00c2\u0001\u0000\u0000\u0000\u02b1\u02b2\u0007\u001a\u0000\u0000"+
+		"\u02b2\u00c4\u0001\u0000\u0000\u0000\u02b3\u02b4\u0007\u001b\u0000\u0000"+
+		"\u02b4\u00c6\u0001\u0000\u0000\u0000\u02b5\u02b6\u0007\u001c\u0000\u0000"+
+		"\u02b6\u00c8\u0001\u0000\u0000\u0000\u02b7\u02b8\u0007\u001d\u0000\u0000"+
+		"\u02b8\u00ca\u0001\u0000\u0000\u0000\u02b9\u02ba\u0007\u001e\u0000\u0000"+
+		"\u02ba\u00cc\u0001\u0000\u0000\u0000\u02bb\u02bc\u0007\u001f\u0000\u0000"+
+		"\u02bc\u00ce\u0001\u0000\u0000\u0000\u02bd\u02be\u0007 \u0000\u0000\u02be"+
+		"\u00d0\u0001\u0000\u0000\u0000\u0011\u0000\u0231\u0237\u023a\u023f\u0245"+
+		"\u0249\u024f\u0252\u0254\u0258\u025d\u0263\u0265\u0270\u027b\u0281\u0001"+
+		"\u0000\u0001\u0000";
 	public static final ATN _ATN =
 		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
 	static {
@@ -87,6 +87,26 @@ public interface SQLListener extends ParseTreeListener {
 	 * @param ctx the parse tree
 	 */
 	void exitCreate_table_stmt(SQLParser.Create_table_stmtContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link SQLParser#create_index_stmt}.
+	 * @param ctx the parse tree
+	 */
+	void enterCreate_index_stmt(SQLParser.Create_index_stmtContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link SQLParser#create_index_stmt}.
+	 * @param ctx the parse tree
+	 */
+	void exitCreate_index_stmt(SQLParser.Create_index_stmtContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link SQLParser#drop_index_stmt}.
+	 * @param ctx the parse tree
+	 */
+	void enterDrop_index_stmt(SQLParser.Drop_index_stmtContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link SQLParser#drop_index_stmt}.
+	 * @param ctx the parse tree
+	 */
+	void exitDrop_index_stmt(SQLParser.Drop_index_stmtContext ctx);
 	/**
 	 * Enter a parse tree produced by {@link SQLParser#show_meta_stmt}.
 	 * @param ctx the parse tree
@@ -97,6 +117,26 @@ public interface SQLListener extends ParseTreeListener {
 	 * @param ctx the parse tree
 	 */
 	void exitShow_meta_stmt(SQLParser.Show_meta_stmtContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link SQLParser#analyze_stmt}.
+	 * @param ctx the parse tree
+	 */
+	void enterAnalyze_stmt(SQLParser.Analyze_stmtContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link SQLParser#analyze_stmt}.
+	 * @param ctx the parse tree
+	 */
+	void exitAnalyze_stmt(SQLParser.Analyze_stmtContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link SQLParser#alter_table_stmt}.
+	 * @param ctx the parse tree
+	 */
+	void enterAlter_table_stmt(SQLParser.Alter_table_stmtContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link SQLParser#alter_table_stmt}.
+	 * @param ctx the parse tree
+	 */
+	void exitAlter_table_stmt(SQLParser.Alter_table_stmtContext ctx);
 	/**
 	 * Enter a parse tree produced by {@link SQLParser#grant_stmt}.
 	 * @param ctx the parse tree
@@ -207,6 +247,16 @@ public interface SQLListener extends ParseTreeListener {
 	 * @param ctx the parse tree
 	 */
 	void exitSelect_stmt(SQLParser.Select_stmtContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link SQLParser#ordering_term}.
+	 * @param ctx the parse tree
+	 */
+	void enterOrdering_term(SQLParser.Ordering_termContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link SQLParser#ordering_term}.
+	 * @param ctx the parse tree
+	 */
+	void exitOrdering_term(SQLParser.Ordering_termContext ctx);
 	/**
 	 * Enter a parse tree produced by {@link SQLParser#create_view_stmt}.
 	 * @param ctx the parse tree
@@ -337,6 +387,16 @@ public interface SQLListener extends ParseTreeListener {
 	 * @param ctx the parse tree
 	 */
 	void exitResult_column(SQLParser.Result_columnContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link SQLParser#aggregate}.
+	 * @param ctx the parse tree
+	 */
+	void enterAggregate(SQLParser.AggregateContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link SQLParser#aggregate}.
+	 * @param ctx the parse tree
+	 */
+	void exitAggregate(SQLParser.AggregateContext ctx);
 	/**
 	 * Enter a parse tree produced by {@link SQLParser#table_query}.
 	 * @param ctx the parse tree
@@ -427,6 +487,16 @@ public interface SQLListener extends ParseTreeListener {
 	 * @param ctx the parse tree
 	 */
 	void exitView_name(SQLParser.View_nameContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link SQLParser#index_name}.
+	 * @param ctx the parse tree
+	 */
+	void enterIndex_name(SQLParser.Index_nameContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link SQLParser#index_name}.
+	 * @param ctx the parse tree
+	 */
+	void exitIndex_name(SQLParser.Index_nameContext ctx);
 	/**
 	 * Enter a parse tree produced by {@link SQLParser#password}.
 	 * @param ctx the parse tree
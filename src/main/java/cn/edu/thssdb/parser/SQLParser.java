@@ -19,40 +19,46 @@ public class SQLParser extends Parser {
 	public static final int
 		T__0=1, T__1=2, T__2=3, T__3=4, T__4=5, EQ=6, NE=7, LT=8, GT=9, LE=10, 
 		GE=11, ADD=12, SUB=13, MUL=14, DIV=15, AND=16, OR=17, T_INT=18, T_LONG=19, 
-		T_FLOAT=20, T_DOUBLE=21, T_STRING=22, K_ADD=23, K_ALL=24, K_AS=25, K_BY=26, 
-		K_COLUMN=27, K_CREATE=28, K_DATABASE=29, K_DATABASES=30, K_DELETE=31, 
-		K_DISTINCT=32, K_DROP=33, K_EXISTS=34, K_FROM=35, K_GRANT=36, K_IF=37, 
-		K_IDENTIFIED=38, K_INSERT=39, K_INTO=40, K_JOIN=41, K_KEY=42, K_NOT=43, 
-		K_NULL=44, K_ON=45, K_PRIMARY=46, K_QUIT=47, K_REVOKE=48, K_SELECT=49, 
-		K_SET=50, K_SHOW=51, K_TABLE=52, K_TO=53, K_UPDATE=54, K_USE=55, K_USER=56, 
-		K_VALUES=57, K_VIEW=58, K_WHERE=59, IDENTIFIER=60, NUMERIC_LITERAL=61, 
-		EXPONENT=62, STRING_LITERAL=63, SINGLE_LINE_COMMENT=64, MULTILINE_COMMENT=65, 
-		SPACES=66;
+		T_FLOAT=20, T_DOUBLE=21, T_STRING=22, K_ADD=23, K_ALL=24, K_ALTER=25, 
+		K_ANALYZE=26, K_AS=27, K_ASC=28, K_BY=29, K_COLUMN=30, K_COLUMNAR=31, 
+		K_CREATE=32, K_DATABASE=33, K_DATABASES=34, K_DELETE=35, K_DESC=36, K_DISTINCT=37, 
+		K_DROP=38, K_EXISTS=39, K_FROM=40, K_GRANT=41, K_GROUP=42, K_IF=43, K_IDENTIFIED=44, 
+		K_INDEX=45, K_INSERT=46, K_INTO=47, K_JOIN=48, K_KEY=49, K_LIMIT=50, K_NOT=51, 
+		K_NULL=52, K_OFF=53, K_OFFSET=54, K_ON=55, K_ORDER=56, K_PRIMARY=57, K_QUIT=58, 
+		K_REVOKE=59, K_SELECT=60, K_SET=61, K_SHOW=62, K_TABLE=63, K_TO=64, K_UPDATE=65, 
+		K_USE=66, K_USER=67, K_VALUES=68, K_VIEW=69, K_WHERE=70, IDENTIFIER=71, 
+		NUMERIC_LITERAL=72, EXPONENT=73, STRING_LITERAL=74, SINGLE_LINE_COMMENT=75, 
+		MULTILINE_COMMENT=76, SPACES=77;
 	public static final int
 		RULE_parse = 0, RULE_sql_stmt_list = 1, RULE_sql_stmt = 2, RULE_create_db_stmt = 3, 
 		RULE_drop_db_stmt = 4, RULE_create_user_stmt = 5, RULE_drop_user_stmt = 6, 
-		RULE_create_table_stmt = 7, RULE_show_meta_stmt = 8, RULE_grant_stmt = 9, 
-		RULE_revoke_stmt = 10, RULE_use_db_stmt = 11, RULE_delete_stmt = 12, RULE_drop_table_stmt = 13, 
-		RULE_show_db_stmt = 14, RULE_quit_stmt = 15, RULE_show_table_stmt = 16, 
-		RULE_insert_stmt = 17, RULE_value_entry = 18, RULE_select_stmt = 19, RULE_create_view_stmt = 20, 
-		RULE_drop_view_stmt = 21, RULE_update_stmt = 22, RULE_column_def = 23, 
-		RULE_type_name = 24, RULE_column_constraint = 25, RULE_multiple_condition = 26, 
-		RULE_condition = 27, RULE_comparer = 28, RULE_comparator = 29, RULE_expression = 30, 
-		RULE_table_constraint = 31, RULE_result_column = 32, RULE_table_query = 33, 
-		RULE_auth_level = 34, RULE_literal_value = 35, RULE_column_full_name = 36, 
-		RULE_database_name = 37, RULE_table_name = 38, RULE_user_name = 39, RULE_column_name = 40, 
-		RULE_view_name = 41, RULE_password = 42;
+		RULE_create_table_stmt = 7, RULE_create_index_stmt = 8, RULE_drop_index_stmt = 9, 
+		RULE_show_meta_stmt = 10, RULE_analyze_stmt = 11, RULE_alter_table_stmt = 12, 
+		RULE_grant_stmt = 13, RULE_revoke_stmt = 14, RULE_use_db_stmt = 15, RULE_delete_stmt = 16, 
+		RULE_drop_table_stmt = 17, RULE_show_db_stmt = 18, RULE_quit_stmt = 19, 
+		RULE_show_table_stmt = 20, RULE_insert_stmt = 21, RULE_value_entry = 22, 
+		RULE_select_stmt = 23, RULE_ordering_term = 24, RULE_create_view_stmt = 25, 
+		RULE_drop_view_stmt = 26, RULE_update_stmt = 27, RULE_column_def = 28, 
+		RULE_type_name = 29, RULE_column_constraint = 30, RULE_multiple_condition = 31, 
+		RULE_condition = 32, RULE_comparer = 33, RULE_comparator = 34, RULE_expression = 35, 
+		RULE_table_constraint = 36, RULE_result_column = 37, RULE_aggregate = 38, 
+		RULE_table_query = 39, RULE_auth_level = 40, RULE_literal_value = 41, 
+		RULE_column_full_name = 42, RULE_database_name = 43, RULE_table_name = 44, 
+		RULE_user_name = 45, RULE_column_name = 46, RULE_view_name = 47, RULE_index_name = 48, 
+		RULE_password = 49;
 	private static String[] makeRuleNames() {
 		return new String[] {
 			"parse", "sql_stmt_list", "sql_stmt", "create_db_stmt", "drop_db_stmt", 
-			"create_user_stmt", "drop_user_stmt", "create_table_stmt", "show_meta_stmt", 
+			"create_user_stmt", "drop_user_stmt", "create_table_stmt", "create_index_stmt", 
+			"drop_index_stmt", "show_meta_stmt", "analyze_stmt", "alter_table_stmt", 
 			"grant_stmt", "revoke_stmt", "use_db_stmt", "delete_stmt", "drop_table_stmt", 
 			"show_db_stmt", "quit_stmt", "show_table_stmt", "insert_stmt", "value_entry", 
-			"select_stmt", "create_view_stmt", "drop_view_stmt", "update_stmt", "column_def", 
-			"type_name", "column_constraint", "multiple_condition", "condition", 
-			"comparer", "comparator", "expression", "table_constraint", "result_column", 
-			"table_query", "auth_level", "literal_value", "column_full_name", "database_name", 
-			"table_name", "user_name", "column_name", "view_name", "password"
+			"select_stmt", "ordering_term", "create_view_stmt", "drop_view_stmt", 
+			"update_stmt", "column_def", "type_name", "column_constraint", "multiple_condition", 
+			"condition", "comparer", "comparator", "expression", "table_constraint", 
+			"result_column", "aggregate", "table_query", "auth_level", "literal_value", 
+			"column_full_name", "database_name", "table_name", "user_name", "column_name", 
+			"view_name", "index_name", "password"
 		};
 	}
 	public static final String[] ruleNames = makeRuleNames();
@@ -68,14 +74,15 @@ public class SQLParser extends Parser {
 		return new String[] {
 			null, null, null, null, null, null, "EQ", "NE", "LT", "GT", "LE", "GE", 
 			"ADD", "SUB", "MUL", "DIV", "AND", "OR", "T_INT", "T_LONG", "T_FLOAT", 
-			"T_DOUBLE", "T_STRING", "K_ADD", "K_ALL", "K_AS", "K_BY", "K_COLUMN", 
-			"K_CREATE", "K_DATABASE", "K_DATABASES", "K_DELETE", "K_DISTINCT", "K_DROP", 
-			"K_EXISTS", "K_FROM", "K_GRANT", "K_IF", "K_IDENTIFIED", "K_INSERT", 
-			"K_INTO", "K_JOIN", "K_KEY", "K_NOT", "K_NULL", "K_ON", "K_PRIMARY", 
-			"K_QUIT", "K_REVOKE", "K_SELECT", "K_SET", "K_SHOW", "K_TABLE", "K_TO", 
-			"K_UPDATE", "K_USE", "K_USER", "K_VALUES", "K_VIEW", "K_WHERE", "IDENTIFIER", 
-			"NUMERIC_LITERAL", "EXPONENT", "STRING_LITERAL", "SINGLE_LINE_COMMENT", 
-			"MULTILINE_COMMENT", "SPACES"
+			"T_DOUBLE", "T_STRING", "K_ADD", "K_ALL", "K_ALTER", "K_ANALYZE", "K_AS", 
+			"K_ASC", "K_BY", "K_COLUMN", "K_COLUMNAR", "K_CREATE", "K_DATABASE", 
+			"K_DATABASES", "K_DELETE", "K_DESC", "K_DISTINCT", "K_DROP", "K_EXISTS", 
+			"K_FROM", "K_GRANT", "K_GROUP", "K_IF", "K_IDENTIFIED", "K_INDEX", "K_INSERT", 
+			"K_INTO", "K_JOIN", "K_KEY", "K_LIMIT", "K_NOT", "K_NULL", "K_OFF", "K_OFFSET", 
+			"K_ON", "K_ORDER", "K_PRIMARY", "K_QUIT", "K_REVOKE", "K_SELECT", "K_SET", 
+			"K_SHOW", "K_TABLE", "K_TO", "K_UPDATE", "K_USE", "K_USER", "K_VALUES", 
+			"K_VIEW", "K_WHERE", "IDENTIFIER", "NUMERIC_LITERAL", "EXPONENT", "STRING_LITERAL", 
+			"SINGLE_LINE_COMMENT", "MULTILINE_COMMENT", "SPACES"
 		};
 	}
 	private static final String[] _SYMBOLIC_NAMES = makeSymbolicNames();
@@ -158,7 +165,7 @@ public class SQLParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(86);
+			setState(100);
 			sql_stmt_list();
 			}
 		}
@@ -207,63 +214,63 @@ public class SQLParser extends Parser {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(91);
+			setState(105);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==T__0) {
 				{
 				{
-				setState(88);
+				setState(102);
 				match(T__0);
 				}
 				}
-				setState(93);
+				setState(107);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(94);
+			setState(108);
 			sql_stmt();
-			setState(103);
+			setState(117);
 			_errHandler.sync(this);
 			_alt = getInterpreter().adaptivePredict(_input,2,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					{
 					{
-					setState(96); 
+					setState(110); 
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 					do {
 						{
 						{
-						setState(95);
+						setState(109);
 						match(T__0);
 						}
 						}
-						setState(98); 
+						setState(112); 
 						_errHandler.sync(this);
 						_la = _input.LA(1);
 					} while ( _la==T__0 );
-					setState(100);
+					setState(114);
 					sql_stmt();
 					}
 					} 
 				}
-				setState(105);
+				setState(119);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,2,_ctx);
 			}
-			setState(109);
+			setState(123);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==T__0) {
 				{
 				{
-				setState(106);
+				setState(120);
 				match(T__0);
 				}
 				}
-				setState(111);
+				setState(125);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -302,6 +309,12 @@ public class SQLParser extends Parser {
 		public Drop_table_stmtContext drop_table_stmt() {
 			return getRuleContext(Drop_table_stmtContext.class,0);
 		}
+		public Create_index_stmtContext create_index_stmt() {
+			return getRuleContext(Create_index_stmtContext.class,0);
+		}
+		public Drop_index_stmtContext drop_index_stmt() {
+			return getRuleContext(Drop_index_stmtContext.class,0);
+		}
 		public Insert_stmtContext insert_stmt() {
 			return getRuleContext(Insert_stmtContext.class,0);
 		}
@@ -332,6 +345,12 @@ public class SQLParser extends Parser {
 		public Show_meta_stmtContext show_meta_stmt() {
 			return getRuleContext(Show_meta_stmtContext.class,0);
 		}
+		public Analyze_stmtContext analyze_stmt() {
+			return getRuleContext(Analyze_stmtContext.class,0);
+		}
+		public Alter_table_stmtContext alter_table_stmt() {
+			return getRuleContext(Alter_table_stmtContext.class,0);
+		}
 		public Quit_stmtContext quit_stmt() {
 			return getRuleContext(Quit_stmtContext.class,0);
 		}
@@ -361,139 +380,167 @@ public class SQLParser extends Parser {
 		Sql_stmtContext _localctx = new Sql_stmtContext(_ctx, getState());
 		enterRule(_localctx, 4, RULE_sql_stmt);
 		try {
-			setState(131);
+			setState(149);
 			_errHandler.sync(this);
 			switch ( getInterpreter().adaptivePredict(_input,4,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(112);
+				setState(126);
 				create_table_stmt();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(113);
+				setState(127);
 				create_db_stmt();
 				}
 				break;
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(114);
+				setState(128);
 				create_user_stmt();
 				}
 				break;
 			case 4:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(115);
+				setState(129);
 				drop_db_stmt();
 				}
 				break;
 			case 5:
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(116);
+				setState(130);
 				drop_user_stmt();
 				}
 				break;
 			case 6:
 				enterOuterAlt(_localctx, 6);
 				{
-				setState(117);
+				setState(131);
 				delete_stmt();
 				}
 				break;
 			case 7:
 				enterOuterAlt(_localctx, 7);
 				{
-				setState(118);
+				setState(132);
 				drop_table_stmt();
 				}
 				break;
 			case 8:
 				enterOuterAlt(_localctx, 8);
 				{
-				setState(119);
-				insert_stmt();
+				setState(133);
+				create_index_stmt();
 				}
 				break;
 			case 9:
 				enterOuterAlt(_localctx, 9);
 				{
-				setState(120);
-				select_stmt();
+				setState(134);
+				drop_index_stmt();
 				}
 				break;
 			case 10:
 				enterOuterAlt(_localctx, 10);
 				{
-				setState(121);
-				create_view_stmt();
+				setState(135);
+				insert_stmt();
 				}
 				break;
 			case 11:
 				enterOuterAlt(_localctx, 11);
 				{
-				setState(122);
-				drop_view_stmt();
+				setState(136);
+				select_stmt();
 				}
 				break;
 			case 12:
 				enterOuterAlt(_localctx, 12);
 				{
-				setState(123);
-				grant_stmt();
+				setState(137);
+				create_view_stmt();
 				}
 				break;
 			case 13:
 				enterOuterAlt(_localctx, 13);
 				{
-				setState(124);
-				revoke_stmt();
+				setState(138);
+				drop_view_stmt();
 				}
 				break;
 			case 14:
 				enterOuterAlt(_localctx, 14);
 				{
-				setState(125);
-				use_db_stmt();
+				setState(139);
+				grant_stmt();
 				}
 				break;
 			case 15:
 				enterOuterAlt(_localctx, 15);
 				{
-				setState(126);
-				show_db_stmt();
+				setState(140);
+				revoke_stmt();
 				}
 				break;
 			case 16:
 				enterOuterAlt(_localctx, 16);
 				{
-				setState(127);
-				show_table_stmt();
+				setState(141);
+				use_db_stmt();
 				}
 				break;
 			case 17:
 				enterOuterAlt(_localctx, 17);
 				{
-				setState(128);
-				show_meta_stmt();
+				setState(142);
+				show_db_stmt();
 				}
 				break;
 			case 18:
 				enterOuterAlt(_localctx, 18);
 				{
-				setState(129);
-				quit_stmt();
+				setState(143);
+				show_table_stmt();
 				}
 				break;
 			case 19:
 				enterOuterAlt(_localctx, 19);
 				{
-				setState(130);
+				setState(144);
+				show_meta_stmt();
+				}
+				break;
+			case 20:
+				enterOuterAlt(_localctx, 20);
+				{
+				setState(145);
+				analyze_stmt();
+				}
+				break;
+			case 21:
+				enterOuterAlt(_localctx, 21);
+				{
+				setState(146);
+				alter_table_stmt();
+				}
+				break;
+			case 22:
+				enterOuterAlt(_localctx, 22);
+				{
+				setState(147);
+				quit_stmt();
+				}
+				break;
+			case 23:
+				enterOuterAlt(_localctx, 23);
+				{
+				setState(148);
 				update_stmt();
 				}
 				break;
@@ -541,11 +588,11 @@ public class SQLParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(133);
+			setState(151);
 			match(K_CREATE);
-			setState(134);
+			setState(152);
 			match(K_DATABASE);
-			setState(135);
+			setState(153);
 			database_name();
 			}
 		}
@@ -594,23 +641,23 @@ public class SQLParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(137);
+			setState(155);
 			match(K_DROP);
-			setState(138);
+			setState(156);
 			match(K_DATABASE);
-			setState(141);
+			setState(159);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==K_IF) {
 				{
-				setState(139);
+				setState(157);
 				match(K_IF);
-				setState(140);
+				setState(158);
 				match(K_EXISTS);
 				}
 			}
 
-			setState(143);
+			setState(161);
 			database_name();
 			}
 		}
@@ -661,17 +708,17 @@ public class SQLParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(145);
+			setState(163);
 			match(K_CREATE);
-			setState(146);
+			setState(164);
 			match(K_USER);
-			setState(147);
+			setState(165);
 			user_name();
-			setState(148);
+			setState(166);
 			match(K_IDENTIFIED);
-			setState(149);
+			setState(167);
 			match(K_BY);
-			setState(150);
+			setState(168);
 			password();
 			}
 		}
@@ -720,23 +767,23 @@ public class SQLParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(152);
+			setState(170);
 			match(K_DROP);
-			setState(153);
+			setState(171);
 			match(K_USER);
-			setState(156);
+			setState(174);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==K_IF) {
 				{
-				setState(154);
+				setState(172);
 				match(K_IF);
-				setState(155);
+				setState(173);
 				match(K_EXISTS);
 				}
 			}
 
-			setState(158);
+			setState(176);
 			user_name();
 			}
 		}
@@ -793,47 +840,47 @@ public class SQLParser extends Parser {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(160);
+			setState(178);
 			match(K_CREATE);
-			setState(161);
+			setState(179);
 			match(K_TABLE);
-			setState(162);
+			setState(180);
 			table_name();
-			setState(163);
+			setState(181);
 			match(T__1);
-			setState(164);
+			setState(182);
 			column_def();
-			setState(169);
+			setState(187);
 			_errHandler.sync(this);
 			_alt = getInterpreter().adaptivePredict(_input,7,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					{
 					{
-					setState(165);
+					setState(183);
 					match(T__2);
-					setState(166);
+					setState(184);
 					column_def();
 					}
 					} 
 				}
-				setState(171);
+				setState(189);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,7,_ctx);
 			}
-			setState(174);
+			setState(192);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==T__2) {
 				{
-				setState(172);
+				setState(190);
 				match(T__2);
-				setState(173);
+				setState(191);
 				table_constraint();
 				}
 			}
 
-			setState(176);
+			setState(194);
 			match(T__3);
 			}
 		}
@@ -848,6 +895,146 @@ public class SQLParser extends Parser {
 		return _localctx;
 	}
 
+	public static class Create_index_stmtContext extends ParserRuleContext {
+		public TerminalNode K_CREATE() { return getToken(SQLParser.K_CREATE, 0); }
+		public TerminalNode K_INDEX() { return getToken(SQLParser.K_INDEX, 0); }
+		public Index_nameContext index_name() {
+			return getRuleContext(Index_nameContext.class,0);
+		}
+		public TerminalNode K_ON() { return getToken(SQLParser.K_ON, 0); }
+		public Table_nameContext table_name() {
+			return getRuleContext(Table_nameContext.class,0);
+		}
+		public Column_nameContext column_name() {
+			return getRuleContext(Column_nameContext.class,0);
+		}
+		public Create_index_stmtContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_create_index_stmt; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLListener ) ((SQLListener)listener).enterCreate_index_stmt(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLListener ) ((SQLListener)listener).exitCreate_index_stmt(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SQLVisitor ) return ((SQLVisitor<? extends T>)visitor).visitCreate_index_stmt(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Create_index_stmtContext create_index_stmt() throws RecognitionException {
+		Create_index_stmtContext _localctx = new Create_index_stmtContext(_ctx, getState());
+		enterRule(_localctx, 16, RULE_create_index_stmt);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(196);
+			match(K_CREATE);
+			setState(197);
+			match(K_INDEX);
+			setState(198);
+			index_name();
+			setState(199);
+			match(K_ON);
+			setState(200);
+			table_name();
+			setState(201);
+			match(T__1);
+			setState(202);
+			column_name();
+			setState(203);
+			match(T__3);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Drop_index_stmtContext extends ParserRuleContext {
+		public TerminalNode K_DROP() { return getToken(SQLParser.K_DROP, 0); }
+		public TerminalNode K_INDEX() { return getToken(SQLParser.K_INDEX, 0); }
+		public Index_nameContext index_name() {
+			return getRuleContext(Index_nameContext.class,0);
+		}
+		public TerminalNode K_ON() { return getToken(SQLParser.K_ON, 0); }
+		public Table_nameContext table_name() {
+			return getRuleContext(Table_nameContext.class,0);
+		}
+		public TerminalNode K_IF() { return getToken(SQLParser.K_IF, 0); }
+		public TerminalNode K_EXISTS() { return getToken(SQLParser.K_EXISTS, 0); }
+		public Drop_index_stmtContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_drop_index_stmt; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLListener ) ((SQLListener)listener).enterDrop_index_stmt(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLListener ) ((SQLListener)listener).exitDrop_index_stmt(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SQLVisitor ) return ((SQLVisitor<? extends T>)visitor).visitDrop_index_stmt(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Drop_index_stmtContext drop_index_stmt() throws RecognitionException {
+		Drop_index_stmtContext _localctx = new Drop_index_stmtContext(_ctx, getState());
+		enterRule(_localctx, 18, RULE_drop_index_stmt);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(205);
+			match(K_DROP);
+			setState(206);
+			match(K_INDEX);
+			setState(209);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==K_IF) {
+				{
+				setState(207);
+				match(K_IF);
+				setState(208);
+				match(K_EXISTS);
+				}
+			}
+
+			setState(211);
+			index_name();
+			setState(212);
+			match(K_ON);
+			setState(213);
+			table_name();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
 	public static class Show_meta_stmtContext extends ParserRuleContext {
 		public TerminalNode K_SHOW() { return getToken(SQLParser.K_SHOW, 0); }
 		public TerminalNode K_TABLE() { return getToken(SQLParser.K_TABLE, 0); }
@@ -875,16 +1062,132 @@ public class SQLParser extends Parser {
 
 	public final Show_meta_stmtContext show_meta_stmt() throws RecognitionException {
 		Show_meta_stmtContext _localctx = new Show_meta_stmtContext(_ctx, getState());
-		enterRule(_localctx, 16, RULE_show_meta_stmt);
+		enterRule(_localctx, 20, RULE_show_meta_stmt);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(178);
+			setState(215);
 			match(K_SHOW);
-			setState(179);
+			setState(216);
 			match(K_TABLE);
-			setState(180);
+			setState(217);
+			table_name();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Analyze_stmtContext extends ParserRuleContext {
+		public TerminalNode K_ANALYZE() { return getToken(SQLParser.K_ANALYZE, 0); }
+		public Table_nameContext table_name() {
+			return getRuleContext(Table_nameContext.class,0);
+		}
+		public Analyze_stmtContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_analyze_stmt; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLListener ) ((SQLListener)listener).enterAnalyze_stmt(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLListener ) ((SQLListener)listener).exitAnalyze_stmt(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SQLVisitor ) return ((SQLVisitor<? extends T>)visitor).visitAnalyze_stmt(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Analyze_stmtContext analyze_stmt() throws RecognitionException {
+		Analyze_stmtContext _localctx = new Analyze_stmtContext(_ctx, getState());
+		enterRule(_localctx, 22, RULE_analyze_stmt);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(219);
+			match(K_ANALYZE);
+			setState(220);
+			table_name();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Alter_table_stmtContext extends ParserRuleContext {
+		public TerminalNode K_ALTER() { return getToken(SQLParser.K_ALTER, 0); }
+		public TerminalNode K_TABLE() { return getToken(SQLParser.K_TABLE, 0); }
+		public Table_nameContext table_name() {
+			return getRuleContext(Table_nameContext.class,0);
+		}
+		public TerminalNode K_SET() { return getToken(SQLParser.K_SET, 0); }
+		public TerminalNode K_COLUMNAR() { return getToken(SQLParser.K_COLUMNAR, 0); }
+		public TerminalNode K_ON() { return getToken(SQLParser.K_ON, 0); }
+		public TerminalNode K_OFF() { return getToken(SQLParser.K_OFF, 0); }
+		public Alter_table_stmtContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_alter_table_stmt; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLListener ) ((SQLListener)listener).enterAlter_table_stmt(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLListener ) ((SQLListener)listener).exitAlter_table_stmt(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SQLVisitor ) return ((SQLVisitor<? extends T>)visitor).visitAlter_table_stmt(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Alter_table_stmtContext alter_table_stmt() throws RecognitionException {
+		Alter_table_stmtContext _localctx = new Alter_table_stmtContext(_ctx, getState());
+		enterRule(_localctx, 24, RULE_alter_table_stmt);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(222);
+			match(K_ALTER);
+			setState(223);
+			match(K_TABLE);
+			setState(224);
 			table_name();
+			setState(225);
+			match(K_SET);
+			setState(226);
+			match(K_COLUMNAR);
+			setState(227);
+			_la = _input.LA(1);
+			if ( !(_la==K_OFF || _la==K_ON) ) {
+			_errHandler.recoverInline(this);
+			}
+			else {
+				if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+				_errHandler.reportMatch(this);
+				consume();
+			}
 			}
 		}
 		catch (RecognitionException re) {
@@ -935,38 +1238,38 @@ public class SQLParser extends Parser {
 
 	public final Grant_stmtContext grant_stmt() throws RecognitionException {
 		Grant_stmtContext _localctx = new Grant_stmtContext(_ctx, getState());
-		enterRule(_localctx, 18, RULE_grant_stmt);
+		enterRule(_localctx, 26, RULE_grant_stmt);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(182);
+			setState(229);
 			match(K_GRANT);
-			setState(183);
+			setState(230);
 			auth_level();
-			setState(188);
+			setState(235);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==T__2) {
 				{
 				{
-				setState(184);
+				setState(231);
 				match(T__2);
-				setState(185);
+				setState(232);
 				auth_level();
 				}
 				}
-				setState(190);
+				setState(237);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(191);
+			setState(238);
 			match(K_ON);
-			setState(192);
+			setState(239);
 			table_name();
-			setState(193);
+			setState(240);
 			match(K_TO);
-			setState(194);
+			setState(241);
 			user_name();
 			}
 		}
@@ -1018,38 +1321,38 @@ public class SQLParser extends Parser {
 
 	public final Revoke_stmtContext revoke_stmt() throws RecognitionException {
 		Revoke_stmtContext _localctx = new Revoke_stmtContext(_ctx, getState());
-		enterRule(_localctx, 20, RULE_revoke_stmt);
+		enterRule(_localctx, 28, RULE_revoke_stmt);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(196);
+			setState(243);
 			match(K_REVOKE);
-			setState(197);
+			setState(244);
 			auth_level();
-			setState(202);
+			setState(249);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==T__2) {
 				{
 				{
-				setState(198);
+				setState(245);
 				match(T__2);
-				setState(199);
+				setState(246);
 				auth_level();
 				}
 				}
-				setState(204);
+				setState(251);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(205);
+			setState(252);
 			match(K_ON);
-			setState(206);
+			setState(253);
 			table_name();
-			setState(207);
+			setState(254);
 			match(K_FROM);
-			setState(208);
+			setState(255);
 			user_name();
 			}
 		}
@@ -1090,13 +1393,13 @@ public class SQLParser extends Parser {
 
 	public final Use_db_stmtContext use_db_stmt() throws RecognitionException {
 		Use_db_stmtContext _localctx = new Use_db_stmtContext(_ctx, getState());
-		enterRule(_localctx, 22, RULE_use_db_stmt);
+		enterRule(_localctx, 30, RULE_use_db_stmt);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(210);
+			setState(257);
 			match(K_USE);
-			setState(211);
+			setState(258);
 			database_name();
 			}
 		}
@@ -1142,25 +1445,25 @@ public class SQLParser extends Parser {
 
 	public final Delete_stmtContext delete_stmt() throws RecognitionException {
 		Delete_stmtContext _localctx = new Delete_stmtContext(_ctx, getState());
-		enterRule(_localctx, 24, RULE_delete_stmt);
+		enterRule(_localctx, 32, RULE_delete_stmt);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(213);
+			setState(260);
 			match(K_DELETE);
-			setState(214);
+			setState(261);
 			match(K_FROM);
-			setState(215);
+			setState(262);
 			table_name();
-			setState(218);
+			setState(265);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==K_WHERE) {
 				{
-				setState(216);
+				setState(263);
 				match(K_WHERE);
-				setState(217);
+				setState(264);
 				multiple_condition(0);
 				}
 			}
@@ -1207,28 +1510,28 @@ public class SQLParser extends Parser {
 
 	public final Drop_table_stmtContext drop_table_stmt() throws RecognitionException {
 		Drop_table_stmtContext _localctx = new Drop_table_stmtContext(_ctx, getState());
-		enterRule(_localctx, 26, RULE_drop_table_stmt);
+		enterRule(_localctx, 34, RULE_drop_table_stmt);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(220);
+			setState(267);
 			match(K_DROP);
-			setState(221);
+			setState(268);
 			match(K_TABLE);
-			setState(224);
+			setState(271);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==K_IF) {
 				{
-				setState(222);
+				setState(269);
 				match(K_IF);
-				setState(223);
+				setState(270);
 				match(K_EXISTS);
 				}
 			}
 
-			setState(226);
+			setState(273);
 			table_name();
 			}
 		}
@@ -1267,13 +1570,13 @@ public class SQLParser extends Parser {
 
 	public final Show_db_stmtContext show_db_stmt() throws RecognitionException {
 		Show_db_stmtContext _localctx = new Show_db_stmtContext(_ctx, getState());
-		enterRule(_localctx, 28, RULE_show_db_stmt);
+		enterRule(_localctx, 36, RULE_show_db_stmt);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(228);
+			setState(275);
 			match(K_SHOW);
-			setState(229);
+			setState(276);
 			match(K_DATABASES);
 			}
 		}
@@ -1311,11 +1614,11 @@ public class SQLParser extends Parser {
 
 	public final Quit_stmtContext quit_stmt() throws RecognitionException {
 		Quit_stmtContext _localctx = new Quit_stmtContext(_ctx, getState());
-		enterRule(_localctx, 30, RULE_quit_stmt);
+		enterRule(_localctx, 38, RULE_quit_stmt);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(231);
+			setState(278);
 			match(K_QUIT);
 			}
 		}
@@ -1357,15 +1660,15 @@ public class SQLParser extends Parser {
 
 	public final Show_table_stmtContext show_table_stmt() throws RecognitionException {
 		Show_table_stmtContext _localctx = new Show_table_stmtContext(_ctx, getState());
-		enterRule(_localctx, 32, RULE_show_table_stmt);
+		enterRule(_localctx, 40, RULE_show_table_stmt);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(233);
+			setState(280);
 			match(K_SHOW);
-			setState(234);
+			setState(281);
 			match(K_DATABASE);
-			setState(235);
+			setState(282);
 			database_name();
 			}
 		}
@@ -1420,64 +1723,64 @@ public class SQLParser extends Parser {
 
 	public final Insert_stmtContext insert_stmt() throws RecognitionException {
 		Insert_stmtContext _localctx = new Insert_stmtContext(_ctx, getState());
-		enterRule(_localctx, 34, RULE_insert_stmt);
+		enterRule(_localctx, 42, RULE_insert_stmt);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(237);
+			setState(284);
 			match(K_INSERT);
-			setState(238);
+			setState(285);
 			match(K_INTO);
-			setState(239);
+			setState(286);
 			table_name();
-			setState(251);
+			setState(298);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==T__1) {
 				{
-				setState(240);
+				setState(287);
 				match(T__1);
-				setState(241);
+				setState(288);
 				column_name();
-				setState(246);
+				setState(293);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				while (_la==T__2) {
 					{
 					{
-					setState(242);
+					setState(289);
 					match(T__2);
-					setState(243);
+					setState(290);
 					column_name();
 					}
 					}
-					setState(248);
+					setState(295);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				}
-				setState(249);
+				setState(296);
 				match(T__3);
 				}
 			}
 
-			setState(253);
+			setState(300);
 			match(K_VALUES);
-			setState(254);
+			setState(301);
 			value_entry();
-			setState(259);
+			setState(306);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==T__2) {
 				{
 				{
-				setState(255);
+				setState(302);
 				match(T__2);
-				setState(256);
+				setState(303);
 				value_entry();
 				}
 				}
-				setState(261);
+				setState(308);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -1522,33 +1825,271 @@ public class SQLParser extends Parser {
 
 	public final Value_entryContext value_entry() throws RecognitionException {
 		Value_entryContext _localctx = new Value_entryContext(_ctx, getState());
-		enterRule(_localctx, 36, RULE_value_entry);
+		enterRule(_localctx, 44, RULE_value_entry);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(262);
+			setState(309);
 			match(T__1);
-			setState(263);
+			setState(310);
 			literal_value();
-			setState(268);
+			setState(315);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==T__2) {
+				{
+				{
+				setState(311);
+				match(T__2);
+				setState(312);
+				literal_value();
+				}
+				}
+				setState(317);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(318);
+			match(T__3);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Select_stmtContext extends ParserRuleContext {
+		public TerminalNode K_SELECT() { return getToken(SQLParser.K_SELECT, 0); }
+		public List<Result_columnContext> result_column() {
+			return getRuleContexts(Result_columnContext.class);
+		}
+		public Result_columnContext result_column(int i) {
+			return getRuleContext(Result_columnContext.class,i);
+		}
+		public TerminalNode K_FROM() { return getToken(SQLParser.K_FROM, 0); }
+		public List<Table_queryContext> table_query() {
+			return getRuleContexts(Table_queryContext.class);
+		}
+		public Table_queryContext table_query(int i) {
+			return getRuleContext(Table_queryContext.class,i);
+		}
+		public TerminalNode K_WHERE() { return getToken(SQLParser.K_WHERE, 0); }
+		public Multiple_conditionContext multiple_condition() {
+			return getRuleContext(Multiple_conditionContext.class,0);
+		}
+		public TerminalNode K_GROUP() { return getToken(SQLParser.K_GROUP, 0); }
+		public List<TerminalNode> K_BY() { return getTokens(SQLParser.K_BY); }
+		public TerminalNode K_BY(int i) {
+			return getToken(SQLParser.K_BY, i);
+		}
+		public List<Column_full_nameContext> column_full_name() {
+			return getRuleContexts(Column_full_nameContext.class);
+		}
+		public Column_full_nameContext column_full_name(int i) {
+			return getRuleContext(Column_full_nameContext.class,i);
+		}
+		public TerminalNode K_ORDER() { return getToken(SQLParser.K_ORDER, 0); }
+		public List<Ordering_termContext> ordering_term() {
+			return getRuleContexts(Ordering_termContext.class);
+		}
+		public Ordering_termContext ordering_term(int i) {
+			return getRuleContext(Ordering_termContext.class,i);
+		}
+		public TerminalNode K_LIMIT() { return getToken(SQLParser.K_LIMIT, 0); }
+		public List<TerminalNode> NUMERIC_LITERAL() { return getTokens(SQLParser.NUMERIC_LITERAL); }
+		public TerminalNode NUMERIC_LITERAL(int i) {
+			return getToken(SQLParser.NUMERIC_LITERAL, i);
+		}
+		public TerminalNode K_DISTINCT() { return getToken(SQLParser.K_DISTINCT, 0); }
+		public TerminalNode K_ALL() { return getToken(SQLParser.K_ALL, 0); }
+		public TerminalNode K_OFFSET() { return getToken(SQLParser.K_OFFSET, 0); }
+		public Select_stmtContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_select_stmt; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLListener ) ((SQLListener)listener).enterSelect_stmt(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLListener ) ((SQLListener)listener).exitSelect_stmt(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SQLVisitor ) return ((SQLVisitor<? extends T>)visitor).visitSelect_stmt(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Select_stmtContext select_stmt() throws RecognitionException {
+		Select_stmtContext _localctx = new Select_stmtContext(_ctx, getState());
+		enterRule(_localctx, 46, RULE_select_stmt);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(320);
+			match(K_SELECT);
+			setState(322);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==K_ALL || _la==K_DISTINCT) {
+				{
+				setState(321);
+				_la = _input.LA(1);
+				if ( !(_la==K_ALL || _la==K_DISTINCT) ) {
+				_errHandler.recoverInline(this);
+				}
+				else {
+					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+					_errHandler.reportMatch(this);
+					consume();
+				}
+				}
+			}
+
+			setState(324);
+			result_column();
+			setState(329);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==T__2) {
+				{
+				{
+				setState(325);
+				match(T__2);
+				setState(326);
+				result_column();
+				}
+				}
+				setState(331);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(332);
+			match(K_FROM);
+			setState(333);
+			table_query();
+			setState(338);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==T__2) {
+				{
+				{
+				setState(334);
+				match(T__2);
+				setState(335);
+				table_query();
+				}
+				}
+				setState(340);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(343);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==K_WHERE) {
+				{
+				setState(341);
+				match(K_WHERE);
+				setState(342);
+				multiple_condition(0);
+				}
+			}
+
+			setState(355);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==K_GROUP) {
+				{
+				setState(345);
+				match(K_GROUP);
+				setState(346);
+				match(K_BY);
+				setState(347);
+				column_full_name();
+				setState(352);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				while (_la==T__2) {
+					{
+					{
+					setState(348);
+					match(T__2);
+					setState(349);
+					column_full_name();
+					}
+					}
+					setState(354);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+				}
+				}
+			}
+
+			setState(367);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			while (_la==T__2) {
-				{
+			if (_la==K_ORDER) {
 				{
-				setState(264);
-				match(T__2);
-				setState(265);
-				literal_value();
+				setState(357);
+				match(K_ORDER);
+				setState(358);
+				match(K_BY);
+				setState(359);
+				ordering_term();
+				setState(364);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				while (_la==T__2) {
+					{
+					{
+					setState(360);
+					match(T__2);
+					setState(361);
+					ordering_term();
+					}
+					}
+					setState(366);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
 				}
 				}
-				setState(270);
+			}
+
+			setState(375);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==K_LIMIT) {
+				{
+				setState(369);
+				match(K_LIMIT);
+				setState(370);
+				match(NUMERIC_LITERAL);
+				setState(373);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
+				if (_la==K_OFFSET) {
+					{
+					setState(371);
+					match(K_OFFSET);
+					setState(372);
+					match(NUMERIC_LITERAL);
+					}
+				}
+
+				}
 			}
-			setState(271);
-			match(T__3);
+
 			}
 		}
 		catch (RecognitionException re) {
@@ -1562,120 +2103,72 @@ public class SQLParser extends Parser {
 		return _localctx;
 	}
 
-	public static class Select_stmtContext extends ParserRuleContext {
-		public TerminalNode K_SELECT() { return getToken(SQLParser.K_SELECT, 0); }
-		public List<Result_columnContext> result_column() {
-			return getRuleContexts(Result_columnContext.class);
-		}
-		public Result_columnContext result_column(int i) {
-			return getRuleContext(Result_columnContext.class,i);
-		}
-		public TerminalNode K_FROM() { return getToken(SQLParser.K_FROM, 0); }
-		public List<Table_queryContext> table_query() {
-			return getRuleContexts(Table_queryContext.class);
-		}
-		public Table_queryContext table_query(int i) {
-			return getRuleContext(Table_queryContext.class,i);
+	public static class Ordering_termContext extends ParserRuleContext {
+		public Column_full_nameContext column_full_name() {
+			return getRuleContext(Column_full_nameContext.class,0);
 		}
-		public TerminalNode K_WHERE() { return getToken(SQLParser.K_WHERE, 0); }
-		public Multiple_conditionContext multiple_condition() {
-			return getRuleContext(Multiple_conditionContext.class,0);
+		public AggregateContext aggregate() {
+			return getRuleContext(AggregateContext.class,0);
 		}
-		public TerminalNode K_DISTINCT() { return getToken(SQLParser.K_DISTINCT, 0); }
-		public TerminalNode K_ALL() { return getToken(SQLParser.K_ALL, 0); }
-		public Select_stmtContext(ParserRuleContext parent, int invokingState) {
+		public TerminalNode K_ASC() { return getToken(SQLParser.K_ASC, 0); }
+		public TerminalNode K_DESC() { return getToken(SQLParser.K_DESC, 0); }
+		public Ordering_termContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
-		@Override public int getRuleIndex() { return RULE_select_stmt; }
+		@Override public int getRuleIndex() { return RULE_ordering_term; }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof SQLListener ) ((SQLListener)listener).enterSelect_stmt(this);
+			if ( listener instanceof SQLListener ) ((SQLListener)listener).enterOrdering_term(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof SQLListener ) ((SQLListener)listener).exitSelect_stmt(this);
+			if ( listener instanceof SQLListener ) ((SQLListener)listener).exitOrdering_term(this);
 		}
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof SQLVisitor ) return ((SQLVisitor<? extends T>)visitor).visitSelect_stmt(this);
+			if ( visitor instanceof SQLVisitor ) return ((SQLVisitor<? extends T>)visitor).visitOrdering_term(this);
 			else return visitor.visitChildren(this);
 		}
 	}
 
-	public final Select_stmtContext select_stmt() throws RecognitionException {
-		Select_stmtContext _localctx = new Select_stmtContext(_ctx, getState());
-		enterRule(_localctx, 38, RULE_select_stmt);
+	public final Ordering_termContext ordering_term() throws RecognitionException {
+		Ordering_termContext _localctx = new Ordering_termContext(_ctx, getState());
+		enterRule(_localctx, 48, RULE_ordering_term);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(273);
-			match(K_SELECT);
-			setState(275);
+			setState(379);
 			_errHandler.sync(this);
-			_la = _input.LA(1);
-			if (_la==K_ALL || _la==K_DISTINCT) {
+			switch ( getInterpreter().adaptivePredict(_input,28,_ctx) ) {
+			case 1:
 				{
-				setState(274);
-				_la = _input.LA(1);
-				if ( !(_la==K_ALL || _la==K_DISTINCT) ) {
-				_errHandler.recoverInline(this);
-				}
-				else {
-					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
-					_errHandler.reportMatch(this);
-					consume();
-				}
+				setState(377);
+				column_full_name();
 				}
-			}
-
-			setState(277);
-			result_column();
-			setState(282);
-			_errHandler.sync(this);
-			_la = _input.LA(1);
-			while (_la==T__2) {
-				{
+				break;
+			case 2:
 				{
-				setState(278);
-				match(T__2);
-				setState(279);
-				result_column();
-				}
+				setState(378);
+				aggregate();
 				}
-				setState(284);
-				_errHandler.sync(this);
-				_la = _input.LA(1);
+				break;
 			}
-			setState(285);
-			match(K_FROM);
-			setState(286);
-			table_query();
-			setState(291);
+			setState(382);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			while (_la==T__2) {
+			if (_la==K_ASC || _la==K_DESC) {
 				{
-				{
-				setState(287);
-				match(T__2);
-				setState(288);
-				table_query();
+				setState(381);
+				_la = _input.LA(1);
+				if ( !(_la==K_ASC || _la==K_DESC) ) {
+				_errHandler.recoverInline(this);
 				}
+				else {
+					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+					_errHandler.reportMatch(this);
+					consume();
 				}
-				setState(293);
-				_errHandler.sync(this);
-				_la = _input.LA(1);
-			}
-			setState(296);
-			_errHandler.sync(this);
-			_la = _input.LA(1);
-			if (_la==K_WHERE) {
-				{
-				setState(294);
-				match(K_WHERE);
-				setState(295);
-				multiple_condition(0);
 				}
 			}
 
@@ -1723,19 +2216,19 @@ public class SQLParser extends Parser {
 
 	public final Create_view_stmtContext create_view_stmt() throws RecognitionException {
 		Create_view_stmtContext _localctx = new Create_view_stmtContext(_ctx, getState());
-		enterRule(_localctx, 40, RULE_create_view_stmt);
+		enterRule(_localctx, 50, RULE_create_view_stmt);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(298);
+			setState(384);
 			match(K_CREATE);
-			setState(299);
+			setState(385);
 			match(K_VIEW);
-			setState(300);
+			setState(386);
 			view_name();
-			setState(301);
+			setState(387);
 			match(K_AS);
-			setState(302);
+			setState(388);
 			select_stmt();
 			}
 		}
@@ -1779,28 +2272,28 @@ public class SQLParser extends Parser {
 
 	public final Drop_view_stmtContext drop_view_stmt() throws RecognitionException {
 		Drop_view_stmtContext _localctx = new Drop_view_stmtContext(_ctx, getState());
-		enterRule(_localctx, 42, RULE_drop_view_stmt);
+		enterRule(_localctx, 52, RULE_drop_view_stmt);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(304);
+			setState(390);
 			match(K_DROP);
-			setState(305);
+			setState(391);
 			match(K_VIEW);
-			setState(308);
+			setState(394);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==K_IF) {
 				{
-				setState(306);
+				setState(392);
 				match(K_IF);
-				setState(307);
+				setState(393);
 				match(K_EXISTS);
 				}
 			}
 
-			setState(310);
+			setState(396);
 			view_name();
 			}
 		}
@@ -1853,31 +2346,31 @@ public class SQLParser extends Parser {
 
 	public final Update_stmtContext update_stmt() throws RecognitionException {
 		Update_stmtContext _localctx = new Update_stmtContext(_ctx, getState());
-		enterRule(_localctx, 44, RULE_update_stmt);
+		enterRule(_localctx, 54, RULE_update_stmt);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(312);
+			setState(398);
 			match(K_UPDATE);
-			setState(313);
+			setState(399);
 			table_name();
-			setState(314);
+			setState(400);
 			match(K_SET);
-			setState(315);
+			setState(401);
 			column_name();
-			setState(316);
+			setState(402);
 			match(EQ);
-			setState(317);
+			setState(403);
 			expression(0);
-			setState(320);
+			setState(406);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==K_WHERE) {
 				{
-				setState(318);
+				setState(404);
 				match(K_WHERE);
-				setState(319);
+				setState(405);
 				multiple_condition(0);
 				}
 			}
@@ -1929,26 +2422,26 @@ public class SQLParser extends Parser {
 
 	public final Column_defContext column_def() throws RecognitionException {
 		Column_defContext _localctx = new Column_defContext(_ctx, getState());
-		enterRule(_localctx, 46, RULE_column_def);
+		enterRule(_localctx, 56, RULE_column_def);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(322);
+			setState(408);
 			column_name();
-			setState(323);
+			setState(409);
 			type_name();
-			setState(327);
+			setState(413);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==K_NOT || _la==K_PRIMARY) {
 				{
 				{
-				setState(324);
+				setState(410);
 				column_constraint();
 				}
 				}
-				setState(329);
+				setState(415);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -1993,49 +2486,49 @@ public class SQLParser extends Parser {
 
 	public final Type_nameContext type_name() throws RecognitionException {
 		Type_nameContext _localctx = new Type_nameContext(_ctx, getState());
-		enterRule(_localctx, 48, RULE_type_name);
+		enterRule(_localctx, 58, RULE_type_name);
 		try {
-			setState(338);
+			setState(424);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case T_INT:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(330);
+				setState(416);
 				match(T_INT);
 				}
 				break;
 			case T_LONG:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(331);
+				setState(417);
 				match(T_LONG);
 				}
 				break;
 			case T_FLOAT:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(332);
+				setState(418);
 				match(T_FLOAT);
 				}
 				break;
 			case T_DOUBLE:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(333);
+				setState(419);
 				match(T_DOUBLE);
 				}
 				break;
 			case T_STRING:
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(334);
+				setState(420);
 				match(T_STRING);
-				setState(335);
+				setState(421);
 				match(T__1);
-				setState(336);
+				setState(422);
 				match(NUMERIC_LITERAL);
-				setState(337);
+				setState(423);
 				match(T__3);
 				}
 				break;
@@ -2080,26 +2573,26 @@ public class SQLParser extends Parser {
 
 	public final Column_constraintContext column_constraint() throws RecognitionException {
 		Column_constraintContext _localctx = new Column_constraintContext(_ctx, getState());
-		enterRule(_localctx, 50, RULE_column_constraint);
+		enterRule(_localctx, 60, RULE_column_constraint);
 		try {
-			setState(344);
+			setState(430);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case K_PRIMARY:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(340);
+				setState(426);
 				match(K_PRIMARY);
-				setState(341);
+				setState(427);
 				match(K_KEY);
 				}
 				break;
 			case K_NOT:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(342);
+				setState(428);
 				match(K_NOT);
-				setState(343);
+				setState(429);
 				match(K_NULL);
 				}
 				break;
@@ -2158,37 +2651,37 @@ public class SQLParser extends Parser {
 		int _parentState = getState();
 		Multiple_conditionContext _localctx = new Multiple_conditionContext(_ctx, _parentState);
 		Multiple_conditionContext _prevctx = _localctx;
-		int _startState = 52;
-		enterRecursionRule(_localctx, 52, RULE_multiple_condition, _p);
+		int _startState = 62;
+		enterRecursionRule(_localctx, 62, RULE_multiple_condition, _p);
 		try {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
 			{
-			setState(347);
+			setState(433);
 			condition();
 			}
 			_ctx.stop = _input.LT(-1);
-			setState(357);
+			setState(443);
 			_errHandler.sync(this);
-			_alt = getInterpreter().adaptivePredict(_input,27,_ctx);
+			_alt = getInterpreter().adaptivePredict(_input,36,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					if ( _parseListeners!=null ) triggerExitRuleEvent();
 					_prevctx = _localctx;
 					{
-					setState(355);
+					setState(441);
 					_errHandler.sync(this);
-					switch ( getInterpreter().adaptivePredict(_input,26,_ctx) ) {
+					switch ( getInterpreter().adaptivePredict(_input,35,_ctx) ) {
 					case 1:
 						{
 						_localctx = new Multiple_conditionContext(_parentctx, _parentState);
 						pushNewRecursionContext(_localctx, _startState, RULE_multiple_condition);
-						setState(349);
+						setState(435);
 						if (!(precpred(_ctx, 2))) throw new FailedPredicateException(this, "precpred(_ctx, 2)");
-						setState(350);
+						setState(436);
 						match(AND);
-						setState(351);
+						setState(437);
 						multiple_condition(3);
 						}
 						break;
@@ -2196,20 +2689,20 @@ public class SQLParser extends Parser {
 						{
 						_localctx = new Multiple_conditionContext(_parentctx, _parentState);
 						pushNewRecursionContext(_localctx, _startState, RULE_multiple_condition);
-						setState(352);
+						setState(438);
 						if (!(precpred(_ctx, 1))) throw new FailedPredicateException(this, "precpred(_ctx, 1)");
-						setState(353);
+						setState(439);
 						match(OR);
-						setState(354);
+						setState(440);
 						multiple_condition(2);
 						}
 						break;
 					}
 					} 
 				}
-				setState(359);
+				setState(445);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,27,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,36,_ctx);
 			}
 			}
 		}
@@ -2255,15 +2748,15 @@ public class SQLParser extends Parser {
 
 	public final ConditionContext condition() throws RecognitionException {
 		ConditionContext _localctx = new ConditionContext(_ctx, getState());
-		enterRule(_localctx, 54, RULE_condition);
+		enterRule(_localctx, 64, RULE_condition);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(360);
+			setState(446);
 			expression(0);
-			setState(361);
+			setState(447);
 			comparator();
-			setState(362);
+			setState(448);
 			expression(0);
 			}
 		}
@@ -2306,15 +2799,15 @@ public class SQLParser extends Parser {
 
 	public final ComparerContext comparer() throws RecognitionException {
 		ComparerContext _localctx = new ComparerContext(_ctx, getState());
-		enterRule(_localctx, 56, RULE_comparer);
+		enterRule(_localctx, 66, RULE_comparer);
 		try {
-			setState(366);
+			setState(452);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case IDENTIFIER:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(364);
+				setState(450);
 				column_full_name();
 				}
 				break;
@@ -2323,7 +2816,7 @@ public class SQLParser extends Parser {
 			case STRING_LITERAL:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(365);
+				setState(451);
 				literal_value();
 				}
 				break;
@@ -2370,12 +2863,12 @@ public class SQLParser extends Parser {
 
 	public final ComparatorContext comparator() throws RecognitionException {
 		ComparatorContext _localctx = new ComparatorContext(_ctx, getState());
-		enterRule(_localctx, 58, RULE_comparator);
+		enterRule(_localctx, 68, RULE_comparator);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(368);
+			setState(454);
 			_la = _input.LA(1);
 			if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << EQ) | (1L << NE) | (1L << LT) | (1L << GT) | (1L << LE) | (1L << GE))) != 0)) ) {
 			_errHandler.recoverInline(this);
@@ -2440,14 +2933,14 @@ public class SQLParser extends Parser {
 		int _parentState = getState();
 		ExpressionContext _localctx = new ExpressionContext(_ctx, _parentState);
 		ExpressionContext _prevctx = _localctx;
-		int _startState = 60;
-		enterRecursionRule(_localctx, 60, RULE_expression, _p);
+		int _startState = 70;
+		enterRecursionRule(_localctx, 70, RULE_expression, _p);
 		int _la;
 		try {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(376);
+			setState(462);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case K_NULL:
@@ -2455,17 +2948,17 @@ public class SQLParser extends Parser {
 			case NUMERIC_LITERAL:
 			case STRING_LITERAL:
 				{
-				setState(371);
+				setState(457);
 				comparer();
 				}
 				break;
 			case T__1:
 				{
-				setState(372);
+				setState(458);
 				match(T__1);
-				setState(373);
+				setState(459);
 				expression(0);
-				setState(374);
+				setState(460);
 				match(T__3);
 				}
 				break;
@@ -2473,24 +2966,24 @@ public class SQLParser extends Parser {
 				throw new NoViableAltException(this);
 			}
 			_ctx.stop = _input.LT(-1);
-			setState(386);
+			setState(472);
 			_errHandler.sync(this);
-			_alt = getInterpreter().adaptivePredict(_input,31,_ctx);
+			_alt = getInterpreter().adaptivePredict(_input,40,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					if ( _parseListeners!=null ) triggerExitRuleEvent();
 					_prevctx = _localctx;
 					{
-					setState(384);
+					setState(470);
 					_errHandler.sync(this);
-					switch ( getInterpreter().adaptivePredict(_input,30,_ctx) ) {
+					switch ( getInterpreter().adaptivePredict(_input,39,_ctx) ) {
 					case 1:
 						{
 						_localctx = new ExpressionContext(_parentctx, _parentState);
 						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(378);
+						setState(464);
 						if (!(precpred(_ctx, 3))) throw new FailedPredicateException(this, "precpred(_ctx, 3)");
-						setState(379);
+						setState(465);
 						_la = _input.LA(1);
 						if ( !(_la==MUL || _la==DIV) ) {
 						_errHandler.recoverInline(this);
@@ -2500,7 +2993,7 @@ public class SQLParser extends Parser {
 							_errHandler.reportMatch(this);
 							consume();
 						}
-						setState(380);
+						setState(466);
 						expression(4);
 						}
 						break;
@@ -2508,9 +3001,9 @@ public class SQLParser extends Parser {
 						{
 						_localctx = new ExpressionContext(_parentctx, _parentState);
 						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(381);
+						setState(467);
 						if (!(precpred(_ctx, 2))) throw new FailedPredicateException(this, "precpred(_ctx, 2)");
-						setState(382);
+						setState(468);
 						_la = _input.LA(1);
 						if ( !(_la==ADD || _la==SUB) ) {
 						_errHandler.recoverInline(this);
@@ -2520,16 +3013,16 @@ public class SQLParser extends Parser {
 							_errHandler.reportMatch(this);
 							consume();
 						}
-						setState(383);
+						setState(469);
 						expression(3);
 						}
 						break;
 					}
 					} 
 				}
-				setState(388);
+				setState(474);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,31,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,40,_ctx);
 			}
 			}
 		}
@@ -2574,36 +3067,36 @@ public class SQLParser extends Parser {
 
 	public final Table_constraintContext table_constraint() throws RecognitionException {
 		Table_constraintContext _localctx = new Table_constraintContext(_ctx, getState());
-		enterRule(_localctx, 62, RULE_table_constraint);
+		enterRule(_localctx, 72, RULE_table_constraint);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(389);
+			setState(475);
 			match(K_PRIMARY);
-			setState(390);
+			setState(476);
 			match(K_KEY);
-			setState(391);
+			setState(477);
 			match(T__1);
-			setState(392);
+			setState(478);
 			column_name();
-			setState(397);
+			setState(483);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==T__2) {
 				{
 				{
-				setState(393);
+				setState(479);
 				match(T__2);
-				setState(394);
+				setState(480);
 				column_name();
 				}
 				}
-				setState(399);
+				setState(485);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(400);
+			setState(486);
 			match(T__3);
 			}
 		}
@@ -2626,6 +3119,9 @@ public class SQLParser extends Parser {
 		public Column_full_nameContext column_full_name() {
 			return getRuleContext(Column_full_nameContext.class,0);
 		}
+		public AggregateContext aggregate() {
+			return getRuleContext(AggregateContext.class,0);
+		}
 		public Result_columnContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -2647,36 +3143,111 @@ public class SQLParser extends Parser {
 
 	public final Result_columnContext result_column() throws RecognitionException {
 		Result_columnContext _localctx = new Result_columnContext(_ctx, getState());
-		enterRule(_localctx, 64, RULE_result_column);
+		enterRule(_localctx, 74, RULE_result_column);
 		try {
-			setState(408);
+			setState(495);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,33,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,42,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(402);
+				setState(488);
 				match(MUL);
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(403);
+				setState(489);
 				table_name();
-				setState(404);
+				setState(490);
 				match(T__4);
-				setState(405);
+				setState(491);
 				match(MUL);
 				}
 				break;
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(407);
+				setState(493);
+				column_full_name();
+				}
+				break;
+			case 4:
+				enterOuterAlt(_localctx, 4);
+				{
+				setState(494);
+				aggregate();
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class AggregateContext extends ParserRuleContext {
+		public TerminalNode IDENTIFIER() { return getToken(SQLParser.IDENTIFIER, 0); }
+		public TerminalNode MUL() { return getToken(SQLParser.MUL, 0); }
+		public Column_full_nameContext column_full_name() {
+			return getRuleContext(Column_full_nameContext.class,0);
+		}
+		public AggregateContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_aggregate; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLListener ) ((SQLListener)listener).enterAggregate(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLListener ) ((SQLListener)listener).exitAggregate(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SQLVisitor ) return ((SQLVisitor<? extends T>)visitor).visitAggregate(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final AggregateContext aggregate() throws RecognitionException {
+		AggregateContext _localctx = new AggregateContext(_ctx, getState());
+		enterRule(_localctx, 76, RULE_aggregate);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(497);
+			match(IDENTIFIER);
+			setState(498);
+			match(T__1);
+			setState(501);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case MUL:
+				{
+				setState(499);
+				match(MUL);
+				}
+				break;
+			case IDENTIFIER:
+				{
+				setState(500);
 				column_full_name();
 				}
 				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+			setState(503);
+			match(T__3);
 			}
 		}
 		catch (RecognitionException re) {
@@ -2726,48 +3297,48 @@ public class SQLParser extends Parser {
 
 	public final Table_queryContext table_query() throws RecognitionException {
 		Table_queryContext _localctx = new Table_queryContext(_ctx, getState());
-		enterRule(_localctx, 66, RULE_table_query);
+		enterRule(_localctx, 78, RULE_table_query);
 		int _la;
 		try {
-			setState(422);
+			setState(517);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,36,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,46,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(410);
+				setState(505);
 				table_name();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(411);
+				setState(506);
 				table_name();
-				setState(414); 
+				setState(509); 
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				do {
 					{
 					{
-					setState(412);
+					setState(507);
 					match(K_JOIN);
-					setState(413);
+					setState(508);
 					table_name();
 					}
 					}
-					setState(416); 
+					setState(511); 
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				} while ( _la==K_JOIN );
-				setState(420);
+				setState(515);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if (_la==K_ON) {
 					{
-					setState(418);
+					setState(513);
 					match(K_ON);
-					setState(419);
+					setState(514);
 					multiple_condition(0);
 					}
 				}
@@ -2814,14 +3385,14 @@ public class SQLParser extends Parser {
 
 	public final Auth_levelContext auth_level() throws RecognitionException {
 		Auth_levelContext _localctx = new Auth_levelContext(_ctx, getState());
-		enterRule(_localctx, 68, RULE_auth_level);
+		enterRule(_localctx, 80, RULE_auth_level);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(424);
+			setState(519);
 			_la = _input.LA(1);
-			if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << K_DELETE) | (1L << K_DROP) | (1L << K_INSERT) | (1L << K_SELECT) | (1L << K_UPDATE))) != 0)) ) {
+			if ( !(((((_la - 35)) & ~0x3f) == 0 && ((1L << (_la - 35)) & ((1L << (K_DELETE - 35)) | (1L << (K_DROP - 35)) | (1L << (K_INSERT - 35)) | (1L << (K_SELECT - 35)) | (1L << (K_UPDATE - 35)))) != 0)) ) {
 			_errHandler.recoverInline(this);
 			}
 			else {
@@ -2867,14 +3438,14 @@ public class SQLParser extends Parser {
 
 	public final Literal_valueContext literal_value() throws RecognitionException {
 		Literal_valueContext _localctx = new Literal_valueContext(_ctx, getState());
-		enterRule(_localctx, 70, RULE_literal_value);
+		enterRule(_localctx, 82, RULE_literal_value);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(426);
+			setState(521);
 			_la = _input.LA(1);
-			if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << K_NULL) | (1L << NUMERIC_LITERAL) | (1L << STRING_LITERAL))) != 0)) ) {
+			if ( !(((((_la - 52)) & ~0x3f) == 0 && ((1L << (_la - 52)) & ((1L << (K_NULL - 52)) | (1L << (NUMERIC_LITERAL - 52)) | (1L << (STRING_LITERAL - 52)))) != 0)) ) {
 			_errHandler.recoverInline(this);
 			}
 			else {
@@ -2923,23 +3494,23 @@ public class SQLParser extends Parser {
 
 	public final Column_full_nameContext column_full_name() throws RecognitionException {
 		Column_full_nameContext _localctx = new Column_full_nameContext(_ctx, getState());
-		enterRule(_localctx, 72, RULE_column_full_name);
+		enterRule(_localctx, 84, RULE_column_full_name);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(431);
+			setState(526);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,37,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,47,_ctx) ) {
 			case 1:
 				{
-				setState(428);
+				setState(523);
 				table_name();
-				setState(429);
+				setState(524);
 				match(T__4);
 				}
 				break;
 			}
-			setState(433);
+			setState(528);
 			column_name();
 			}
 		}
@@ -2977,11 +3548,11 @@ public class SQLParser extends Parser {
 
 	public final Database_nameContext database_name() throws RecognitionException {
 		Database_nameContext _localctx = new Database_nameContext(_ctx, getState());
-		enterRule(_localctx, 74, RULE_database_name);
+		enterRule(_localctx, 86, RULE_database_name);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(435);
+			setState(530);
 			match(IDENTIFIER);
 			}
 		}
@@ -3019,11 +3590,11 @@ public class SQLParser extends Parser {
 
 	public final Table_nameContext table_name() throws RecognitionException {
 		Table_nameContext _localctx = new Table_nameContext(_ctx, getState());
-		enterRule(_localctx, 76, RULE_table_name);
+		enterRule(_localctx, 88, RULE_table_name);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(437);
+			setState(532);
 			match(IDENTIFIER);
 			}
 		}
@@ -3061,11 +3632,11 @@ public class SQLParser extends Parser {
 
 	public final User_nameContext user_name() throws RecognitionException {
 		User_nameContext _localctx = new User_nameContext(_ctx, getState());
-		enterRule(_localctx, 78, RULE_user_name);
+		enterRule(_localctx, 90, RULE_user_name);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(439);
+			setState(534);
 			match(IDENTIFIER);
 			}
 		}
@@ -3103,11 +3674,11 @@ public class SQLParser extends Parser {
 
 	public final Column_nameContext column_name() throws RecognitionException {
 		Column_nameContext _localctx = new Column_nameContext(_ctx, getState());
-		enterRule(_localctx, 80, RULE_column_name);
+		enterRule(_localctx, 92, RULE_column_name);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(441);
+			setState(536);
 			match(IDENTIFIER);
 			}
 		}
@@ -3145,11 +3716,53 @@ public class SQLParser extends Parser {
 
 	public final View_nameContext view_name() throws RecognitionException {
 		View_nameContext _localctx = new View_nameContext(_ctx, getState());
-		enterRule(_localctx, 82, RULE_view_name);
+		enterRule(_localctx, 94, RULE_view_name);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(443);
+			setState(538);
+			match(IDENTIFIER);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Index_nameContext extends ParserRuleContext {
+		public TerminalNode IDENTIFIER() { return getToken(SQLParser.IDENTIFIER, 0); }
+		public Index_nameContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_index_name; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLListener ) ((SQLListener)listener).enterIndex_name(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLListener ) ((SQLListener)listener).exitIndex_name(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SQLVisitor ) return ((SQLVisitor<? extends T>)visitor).visitIndex_name(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Index_nameContext index_name() throws RecognitionException {
+		Index_nameContext _localctx = new Index_nameContext(_ctx, getState());
+		enterRule(_localctx, 96, RULE_index_name);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(540);
 			match(IDENTIFIER);
 			}
 		}
@@ -3187,11 +3800,11 @@ public class SQLParser extends Parser {
 
 	public final PasswordContext password() throws RecognitionException {
 		PasswordContext _localctx = new PasswordContext(_ctx, getState());
-		enterRule(_localctx, 84, RULE_password);
+		enterRule(_localctx, 98, RULE_password);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(445);
+			setState(542);
 			match(STRING_LITERAL);
 			}
 		}
@@ -3208,9 +3821,9 @@ public class SQLParser extends Parser {
 
 	public boolean sempred(RuleContext _localctx, int ruleIndex, int predIndex) {
 		switch (ruleIndex) {
-		case 26:
+		case 31:
 			return multiple_condition_sempred((Multiple_conditionContext)_localctx, predIndex);
-		case 30:
+		case 35:
 			return expression_sempred((ExpressionContext)_localctx, predIndex);
 		}
 		return true;
@@ -3235,7 +3848,7 @@ public class SQLParser extends Parser {
 	}
 
 	public static final String _serializedATN =
-		"\u0004\u0001B\u01c0\u0002\u0000\u0007\u0000\u0002\u0001\u0007\u0001\u0002"+
+		"\u0004\u0001M\u0221\u0002\u0000\u0007\u0000\u0002\u0001\u0007\u0001\u0002"+
 		"\u0002\u0007\u0002\u0002\u0003\u0007\u0003\u0002\u0004\u0007\u0004\u0002"+
 		"\u0005\u0007\u0005\u0002\u0006\u0007\u0006\u0002\u0007\u0007\u0007\u0002"+
 		"\b\u0007\b\u0002\t\u0007\t\u0002\n\u0007\n\u0002\u000b\u0007\u000b\u0002"+
@@ -3247,276 +3860,338 @@ public class SQLParser extends Parser {
 		"\u0002\u001c\u0007\u001c\u0002\u001d\u0007\u001d\u0002\u001e\u0007\u001e"+
 		"\u0002\u001f\u0007\u001f\u0002 \u0007 \u0002!\u0007!\u0002\"\u0007\"\u0002"+
 		"#\u0007#\u0002$\u0007$\u0002%\u0007%\u0002&\u0007&\u0002\'\u0007\'\u0002"+
-		"(\u0007(\u0002)\u0007)\u0002*\u0007*\u0001\u0000\u0001\u0000\u0001\u0001"+
-		"\u0005\u0001Z\b\u0001\n\u0001\f\u0001]\t\u0001\u0001\u0001\u0001\u0001"+
-		"\u0004\u0001a\b\u0001\u000b\u0001\f\u0001b\u0001\u0001\u0005\u0001f\b"+
-		"\u0001\n\u0001\f\u0001i\t\u0001\u0001\u0001\u0005\u0001l\b\u0001\n\u0001"+
-		"\f\u0001o\t\u0001\u0001\u0002\u0001\u0002\u0001\u0002\u0001\u0002\u0001"+
-		"\u0002\u0001\u0002\u0001\u0002\u0001\u0002\u0001\u0002\u0001\u0002\u0001"+
-		"\u0002\u0001\u0002\u0001\u0002\u0001\u0002\u0001\u0002\u0001\u0002\u0001"+
-		"\u0002\u0001\u0002\u0001\u0002\u0003\u0002\u0084\b\u0002\u0001\u0003\u0001"+
-		"\u0003\u0001\u0003\u0001\u0003\u0001\u0004\u0001\u0004\u0001\u0004\u0001"+
-		"\u0004\u0003\u0004\u008e\b\u0004\u0001\u0004\u0001\u0004\u0001\u0005\u0001"+
-		"\u0005\u0001\u0005\u0001\u0005\u0001\u0005\u0001\u0005\u0001\u0005\u0001"+
-		"\u0006\u0001\u0006\u0001\u0006\u0001\u0006\u0003\u0006\u009d\b\u0006\u0001"+
-		"\u0006\u0001\u0006\u0001\u0007\u0001\u0007\u0001\u0007\u0001\u0007\u0001"+
-		"\u0007\u0001\u0007\u0001\u0007\u0005\u0007\u00a8\b\u0007\n\u0007\f\u0007"+
-		"\u00ab\t\u0007\u0001\u0007\u0001\u0007\u0003\u0007\u00af\b\u0007\u0001"+
-		"\u0007\u0001\u0007\u0001\b\u0001\b\u0001\b\u0001\b\u0001\t\u0001\t\u0001"+
-		"\t\u0001\t\u0005\t\u00bb\b\t\n\t\f\t\u00be\t\t\u0001\t\u0001\t\u0001\t"+
-		"\u0001\t\u0001\t\u0001\n\u0001\n\u0001\n\u0001\n\u0005\n\u00c9\b\n\n\n"+
-		"\f\n\u00cc\t\n\u0001\n\u0001\n\u0001\n\u0001\n\u0001\n\u0001\u000b\u0001"+
-		"\u000b\u0001\u000b\u0001\f\u0001\f\u0001\f\u0001\f\u0001\f\u0003\f\u00db"+
-		"\b\f\u0001\r\u0001\r\u0001\r\u0001\r\u0003\r\u00e1\b\r\u0001\r\u0001\r"+
-		"\u0001\u000e\u0001\u000e\u0001\u000e\u0001\u000f\u0001\u000f\u0001\u0010"+
-		"\u0001\u0010\u0001\u0010\u0001\u0010\u0001\u0011\u0001\u0011\u0001\u0011"+
-		"\u0001\u0011\u0001\u0011\u0001\u0011\u0001\u0011\u0005\u0011\u00f5\b\u0011"+
-		"\n\u0011\f\u0011\u00f8\t\u0011\u0001\u0011\u0001\u0011\u0003\u0011\u00fc"+
-		"\b\u0011\u0001\u0011\u0001\u0011\u0001\u0011\u0001\u0011\u0005\u0011\u0102"+
-		"\b\u0011\n\u0011\f\u0011\u0105\t\u0011\u0001\u0012\u0001\u0012\u0001\u0012"+
-		"\u0001\u0012\u0005\u0012\u010b\b\u0012\n\u0012\f\u0012\u010e\t\u0012\u0001"+
-		"\u0012\u0001\u0012\u0001\u0013\u0001\u0013\u0003\u0013\u0114\b\u0013\u0001"+
-		"\u0013\u0001\u0013\u0001\u0013\u0005\u0013\u0119\b\u0013\n\u0013\f\u0013"+
-		"\u011c\t\u0013\u0001\u0013\u0001\u0013\u0001\u0013\u0001\u0013\u0005\u0013"+
-		"\u0122\b\u0013\n\u0013\f\u0013\u0125\t\u0013\u0001\u0013\u0001\u0013\u0003"+
-		"\u0013\u0129\b\u0013\u0001\u0014\u0001\u0014\u0001\u0014\u0001\u0014\u0001"+
-		"\u0014\u0001\u0014\u0001\u0015\u0001\u0015\u0001\u0015\u0001\u0015\u0003"+
-		"\u0015\u0135\b\u0015\u0001\u0015\u0001\u0015\u0001\u0016\u0001\u0016\u0001"+
-		"\u0016\u0001\u0016\u0001\u0016\u0001\u0016\u0001\u0016\u0001\u0016\u0003"+
-		"\u0016\u0141\b\u0016\u0001\u0017\u0001\u0017\u0001\u0017\u0005\u0017\u0146"+
-		"\b\u0017\n\u0017\f\u0017\u0149\t\u0017\u0001\u0018\u0001\u0018\u0001\u0018"+
-		"\u0001\u0018\u0001\u0018\u0001\u0018\u0001\u0018\u0001\u0018\u0003\u0018"+
-		"\u0153\b\u0018\u0001\u0019\u0001\u0019\u0001\u0019\u0001\u0019\u0003\u0019"+
-		"\u0159\b\u0019\u0001\u001a\u0001\u001a\u0001\u001a\u0001\u001a\u0001\u001a"+
-		"\u0001\u001a\u0001\u001a\u0001\u001a\u0001\u001a\u0005\u001a\u0164\b\u001a"+
-		"\n\u001a\f\u001a\u0167\t\u001a\u0001\u001b\u0001\u001b\u0001\u001b\u0001"+
-		"\u001b\u0001\u001c\u0001\u001c\u0003\u001c\u016f\b\u001c\u0001\u001d\u0001"+
-		"\u001d\u0001\u001e\u0001\u001e\u0001\u001e\u0001\u001e\u0001\u001e\u0001"+
-		"\u001e\u0003\u001e\u0179\b\u001e\u0001\u001e\u0001\u001e\u0001\u001e\u0001"+
-		"\u001e\u0001\u001e\u0001\u001e\u0005\u001e\u0181\b\u001e\n\u001e\f\u001e"+
-		"\u0184\t\u001e\u0001\u001f\u0001\u001f\u0001\u001f\u0001\u001f\u0001\u001f"+
-		"\u0001\u001f\u0005\u001f\u018c\b\u001f\n\u001f\f\u001f\u018f\t\u001f\u0001"+
-		"\u001f\u0001\u001f\u0001 \u0001 \u0001 \u0001 \u0001 \u0001 \u0003 \u0199"+
-		"\b \u0001!\u0001!\u0001!\u0001!\u0004!\u019f\b!\u000b!\f!\u01a0\u0001"+
-		"!\u0001!\u0003!\u01a5\b!\u0003!\u01a7\b!\u0001\"\u0001\"\u0001#\u0001"+
-		"#\u0001$\u0001$\u0001$\u0003$\u01b0\b$\u0001$\u0001$\u0001%\u0001%\u0001"+
-		"&\u0001&\u0001\'\u0001\'\u0001(\u0001(\u0001)\u0001)\u0001*\u0001*\u0001"+
-		"*\u0000\u00024<+\u0000\u0002\u0004\u0006\b\n\f\u000e\u0010\u0012\u0014"+
-		"\u0016\u0018\u001a\u001c\u001e \"$&(*,.02468:<>@BDFHJLNPRT\u0000\u0006"+
-		"\u0002\u0000\u0018\u0018  \u0001\u0000\u0006\u000b\u0001\u0000\u000e\u000f"+
-		"\u0001\u0000\f\r\u0005\u0000\u001f\u001f!!\'\'1166\u0003\u0000,,==??\u01cf"+
-		"\u0000V\u0001\u0000\u0000\u0000\u0002[\u0001\u0000\u0000\u0000\u0004\u0083"+
-		"\u0001\u0000\u0000\u0000\u0006\u0085\u0001\u0000\u0000\u0000\b\u0089\u0001"+
-		"\u0000\u0000\u0000\n\u0091\u0001\u0000\u0000\u0000\f\u0098\u0001\u0000"+
-		"\u0000\u0000\u000e\u00a0\u0001\u0000\u0000\u0000\u0010\u00b2\u0001\u0000"+
-		"\u0000\u0000\u0012\u00b6\u0001\u0000\u0000\u0000\u0014\u00c4\u0001\u0000"+
-		"\u0000\u0000\u0016\u00d2\u0001\u0000\u0000\u0000\u0018\u00d5\u0001\u0000"+
-		"\u0000\u0000\u001a\u00dc\u0001\u0000\u0000\u0000\u001c\u00e4\u0001\u0000"+
-		"\u0000\u0000\u001e\u00e7\u0001\u0000\u0000\u0000 \u00e9\u0001\u0000\u0000"+
-		"\u0000\"\u00ed\u0001\u0000\u0000\u0000$\u0106\u0001\u0000\u0000\u0000"+
-		"&\u0111\u0001\u0000\u0000\u0000(\u012a\u0001\u0000\u0000\u0000*\u0130"+
-		"\u0001\u0000\u0000\u0000,\u0138\u0001\u0000\u0000\u0000.\u0142\u0001\u0000"+
-		"\u0000\u00000\u0152\u0001\u0000\u0000\u00002\u0158\u0001\u0000\u0000\u0000"+
-		"4\u015a\u0001\u0000\u0000\u00006\u0168\u0001\u0000\u0000\u00008\u016e"+
-		"\u0001\u0000\u0000\u0000:\u0170\u0001\u0000\u0000\u0000<\u0178\u0001\u0000"+
-		"\u0000\u0000>\u0185\u0001\u0000\u0000\u0000@\u0198\u0001\u0000\u0000\u0000"+
-		"B\u01a6\u0001\u0000\u0000\u0000D\u01a8\u0001\u0000\u0000\u0000F\u01aa"+
-		"\u0001\u0000\u0000\u0000H\u01af\u0001\u0000\u0000\u0000J\u01b3\u0001\u0000"+
-		"\u0000\u0000L\u01b5\u0001\u0000\u0000\u0000N\u01b7\u0001\u0000\u0000\u0000"+
-		"P\u01b9\u0001\u0000\u0000\u0000R\u01bb\u0001\u0000\u0000\u0000T\u01bd"+
-		"\u0001\u0000\u0000\u0000VW\u0003\u0002\u0001\u0000W\u0001\u0001\u0000"+
-		"\u0000\u0000XZ\u0005\u0001\u0000\u0000YX\u0001\u0000\u0000\u0000Z]\u0001"+
-		"\u0000\u0000\u0000[Y\u0001\u0000\u0000\u0000[\\\u0001\u0000\u0000\u0000"+
-		"\\^\u0001\u0000\u0000\u0000][\u0001\u0000\u0000\u0000^g\u0003\u0004\u0002"+
-		"\u0000_a\u0005\u0001\u0000\u0000`_\u0001\u0000\u0000\u0000ab\u0001\u0000"+
-		"\u0000\u0000b`\u0001\u0000\u0000\u0000bc\u0001\u0000\u0000\u0000cd\u0001"+
-		"\u0000\u0000\u0000df\u0003\u0004\u0002\u0000e`\u0001\u0000\u0000\u0000"+
-		"fi\u0001\u0000\u0000\u0000ge\u0001\u0000\u0000\u0000gh\u0001\u0000\u0000"+
-		"\u0000hm\u0001\u0000\u0000\u0000ig\u0001\u0000\u0000\u0000jl\u0005\u0001"+
-		"\u0000\u0000kj\u0001\u0000\u0000\u0000lo\u0001\u0000\u0000\u0000mk\u0001"+
-		"\u0000\u0000\u0000mn\u0001\u0000\u0000\u0000n\u0003\u0001\u0000\u0000"+
-		"\u0000om\u0001\u0000\u0000\u0000p\u0084\u0003\u000e\u0007\u0000q\u0084"+
-		"\u0003\u0006\u0003\u0000r\u0084\u0003\n\u0005\u0000s\u0084\u0003\b\u0004"+
-		"\u0000t\u0084\u0003\f\u0006\u0000u\u0084\u0003\u0018\f\u0000v\u0084\u0003"+
-		"\u001a\r\u0000w\u0084\u0003\"\u0011\u0000x\u0084\u0003&\u0013\u0000y\u0084"+
-		"\u0003(\u0014\u0000z\u0084\u0003*\u0015\u0000{\u0084\u0003\u0012\t\u0000"+
-		"|\u0084\u0003\u0014\n\u0000}\u0084\u0003\u0016\u000b\u0000~\u0084\u0003"+
-		"\u001c\u000e\u0000\u007f\u0084\u0003 \u0010\u0000\u0080\u0084\u0003\u0010"+
-		"\b\u0000\u0081\u0084\u0003\u001e\u000f\u0000\u0082\u0084\u0003,\u0016"+
-		"\u0000\u0083p\u0001\u0000\u0000\u0000\u0083q\u0001\u0000\u0000\u0000\u0083"+
-		"r\u0001\u0000\u0000\u0000\u0083s\u0001\u0000\u0000\u0000\u0083t\u0001"+
-		"\u0000\u0000\u0000\u0083u\u0001\u0000\u0000\u0000\u0083v\u0001\u0000\u0000"+
-		"\u0000\u0083w\u0001\u0000\u0000\u0000\u0083x\u0001\u0000\u0000\u0000\u0083"+
-		"y\u0001\u0000\u0000\u0000\u0083z\u0001\u0000\u0000\u0000\u0083{\u0001"+
-		"\u0000\u0000\u0000\u0083|\u0001\u0000\u0000\u0000\u0083}\u0001\u0000\u0000"+
-		"\u0000\u0083~\u0001\u0000\u0000\u0000\u0083\u007f\u0001\u0000\u0000\u0000"+
-		"\u0083\u0080\u0001\u0000\u0000\u0000\u0083\u0081\u0001\u0000\u0000\u0000"+
-		"\u0083\u0082\u0001\u0000\u0000\u0000\u0084\u0005\u0001\u0000\u0000\u0000"+
-		"\u0085\u0086\u0005\u001c\u0000\u0000\u0086\u0087\u0005\u001d\u0000\u0000"+
-		"\u0087\u0088\u0003J%\u0000\u0088\u0007\u0001\u0000\u0000\u0000\u0089\u008a"+
-		"\u0005!\u0000\u0000\u008a\u008d\u0005\u001d\u0000\u0000\u008b\u008c\u0005"+
-		"%\u0000\u0000\u008c\u008e\u0005\"\u0000\u0000\u008d\u008b\u0001\u0000"+
-		"\u0000\u0000\u008d\u008e\u0001\u0000\u0000\u0000\u008e\u008f\u0001\u0000"+
-		"\u0000\u0000\u008f\u0090\u0003J%\u0000\u0090\t\u0001\u0000\u0000\u0000"+
-		"\u0091\u0092\u0005\u001c\u0000\u0000\u0092\u0093\u00058\u0000\u0000\u0093"+
-		"\u0094\u0003N\'\u0000\u0094\u0095\u0005&\u0000\u0000\u0095\u0096\u0005"+
-		"\u001a\u0000\u0000\u0096\u0097\u0003T*\u0000\u0097\u000b\u0001\u0000\u0000"+
-		"\u0000\u0098\u0099\u0005!\u0000\u0000\u0099\u009c\u00058\u0000\u0000\u009a"+
-		"\u009b\u0005%\u0000\u0000\u009b\u009d\u0005\"\u0000\u0000\u009c\u009a"+
-		"\u0001\u0000\u0000\u0000\u009c\u009d\u0001\u0000\u0000\u0000\u009d\u009e"+
-		"\u0001\u0000\u0000\u0000\u009e\u009f\u0003N\'\u0000\u009f\r\u0001\u0000"+
-		"\u0000\u0000\u00a0\u00a1\u0005\u001c\u0000\u0000\u00a1\u00a2\u00054\u0000"+
-		"\u0000\u00a2\u00a3\u0003L&\u0000\u00a3\u00a4\u0005\u0002\u0000\u0000\u00a4"+
-		"\u00a9\u0003.\u0017\u0000\u00a5\u00a6\u0005\u0003\u0000\u0000\u00a6\u00a8"+
-		"\u0003.\u0017\u0000\u00a7\u00a5\u0001\u0000\u0000\u0000\u00a8\u00ab\u0001"+
-		"\u0000\u0000\u0000\u00a9\u00a7\u0001\u0000\u0000\u0000\u00a9\u00aa\u0001"+
-		"\u0000\u0000\u0000\u00aa\u00ae\u0001\u0000\u0000\u0000\u00ab\u00a9\u0001"+
-		"\u0000\u0000\u0000\u00ac\u00ad\u0005\u0003\u0000\u0000\u00ad\u00af\u0003"+
-		">\u001f\u0000\u00ae\u00ac\u0001\u0000\u0000\u0000\u00ae\u00af\u0001\u0000"+
-		"\u0000\u0000\u00af\u00b0\u0001\u0000\u0000\u0000\u00b0\u00b1\u0005\u0004"+
-		"\u0000\u0000\u00b1\u000f\u0001\u0000\u0000\u0000\u00b2\u00b3\u00053\u0000"+
-		"\u0000\u00b3\u00b4\u00054\u0000\u0000\u00b4\u00b5\u0003L&\u0000\u00b5"+
-		"\u0011\u0001\u0000\u0000\u0000\u00b6\u00b7\u0005$\u0000\u0000\u00b7\u00bc"+
-		"\u0003D\"\u0000\u00b8\u00b9\u0005\u0003\u0000\u0000\u00b9\u00bb\u0003"+
-		"D\"\u0000\u00ba\u00b8\u0001\u0000\u0000\u0000\u00bb\u00be\u0001\u0000"+
-		"\u0000\u0000\u00bc\u00ba\u0001\u0000\u0000\u0000\u00bc\u00bd\u0001\u0000"+
-		"\u0000\u0000\u00bd\u00bf\u0001\u0000\u0000\u0000\u00be\u00bc\u0001\u0000"+
-		"\u0000\u0000\u00bf\u00c0\u0005-\u0000\u0000\u00c0\u00c1\u0003L&\u0000"+
-		"\u00c1\u00c2\u00055\u0000\u0000\u00c2\u00c3\u0003N\'\u0000\u00c3\u0013"+
-		"\u0001\u0000\u0000\u0000\u00c4\u00c5\u00050\u0000\u0000\u00c5\u00ca\u0003"+
-		"D\"\u0000\u00c6\u00c7\u0005\u0003\u0000\u0000\u00c7\u00c9\u0003D\"\u0000"+
-		"\u00c8\u00c6\u0001\u0000\u0000\u0000\u00c9\u00cc\u0001\u0000\u0000\u0000"+
-		"\u00ca\u00c8\u0001\u0000\u0000\u0000\u00ca\u00cb\u0001\u0000\u0000\u0000"+
-		"\u00cb\u00cd\u0001\u0000\u0000\u0000\u00cc\u00ca\u0001\u0000\u0000\u0000"+
-		"\u00cd\u00ce\u0005-\u0000\u0000\u00ce\u00cf\u0003L&\u0000\u00cf\u00d0"+
-		"\u0005#\u0000\u0000\u00d0\u00d1\u0003N\'\u0000\u00d1\u0015\u0001\u0000"+
-		"\u0000\u0000\u00d2\u00d3\u00057\u0000\u0000\u00d3\u00d4\u0003J%\u0000"+
-		"\u00d4\u0017\u0001\u0000\u0000\u0000\u00d5\u00d6\u0005\u001f\u0000\u0000"+
-		"\u00d6\u00d7\u0005#\u0000\u0000\u00d7\u00da\u0003L&\u0000\u00d8\u00d9"+
-		"\u0005;\u0000\u0000\u00d9\u00db\u00034\u001a\u0000\u00da\u00d8\u0001\u0000"+
-		"\u0000\u0000\u00da\u00db\u0001\u0000\u0000\u0000\u00db\u0019\u0001\u0000"+
-		"\u0000\u0000\u00dc\u00dd\u0005!\u0000\u0000\u00dd\u00e0\u00054\u0000\u0000"+
-		"\u00de\u00df\u0005%\u0000\u0000\u00df\u00e1\u0005\"\u0000\u0000\u00e0"+
-		"\u00de\u0001\u0000\u0000\u0000\u00e0\u00e1\u0001\u0000\u0000\u0000\u00e1"+
-		"\u00e2\u0001\u0000\u0000\u0000\u00e2\u00e3\u0003L&\u0000\u00e3\u001b\u0001"+
-		"\u0000\u0000\u0000\u00e4\u00e5\u00053\u0000\u0000\u00e5\u00e6\u0005\u001e"+
-		"\u0000\u0000\u00e6\u001d\u0001\u0000\u0000\u0000\u00e7\u00e8\u0005/\u0000"+
-		"\u0000\u00e8\u001f\u0001\u0000\u0000\u0000\u00e9\u00ea\u00053\u0000\u0000"+
-		"\u00ea\u00eb\u0005\u001d\u0000\u0000\u00eb\u00ec\u0003J%\u0000\u00ec!"+
-		"\u0001\u0000\u0000\u0000\u00ed\u00ee\u0005\'\u0000\u0000\u00ee\u00ef\u0005"+
-		"(\u0000\u0000\u00ef\u00fb\u0003L&\u0000\u00f0\u00f1\u0005\u0002\u0000"+
-		"\u0000\u00f1\u00f6\u0003P(\u0000\u00f2\u00f3\u0005\u0003\u0000\u0000\u00f3"+
-		"\u00f5\u0003P(\u0000\u00f4\u00f2\u0001\u0000\u0000\u0000\u00f5\u00f8\u0001"+
-		"\u0000\u0000\u0000\u00f6\u00f4\u0001\u0000\u0000\u0000\u00f6\u00f7\u0001"+
-		"\u0000\u0000\u0000\u00f7\u00f9\u0001\u0000\u0000\u0000\u00f8\u00f6\u0001"+
-		"\u0000\u0000\u0000\u00f9\u00fa\u0005\u0004\u0000\u0000\u00fa\u00fc\u0001"+
-		"\u0000\u0000\u0000\u00fb\u00f0\u0001\u0000\u0000\u0000\u00fb\u00fc\u0001"+
-		"\u0000\u0000\u0000\u00fc\u00fd\u0001\u0000\u0000\u0000\u00fd\u00fe\u0005"+
-		"9\u0000\u0000\u00fe\u0103\u0003$\u0012\u0000\u00ff\u0100\u0005\u0003\u0000"+
-		"\u0000\u0100\u0102\u0003$\u0012\u0000\u0101\u00ff\u0001\u0000\u0000\u0000"+
-		"\u0102\u0105\u0001\u0000\u0000\u0000\u0103\u0101\u0001\u0000\u0000\u0000"+
-		"\u0103\u0104\u0001\u0000\u0000\u0000\u0104#\u0001\u0000\u0000\u0000\u0105"+
-		"\u0103\u0001\u0000\u0000\u0000\u0106\u0107\u0005\u0002\u0000\u0000\u0107"+
-		"\u010c\u0003F#\u0000\u0108\u0109\u0005\u0003\u0000\u0000\u0109\u010b\u0003"+
-		"F#\u0000\u010a\u0108\u0001\u0000\u0000\u0000\u010b\u010e\u0001\u0000\u0000"+
-		"\u0000\u010c\u010a\u0001\u0000\u0000\u0000\u010c\u010d\u0001\u0000\u0000"+
-		"\u0000\u010d\u010f\u0001\u0000\u0000\u0000\u010e\u010c\u0001\u0000\u0000"+
-		"\u0000\u010f\u0110\u0005\u0004\u0000\u0000\u0110%\u0001\u0000\u0000\u0000"+
-		"\u0111\u0113\u00051\u0000\u0000\u0112\u0114\u0007\u0000\u0000\u0000\u0113"+
-		"\u0112\u0001\u0000\u0000\u0000\u0113\u0114\u0001\u0000\u0000\u0000\u0114"+
-		"\u0115\u0001\u0000\u0000\u0000\u0115\u011a\u0003@ \u0000\u0116\u0117\u0005"+
-		"\u0003\u0000\u0000\u0117\u0119\u0003@ \u0000\u0118\u0116\u0001\u0000\u0000"+
-		"\u0000\u0119\u011c\u0001\u0000\u0000\u0000\u011a\u0118\u0001\u0000\u0000"+
-		"\u0000\u011a\u011b\u0001\u0000\u0000\u0000\u011b\u011d\u0001\u0000\u0000"+
-		"\u0000\u011c\u011a\u0001\u0000\u0000\u0000\u011d\u011e\u0005#\u0000\u0000"+
-		"\u011e\u0123\u0003B!\u0000\u011f\u0120\u0005\u0003\u0000\u0000\u0120\u0122"+
-		"\u0003B!\u0000\u0121\u011f\u0001\u0000\u0000\u0000\u0122\u0125\u0001\u0000"+
-		"\u0000\u0000\u0123\u0121\u0001\u0000\u0000\u0000\u0123\u0124\u0001\u0000"+
-		"\u0000\u0000\u0124\u0128\u0001\u0000\u0000\u0000\u0125\u0123\u0001\u0000"+
-		"\u0000\u0000\u0126\u0127\u0005;\u0000\u0000\u0127\u0129\u00034\u001a\u0000"+
-		"\u0128\u0126\u0001\u0000\u0000\u0000\u0128\u0129\u0001\u0000\u0000\u0000"+
-		"\u0129\'\u0001\u0000\u0000\u0000\u012a\u012b\u0005\u001c\u0000\u0000\u012b"+
-		"\u012c\u0005:\u0000\u0000\u012c\u012d\u0003R)\u0000\u012d\u012e\u0005"+
-		"\u0019\u0000\u0000\u012e\u012f\u0003&\u0013\u0000\u012f)\u0001\u0000\u0000"+
-		"\u0000\u0130\u0131\u0005!\u0000\u0000\u0131\u0134\u0005:\u0000\u0000\u0132"+
-		"\u0133\u0005%\u0000\u0000\u0133\u0135\u0005\"\u0000\u0000\u0134\u0132"+
-		"\u0001\u0000\u0000\u0000\u0134\u0135\u0001\u0000\u0000\u0000\u0135\u0136"+
-		"\u0001\u0000\u0000\u0000\u0136\u0137\u0003R)\u0000\u0137+\u0001\u0000"+
-		"\u0000\u0000\u0138\u0139\u00056\u0000\u0000\u0139\u013a\u0003L&\u0000"+
-		"\u013a\u013b\u00052\u0000\u0000\u013b\u013c\u0003P(\u0000\u013c\u013d"+
-		"\u0005\u0006\u0000\u0000\u013d\u0140\u0003<\u001e\u0000\u013e\u013f\u0005"+
-		";\u0000\u0000\u013f\u0141\u00034\u001a\u0000\u0140\u013e\u0001\u0000\u0000"+
-		"\u0000\u0140\u0141\u0001\u0000\u0000\u0000\u0141-\u0001\u0000\u0000\u0000"+
-		"\u0142\u0143\u0003P(\u0000\u0143\u0147\u00030\u0018\u0000\u0144\u0146"+
-		"\u00032\u0019\u0000\u0145\u0144\u0001\u0000\u0000\u0000\u0146\u0149\u0001"+
-		"\u0000\u0000\u0000\u0147\u0145\u0001\u0000\u0000\u0000\u0147\u0148\u0001"+
-		"\u0000\u0000\u0000\u0148/\u0001\u0000\u0000\u0000\u0149\u0147\u0001\u0000"+
-		"\u0000\u0000\u014a\u0153\u0005\u0012\u0000\u0000\u014b\u0153\u0005\u0013"+
-		"\u0000\u0000\u014c\u0153\u0005\u0014\u0000\u0000\u014d\u0153\u0005\u0015"+
-		"\u0000\u0000\u014e\u014f\u0005\u0016\u0000\u0000\u014f\u0150\u0005\u0002"+
-		"\u0000\u0000\u0150\u0151\u0005=\u0000\u0000\u0151\u0153\u0005\u0004\u0000"+
-		"\u0000\u0152\u014a\u0001\u0000\u0000\u0000\u0152\u014b\u0001\u0000\u0000"+
-		"\u0000\u0152\u014c\u0001\u0000\u0000\u0000\u0152\u014d\u0001\u0000\u0000"+
-		"\u0000\u0152\u014e\u0001\u0000\u0000\u0000\u01531\u0001\u0000\u0000\u0000"+
-		"\u0154\u0155\u0005.\u0000\u0000\u0155\u0159\u0005*\u0000\u0000\u0156\u0157"+
-		"\u0005+\u0000\u0000\u0157\u0159\u0005,\u0000\u0000\u0158\u0154\u0001\u0000"+
-		"\u0000\u0000\u0158\u0156\u0001\u0000\u0000\u0000\u01593\u0001\u0000\u0000"+
-		"\u0000\u015a\u015b\u0006\u001a\uffff\uffff\u0000\u015b\u015c\u00036\u001b"+
-		"\u0000\u015c\u0165\u0001\u0000\u0000\u0000\u015d\u015e\n\u0002\u0000\u0000"+
-		"\u015e\u015f\u0005\u0010\u0000\u0000\u015f\u0164\u00034\u001a\u0003\u0160"+
-		"\u0161\n\u0001\u0000\u0000\u0161\u0162\u0005\u0011\u0000\u0000\u0162\u0164"+
-		"\u00034\u001a\u0002\u0163\u015d\u0001\u0000\u0000\u0000\u0163\u0160\u0001"+
-		"\u0000\u0000\u0000\u0164\u0167\u0001\u0000\u0000\u0000\u0165\u0163\u0001"+
-		"\u0000\u0000\u0000\u0165\u0166\u0001\u0000\u0000\u0000\u01665\u0001\u0000"+
-		"\u0000\u0000\u0167\u0165\u0001\u0000\u0000\u0000\u0168\u0169\u0003<\u001e"+
-		"\u0000\u0169\u016a\u0003:\u001d\u0000\u016a\u016b\u0003<\u001e\u0000\u016b"+
-		"7\u0001\u0000\u0000\u0000\u016c\u016f\u0003H$\u0000\u016d\u016f\u0003"+
-		"F#\u0000\u016e\u016c\u0001\u0000\u0000\u0000\u016e\u016d\u0001\u0000\u0000"+
-		"\u0000\u016f9\u0001\u0000\u0000\u0000\u0170\u0171\u0007\u0001\u0000\u0000"+
-		"\u0171;\u0001\u0000\u0000\u0000\u0172\u0173\u0006\u001e\uffff\uffff\u0000"+
-		"\u0173\u0179\u00038\u001c\u0000\u0174\u0175\u0005\u0002\u0000\u0000\u0175"+
-		"\u0176\u0003<\u001e\u0000\u0176\u0177\u0005\u0004\u0000\u0000\u0177\u0179"+
-		"\u0001\u0000\u0000\u0000\u0178\u0172\u0001\u0000\u0000\u0000\u0178\u0174"+
-		"\u0001\u0000\u0000\u0000\u0179\u0182\u0001\u0000\u0000\u0000\u017a\u017b"+
-		"\n\u0003\u0000\u0000\u017b\u017c\u0007\u0002\u0000\u0000\u017c\u0181\u0003"+
-		"<\u001e\u0004\u017d\u017e\n\u0002\u0000\u0000\u017e\u017f\u0007\u0003"+
-		"\u0000\u0000\u017f\u0181\u0003<\u001e\u0003\u0180\u017a\u0001\u0000\u0000"+
-		"\u0000\u0180\u017d\u0001\u0000\u0000\u0000\u0181\u0184\u0001\u0000\u0000"+
-		"\u0000\u0182\u0180\u0001\u0000\u0000\u0000\u0182\u0183\u0001\u0000\u0000"+
-		"\u0000\u0183=\u0001\u0000\u0000\u0000\u0184\u0182\u0001\u0000\u0000\u0000"+
-		"\u0185\u0186\u0005.\u0000\u0000\u0186\u0187\u0005*\u0000\u0000\u0187\u0188"+
-		"\u0005\u0002\u0000\u0000\u0188\u018d\u0003P(\u0000\u0189\u018a\u0005\u0003"+
-		"\u0000\u0000\u018a\u018c\u0003P(\u0000\u018b\u0189\u0001\u0000\u0000\u0000"+
-		"\u018c\u018f\u0001\u0000\u0000\u0000\u018d\u018b\u0001\u0000\u0000\u0000"+
-		"\u018d\u018e\u0001\u0000\u0000\u0000\u018e\u0190\u0001\u0000\u0000\u0000"+
-		"\u018f\u018d\u0001\u0000\u0000\u0000\u0190\u0191\u0005\u0004\u0000\u0000"+
-		"\u0191?\u0001\u0000\u0000\u0000\u0192\u0199\u0005\u000e\u0000\u0000\u0193"+
-		"\u0194\u0003L&\u0000\u0194\u0195\u0005\u0005\u0000\u0000\u0195\u0196\u0005"+
-		"\u000e\u0000\u0000\u0196\u0199\u0001\u0000\u0000\u0000\u0197\u0199\u0003"+
-		"H$\u0000\u0198\u0192\u0001\u0000\u0000\u0000\u0198\u0193\u0001\u0000\u0000"+
-		"\u0000\u0198\u0197\u0001\u0000\u0000\u0000\u0199A\u0001\u0000\u0000\u0000"+
-		"\u019a\u01a7\u0003L&\u0000\u019b\u019e\u0003L&\u0000\u019c\u019d\u0005"+
-		")\u0000\u0000\u019d\u019f\u0003L&\u0000\u019e\u019c\u0001\u0000\u0000"+
-		"\u0000\u019f\u01a0\u0001\u0000\u0000\u0000\u01a0\u019e\u0001\u0000\u0000"+
-		"\u0000\u01a0\u01a1\u0001\u0000\u0000\u0000\u01a1\u01a4\u0001\u0000\u0000"+
-		"\u0000\u01a2\u01a3\u0005-\u0000\u0000\u01a3\u01a5\u00034\u001a\u0000\u01a4"+
-		"\u01a2\u0001\u0000\u0000\u0000\u01a4\u01a5\u0001\u0000\u0000\u0000\u01a5"+
-		"\u01a7\u0001\u0000\u0000\u0000\u01a6\u019a\u0001\u0000\u0000\u0000\u01a6"+
-		"\u019b\u0001\u0000\u0000\u0000\u01a7C\u0001\u0000\u0000\u0000\u01a8\u01a9"+
-		"\u0007\u0004\u0000\u0000\u01a9E\u0001\u0000\u0000\u0000\u01aa\u01ab\u0007"+
-		"\u0005\u0000\u0000\u01abG\u0001\u0000\u0000\u0000\u01ac\u01ad\u0003L&"+
-		"\u0000\u01ad\u01ae\u0005\u0005\u0000\u0000\u01ae\u01b0\u0001\u0000\u0000"+
-		"\u0000\u01af\u01ac\u0001\u0000\u0000\u0000\u01af\u01b0\u0001\u0000\u0000"+
-		"\u0000\u01b0\u01b1\u0001\u0000\u0000\u0000\u01b1\u01b2\u0003P(\u0000\u01b2"+
-		"I\u0001\u0000\u0000\u0000\u01b3\u01b4\u0005<\u0000\u0000\u01b4K\u0001"+
-		"\u0000\u0000\u0000\u01b5\u01b6\u0005<\u0000\u0000\u01b6M\u0001\u0000\u0000"+
-		"\u0000\u01b7\u01b8\u0005<\u0000\u0000\u01b8O\u0001\u0000\u0000\u0000\u01b9"+
-		"\u01ba\u0005<\u0000\u0000\u01baQ\u0001\u0000\u0000\u0000\u01bb\u01bc\u0005"+
-		"<\u0000\u0000\u01bcS\u0001\u0000\u0000\u0000\u01bd\u01be\u0005?\u0000"+
-		"\u0000\u01beU\u0001\u0000\u0000\u0000&[bgm\u0083\u008d\u009c\u00a9\u00ae"+
-		"\u00bc\u00ca\u00da\u00e0\u00f6\u00fb\u0103\u010c\u0113\u011a\u0123\u0128"+
-		"\u0134\u0140\u0147\u0152\u0158\u0163\u0165\u016e\u0178\u0180\u0182\u018d"+
-		"\u0198\u01a0\u01a4\u01a6\u01af";
+		"(\u0007(\u0002)\u0007)\u0002*\u0007*\u0002+\u0007+\u0002,\u0007,\u0002"+
+		"-\u0007-\u0002.\u0007.\u0002/\u0007/\u00020\u00070\u00021\u00071\u0001"+
+		"\u0000\u0001\u0000\u0001\u0001\u0005\u0001h\b\u0001\n\u0001\f\u0001k\t"+
+		"\u0001\u0001\u0001\u0001\u0001\u0004\u0001o\b\u0001\u000b\u0001\f\u0001"+
+		"p\u0001\u0001\u0005\u0001t\b\u0001\n\u0001\f\u0001w\t\u0001\u0001\u0001"+
+		"\u0005\u0001z\b\u0001\n\u0001\f\u0001}\t\u0001\u0001\u0002\u0001\u0002"+
+		"\u0001\u0002\u0001\u0002\u0001\u0002\u0001\u0002\u0001\u0002\u0001\u0002"+
+		"\u0001\u0002\u0001\u0002\u0001\u0002\u0001\u0002\u0001\u0002\u0001\u0002"+
+		"\u0001\u0002\u0001\u0002\u0001\u0002\u0001\u0002\u0001\u0002\u0001\u0002"+
+		"\u0001\u0002\u0001\u0002\u0001\u0002\u0003\u0002\u0096\b\u0002\u0001\u0003"+
+		"\u0001\u0003\u0001\u0003\u0001\u0003\u0001\u0004\u0001\u0004\u0001\u0004"+
+		"\u0001\u0004\u0003\u0004\u00a0\b\u0004\u0001\u0004\u0001\u0004\u0001\u0005"+
+		"\u0001\u0005\u0001\u0005\u0001\u0005\u0001\u0005\u0001\u0005\u0001\u0005"+
+		"\u0001\u0006\u0001\u0006\u0001\u0006\u0001\u0006\u0003\u0006\u00af\b\u0006"+
+		"\u0001\u0006\u0001\u0006\u0001\u0007\u0001\u0007\u0001\u0007\u0001\u0007"+
+		"\u0001\u0007\u0001\u0007\u0001\u0007\u0005\u0007\u00ba\b\u0007\n\u0007"+
+		"\f\u0007\u00bd\t\u0007\u0001\u0007\u0001\u0007\u0003\u0007\u00c1\b\u0007"+
+		"\u0001\u0007\u0001\u0007\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001"+
+		"\b\u0001\b\u0001\b\u0001\b\u0001\t\u0001\t\u0001\t\u0001\t\u0003\t\u00d2"+
+		"\b\t\u0001\t\u0001\t\u0001\t\u0001\t\u0001\n\u0001\n\u0001\n\u0001\n\u0001"+
+		"\u000b\u0001\u000b\u0001\u000b\u0001\f\u0001\f\u0001\f\u0001\f\u0001\f"+
+		"\u0001\f\u0001\f\u0001\r\u0001\r\u0001\r\u0001\r\u0005\r\u00ea\b\r\n\r"+
+		"\f\r\u00ed\t\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001\u000e\u0001"+
+		"\u000e\u0001\u000e\u0001\u000e\u0005\u000e\u00f8\b\u000e\n\u000e\f\u000e"+
+		"\u00fb\t\u000e\u0001\u000e\u0001\u000e\u0001\u000e\u0001\u000e\u0001\u000e"+
+		"\u0001\u000f\u0001\u000f\u0001\u000f\u0001\u0010\u0001\u0010\u0001\u0010"+
+		"\u0001\u0010\u0001\u0010\u0003\u0010\u010a\b\u0010\u0001\u0011\u0001\u0011"+
+		"\u0001\u0011\u0001\u0011\u0003\u0011\u0110\b\u0011\u0001\u0011\u0001\u0011"+
+		"\u0001\u0012\u0001\u0012\u0001\u0012\u0001\u0013\u0001\u0013\u0001\u0014"+
+		"\u0001\u0014\u0001\u0014\u0001\u0014\u0001\u0015\u0001\u0015\u0001\u0015"+
+		"\u0001\u0015\u0001\u0015\u0001\u0015\u0001\u0015\u0005\u0015\u0124\b\u0015"+
+		"\n\u0015\f\u0015\u0127\t\u0015\u0001\u0015\u0001\u0015\u0003\u0015\u012b"+
+		"\b\u0015\u0001\u0015\u0001\u0015\u0001\u0015\u0001\u0015\u0005\u0015\u0131"+
+		"\b\u0015\n\u0015\f\u0015\u0134\t\u0015\u0001\u0016\u0001\u0016\u0001\u0016"+
+		"\u0001\u0016\u0005\u0016\u013a\b\u0016\n\u0016\f\u0016\u013d\t\u0016\u0001"+
+		"\u0016\u0001\u0016\u0001\u0017\u0001\u0017\u0003\u0017\u0143\b\u0017\u0001"+
+		"\u0017\u0001\u0017\u0001\u0017\u0005\u0017\u0148\b\u0017\n\u0017\f\u0017"+
+		"\u014b\t\u0017\u0001\u0017\u0001\u0017\u0001\u0017\u0001\u0017\u0005\u0017"+
+		"\u0151\b\u0017\n\u0017\f\u0017\u0154\t\u0017\u0001\u0017\u0001\u0017\u0003"+
+		"\u0017\u0158\b\u0017\u0001\u0017\u0001\u0017\u0001\u0017\u0001\u0017\u0001"+
+		"\u0017\u0005\u0017\u015f\b\u0017\n\u0017\f\u0017\u0162\t\u0017\u0003\u0017"+
+		"\u0164\b\u0017\u0001\u0017\u0001\u0017\u0001\u0017\u0001\u0017\u0001\u0017"+
+		"\u0005\u0017\u016b\b\u0017\n\u0017\f\u0017\u016e\t\u0017\u0003\u0017\u0170"+
+		"\b\u0017\u0001\u0017\u0001\u0017\u0001\u0017\u0001\u0017\u0003\u0017\u0176"+
+		"\b\u0017\u0003\u0017\u0178\b\u0017\u0001\u0018\u0001\u0018\u0003\u0018"+
+		"\u017c\b\u0018\u0001\u0018\u0003\u0018\u017f\b\u0018\u0001\u0019\u0001"+
+		"\u0019\u0001\u0019\u0001\u0019\u0001\u0019\u0001\u0019\u0001\u001a\u0001"+
+		"\u001a\u0001\u001a\u0001\u001a\u0003\u001a\u018b\b\u001a\u0001\u001a\u0001"+
+		"\u001a\u0001\u001b\u0001\u001b\u0001\u001b\u0001\u001b\u0001\u001b\u0001"+
+		"\u001b\u0001\u001b\u0001\u001b\u0003\u001b\u0197\b\u001b\u0001\u001c\u0001"+
+		"\u001c\u0001\u001c\u0005\u001c\u019c\b\u001c\n\u001c\f\u001c\u019f\t\u001c"+
+		"\u0001\u001d\u0001\u001d\u0001\u001d\u0001\u001d\u0001\u001d\u0001\u001d"+
+		"\u0001\u001d\u0001\u001d\u0003\u001d\u01a9\b\u001d\u0001\u001e\u0001\u001e"+
+		"\u0001\u001e\u0001\u001e\u0003\u001e\u01af\b\u001e\u0001\u001f\u0001\u001f"+
+		"\u0001\u001f\u0001\u001f\u0001\u001f\u0001\u001f\u0001\u001f\u0001\u001f"+
+		"\u0001\u001f\u0005\u001f\u01ba\b\u001f\n\u001f\f\u001f\u01bd\t\u001f\u0001"+
+		" \u0001 \u0001 \u0001 \u0001!\u0001!\u0003!\u01c5\b!\u0001\"\u0001\"\u0001"+
+		"#\u0001#\u0001#\u0001#\u0001#\u0001#\u0003#\u01cf\b#\u0001#\u0001#\u0001"+
+		"#\u0001#\u0001#\u0001#\u0005#\u01d7\b#\n#\f#\u01da\t#\u0001$\u0001$\u0001"+
+		"$\u0001$\u0001$\u0001$\u0005$\u01e2\b$\n$\f$\u01e5\t$\u0001$\u0001$\u0001"+
+		"%\u0001%\u0001%\u0001%\u0001%\u0001%\u0001%\u0003%\u01f0\b%\u0001&\u0001"+
+		"&\u0001&\u0001&\u0003&\u01f6\b&\u0001&\u0001&\u0001\'\u0001\'\u0001\'"+
+		"\u0001\'\u0004\'\u01fe\b\'\u000b\'\f\'\u01ff\u0001\'\u0001\'\u0003\'\u0204"+
+		"\b\'\u0003\'\u0206\b\'\u0001(\u0001(\u0001)\u0001)\u0001*\u0001*\u0001"+
+		"*\u0003*\u020f\b*\u0001*\u0001*\u0001+\u0001+\u0001,\u0001,\u0001-\u0001"+
+		"-\u0001.\u0001.\u0001/\u0001/\u00010\u00010\u00011\u00011\u00011\u0000"+
+		"\u0002>F2\u0000\u0002\u0004\u0006\b\n\f\u000e\u0010\u0012\u0014\u0016"+
+		"\u0018\u001a\u001c\u001e \"$&(*,.02468:<>@BDFHJLNPRTVXZ\\^`b\u0000\b\u0002"+
+		"\u00005577\u0002\u0000\u0018\u0018%%\u0002\u0000\u001c\u001c$$\u0001\u0000"+
+		"\u0006\u000b\u0001\u0000\u000e\u000f\u0001\u0000\f\r\u0005\u0000##&&."+
+		".<<AA\u0003\u000044HHJJ\u0238\u0000d\u0001\u0000\u0000\u0000\u0002i\u0001"+
+		"\u0000\u0000\u0000\u0004\u0095\u0001\u0000\u0000\u0000\u0006\u0097\u0001"+
+		"\u0000\u0000\u0000\b\u009b\u0001\u0000\u0000\u0000\n\u00a3\u0001\u0000"+
+		"\u0000\u0000\f\u00aa\u0001\u0000\u0000\u0000\u000e\u00b2\u0001\u0000\u0000"+
+		"\u0000\u0010\u00c4\u0001\u0000\u0000\u0000\u0012\u00cd\u0001\u0000\u0000"+
+		"\u0000\u0014\u00d7\u0001\u0000\u0000\u0000\u0016\u00db\u0001\u0000\u0000"+
+		"\u0000\u0018\u00de\u0001\u0000\u0000\u0000\u001a\u00e5\u0001\u0000\u0000"+
+		"\u0000\u001c\u00f3\u0001\u0000\u0000\u0000\u001e\u0101\u0001\u0000\u0000"+
+		"\u0000 \u0104\u0001\u0000\u0000\u0000\"\u010b\u0001\u0000\u0000\u0000"+
+		"$\u0113\u0001\u0000\u0000\u0000&\u0116\u0001\u0000\u0000\u0000(\u0118"+
+		"\u0001\u0000\u0000\u0000*\u011c\u0001\u0000\u0000\u0000,\u0135\u0001\u0000"+
+		"\u0000\u0000.\u0140\u0001\u0000\u0000\u00000\u017b\u0001\u0000\u0000\u0000"+
+		"2\u0180\u0001\u0000\u0000\u00004\u0186\u0001\u0000\u0000\u00006\u018e"+
+		"\u0001\u0000\u0000\u00008\u0198\u0001\u0000\u0000\u0000:\u01a8\u0001\u0000"+
+		"\u0000\u0000<\u01ae\u0001\u0000\u0000\u0000>\u01b0\u0001\u0000\u0000\u0000"+
+		"@\u01be\u0001\u0000\u0000\u0000B\u01c4\u0001\u0000\u0000\u0000D\u01c6"+
+		"\u0001\u0000\u0000\u0000F\u01ce\u0001\u0000\u0000\u0000H\u01db\u0001\u0000"+
+		"\u0000\u0000J\u01ef\u0001\u0000\u0000\u0000L\u01f1\u0001\u0000\u0000\u0000"+
+		"N\u0205\u0001\u0000\u0000\u0000P\u0207\u0001\u0000\u0000\u0000R\u0209"+
+		"\u0001\u0000\u0000\u0000T\u020e\u0001\u0000\u0000\u0000V\u0212\u0001\u0000"+
+		"\u0000\u0000X\u0214\u0001\u0000\u0000\u0000Z\u0216\u0001\u0000\u0000\u0000"+
+		"\\\u0218\u0001\u0000\u0000\u0000^\u021a\u0001\u0000\u0000\u0000`\u021c"+
+		"\u0001\u0000\u0000\u0000b\u021e\u0001\u0000\u0000\u0000de\u0003\u0002"+
+		"\u0001\u0000e\u0001\u0001\u0000\u0000\u0000fh\u0005\u0001\u0000\u0000"+
+		"gf\u0001\u0000\u0000\u0000hk\u0001\u0000\u0000\u0000ig\u0001\u0000\u0000"+
+		"\u0000ij\u0001\u0000\u0000\u0000jl\u0001\u0000\u0000\u0000ki\u0001\u0000"+
+		"\u0000\u0000lu\u0003\u0004\u0002\u0000mo\u0005\u0001\u0000\u0000nm\u0001"+
+		"\u0000\u0000\u0000op\u0001\u0000\u0000\u0000pn\u0001\u0000\u0000\u0000"+
+		"pq\u0001\u0000\u0000\u0000qr\u0001\u0000\u0000\u0000rt\u0003\u0004\u0002"+
+		"\u0000sn\u0001\u0000\u0000\u0000tw\u0001\u0000\u0000\u0000us\u0001\u0000"+
+		"\u0000\u0000uv\u0001\u0000\u0000\u0000v{\u0001\u0000\u0000\u0000wu\u0001"+
+		"\u0000\u0000\u0000xz\u0005\u0001\u0000\u0000yx\u0001\u0000\u0000\u0000"+
+		"z}\u0001\u0000\u0000\u0000{y\u0001\u0000\u0000\u0000{|\u0001\u0000\u0000"+
+		"\u0000|\u0003\u0001\u0000\u0000\u0000}{\u0001\u0000\u0000\u0000~\u0096"+
+		"\u0003\u000e\u0007\u0000\u007f\u0096\u0003\u0006\u0003\u0000\u0080\u0096"+
+		"\u0003\n\u0005\u0000\u0081\u0096\u0003\b\u0004\u0000\u0082\u0096\u0003"+
+		"\f\u0006\u0000\u0083\u0096\u0003 \u0010\u0000\u0084\u0096\u0003\"\u0011"+
+		"\u0000\u0085\u0096\u0003\u0010\b\u0000\u0086\u0096\u0003\u0012\t\u0000"+
+		"\u0087\u0096\u0003*\u0015\u0000\u0088\u0096\u0003.\u0017\u0000\u0089\u0096"+
+		"\u00032\u0019\u0000\u008a\u0096\u00034\u001a\u0000\u008b\u0096\u0003\u001a"+
+		"\r\u0000\u008c\u0096\u0003\u001c\u000e\u0000\u008d\u0096\u0003\u001e\u000f"+
+		"\u0000\u008e\u0096\u0003$\u0012\u0000\u008f\u0096\u0003(\u0014\u0000\u0090"+
+		"\u0096\u0003\u0014\n\u0000\u0091\u0096\u0003\u0016\u000b\u0000\u0092\u0096"+
+		"\u0003\u0018\f\u0000\u0093\u0096\u0003&\u0013\u0000\u0094\u0096\u0003"+
+		"6\u001b\u0000\u0095~\u0001\u0000\u0000\u0000\u0095\u007f\u0001\u0000\u0000"+
+		"\u0000\u0095\u0080\u0001\u0000\u0000\u0000\u0095\u0081\u0001\u0000\u0000"+
+		"\u0000\u0095\u0082\u0001\u0000\u0000\u0000\u0095\u0083\u0001\u0000\u0000"+
+		"\u0000\u0095\u0084\u0001\u0000\u0000\u0000\u0095\u0085\u0001\u0000\u0000"+
+		"\u0000\u0095\u0086\u0001\u0000\u0000\u0000\u0095\u0087\u0001\u0000\u0000"+
+		"\u0000\u0095\u0088\u0001\u0000\u0000\u0000\u0095\u0089\u0001\u0000\u0000"+
+		"\u0000\u0095\u008a\u0001\u0000\u0000\u0000\u0095\u008b\u0001\u0000\u0000"+
+		"\u0000\u0095\u008c\u0001\u0000\u0000\u0000\u0095\u008d\u0001\u0000\u0000"+
+		"\u0000\u0095\u008e\u0001\u0000\u0000\u0000\u0095\u008f\u0001\u0000\u0000"+
+		"\u0000\u0095\u0090\u0001\u0000\u0000\u0000\u0095\u0091\u0001\u0000\u0000"+
+		"\u0000\u0095\u0092\u0001\u0000\u0000\u0000\u0095\u0093\u0001\u0000\u0000"+
+		"\u0000\u0095\u0094\u0001\u0000\u0000\u0000\u0096\u0005\u0001\u0000\u0000"+
+		"\u0000\u0097\u0098\u0005 \u0000\u0000\u0098\u0099\u0005!\u0000\u0000\u0099"+
+		"\u009a\u0003V+\u0000\u009a\u0007\u0001\u0000\u0000\u0000\u009b\u009c\u0005"+
+		"&\u0000\u0000\u009c\u009f\u0005!\u0000\u0000\u009d\u009e\u0005+\u0000"+
+		"\u0000\u009e\u00a0\u0005\'\u0000\u0000\u009f\u009d\u0001\u0000\u0000\u0000"+
+		"\u009f\u00a0\u0001\u0000\u0000\u0000\u00a0\u00a1\u0001\u0000\u0000\u0000"+
+		"\u00a1\u00a2\u0003V+\u0000\u00a2\t\u0001\u0000\u0000\u0000\u00a3\u00a4"+
+		"\u0005 \u0000\u0000\u00a4\u00a5\u0005C\u0000\u0000\u00a5\u00a6\u0003Z"+
+		"-\u0000\u00a6\u00a7\u0005,\u0000\u0000\u00a7\u00a8\u0005\u001d\u0000\u0000"+
+		"\u00a8\u00a9\u0003b1\u0000\u00a9\u000b\u0001\u0000\u0000\u0000\u00aa\u00ab"+
+		"\u0005&\u0000\u0000\u00ab\u00ae\u0005C\u0000\u0000\u00ac\u00ad\u0005+"+
+		"\u0000\u0000\u00ad\u00af\u0005\'\u0000\u0000\u00ae\u00ac\u0001\u0000\u0000"+
+		"\u0000\u00ae\u00af\u0001\u0000\u0000\u0000\u00af\u00b0\u0001\u0000\u0000"+
+		"\u0000\u00b0\u00b1\u0003Z-\u0000\u00b1\r\u0001\u0000\u0000\u0000\u00b2"+
+		"\u00b3\u0005 \u0000\u0000\u00b3\u00b4\u0005?\u0000\u0000\u00b4\u00b5\u0003"+
+		"X,\u0000\u00b5\u00b6\u0005\u0002\u0000\u0000\u00b6\u00bb\u00038\u001c"+
+		"\u0000\u00b7\u00b8\u0005\u0003\u0000\u0000\u00b8\u00ba\u00038\u001c\u0000"+
+		"\u00b9\u00b7\u0001\u0000\u0000\u0000\u00ba\u00bd\u0001\u0000\u0000\u0000"+
+		"\u00bb\u00b9\u0001\u0000\u0000\u0000\u00bb\u00bc\u0001\u0000\u0000\u0000"+
+		"\u00bc\u00c0\u0001\u0000\u0000\u0000\u00bd\u00bb\u0001\u0000\u0000\u0000"+
+		"\u00be\u00bf\u0005\u0003\u0000\u0000\u00bf\u00c1\u0003H$\u0000\u00c0\u00be"+
+		"\u0001\u0000\u0000\u0000\u00c0\u00c1\u0001\u0000\u0000\u0000\u00c1\u00c2"+
+		"\u0001\u0000\u0000\u0000\u00c2\u00c3\u0005\u0004\u0000\u0000\u00c3\u000f"+
+		"\u0001\u0000\u0000\u0000\u00c4\u00c5\u0005 \u0000\u0000\u00c5\u00c6\u0005"+
+		"-\u0000\u0000\u00c6\u00c7\u0003`0\u0000\u00c7\u00c8\u00057\u0000\u0000"+
+		"\u00c8\u00c9\u0003X,\u0000\u00c9\u00ca\u0005\u0002\u0000\u0000\u00ca\u00cb"+
+		"\u0003\\.\u0000\u00cb\u00cc\u0005\u0004\u0000\u0000\u00cc\u0011\u0001"+
+		"\u0000\u0000\u0000\u00cd\u00ce\u0005&\u0000\u0000\u00ce\u00d1\u0005-\u0000"+
+		"\u0000\u00cf\u00d0\u0005+\u0000\u0000\u00d0\u00d2\u0005\'\u0000\u0000"+
+		"\u00d1\u00cf\u0001\u0000\u0000\u0000\u00d1\u00d2\u0001\u0000\u0000\u0000"+
+		"\u00d2\u00d3\u0001\u0000\u0000\u0000\u00d3\u00d4\u0003`0\u0000\u00d4\u00d5"+
+		"\u00057\u0000\u0000\u00d5\u00d6\u0003X,\u0000\u00d6\u0013\u0001\u0000"+
+		"\u0000\u0000\u00d7\u00d8\u0005>\u0000\u0000\u00d8\u00d9\u0005?\u0000\u0000"+
+		"\u00d9\u00da\u0003X,\u0000\u00da\u0015\u0001\u0000\u0000\u0000\u00db\u00dc"+
+		"\u0005\u001a\u0000\u0000\u00dc\u00dd\u0003X,\u0000\u00dd\u0017\u0001\u0000"+
+		"\u0000\u0000\u00de\u00df\u0005\u0019\u0000\u0000\u00df\u00e0\u0005?\u0000"+
+		"\u0000\u00e0\u00e1\u0003X,\u0000\u00e1\u00e2\u0005=\u0000\u0000\u00e2"+
+		"\u00e3\u0005\u001f\u0000\u0000\u00e3\u00e4\u0007\u0000\u0000\u0000\u00e4"+
+		"\u0019\u0001\u0000\u0000\u0000\u00e5\u00e6\u0005)\u0000\u0000\u00e6\u00eb"+
+		"\u0003P(\u0000\u00e7\u00e8\u0005\u0003\u0000\u0000\u00e8\u00ea\u0003P"+
+		"(\u0000\u00e9\u00e7\u0001\u0000\u0000\u0000\u00ea\u00ed\u0001\u0000\u0000"+
+		"\u0000\u00eb\u00e9\u0001\u0000\u0000\u0000\u00eb\u00ec\u0001\u0000\u0000"+
+		"\u0000\u00ec\u00ee\u0001\u0000\u0000\u0000\u00ed\u00eb\u0001\u0000\u0000"+
+		"\u0000\u00ee\u00ef\u00057\u0000\u0000\u00ef\u00f0\u0003X,\u0000\u00f0"+
+		"\u00f1\u0005@\u0000\u0000\u00f1\u00f2\u0003Z-\u0000\u00f2\u001b\u0001"+
+		"\u0000\u0000\u0000\u00f3\u00f4\u0005;\u0000\u0000\u00f4\u00f9\u0003P("+
+		"\u0000\u00f5\u00f6\u0005\u0003\u0000\u0000\u00f6\u00f8\u0003P(\u0000\u00f7"+
+		"\u00f5\u0001\u0000\u0000\u0000\u00f8\u00fb\u0001\u0000\u0000\u0000\u00f9"+
+		"\u00f7\u0001\u0000\u0000\u0000\u00f9\u00fa\u0001\u0000\u0000\u0000\u00fa"+
+		"\u00fc\u0001\u0000\u0000\u0000\u00fb\u00f9\u0001\u0000\u0000\u0000\u00fc"+
+		"\u00fd\u00057\u0000\u0000\u00fd\u00fe\u0003X,\u0000\u00fe\u00ff\u0005"+
+		"(\u0000\u0000\u00ff\u0100\u0003Z-\u0000\u0100\u001d\u0001\u0000\u0000"+
+		"\u0000\u0101\u0102\u0005B\u0000\u0000\u0102\u0103\u0003V+\u0000\u0103"+
+		"\u001f\u0001\u0000\u0000\u0000\u0104\u0105\u0005#\u0000\u0000\u0105\u0106"+
+		"\u0005(\u0000\u0000\u0106\u0109\u0003X,\u0000\u0107\u0108\u0005F\u0000"+
+		"\u0000\u0108\u010a\u0003>\u001f\u0000\u0109\u0107\u0001\u0000\u0000\u0000"+
+		"\u0109\u010a\u0001\u0000\u0000\u0000\u010a!\u0001\u0000\u0000\u0000\u010b"+
+		"\u010c\u0005&\u0000\u0000\u010c\u010f\u0005?\u0000\u0000\u010d\u010e\u0005"+
+		"+\u0000\u0000\u010e\u0110\u0005\'\u0000\u0000\u010f\u010d\u0001\u0000"+
+		"\u0000\u0000\u010f\u0110\u0001\u0000\u0000\u0000\u0110\u0111\u0001\u0000"+
+		"\u0000\u0000\u0111\u0112\u0003X,\u0000\u0112#\u0001\u0000\u0000\u0000"+
+		"\u0113\u0114\u0005>\u0000\u0000\u0114\u0115\u0005\"\u0000\u0000\u0115"+
+		"%\u0001\u0000\u0000\u0000\u0116\u0117\u0005:\u0000\u0000\u0117\'\u0001"+
+		"\u0000\u0000\u0000\u0118\u0119\u0005>\u0000\u0000\u0119\u011a\u0005!\u0000"+
+		"\u0000\u011a\u011b\u0003V+\u0000\u011b)\u0001\u0000\u0000\u0000\u011c"+
+		"\u011d\u0005.\u0000\u0000\u011d\u011e\u0005/\u0000\u0000\u011e\u012a\u0003"+
+		"X,\u0000\u011f\u0120\u0005\u0002\u0000\u0000\u0120\u0125\u0003\\.\u0000"+
+		"\u0121\u0122\u0005\u0003\u0000\u0000\u0122\u0124\u0003\\.\u0000\u0123"+
+		"\u0121\u0001\u0000\u0000\u0000\u0124\u0127\u0001\u0000\u0000\u0000\u0125"+
+		"\u0123\u0001\u0000\u0000\u0000\u0125\u0126\u0001\u0000\u0000\u0000\u0126"+
+		"\u0128\u0001\u0000\u0000\u0000\u0127\u0125\u0001\u0000\u0000\u0000\u0128"+
+		"\u0129\u0005\u0004\u0000\u0000\u0129\u012b\u0001\u0000\u0000\u0000\u012a"+
+		"\u011f\u0001\u0000\u0000\u0000\u012a\u012b\u0001\u0000\u0000\u0000\u012b"+
+		"\u012c\u0001\u0000\u0000\u0000\u012c\u012d\u0005D\u0000\u0000\u012d\u0132"+
+		"\u0003,\u0016\u0000\u012e\u012f\u0005\u0003\u0000\u0000\u012f\u0131\u0003"+
+		",\u0016\u0000\u0130\u012e\u0001\u0000\u0000\u0000\u0131\u0134\u0001\u0000"+
+		"\u0000\u0000\u0132\u0130\u0001\u0000\u0000\u0000\u0132\u0133\u0001\u0000"+
+		"\u0000\u0000\u0133+\u0001\u0000\u0000\u0000\u0134\u0132\u0001\u0000\u0000"+
+		"\u0000\u0135\u0136\u0005\u0002\u0000\u0000\u0136\u013b\u0003R)\u0000\u0137"+
+		"\u0138\u0005\u0003\u0000\u0000\u0138\u013a\u0003R)\u0000\u0139\u0137\u0001"+
+		"\u0000\u0000\u0000\u013a\u013d\u0001\u0000\u0000\u0000\u013b\u0139\u0001"+
+		"\u0000\u0000\u0000\u013b\u013c\u0001\u0000\u0000\u0000\u013c\u013e\u0001"+
+		"\u0000\u0000\u0000\u013d\u013b\u0001\u0000\u0000\u0000\u013e\u013f\u0005"+
+		"\u0004\u0000\u0000\u013f-\u0001\u0000\u0000\u0000\u0140\u0142\u0005<\u0000"+
+		"\u0000\u0141\u0143\u0007\u0001\u0000\u0000\u0142\u0141\u0001\u0000\u0000"+
+		"\u0000\u0142\u0143\u0001\u0000\u0000\u0000\u0143\u0144\u0001\u0000\u0000"+
+		"\u0000\u0144\u0149\u0003J%\u0000\u0145\u0146\u0005\u0003\u0000\u0000\u0146"+
+		"\u0148\u0003J%\u0000\u0147\u0145\u0001\u0000\u0000\u0000\u0148\u014b\u0001"+
+		"\u0000\u0000\u0000\u0149\u0147\u0001\u0000\u0000\u0000\u0149\u014a\u0001"+
+		"\u0000\u0000\u0000\u014a\u014c\u0001\u0000\u0000\u0000\u014b\u0149\u0001"+
+		"\u0000\u0000\u0000\u014c\u014d\u0005(\u0000\u0000\u014d\u0152\u0003N\'"+
+		"\u0000\u014e\u014f\u0005\u0003\u0000\u0000\u014f\u0151\u0003N\'\u0000"+
+		"\u0150\u014e\u0001\u0000\u0000\u0000\u0151\u0154\u0001\u0000\u0000\u0000"+
+		"\u0152\u0150\u0001\u0000\u0000\u0000\u0152\u0153\u0001\u0000\u0000\u0000"+
+		"\u0153\u0157\u0001\u0000\u0000\u0000\u0154\u0152\u0001\u0000\u0000\u0000"+
+		"\u0155\u0156\u0005F\u0000\u0000\u0156\u0158\u0003>\u001f\u0000\u0157\u0155"+
+		"\u0001\u0000\u0000\u0000\u0157\u0158\u0001\u0000\u0000\u0000\u0158\u0163"+
+		"\u0001\u0000\u0000\u0000\u0159\u015a\u0005*\u0000\u0000\u015a\u015b\u0005"+
+		"\u001d\u0000\u0000\u015b\u0160\u0003T*\u0000\u015c\u015d\u0005\u0003\u0000"+
+		"\u0000\u015d\u015f\u0003T*\u0000\u015e\u015c\u0001\u0000\u0000\u0000\u015f"+
+		"\u0162\u0001\u0000\u0000\u0000\u0160\u015e\u0001\u0000\u0000\u0000\u0160"+
+		"\u0161\u0001\u0000\u0000\u0000\u0161\u0164\u0001\u0000\u0000\u0000\u0162"+
+		"\u0160\u0001\u0000\u0000\u0000\u0163\u0159\u0001\u0000\u0000\u0000\u0163"+
+		"\u0164\u0001\u0000\u0000\u0000\u0164\u016f\u0001\u0000\u0000\u0000\u0165"+
+		"\u0166\u00058\u0000\u0000\u0166\u0167\u0005\u001d\u0000\u0000\u0167\u016c"+
+		"\u00030\u0018\u0000\u0168\u0169\u0005\u0003\u0000\u0000\u0169\u016b\u0003"+
+		"0\u0018\u0000\u016a\u0168\u0001\u0000\u0000\u0000\u016b\u016e\u0001\u0000"+
+		"\u0000\u0000\u016c\u016a\u0001\u0000\u0000\u0000\u016c\u016d\u0001\u0000"+
+		"\u0000\u0000\u016d\u0170\u0001\u0000\u0000\u0000\u016e\u016c\u0001\u0000"+
+		"\u0000\u0000\u016f\u0165\u0001\u0000\u0000\u0000\u016f\u0170\u0001\u0000"+
+		"\u0000\u0000\u0170\u0177\u0001\u0000\u0000\u0000\u0171\u0172\u00052\u0000"+
+		"\u0000\u0172\u0175\u0005H\u0000\u0000\u0173\u0174\u00056\u0000\u0000\u0174"+
+		"\u0176\u0005H\u0000\u0000\u0175\u0173\u0001\u0000\u0000\u0000\u0175\u0176"+
+		"\u0001\u0000\u0000\u0000\u0176\u0178\u0001\u0000\u0000\u0000\u0177\u0171"+
+		"\u0001\u0000\u0000\u0000\u0177\u0178\u0001\u0000\u0000\u0000\u0178/\u0001"+
+		"\u0000\u0000\u0000\u0179\u017c\u0003T*\u0000\u017a\u017c\u0003L&\u0000"+
+		"\u017b\u0179\u0001\u0000\u0000\u0000\u017b\u017a\u0001\u0000\u0000\u0000"+
+		"\u017c\u017e\u0001\u0000\u0000\u0000\u017d\u017f\u0007\u0002\u0000\u0000"+
+		"\u017e\u017d\u0001\u0000\u0000\u0000\u017e\u017f\u0001\u0000\u0000\u0000"+
+		"\u017f1\u0001\u0000\u0000\u0000\u0180\u0181\u0005 \u0000\u0000\u0181\u0182"+
+		"\u0005E\u0000\u0000\u0182\u0183\u0003^/\u0000\u0183\u0184\u0005\u001b"+
+		"\u0000\u0000\u0184\u0185\u0003.\u0017\u0000\u01853\u0001\u0000\u0000\u0000"+
+		"\u0186\u0187\u0005&\u0000\u0000\u0187\u018a\u0005E\u0000\u0000\u0188\u0189"+
+		"\u0005+\u0000\u0000\u0189\u018b\u0005\'\u0000\u0000\u018a\u0188\u0001"+
+		"\u0000\u0000\u0000\u018a\u018b\u0001\u0000\u0000\u0000\u018b\u018c\u0001"+
+		"\u0000\u0000\u0000\u018c\u018d\u0003^/\u0000\u018d5\u0001\u0000\u0000"+
+		"\u0000\u018e\u018f\u0005A\u0000\u0000\u018f\u0190\u0003X,\u0000\u0190"+
+		"\u0191\u0005=\u0000\u0000\u0191\u0192\u0003\\.\u0000\u0192\u0193\u0005"+
+		"\u0006\u0000\u0000\u0193\u0196\u0003F#\u0000\u0194\u0195\u0005F\u0000"+
+		"\u0000\u0195\u0197\u0003>\u001f\u0000\u0196\u0194\u0001\u0000\u0000\u0000"+
+		"\u0196\u0197\u0001\u0000\u0000\u0000\u01977\u0001\u0000\u0000\u0000\u0198"+
+		"\u0199\u0003\\.\u0000\u0199\u019d\u0003:\u001d\u0000\u019a\u019c\u0003"+
+		"<\u001e\u0000\u019b\u019a\u0001\u0000\u0000\u0000\u019c\u019f\u0001\u0000"+
+		"\u0000\u0000\u019d\u019b\u0001\u0000\u0000\u0000\u019d\u019e\u0001\u0000"+
+		"\u0000\u0000\u019e9\u0001\u0000\u0000\u0000\u019f\u019d\u0001\u0000\u0000"+
+		"\u0000\u01a0\u01a9\u0005\u0012\u0000\u0000\u01a1\u01a9\u0005\u0013\u0000"+
+		"\u0000\u01a2\u01a9\u0005\u0014\u0000\u0000\u01a3\u01a9\u0005\u0015\u0000"+
+		"\u0000\u01a4\u01a5\u0005\u0016\u0000\u0000\u01a5\u01a6\u0005\u0002\u0000"+
+		"\u0000\u01a6\u01a7\u0005H\u0000\u0000\u01a7\u01a9\u0005\u0004\u0000\u0000"+
+		"\u01a8\u01a0\u0001\u0000\u0000\u0000\u01a8\u01a1\u0001\u0000\u0000\u0000"+
+		"\u01a8\u01a2\u0001\u0000\u0000\u0000\u01a8\u01a3\u0001\u0000\u0000\u0000"+
+		"\u01a8\u01a4\u0001\u0000\u0000\u0000\u01a9;\u0001\u0000\u0000\u0000\u01aa"+
+		"\u01ab\u00059\u0000\u0000\u01ab\u01af\u00051\u0000\u0000\u01ac\u01ad\u0005"+
+		"3\u0000\u0000\u01ad\u01af\u00054\u0000\u0000\u01ae\u01aa\u0001\u0000\u0000"+
+		"\u0000\u01ae\u01ac\u0001\u0000\u0000\u0000\u01af=\u0001\u0000\u0000\u0000"+
+		"\u01b0\u01b1\u0006\u001f\uffff\uffff\u0000\u01b1\u01b2\u0003@ \u0000\u01b2"+
+		"\u01bb\u0001\u0000\u0000\u0000\u01b3\u01b4\n\u0002\u0000\u0000\u01b4\u01b5"+
+		"\u0005\u0010\u0000\u0000\u01b5\u01ba\u0003>\u001f\u0003\u01b6\u01b7\n"+
+		"\u0001\u0000\u0000\u01b7\u01b8\u0005\u0011\u0000\u0000\u01b8\u01ba\u0003"+
+		">\u001f\u0002\u01b9\u01b3\u0001\u0000\u0000\u0000\u01b9\u01b6\u0001\u0000"+
+		"\u0000\u0000\u01ba\u01bd\u0001\u0000\u0000\u0000\u01bb\u01b9\u0001\u0000"+
+		"\u0000\u0000\u01bb\u01bc\u0001\u0000\u0000\u0000\u01bc?\u0001\u0000\u0000"+
+		"\u0000\u01bd\u01bb\u0001\u0000\u0000\u0000\u01be\u01bf\u0003F#\u0000\u01bf"+
+		"\u01c0\u0003D\"\u0000\u01c0\u01c1\u0003F#\u0000\u01c1A\u0001\u0000\u0000"+
+		"\u0000\u01c2\u01c5\u0003T*\u0000\u01c3\u01c5\u0003R)\u0000\u01c4\u01c2"+
+		"\u0001\u0000\u0000\u0000\u01c4\u01c3\u0001\u0000\u0000\u0000\u01c5C\u0001"+
+		"\u0000\u0000\u0000\u01c6\u01c7\u0007\u0003\u0000\u0000\u01c7E\u0001\u0000"+
+		"\u0000\u0000\u01c8\u01c9\u0006#\uffff\uffff\u0000\u01c9\u01cf\u0003B!"+
+		"\u0000\u01ca\u01cb\u0005\u0002\u0000\u0000\u01cb\u01cc\u0003F#\u0000\u01cc"+
+		"\u01cd\u0005\u0004\u0000\u0000\u01cd\u01cf\u0001\u0000\u0000\u0000\u01ce"+
+		"\u01c8\u0001\u0000\u0000\u0000\u01ce\u01ca\u0001\u0000\u0000\u0000\u01cf"+
+		"\u01d8\u0001\u0000\u0000\u0000\u01d0\u01d1\n\u0003\u0000\u0000\u01d1\u01d2"+
+		"\u0007\u0004\u0000\u0000\u01d2\u01d7\u0003F#\u0004\u01d3\u01d4\n\u0002"+
+		"\u0000\u0000\u01d4\u01d5\u0007\u0005\u0000\u0000\u01d5\u01d7\u0003F#\u0003"+
+		"\u01d6\u01d0\u0001\u0000\u0000\u0000\u01d6\u01d3\u0001\u0000\u0000\u0000"+
+		"\u01d7\u01da\u0001\u0000\u0000\u0000\u01d8\u01d6\u0001\u0000\u0000\u0000"+
+		"\u01d8\u01d9\u0001\u0000\u0000\u0000\u01d9G\u0001\u0000\u0000\u0000\u01da"+
+		"\u01d8\u0001\u0000\u0000\u0000\u01db\u01dc\u00059\u0000\u0000\u01dc\u01dd"+
+		"\u00051\u0000\u0000\u01dd\u01de\u0005\u0002\u0000\u0000\u01de\u01e3\u0003"+
+		"\\.\u0000\u01df\u01e0\u0005\u0003\u0000\u0000\u01e0\u01e2\u0003\\.\u0000"+
+		"\u01e1\u01df\u0001\u0000\u0000\u0000\u01e2\u01e5\u0001\u0000\u0000\u0000"+
+		"\u01e3\u01e1\u0001\u0000\u0000\u0000\u01e3\u01e4\u0001\u0000\u0000\u0000"+
+		"\u01e4\u01e6\u0001\u0000\u0000\u0000\u01e5\u01e3\u0001\u0000\u0000\u0000"+
+		"\u01e6\u01e7\u0005\u0004\u0000\u0000\u01e7I\u0001\u0000\u0000\u0000\u01e8"+
+		"\u01f0\u0005\u000e\u0000\u0000\u01e9\u01ea\u0003X,\u0000\u01ea\u01eb\u0005"+
+		"\u0005\u0000\u0000\u01eb\u01ec\u0005\u000e\u0000\u0000\u01ec\u01f0\u0001"+
+		"\u0000\u0000\u0000\u01ed\u01f0\u0003T*\u0000\u01ee\u01f0\u0003L&\u0000"+
+		"\u01ef\u01e8\u0001\u0000\u0000\u0000\u01ef\u01e9\u0001\u0000\u0000\u0000"+
+		"\u01ef\u01ed\u0001\u0000\u0000\u0000\u01ef\u01ee\u0001\u0000\u0000\u0000"+
+		"\u01f0K\u0001\u0000\u0000\u0000\u01f1\u01f2\u0005G\u0000\u0000\u01f2\u01f5"+
+		"\u0005\u0002\u0000\u0000\u01f3\u01f6\u0005\u000e\u0000\u0000\u01f4\u01f6"+
+		"\u0003T*\u0000\u01f5\u01f3\u0001\u0000\u0000\u0000\u01f5\u01f4\u0001\u0000"+
+		"\u0000\u0000\u01f6\u01f7\u0001\u0000\u0000\u0000\u01f7\u01f8\u0005\u0004"+
+		"\u0000\u0000\u01f8M\u0001\u0000\u0000\u0000\u01f9\u0206\u0003X,\u0000"+
+		"\u01fa\u01fd\u0003X,\u0000\u01fb\u01fc\u00050\u0000\u0000\u01fc\u01fe"+
+		"\u0003X,\u0000\u01fd\u01fb\u0001\u0000\u0000\u0000\u01fe\u01ff\u0001\u0000"+
+		"\u0000\u0000\u01ff\u01fd\u0001\u0000\u0000\u0000\u01ff\u0200\u0001\u0000"+
+		"\u0000\u0000\u0200\u0203\u0001\u0000\u0000\u0000\u0201\u0202\u00057\u0000"+
+		"\u0000\u0202\u0204\u0003>\u001f\u0000\u0203\u0201\u0001\u0000\u0000\u0000"+
+		"\u0203\u0204\u0001\u0000\u0000\u0000\u0204\u0206\u0001\u0000\u0000\u0000"+
+		"\u0205\u01f9\u0001\u0000\u0000\u0000\u0205\u01fa\u0001\u0000\u0000\u0000"+
+		"\u0206O\u0001\u0000\u0000\u0000\u0207\u0208\u0007\u0006\u0000\u0000\u0208"+
+		"Q\u0001\u0000\u0000\u0000\u0209\u020a\u0007\u0007\u0000\u0000\u020aS\u0001"+
+		"\u0000\u0000\u0000\u020b\u020c\u0003X,\u0000\u020c\u020d\u0005\u0005\u0000"+
+		"\u0000\u020d\u020f\u0001\u0000\u0000\u0000\u020e\u020b\u0001\u0000\u0000"+
+		"\u0000\u020e\u020f\u0001\u0000\u0000\u0000\u020f\u0210\u0001\u0000\u0000"+
+		"\u0000\u0210\u0211\u0003\\.\u0000\u0211U\u0001\u0000\u0000\u0000\u0212"+
+		"\u0213\u0005G\u0000\u0000\u0213W\u0001\u0000\u0000\u0000\u0214\u0215\u0005"+
+		"G\u0000\u0000\u0215Y\u0001\u0000\u0000\u0000\u0216\u0217\u0005G\u0000"+
+		"\u0000\u0217[\u0001\u0000\u0000\u0000\u0218\u0219\u0005G\u0000\u0000\u0219"+
+		"]\u0001\u0000\u0000\u0000\u021a\u021b\u0005G\u0000\u0000\u021b_\u0001"+
+		"\u0000\u0000\u0000\u021c\u021d\u0005G\u0000\u0000\u021da\u0001\u0000\u0000"+
+		"\u0000\u021e\u021f\u0005J\u0000\u0000\u021fc\u0001\u0000\u0000\u00000"+
+		"ipu{\u0095\u009f\u00ae\u00bb\u00c0\u00d1\u00eb\u00f9\u0109\u010f\u0125"+
+		"\u012a\u0132\u013b\u0142\u0149\u0152\u0157\u0160\u0163\u016c\u016f\u0175"+
+		"\u0177\u017b\u017e\u018a\u0196\u019d\u01a8\u01ae\u01b9\u01bb\u01c4\u01ce"+
+		"\u01d6\u01d8\u01e3\u01ef\u01f5\u01ff\u0203\u0205\u020e";
 	public static final ATN _ATN =
 		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
 	static {
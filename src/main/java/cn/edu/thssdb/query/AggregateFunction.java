@@ -0,0 +1,57 @@
+package cn.edu.thssdb.query;
+
+import cn.edu.thssdb.schema.Cell;
+
+/**
+ * Aggregate functions of SELECT. NULL values are ignored; SUM and AVG add numbers as double,
+ * and all but COUNT give NULL for a group without values.
+ */
+public enum AggregateFunction {
+    COUNT, SUM, AVG, MIN, MAX;
+
+    public State start() {
+        return new State(this);
+    }
+
+    /**
+     * Aggregate of the values added so far.
+     */
+    public static class State {
+        private final AggregateFunction function;
+        private long count;
+        private double sum;
+        private Cell extreme;
+
+        private State(AggregateFunction function) {
+            this.function = function;
+        }
+
+        public void add(Cell cell) throws Exception {
+            if (cell.value == null) return;
+            count++;
+            switch (function) {
+                case SUM, AVG -> {
+                    if (!(cell.value instanceof Number))
+                        throw new Exception(function + " of " + cell.getValueType() + " is not supported");
+                    sum += ((Number) cell.value).doubleValue();
+                }
+                case MIN -> {
+                    if (extreme == null || cell.compareTo(extreme) < 0) extreme = cell;
+                }
+                case MAX -> {
+                    if (extreme == null || cell.compareTo(extreme) > 0) extreme = cell;
+                }
+            }
+        }
+
+        public Cell result() {
+            if (function == COUNT) return new Cell(count);
+            if (count == 0) return new Cell(null);
+            return switch (function) {
+                case SUM -> new Cell(sum);
+                case AVG -> new Cell(sum / count);
+                default -> extreme;
+            };
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package cn.edu.thssdb.query;
+
+import cn.edu.thssdb.common.Global;
+import cn.edu.thssdb.exception.EvaluationException;
+import cn.edu.thssdb.exception.FileIOException;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * One result per group of items of the child with equal key (by equals), folded by an accumulator.
+ * A child sorted on the key is aggregated a group at a time as it streams by. Otherwise groups are kept in a hash table
+ * of at most Global.sortBufferRows groups, items of the groups that don't fit are written to partition files by key hash
+ * and the partitions are aggregated one after the other, each the same way.
+ * Without key function all items are one group, which has a result even if there are no items.
+ */
+public class AggregateOperator<T, R> implements Operator<R> {
+    private static final int PARTITIONS = 16;
+
+    /**
+     * State of a group, fed the items of the group in order.
+     */
+    public interface Accumulator<T, R> {
+        void add(T item) throws Exception;
+
+        R result();
+    }
+
+    private final Operator<T> child;
+    private final Function<T, Object> key;
+    private final Supplier<Accumulator<T, R>> accumulator;
+    private final boolean sorted;
+    private final Function<T, byte[]> encoder;
+    private final Function<ByteBuffer, T> decoder;
+    private final int bufferGroups;
+    private final ArrayDeque<Partition> partitions = new ArrayDeque<>(); // spilled, not aggregated yet
+    private Iterator<R> results;
+
+    public AggregateOperator(Operator<T> child, Function<T, Object> key, Supplier<Accumulator<T, R>> accumulator, boolean sorted,
+                             Function<T, byte[]> encoder, Function<ByteBuffer, T> decoder) {
+        this(child, key, accumulator, sorted, encoder, decoder, Global.sortBufferRows);
+    }
+
+    public AggregateOperator(Operator<T> child, Function<T, Object> key, Supplier<Accumulator<T, R>> accumulator, boolean sorted,
+                             Function<T, byte[]> encoder, Function<ByteBuffer, T> decoder, int bufferGroups) {
+        this.child = child;
+        this.key = key;
+        this.accumulator = accumulator;
+        this.sorted = sorted;
+        this.encoder = encoder;
+        this.decoder = decoder;
+        this.bufferGroups = Math.max(1, bufferGroups);
+    }
+
+    @Override
+    public void open() {
+        child.open();
+        if (key == null) {
+            var group = accumulator.get();
+            for (T item = child.next(); item != null; item = child.next())
+                add(group, item);
+            results = List.of(group.result()).iterator();
+        } else if (sorted) results = stream(child.iterator());
+        else results = aggregate(child.iterator(), 0);
+    }
+
+    @Override
+    public R next() {
+        while (!results.hasNext()) {
+            var partition = partitions.poll();
+            if (partition == null) return null;
+            try (var items = new Reader(partition)) {
+                results = aggregate(items, partition.level + 1);
+            }
+        }
+        return results.next();
+    }
+
+    @Override
+    public void close() {
+        child.close();
+        for (var partition : partitions)
+            partition.delete();
+        partitions.clear();
+        results = null;
+    }
+
+    private void add(Accumulator<T, R> group, T item) {
+        try {
+            group.add(item);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new EvaluationException(e);
+        }
+    }
+
+    // groups of consecutive items with equal key
+    private Iterator<R> stream(Iterator<T> items) {
+        return new Iterator<>() {
+            private T head = items.hasNext() ? items.next() : null;
+
+            @Override
+            public boolean hasNext() {
+                return head != null;
+            }
+
+            @Override
+            public R next() {
+                if (head == null) throw new NoSuchElementException();
+                var group = accumulator.get();
+                var groupKey = key.apply(head);
+                do {
+                    add(group, head);
+                    head = items.hasNext() ? items.next() : null;
+                } while (head != null && groupKey.equals(key.apply(head)));
+                return group.result();
+            }
+        };
+    }
+
+    // results of the groups that fit in memory, the items of the others are spilled to partitions
+    private Iterator<R> aggregate(Iterator<T> items, int level) {
+        var groups = new LinkedHashMap<Object, Accumulator<T, R>>();
+        Partition[] spilled = null;
+        while (items.hasNext()) {
+            T item = items.next();
+            var itemKey = key.apply(item);
+            var group = groups.get(itemKey);
+            if (group == null && groups.size() >= bufferGroups) {
+                if (spilled == null) spilled = new Partition[PARTITIONS];
+                int p = Math.floorMod(hash(itemKey, level), PARTITIONS);
+                if (spilled[p] == null) partitions.add(spilled[p] = new Partition(level));
+                spilled[p].add(encoder.apply(item));
+                continue;
+            }
+            if (group == null) groups.put(itemKey, group = accumulator.get());
+            add(group, item);
+        }
+        if (spilled != null)
+            for (var partition : spilled)
+                if (partition != null) partition.finish();
+        return groups.values().stream().map(Accumulator::result).iterator();
+    }
+
+    // differs by level, so that a partition is split again by the next level
+    private static int hash(Object key, int level) {
+        int h = key.hashCode() ^ level * 0x9E3779B9;
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        return h ^ h >>> 13;
+    }
+
+    private static class Partition {
+        final int level;
+        final File file;
+        private DataOutputStream output;
+
+        Partition(int level) {
+            this.level = level;
+            try {
+                file = File.createTempFile("thssdb-aggregate", ".part");
+                output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)));
+            } catch (IOException e) {
+                throw new FileIOException("temporary file when aggregate");
+            }
+        }
+
+        void add(byte[] bytes) {
+            try {
+                output.writeInt(bytes.length);
+                output.write(bytes);
+            } catch (IOException e) {
+                throw new FileIOException(file.getPath() + " when aggregate");
+            }
+        }
+
+        void finish() {
+            try {
+                output.close();
+            } catch (IOException e) {
+                throw new FileIOException(file.getPath() + " when aggregate");
+            }
+            output = null;
+        }
+
+        DataInputStream read() {
+            try {
+                return new DataInputStream(new BufferedInputStream(new FileInputStream(file)));
+            } catch (IOException e) {
+                throw new FileIOException(file.getPath() + " when aggregate");
+            }
+        }
+
+        void delete() {
+            if (output != null) {
+                try {
+                    output.close();
+                } catch (IOException ignored) {
+                }
+            }
+            file.delete();
+        }
+    }
+
+    // items of a partition, its file is deleted on close
+    private class Reader implements Iterator<T>, AutoCloseable {
+        private final Partition partition;
+        private final DataInputStream input;
+
+        Reader(Partition partition) {
+            this.partition = partition;
+            this.input = partition.read();
+        }
+
+        @Override
+        public boolean hasNext() {
+            try {
+                return input.available() > 0;
+            } catch (IOException e) {
+                throw new FileIOException(partition.file.getPath() + " when aggregate");
+            }
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            try {
+                byte[] bytes = new byte[input.readInt()];
+                input.readFully(bytes);
+                return decoder.apply(ByteBuffer.wrap(bytes));
+            } catch (IOException e) {
+                throw new FileIOException(partition.file.getPath() + " when aggregate");
+            }
+        }
+
+        @Override
+        public void close() {
+            try {
+                input.close();
+            } catch (IOException ignored) {
+            }
+            partition.delete();
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package cn.edu.thssdb.query;
+
+import cn.edu.thssdb.storage.ColumnVector;
+
+/**
+ * Condition evaluated on a batch of positions of a ColumnarTable, in one tight loop over the array of a column.
+ * Comparisons follow the row filter: numbers compare as double and NULL never matches.
+ */
+public interface BatchPredicate {
+    // accepted signs of the comparison of a value with the literal
+    int LESS = 1;
+    int EQUAL = 2;
+    int GREATER = 4;
+
+    // keeps the positions in selection[0, count) satisfying the condition, in order, and returns how many are kept
+    int filter(int[] selection, int count);
+
+    static BatchPredicate none() {
+        return (selection, count) -> 0;
+    }
+
+    // values of a numeric column whose comparison with the literal has an accepted sign
+    static BatchPredicate compare(ColumnVector vector, int accept, double literal) {
+        return switch (vector.type) {
+            case INT -> (selection, count) -> {
+                int[] values = vector.ints;
+                int kept = 0;
+                for (int i = 0; i < count; i++) {
+                    int p = selection[i];
+                    if ((accept >>> Double.compare(values[p], literal) + 1 & 1) != 0 && !vector.isNull(p)) selection[kept++] = p;
+                }
+                return kept;
+            };
+            case LONG -> (selection, count) -> {
+                long[] values = vector.longs;
+                int kept = 0;
+                for (int i = 0; i < count; i++) {
+                    int p = selection[i];
+                    if ((accept >>> Double.compare(values[p], literal) + 1 & 1) != 0 && !vector.isNull(p)) selection[kept++] = p;
+                }
+                return kept;
+            };
+            case FLOAT -> (selection, count) -> {
+                float[] values = vector.floats;
+                int kept = 0;
+                for (int i = 0; i < count; i++) {
+                    int p = selection[i];
+                    if ((accept >>> Double.compare(values[p], literal) + 1 & 1) != 0 && !vector.isNull(p)) selection[kept++] = p;
+                }
+                return kept;
+            };
+            case DOUBLE -> (selection, count) -> {
+                double[] values = vector.doubles;
+                int kept = 0;
+                for (int i = 0; i < count; i++) {
+                    int p = selection[i];
+                    if ((accept >>> Double.compare(values[p], literal) + 1 & 1) != 0 && !vector.isNull(p)) selection[kept++] = p;
+                }
+                return kept;
+            };
+            case STRING -> throw new IllegalArgumentException("STRING column compared with a number");
+        };
+    }
+
+    // values of a STRING column whose comparison with the literal has an accepted sign, decided once per dictionary entry
+    static BatchPredicate compare(ColumnVector vector, int accept, String literal) {
+        var dictionary = vector.dictionary;
+        var matches = new boolean[dictionary.length];
+        for (int d = 0; d < dictionary.length; d++)
+            matches[d] = (accept >>> Integer.signum(dictionary[d].compareTo(literal)) + 1 & 1) != 0;
+        int[] codes = vector.codes;
+        return (selection, count) -> {
+            int kept = 0;
+            for (int i = 0; i < count; i++) {
+                int p = selection[i];
+                if (!vector.isNull(p) && matches[codes[p]]) selection[kept++] = p;
+            }
+            return kept;
+        };
+    }
+}
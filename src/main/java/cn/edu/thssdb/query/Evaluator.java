@@ -0,0 +1,9 @@
+package cn.edu.thssdb.query;
+
+/**
+ * Evaluation of a condition or an expression on an item, which may fail, e.g. on comparing incompatible types.
+ */
+@FunctionalInterface
+public interface Evaluator<T, R> {
+    R evaluate(T item) throws Exception;
+}
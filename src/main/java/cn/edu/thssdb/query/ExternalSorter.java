@@ -0,0 +1,153 @@
+package cn.edu.thssdb.query;
+
+import cn.edu.thssdb.common.Global;
+import cn.edu.thssdb.exception.FileIOException;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.function.Function;
+
+/**
+ * Sorts any number of items with at most Global.sortBufferRows of them in memory.
+ * Full buffers are sorted and written to temporary run files, the runs are merged when iterating.
+ * Run files are deleted when the iteration is exhausted or on close.
+ */
+public class ExternalSorter<T> implements Iterable<T>, AutoCloseable {
+    private final Comparator<? super T> comparator;
+    private final Function<T, byte[]> encoder;
+    private final Function<ByteBuffer, T> decoder;
+    private final int bufferRows;
+    private final ArrayList<T> buffer;
+    private final ArrayList<File> runs;
+
+    public ExternalSorter(Comparator<? super T> comparator, Function<T, byte[]> encoder, Function<ByteBuffer, T> decoder) {
+        this(comparator, encoder, decoder, Global.sortBufferRows);
+    }
+
+    public ExternalSorter(Comparator<? super T> comparator, Function<T, byte[]> encoder, Function<ByteBuffer, T> decoder, int bufferRows) {
+        this.comparator = comparator;
+        this.encoder = encoder;
+        this.decoder = decoder;
+        this.bufferRows = Math.max(1, bufferRows);
+        this.buffer = new ArrayList<>();
+        this.runs = new ArrayList<>();
+    }
+
+    public void add(T item) {
+        buffer.add(item);
+        if (buffer.size() >= bufferRows) spill();
+    }
+
+    public int getRunCount() {
+        return runs.size();
+    }
+
+    private void spill() {
+        buffer.sort(comparator);
+        File file;
+        try {
+            file = File.createTempFile("thssdb-sort", ".run");
+        } catch (IOException e) {
+            throw new FileIOException("temporary file when sort");
+        }
+        runs.add(file);
+        try (var output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+            for (var item : buffer) {
+                byte[] bytes = encoder.apply(item);
+                output.writeInt(bytes.length);
+                output.write(bytes);
+            }
+        } catch (IOException e) {
+            throw new FileIOException(file.getPath() + " when sort");
+        }
+        buffer.clear();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        buffer.sort(comparator);
+        if (runs.isEmpty()) return buffer.iterator();
+        return new MergeIterator();
+    }
+
+    @Override
+    public void close() {
+        for (var file : runs)
+            file.delete();
+        runs.clear();
+        buffer.clear();
+    }
+
+    private class Run {
+        final DataInputStream input;
+        T head;
+
+        Run(File file) throws IOException {
+            input = new DataInputStream(new BufferedInputStream(new FileInputStream(file)));
+        }
+
+        // false when the run is exhausted
+        boolean advance() throws IOException {
+            if (input.available() == 0) {
+                input.close();
+                return false;
+            }
+            byte[] bytes = new byte[input.readInt()];
+            input.readFully(bytes);
+            head = decoder.apply(ByteBuffer.wrap(bytes));
+            return true;
+        }
+    }
+
+    // k-way merge of the run files and the sorted in-memory buffer
+    private class MergeIterator implements Iterator<T> {
+        private final PriorityQueue<Run> heads = new PriorityQueue<>((a, b) -> comparator.compare(a.head, b.head));
+        private final Iterator<T> memory;
+        private T memoryHead;
+
+        MergeIterator() {
+            try {
+                for (var file : runs) {
+                    var run = new Run(file);
+                    if (run.advance()) heads.add(run);
+                }
+            } catch (IOException e) {
+                throw new FileIOException("sort run when merge");
+            }
+            memory = buffer.iterator();
+            memoryHead = memory.hasNext() ? memory.next() : null;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (heads.isEmpty() && memoryHead == null) {
+                close();
+                return false;
+            }
+            return true;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            if (memoryHead != null && (heads.isEmpty() || comparator.compare(memoryHead, heads.peek().head) <= 0)) {
+                T item = memoryHead;
+                memoryHead = memory.hasNext() ? memory.next() : null;
+                return item;
+            }
+            var run = heads.poll();
+            T item = run.head;
+            try {
+                if (run.advance()) heads.add(run);
+            } catch (IOException e) {
+                throw new FileIOException("sort run when merge");
+            }
+            return item;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package cn.edu.thssdb.query;
+
+import cn.edu.thssdb.exception.EvaluationException;
+
+/**
+ * Items of the child satisfying a condition.
+ */
+public class FilterOperator<T> implements Operator<T> {
+    private final Operator<T> child;
+    private final Evaluator<T, Boolean> condition;
+
+    public FilterOperator(Operator<T> child, Evaluator<T, Boolean> condition) {
+        this.child = child;
+        this.condition = condition;
+    }
+
+    @Override
+    public void open() {
+        child.open();
+    }
+
+    @Override
+    public T next() {
+        for (T item = child.next(); item != null; item = child.next()) {
+            try {
+                if (condition.evaluate(item)) return item;
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new EvaluationException(e);
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void close() {
+        child.close();
+    }
+}
@@ -0,0 +1,62 @@
+package cn.edu.thssdb.query;
+
+import cn.edu.thssdb.schema.Row;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+/**
+ * Equi-join of tuples (one row per joined table) with the rows of one more table, each output tuple is a left tuple followed by a right row.
+ * The hash table is built on the right rows, which JoinPlanner hashes only if they fit in memory, and probed with the left
+ * tuples streamed: output is in left order, the matches of a left tuple in right order.
+ * A key function returns null for a tuple that can't match (e.g. a NULL key), an empty key makes a cross product.
+ */
+public class HashJoinIterator implements Iterator<List<Row>> {
+    private final HashMap<List<Object>, List<Row>> hashTable = new HashMap<>(); // key -> right rows
+    private final Iterator<List<Row>> probe;
+    private final Function<List<Row>, List<Object>> probeKey;
+    private List<Row> probeTuple;
+    private Iterator<Row> matches = Collections.emptyIterator();
+
+    public HashJoinIterator(Iterator<List<Row>> left, Iterator<Row> right, Function<List<Row>, List<Object>> leftKey, Function<Row, List<Object>> rightKey) {
+        while (right.hasNext()) {
+            var row = right.next();
+            var k = rightKey.apply(row);
+            if (k != null) hashTable.computeIfAbsent(k, x -> new ArrayList<>()).add(row);
+        }
+        probe = left;
+        probeKey = leftKey;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!matches.hasNext()) {
+            if (!probe.hasNext()) return false;
+            probeTuple = probe.next();
+            var k = probeKey.apply(probeTuple);
+            var bucket = k == null ? null : hashTable.get(k);
+            matches = bucket == null ? Collections.emptyIterator() : bucket.iterator();
+        }
+        return true;
+    }
+
+    @Override
+    public List<Row> next() {
+        if (!hasNext()) throw new NoSuchElementException();
+        var tuple = new ArrayList<Row>(probeTuple.size() + 1);
+        tuple.addAll(probeTuple);
+        tuple.add(matches.next());
+        return tuple;
+    }
+
+    // hash key of a value compared by "=", numbers compare as double; null as NULL never equals anything
+    public static Object comparisonKey(Object value) {
+        if (value instanceof Number) return ((Number) value).doubleValue();
+        return value;
+    }
+}
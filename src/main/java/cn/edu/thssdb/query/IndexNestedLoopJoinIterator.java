@@ -0,0 +1,45 @@
+package cn.edu.thssdb.query;
+
+import cn.edu.thssdb.schema.Row;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+/**
+ * Join that looks up the matching rows of the inner table for every outer tuple, usually through the inner table's index,
+ * each output tuple is an outer tuple followed by an inner row. Output is in outer order.
+ */
+public class IndexNestedLoopJoinIterator implements Iterator<List<Row>> {
+    private final Iterator<List<Row>> outer;
+    private final Function<List<Row>, Iterator<Row>> probe;
+    private List<Row> outerTuple;
+    private Iterator<Row> matches = Collections.emptyIterator();
+
+    public IndexNestedLoopJoinIterator(Iterator<List<Row>> outer, Function<List<Row>, Iterator<Row>> probe) {
+        this.outer = outer;
+        this.probe = probe;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!matches.hasNext()) {
+            if (!outer.hasNext()) return false;
+            outerTuple = outer.next();
+            matches = probe.apply(outerTuple);
+        }
+        return true;
+    }
+
+    @Override
+    public List<Row> next() {
+        if (!hasNext()) throw new NoSuchElementException();
+        var tuple = new ArrayList<Row>(outerTuple.size() + 1);
+        tuple.addAll(outerTuple);
+        tuple.add(matches.next());
+        return tuple;
+    }
+}
@@ -0,0 +1,29 @@
+package cn.edu.thssdb.query;
+
+import cn.edu.thssdb.index.KeyRange;
+import cn.edu.thssdb.schema.Cell;
+import cn.edu.thssdb.schema.Row;
+import cn.edu.thssdb.schema.SecondaryIndex;
+import cn.edu.thssdb.schema.Table;
+
+import java.util.Iterator;
+
+/**
+ * Rows of a table with value of a secondary index column in range, in (value, primary key) order.
+ */
+public class IndexScanOperator extends IteratorOperator<Row> {
+    private final Table table;
+    private final SecondaryIndex index;
+    private final KeyRange<Cell> range;
+
+    public IndexScanOperator(Table table, SecondaryIndex index, KeyRange<Cell> range) {
+        this.table = table;
+        this.index = index;
+        this.range = range;
+    }
+
+    @Override
+    protected Iterator<Row> start() {
+        return table.scan(index, range);
+    }
+}
@@ -0,0 +1,27 @@
+package cn.edu.thssdb.query;
+
+import java.util.Iterator;
+
+/**
+ * Operator producing the items of an iterator created on open.
+ */
+public abstract class IteratorOperator<T> implements Operator<T> {
+    private Iterator<T> iterator;
+
+    protected abstract Iterator<T> start();
+
+    @Override
+    public void open() {
+        iterator = start();
+    }
+
+    @Override
+    public T next() {
+        return iterator.hasNext() ? iterator.next() : null;
+    }
+
+    @Override
+    public void close() {
+        iterator = null;
+    }
+}
@@ -0,0 +1,44 @@
+package cn.edu.thssdb.query;
+
+import cn.edu.thssdb.schema.Row;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.BiFunction;
+
+/**
+ * Join of the tuples of the left child with the rows of the right child by a join algorithm,
+ * e.g. HashJoinIterator or MergeJoinIterator. The right child is null for an algorithm that finds the rows itself,
+ * like IndexNestedLoopJoinIterator.
+ */
+public class JoinOperator extends IteratorOperator<List<Row>> {
+    private final Operator<List<Row>> left;
+    private final Operator<Row> right;
+    private final BiFunction<Iterator<List<Row>>, Iterator<Row>, Iterator<List<Row>>> join;
+
+    public JoinOperator(Operator<List<Row>> left, Operator<Row> right, BiFunction<Iterator<List<Row>>, Iterator<Row>, Iterator<List<Row>>> join) {
+        this.left = left;
+        this.right = right;
+        this.join = join;
+    }
+
+    @Override
+    public void open() {
+        left.open();
+        if (right != null) right.open();
+        super.open();
+    }
+
+    @Override
+    protected Iterator<List<Row>> start() {
+        return join.apply(left.iterator(), right == null ? Collections.emptyIterator() : right.iterator());
+    }
+
+    @Override
+    public void close() {
+        super.close();
+        left.close();
+        if (right != null) right.close();
+    }
+}
@@ -0,0 +1,40 @@
+package cn.edu.thssdb.query;
+
+/**
+ * At most limit items of the child, after skipping the first offset ones.
+ * The child is not pulled any more once the limit is reached, so the plan below stops early.
+ */
+public class LimitOperator<T> implements Operator<T> {
+    private final Operator<T> child;
+    private final long offset;
+    private final long limit;
+    private long skipped;
+    private long returned;
+
+    public LimitOperator(Operator<T> child, long offset, long limit) {
+        this.child = child;
+        this.offset = offset;
+        this.limit = limit;
+    }
+
+    @Override
+    public void open() {
+        skipped = returned = 0;
+        if (limit > 0) child.open();
+    }
+
+    @Override
+    public T next() {
+        if (returned >= limit) return null;
+        for (; skipped < offset; skipped++)
+            if (child.next() == null) return null;
+        T item = child.next();
+        if (item != null) returned++;
+        return item;
+    }
+
+    @Override
+    public void close() {
+        if (limit > 0) child.close();
+    }
+}
@@ -0,0 +1,111 @@
+package cn.edu.thssdb.query;
+
+import cn.edu.thssdb.schema.Row;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+/**
+ * Merge join of tuples with the rows of one more table, both inputs sorted by their join key.
+ * Right rows with equal key are buffered, each output tuple is a left tuple followed by a right row, in key order.
+ * A key function returns null for an item that can't match (e.g. a NULL key), such items are skipped.
+ */
+public class MergeJoinIterator implements Iterator<List<Row>> {
+    private final Iterator<List<Row>> left;
+    private final Iterator<Row> right;
+    private final Function<List<Row>, List<Object>> leftKey;
+    private final Function<Row, List<Object>> rightKey;
+    private final Comparator<List<Object>> comparator;
+
+    private List<Row> leftTuple;
+    private List<Object> leftTupleKey;
+    private Row rightRow;
+    private List<Object> rightRowKey;
+    private final ArrayList<Row> group = new ArrayList<>(); // right rows with key groupKey
+    private List<Object> groupKey;
+    private int groupPosition;
+
+    public MergeJoinIterator(Iterator<List<Row>> left, Iterator<Row> right, Function<List<Row>, List<Object>> leftKey,
+                             Function<Row, List<Object>> rightKey, Comparator<List<Object>> comparator) {
+        this.left = left;
+        this.right = right;
+        this.leftKey = leftKey;
+        this.rightKey = rightKey;
+        this.comparator = comparator;
+        advanceRight();
+    }
+
+    // key order of "=" join keys: numbers as double, then strings
+    public static int compareKeys(List<Object> a, List<Object> b) {
+        for (int i = 0; i < a.size(); i++) {
+            int cmp = compareValues(a.get(i), b.get(i));
+            if (cmp != 0) return cmp;
+        }
+        return 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static int compareValues(Object a, Object b) {
+        if (a instanceof Number && b instanceof Number)
+            return Double.compare(((Number) a).doubleValue(), ((Number) b).doubleValue());
+        return ((Comparable<Object>) a).compareTo(b);
+    }
+
+    private void advanceRight() {
+        rightRow = null;
+        while (right.hasNext()) {
+            var row = right.next();
+            var key = rightKey.apply(row);
+            if (key == null) continue;
+            rightRow = row;
+            rightRowKey = key;
+            return;
+        }
+    }
+
+    private boolean advanceLeft() {
+        while (left.hasNext()) {
+            var tuple = left.next();
+            var key = leftKey.apply(tuple);
+            if (key == null) continue;
+            leftTuple = tuple;
+            leftTupleKey = key;
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (leftTuple == null || groupPosition >= group.size()) {
+            if (!advanceLeft()) return false;
+            groupPosition = 0;
+            // duplicate left keys reuse the group
+            if (groupKey != null && comparator.compare(leftTupleKey, groupKey) == 0) continue;
+            group.clear();
+            groupKey = null;
+            while (rightRow != null && comparator.compare(rightRowKey, leftTupleKey) < 0)
+                advanceRight();
+            if (rightRow == null || comparator.compare(rightRowKey, leftTupleKey) > 0) continue;
+            groupKey = rightRowKey;
+            while (rightRow != null && comparator.compare(rightRowKey, groupKey) == 0) {
+                group.add(rightRow);
+                advanceRight();
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public List<Row> next() {
+        if (!hasNext()) throw new NoSuchElementException();
+        var tuple = new ArrayList<Row>(leftTuple.size() + 1);
+        tuple.addAll(leftTuple);
+        tuple.add(group.get(groupPosition++));
+        return tuple;
+    }
+}
@@ -0,0 +1,42 @@
+package cn.edu.thssdb.query;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Physical operator of a query plan, items are pulled through the plan one at a time.
+ * open prepares the operator and its children, next returns the next item or null when exhausted,
+ * close releases what the operator holds (e.g. sort runs) and closes its children.
+ */
+public interface Operator<T> extends AutoCloseable {
+    void open();
+
+    T next();
+
+    @Override
+    void close();
+
+    // remaining items of an open operator
+    default Iterator<T> iterator() {
+        return new Iterator<>() {
+            private T item;
+            private boolean fetched;
+
+            @Override
+            public boolean hasNext() {
+                if (!fetched) {
+                    item = Operator.this.next();
+                    fetched = true;
+                }
+                return item != null;
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                fetched = false;
+                return item;
+            }
+        };
+    }
+}
@@ -0,0 +1,39 @@
+package cn.edu.thssdb.query;
+
+import cn.edu.thssdb.exception.EvaluationException;
+
+/**
+ * Items of the child mapped one to one, e.g. joined tuples to result rows.
+ */
+public class ProjectOperator<T, R> implements Operator<R> {
+    private final Operator<T> child;
+    private final Evaluator<T, R> projection;
+
+    public ProjectOperator(Operator<T> child, Evaluator<T, R> projection) {
+        this.child = child;
+        this.projection = projection;
+    }
+
+    @Override
+    public void open() {
+        child.open();
+    }
+
+    @Override
+    public R next() {
+        T item = child.next();
+        if (item == null) return null;
+        try {
+            return projection.evaluate(item);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new EvaluationException(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        child.close();
+    }
+}
@@ -3,9 +3,11 @@ package cn.edu.thssdb.query;
 
 import cn.edu.thssdb.schema.MetaInfo;
 import cn.edu.thssdb.schema.Row;
+import cn.edu.thssdb.type.ColumnType;
 import cn.edu.thssdb.type.QueryResultType;
 
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -17,8 +19,10 @@ public class QueryResult {
 
     private List<MetaInfo> metaInfoInfos;
     private List<String> columnNames;
+    private List<ColumnType> columnTypes;
 
     public List<Row> results;
+    private Operator<Row> plan; // rows not pulled into results yet
 
     public QueryResult(List<Row> rows, List<String> names) {
         resultType = QueryResultType.SELECT;
@@ -27,6 +31,15 @@ public class QueryResult {
         columnNames = names;
     }
 
+    // result rows of a query plan, not pulled until materialize or through getPlan
+    public QueryResult(Operator<Row> plan, List<String> names, List<ColumnType> types) {
+        resultType = QueryResultType.SELECT;
+        message = null;
+        this.plan = plan;
+        columnNames = names;
+        columnTypes = types;
+    }
+
     public QueryResult(String msg) {
         resultType = QueryResultType.MESSAGE;
         message = msg;
@@ -35,4 +48,40 @@ public class QueryResult {
     public List<String> getColumnNames() {
         return this.columnNames;
     }
+
+    // null if unknown
+    public List<ColumnType> getColumnTypes() {
+        return this.columnTypes;
+    }
+
+    /**
+     * Plan pulling the rows, which the caller opens and closes; rows already in results are pulled from the list.
+     */
+    public Operator<Row> getPlan() {
+        if (plan != null) return plan;
+        return new IteratorOperator<>() {
+            @Override
+            protected Iterator<Row> start() {
+                return results.iterator();
+            }
+        };
+    }
+
+    /**
+     * This result with all rows of the plan pulled into results, or the message of the error the plan failed with.
+     */
+    public QueryResult materialize() {
+        if (plan == null) return this;
+        var rows = new ArrayList<Row>();
+        try (var plan = this.plan) {
+            plan.open();
+            for (Row row = plan.next(); row != null; row = plan.next())
+                rows.add(row);
+        } catch (RuntimeException e) {
+            return new QueryResult(e.getMessage());
+        }
+        results = rows;
+        plan = null;
+        return this;
+    }
 }
@@ -0,0 +1,30 @@
+package cn.edu.thssdb.query;
+
+import cn.edu.thssdb.index.KeyRange;
+import cn.edu.thssdb.schema.Cell;
+import cn.edu.thssdb.schema.Row;
+import cn.edu.thssdb.schema.Table;
+
+import java.util.Iterator;
+
+/**
+ * Rows of a table with primary key in range, in primary key order.
+ */
+public class ScanOperator extends IteratorOperator<Row> {
+    private final Table table;
+    private final KeyRange<Cell> range;
+
+    public ScanOperator(Table table) {
+        this(table, KeyRange.all());
+    }
+
+    public ScanOperator(Table table, KeyRange<Cell> range) {
+        this.table = table;
+        this.range = range;
+    }
+
+    @Override
+    protected Iterator<Row> start() {
+        return table.scan(range);
+    }
+}
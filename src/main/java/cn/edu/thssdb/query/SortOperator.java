@@ -0,0 +1,41 @@
+package cn.edu.thssdb.query;
+
+import java.nio.ByteBuffer;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.function.Function;
+
+/**
+ * Items of the child in order, sorted on open by an ExternalSorter, which spills to temporary files when there are many.
+ */
+public class SortOperator<T> extends IteratorOperator<T> {
+    private final Operator<T> child;
+    private final Comparator<? super T> comparator;
+    private final Function<T, byte[]> encoder;
+    private final Function<ByteBuffer, T> decoder;
+    private ExternalSorter<T> sorter;
+
+    public SortOperator(Operator<T> child, Comparator<? super T> comparator, Function<T, byte[]> encoder, Function<ByteBuffer, T> decoder) {
+        this.child = child;
+        this.comparator = comparator;
+        this.encoder = encoder;
+        this.decoder = decoder;
+    }
+
+    @Override
+    protected Iterator<T> start() {
+        child.open();
+        sorter = new ExternalSorter<>(comparator, encoder, decoder);
+        for (T item = child.next(); item != null; item = child.next())
+            sorter.add(item);
+        child.close();
+        return sorter.iterator();
+    }
+
+    @Override
+    public void close() {
+        super.close();
+        if (sorter != null) sorter.close();
+        sorter = null;
+    }
+}
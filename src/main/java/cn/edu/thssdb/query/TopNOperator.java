@@ -0,0 +1,40 @@
+package cn.edu.thssdb.query;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.PriorityQueue;
+
+/**
+ * The first n items of the child in order, found with a heap of at most n items instead of sorting all of them.
+ */
+public class TopNOperator<T> extends IteratorOperator<T> {
+    private final Operator<T> child;
+    private final Comparator<? super T> comparator;
+    private final int n;
+
+    public TopNOperator(Operator<T> child, Comparator<? super T> comparator, int n) {
+        this.child = child;
+        this.comparator = comparator;
+        this.n = n;
+    }
+
+    @Override
+    protected Iterator<T> start() {
+        var heap = new PriorityQueue<T>(comparator.reversed()); // head is the last of the items kept
+        if (n > 0) {
+            child.open();
+            for (T item = child.next(); item != null; item = child.next()) {
+                if (heap.size() < n) heap.add(item);
+                else if (comparator.compare(item, heap.peek()) < 0) {
+                    heap.poll();
+                    heap.add(item);
+                }
+            }
+            child.close();
+        }
+        var items = new ArrayList<>(heap);
+        items.sort(comparator);
+        return items.iterator();
+    }
+}
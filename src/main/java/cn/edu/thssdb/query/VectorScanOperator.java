@@ -0,0 +1,66 @@
+package cn.edu.thssdb.query;
+
+import cn.edu.thssdb.common.Global;
+import cn.edu.thssdb.schema.Row;
+import cn.edu.thssdb.storage.ColumnarTable;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Rows of a columnar table satisfying all batch predicates, in the order of the table.
+ * Positions are taken Global.batchSize at a time and narrowed by each predicate in turn,
+ * rows are built only for the positions kept.
+ * The columnar table is taken, and the predicates are compiled over it, on open: planning builds no columnar copy.
+ */
+public class VectorScanOperator implements Operator<Row> {
+    private final Supplier<ColumnarTable> source;
+    private final Function<ColumnarTable, List<BatchPredicate>> compiler;
+    private ColumnarTable table;
+    private List<BatchPredicate> predicates;
+    private int[] selection;
+    private int count; // positions selected in the current batch
+    private int index; // next of them to return
+    private int start; // first position of the next batch
+
+    public VectorScanOperator(ColumnarTable table, List<BatchPredicate> predicates) {
+        this(() -> table, columnar -> predicates);
+    }
+
+    public VectorScanOperator(Supplier<ColumnarTable> source, Function<ColumnarTable, List<BatchPredicate>> compiler) {
+        this.source = source;
+        this.compiler = compiler;
+    }
+
+    @Override
+    public void open() {
+        table = source.get();
+        predicates = compiler.apply(table);
+        selection = new int[Math.max(1, Global.batchSize)];
+        count = index = start = 0;
+    }
+
+    @Override
+    public Row next() {
+        while (index == count) {
+            if (start >= table.rowCount()) return null;
+            int end = Math.min(table.rowCount(), start + selection.length);
+            count = end - start;
+            for (int i = 0; i < count; i++)
+                selection[i] = start + i;
+            for (var predicate : predicates)
+                if (count > 0) count = predicate.filter(selection, count);
+            index = 0;
+            start = end;
+        }
+        return table.row(selection[index++]);
+    }
+
+    @Override
+    public void close() {
+        selection = null;
+        table = null;
+        predicates = null;
+    }
+}
@@ -5,8 +5,9 @@ import cn.edu.thssdb.type.ColumnType;
 
 import java.io.Serial;
 import java.io.Serializable;
+import java.util.Comparator;
 import java.util.List;
-import java.util.function.BiFunction;
+import java.util.function.DoubleBinaryOperator;
 
 import static cn.edu.thssdb.type.ColumnType.INT;
 import static cn.edu.thssdb.type.ColumnType.LONG;
@@ -36,6 +37,17 @@ public class Cell implements Serializable, Comparable<Cell> {
         throw new ClassCastException("Unknown type value");
     }
 
+    // order of non-NULL cells of a column of the type, same as compareTo without dispatching on the value class
+    public static Comparator<Cell> comparator(ColumnType type) {
+        return switch (type) {
+            case INT -> (a, b) -> Integer.compare((Integer) a.value, (Integer) b.value);
+            case LONG -> (a, b) -> Long.compare((Long) a.value, (Long) b.value);
+            case FLOAT -> (a, b) -> Float.compare((Float) a.value, (Float) b.value);
+            case DOUBLE -> (a, b) -> Double.compare((Double) a.value, (Double) b.value);
+            case STRING -> (a, b) -> ((String) a.value).compareTo((String) b.value);
+        };
+    }
+
     @Override
     public boolean equals(Object c) {
         if (!(c instanceof Cell))
@@ -63,23 +75,28 @@ public class Cell implements Serializable, Comparable<Cell> {
         throw new ClassCastException("Unknown type value");
     }
 
-    public Cell arithmetic(Cell other, BiFunction<Double, Double, Double> op) throws Exception {
+    public Cell arithmetic(Cell other, DoubleBinaryOperator op) throws Exception {
         if (value == null || other.value == null) return new Cell(null);
 
         if (value instanceof String || other.value instanceof String)
             throw new Exception("Arithmetic between " + getValueType() + " and " + other.getValueType() + " is not supported");
 
-        return new Cell(op.apply(((Number) value).doubleValue(), ((Number) other.value).doubleValue()));
+        return new Cell(op.applyAsDouble(((Number) value).doubleValue(), ((Number) other.value).doubleValue()));
     }
 
     public boolean SQLCompareTo(Cell other, List<Integer> compareTypes) throws Exception {
         if (value == null || other.value == null) return false;
+        return compareTypes.contains(SQLCompare(other));
+    }
+
+    // sign of the comparison of non-NULL values, numbers compare as double
+    public int SQLCompare(Cell other) throws Exception {
         var isString = value instanceof String;
         if (isString != other.value instanceof String)
             throw new Exception("Compare between " + getValueType() + " and " + other.getValueType() + " is not supported");
-        if (isString) return compareTypes.contains(Integer.signum(((String) value).compareTo((String) other.value)));
+        if (isString) return Integer.signum(((String) value).compareTo((String) other.value));
         // numeric value
-        return compareTypes.contains(Integer.signum(Double.compare(((Number) value).doubleValue(), ((Number) other.value).doubleValue())));
+        return Integer.signum(Double.compare(((Number) value).doubleValue(), ((Number) other.value).doubleValue()));
     }
 
     public Cell fitToColumn(ColumnType type) {
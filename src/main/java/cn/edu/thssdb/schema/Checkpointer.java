@@ -0,0 +1,91 @@
+package cn.edu.thssdb.schema;
+
+import cn.edu.thssdb.common.Global;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * Background thread taking the checkpoints of the databases, see Database.checkpoint.
+ * A database is checkpointed once a commit finds its log larger than Global.checkpointLogSize bytes,
+ * and every Global.checkpointInterval ms if its log has grown since its last checkpoint.
+ * At those intervals it also closes the tables idle for Global.tableIdleTimeout ms while memory is short.
+ */
+public class Checkpointer {
+    private final Manager manager;
+    private final LinkedHashSet<String> requested = new LinkedHashSet<>();
+    private final HashMap<String, Long> checkpointedSizes = new HashMap<>(); // log sizes right after the checkpoints
+
+    public Checkpointer(Manager manager) {
+        this.manager = manager;
+        var thread = new Thread(this::run, "checkpointer");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    // after a commit, doesn't wait for the checkpoint
+    public void mayCheckPoint(String databaseName) {
+        if (manager.get(databaseName).log().size() <= Global.checkpointLogSize) return;
+        synchronized (this) {
+            if (requested.add(databaseName)) notifyAll();
+        }
+    }
+
+    private void run() {
+        long lastRound = System.currentTimeMillis();
+        while (true) {
+            List<String> databaseNames;
+            synchronized (this) {
+                try {
+                    long left;
+                    while (requested.isEmpty() && (left = lastRound + Global.checkpointInterval - System.currentTimeMillis()) > 0)
+                        wait(left);
+                } catch (InterruptedException e) {
+                    return;
+                }
+                databaseNames = new ArrayList<>(requested);
+                requested.clear();
+            }
+            boolean interval = databaseNames.isEmpty();
+            if (interval) {
+                lastRound = System.currentTimeMillis();
+                databaseNames = manager.getDatabaseNames();
+            }
+            for (var databaseName : databaseNames)
+                checkpoint(databaseName);
+            if (interval && memoryIsShort())
+                for (var databaseName : databaseNames)
+                    unloadIdleTables(databaseName);
+        }
+    }
+
+    private static boolean memoryIsShort() {
+        var runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory() > Global.tableUnloadMemoryRatio * runtime.maxMemory();
+    }
+
+    private void unloadIdleTables(String databaseName) {
+        if (Global.tableIdleTimeout <= 0) return;
+        try {
+            manager.get(databaseName).unloadIdleTables(Global.tableIdleTimeout);
+        } catch (RuntimeException e) {
+            System.out.println("Unload tables of database " + databaseName + " failed: " + e.getMessage());
+        }
+    }
+
+    private void checkpoint(String databaseName) {
+        try {
+            var database = manager.get(databaseName);
+            long size = database.log().size();
+            if (size == 0 || size == checkpointedSizes.getOrDefault(databaseName, -1L)) return;
+            database.checkpoint();
+            checkpointedSizes.put(databaseName, database.log().size());
+            System.out.println("Checkpoint database " + databaseName);
+        } catch (RuntimeException e) { // the log is kept as it was, e.g. the database was dropped
+            checkpointedSizes.remove(databaseName);
+            System.out.println("Checkpoint database " + databaseName + " failed: " + e.getMessage());
+        }
+    }
+}
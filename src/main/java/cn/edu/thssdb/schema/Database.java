@@ -4,17 +4,27 @@ import cn.edu.thssdb.exception.DuplicateTableException;
 import cn.edu.thssdb.exception.FileIOException;
 import cn.edu.thssdb.exception.TableNotExistException;
 import cn.edu.thssdb.common.Global;
+import cn.edu.thssdb.storage.LogRecord;
+import cn.edu.thssdb.storage.WriteAheadLog;
 
 import java.io.*;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 
 public class Database {
 
     private final String databaseName;
-    private HashMap<String, Table> tableMap;
+    private HashMap<String, Table> tableMap; // loaded tables
+    private final HashMap<String, List<Column>> unloadedTables = new HashMap<>(); // tables with their columns, opened by get
+    private final HashMap<String, Long> lastAccess = new HashMap<>(); // of loaded tables, ms
+    private volatile WriteAheadLog log;
+    private final HashMap<Long, Long> activeTransactions = new HashMap<>(); // session to the LSN of its BEGIN
     SessionLock lock;
 
     public Database(String databaseName) {
@@ -29,7 +39,7 @@ public class Database {
 
     // Operations: (basic) persist, create tables
     public synchronized void persistMeta() {
-        // 把各表的元数据写到磁盘上
+        // 把各表的元数据写到磁盘上, 未加载的表的元数据没有变化
         for (var table : tableMap.values()) {
             var filename = table.getTableMetaPath();
             var columns = table.columns;
@@ -46,22 +56,91 @@ public class Database {
         }
     }
 
-    public synchronized void persistTable() {
-        for (var table : tableMap.values())
+    public void persistTable() {
+        for (var table : tables()) // tables aren't persisted under the lock of the database, changes log under theirs
             table.persist();
     }
 
+    private synchronized List<Table> tables() {
+        return new ArrayList<>(tableMap.values());
+    }
+
     // lock control in SQLHandler.evaluate, lock database
     public synchronized void create(String tableName, List<Column> columns) {
-        if (tableMap.containsKey(tableName)) throw new DuplicateTableException(tableName);
-        tableMap.put(tableName, new Table(databaseName, tableName, columns));
+        if (tableMap.containsKey(tableName) || unloadedTables.containsKey(tableName))
+            throw new DuplicateTableException(tableName);
+        tableMap.put(tableName, new Table(this, tableName, columns));
+        lastAccess.put(tableName, System.currentTimeMillis());
         persistMeta();
     }
 
-    // NO Lock Needed
+    // NO Lock Needed, loads the table on first access
     public synchronized Table get(String tableName) {
-        if (!tableMap.containsKey(tableName)) throw new TableNotExistException(tableName);
-        return tableMap.get(tableName);
+        var table = tableMap.get(tableName);
+        if (table == null) {
+            var columns = unloadedTables.get(tableName);
+            if (columns == null) throw new TableNotExistException(tableName);
+            table = new Table(this, tableName, columns);
+            unloadedTables.remove(tableName);
+            tableMap.put(tableName, table);
+        }
+        lastAccess.put(tableName, System.currentTimeMillis());
+        return table;
+    }
+
+    /**
+     * Opens tables in parallel with their indexes rebuilt from the heap, for the redo and undo of their changes at recovery.
+     * Fails if a table can't be opened.
+     */
+    public void load(Collection<String> tableNames, ForkJoinPool pool) {
+        var loading = new LinkedHashMap<String, ForkJoinTask<Table>>();
+        synchronized (this) {
+            for (var tableName : tableNames) {
+                var columns = unloadedTables.get(tableName);
+                if (columns != null) loading.put(tableName, pool.submit(() -> new Table(this, tableName, columns, true)));
+            }
+        }
+        for (var entry : loading.entrySet()) {
+            var table = entry.getValue().join();
+            synchronized (this) {
+                unloadedTables.remove(entry.getKey());
+                tableMap.put(entry.getKey(), table);
+                lastAccess.put(entry.getKey(), System.currentTimeMillis());
+            }
+        }
+    }
+
+    /**
+     * Locks the table for the session. A table unloaded between get and the lock is opened again and locked instead.
+     */
+    public void acquire(String tableName, long session, boolean exclusive) throws InterruptedException {
+        while (true) {
+            var table = get(tableName);
+            if (exclusive) table.lock.XAcquire(session);
+            else table.lock.SAcquire(session);
+            synchronized (this) {
+                if (tableMap != null && tableMap.get(tableName) == table) return;
+            }
+            table.lock.Release(session); // closed, it had no other lock
+        }
+    }
+
+    /**
+     * Closes the tables not accessed for idleMillis and not locked by any session, get opens them again.
+     * Closing writes back the dirty pages of a table once the log is forced up to their changes (see PageFile),
+     * a checkpoint skips the tables closed meanwhile. A session locks a table with acquire, never a closed one.
+     */
+    public synchronized void unloadIdleTables(long idleMillis) {
+        if (tableMap == null) return; // dropped
+        long now = System.currentTimeMillis();
+        for (var it = tableMap.values().iterator(); it.hasNext(); ) {
+            var table = it.next();
+            if (now - lastAccess.get(table.tableName) < idleMillis || !table.lock.isFree()) continue;
+            table.close();
+            it.remove();
+            lastAccess.remove(table.tableName);
+            unloadedTables.put(table.tableName, table.columns);
+        }
     }
 
     // lock control in SQLHandler.evaluate, lock database and table
@@ -73,10 +152,62 @@ public class Database {
             throw new FileIOException(tableName + " _meta  when drop a table in database");
         table.dropTable();
         tableMap.remove(tableName);
+        lastAccess.remove(tableName);
+        // forced before a table of the same name can be created: recovery doesn't redo the changes of the dropped one into it
+        var current = log();
+        current.force(current.append(-1, LogRecord.DROP, LogRecord.change(tableName, new byte[0])));
+    }
+
+    // opened on first use, recovery replaces a log of an older format first
+    public WriteAheadLog log() {
+        var opened = log;
+        if (opened != null) return opened;
+        synchronized (this) {
+            if (log == null) log = new WriteAheadLog(getDatabaseLogFilePath());
+            return log;
+        }
+    }
+
+    // Transactions: logged with the session as the transaction id, active ones are kept in the log by checkpoints
+
+    public synchronized void begin(long session) {
+        activeTransactions.put(session, log().append(session, LogRecord.BEGIN, new byte[0]));
+    }
+
+    public void commit(long session) {
+        log().commit(session); // waits for the log, not under the lock of the database
+        synchronized (this) {
+            activeTransactions.remove(session);
+        }
+    }
+
+    /**
+     * Fuzzy checkpoint: writers go on while the tables are persisted one at a time.
+     * Changes logged before the CHECKPOINT record are persisted by then, so the log is truncated at that record,
+     * or at the BEGIN of the oldest transaction active at the checkpoint.
+     * The log is truncated only after the heap and index files of all tables are written and forced,
+     * tables loaded after the CHECKPOINT record have no change before it, unloaded ones were written when closed.
+     */
+    public void checkpoint() {
+        long checkpointLsn, oldestLsn;
+        List<Table> tables;
+        WriteAheadLog checkpointed;
+        synchronized (this) {
+            if (tableMap == null) return; // dropped
+            checkpointed = log();
+            checkpointLsn = checkpointed.append(-1, LogRecord.CHECKPOINT, LogRecord.checkpoint(activeTransactions));
+            oldestLsn = activeTransactions.values().stream().reduce(checkpointLsn, Math::min);
+            tables = new ArrayList<>(tableMap.values());
+        }
+        for (var table : tables) // a failure keeps the log as it is
+            table.persist();
+        checkpointed.truncate(oldestLsn); // not under the lock of the database, transactions begin meanwhile
     }
 
     // lock control in Manager.deleteDatabase
     public synchronized void dropDatabase() {
+        for (var tableName : new ArrayList<>(unloadedTables.keySet()))
+            get(tableName); // to drop its files
         for (var table : tableMap.values()) {
             File file = new File(table.getTableMetaPath());
             if (file.isFile() && !file.delete())
@@ -85,8 +216,14 @@ public class Database {
         }
         tableMap.clear();
         tableMap = null;
+        if (log != null) log.close();
+        log = null;
+        File logFile = new File(getDatabaseLogFilePath());
+        if (logFile.isFile() && !logFile.delete())
+            throw new FileIOException(this.databaseName + " log when drop the database");
     }
 
+    // tables are registered from their meta files, and opened on first access
     private synchronized void recover() {
         System.out.println("! try to recover database " + databaseName + " from disk");
         File tableFolder = new File(this.getDatabaseTableFolderPath());
@@ -98,7 +235,7 @@ public class Database {
             try {
                 String fileName = file.getName();
                 String tableName = fileName.substring(0, fileName.length() - Global.META_SUFFIX.length());
-                if (tableMap.containsKey(tableName)) throw new DuplicateTableException(tableName);
+                if (unloadedTables.containsKey(tableName)) throw new DuplicateTableException(tableName);
 
                 var columnList = new ArrayList<Column>();
                 var reader = new InputStreamReader(new FileInputStream(file));
@@ -107,15 +244,12 @@ public class Database {
                 while ((readLine = bufferedReader.readLine()) != null) columnList.add(Column.parseColumn(readLine));
                 bufferedReader.close();
                 reader.close();
-                var table = new Table(databaseName, tableName, columnList);
-                System.out.println(table);
-                for (Row row : table)
-                    System.out.println(row.toString());
-                tableMap.put(tableName, table);
+                unloadedTables.put(tableName, columnList);
             } catch (Exception e) {
                 e.printStackTrace();
             }
         }
+        System.out.println("! registered " + unloadedTables.size() + " tables of database " + databaseName);
     }
 
 
@@ -137,11 +271,13 @@ public class Database {
         return this.databaseName;
     }
 
-    public String toString() {
-        if (this.tableMap.isEmpty()) return "{\n[DatabaseName: " + databaseName + "]\n" + Global.DATABASE_EMPTY + "}\n";
+    public synchronized String toString() {
+        if (this.tableMap.isEmpty() && unloadedTables.isEmpty())
+            return "{\n[DatabaseName: " + databaseName + "]\n" + Global.DATABASE_EMPTY + "}\n";
         StringBuilder result = new StringBuilder("{\n[DatabaseName: " + databaseName + "]\n");
         for (Table table : tableMap.values())
             if (table != null) result.append(table);
+        unloadedTables.forEach((tableName, columns) -> result.append(Table.describe(tableName, columns)));
         return result + "}\n";
     }
 }
@@ -1,21 +1,33 @@
 package cn.edu.thssdb.schema;
 
 import cn.edu.thssdb.exception.DatabaseNotExistException;
+import cn.edu.thssdb.exception.DatabaseRecoveryException;
 import cn.edu.thssdb.exception.FileIOException;
+import cn.edu.thssdb.exception.LockWaitTimeoutException;
+import cn.edu.thssdb.exception.TableNotExistException;
 import cn.edu.thssdb.parser.SQLHandler;
+import cn.edu.thssdb.storage.LogRecord;
+import cn.edu.thssdb.storage.WriteAheadLog;
 import cn.edu.thssdb.common.Global;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.io.*;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 public class Manager {
+    private static final Logger logger = LoggerFactory.getLogger(Manager.class);
     private final HashMap<String, Database> databases;
     public Database currentDatabase;
     public ArrayList<Long> inTransactionSessions;
     public static SQLHandler sqlHandler;
     public final Map<Long, Set<String>> sessionToLocks;
+    public final Checkpointer checkpointer;
 
     public static Manager getInstance() {
         return Manager.ManagerHolder.INSTANCE;
@@ -30,6 +42,7 @@ public class Manager {
         File managerFolder = new File(Global.DBMS_DIR + File.separator + "data");
         if (!(managerFolder.exists() || managerFolder.mkdirs())) throw new RuntimeException("create file failed");
         recover();
+        checkpointer = new Checkpointer(this); // not while the logs are replayed
     }
 
     public void deleteDatabase(String databaseName, long session) {
@@ -42,6 +55,8 @@ public class Manager {
                 if (db == currentDatabase)
                     currentDatabase = null;
             }
+        } catch (LockWaitTimeoutException e) {
+            throw e; // not dropped
         } catch (Exception e) {
             e.printStackTrace();
         } finally {
@@ -80,7 +95,7 @@ public class Manager {
     public synchronized void quit() {
         for (var db : databases.values()) {
             db.persistMeta();
-            db.persistTable();
+            db.checkpoint(); // a restart has no change to replay
         }
         persistMeta();
     }
@@ -91,6 +106,10 @@ public class Manager {
         return databases.get(databaseName);
     }
 
+    public synchronized List<String> getDatabaseNames() {
+        return new ArrayList<>(databases.keySet());
+    }
+
     // NO Lock Needed
     public synchronized void createDatabaseIfNotExists(String databaseName) {
         if (!databases.containsKey(databaseName)) databases.put(databaseName, new Database(databaseName));
@@ -120,20 +139,17 @@ public class Manager {
 
 
     // Log control and recover from logs.
+    // a commit returns once its record is as durable as Global.walSyncPolicy makes it
     public void writeLog(String statement, long sId) {
-        String logFilename = currentDatabase.getDatabaseLogFilePath();
-        try {
-            FileWriter writer = new FileWriter(logFilename, true);
-            writer.write(sId + "\n" + statement + "\n");
-            writer.close();
-        } catch (Exception e) {
-            throw new FileIOException(logFilename);
-        }
+        if (statement.equals(Global.LOG_BEGIN_TRANSACTION)) currentDatabase.begin(sId);
+        else if (statement.equals(Global.LOG_COMMIT)) currentDatabase.commit(sId);
+        else currentDatabase.log().append(sId, LogRecord.STATEMENT, statement.getBytes(StandardCharsets.UTF_8));
     }
 
     static class LogItem {
         public long session;
         public String statement;
+        public LogRecord change; // a row change is redone, not evaluated, or a DROP
         public boolean committed;
 
         LogItem(long s, String st) {
@@ -141,18 +157,44 @@ public class Manager {
             this.statement = st;
             this.committed = false;
         }
+
+        LogItem(LogRecord change) {
+            this(change.transaction(), "");
+            this.change = change;
+        }
     }
 
     // TODO: read Log in transaction to recover.
-    public void readLog(String databaseName) throws IOException {
-        System.out.println("??!! try to recover database " + databaseName + " from log");
-        var logLines = Files.readAllLines(Path.of(getDatabaseLogFilePath(databaseName)));
+    public void readLog(String databaseName, ForkJoinPool pool) throws IOException {
+        logger.info("Recovering database {} from its log", databaseName);
+        var path = getDatabaseLogFilePath(databaseName);
+        if (new File(path).isFile() && !WriteAheadLog.isLog(path)) {
+            // text log written before the write-ahead log, replayed and persisted once
+            var logLines = Files.readAllLines(Path.of(path));
+            var logItems = new ArrayList<LogItem>();
+            for (var it = logLines.iterator(); it.hasNext(); ) {
+                var session = Long.parseLong(it.next());
+                logItems.add(new LogItem(session, it.next()));
+            }
+            replay(databaseName, logItems, pool);
+            persistDatabase(databaseName);
+            Files.delete(Path.of(path));
+        }
         var logItems = new ArrayList<LogItem>();
-        for (var it = logLines.iterator(); it.hasNext(); ) {
-            var session = Long.parseLong(it.next());
-            logItems.add(new LogItem(session, it.next()));
+        for (var record : get(databaseName).log().records()) {
+            if (record.type() == LogRecord.CHECKPOINT) continue;
+            logItems.add(switch (record.type()) {
+                case LogRecord.BEGIN -> new LogItem(record.transaction(), Global.LOG_BEGIN_TRANSACTION);
+                case LogRecord.COMMIT -> new LogItem(record.transaction(), Global.LOG_COMMIT);
+                case LogRecord.PUT, LogRecord.DELETE, LogRecord.DROP -> new LogItem(record);
+                default -> new LogItem(record.transaction(), new String(record.payload(), StandardCharsets.UTF_8));
+            });
         }
+        replay(databaseName, logItems, pool);
+        if (!logItems.isEmpty()) get(databaseName).checkpoint(); // undone transactions are not replayed again
+    }
 
+    private void replay(String databaseName, List<LogItem> logItems, ForkJoinPool pool) {
         // process, get committed state of every log
         var reversedLogItems = new ArrayList<>(logItems); // shallow copy
         Collections.reverse(reversedLogItems);
@@ -163,33 +205,81 @@ public class Manager {
             if (i.statement.equals(Global.LOG_BEGIN_TRANSACTION)) committedSessionSet.remove(i.session);
         }
 
-        // recover the committed logs
+        // recover the committed statements (of older logs, before all row changes) in order, then the row changes
+        // of each table, the tables in parallel: all are redone in order, then the uncommitted ones undone in reverse
+        var changes = new LinkedHashMap<String, List<LogItem>>();
         for (var i : logItems) {
-            if (i.committed) {
-                System.out.println("??!! session: " + i.session + " statement: " + i.statement);
+            if (i.change != null && i.change.type() == LogRecord.DROP) {
+                changes.remove(i.change.table()); // of the dropped table, a table of the same name is created later
+            } else if (i.change != null) {
+                changes.computeIfAbsent(i.change.table(), t -> new ArrayList<>()).add(i);
+            } else if (i.committed) {
+                logger.debug("Redo session {}: {}", i.session, i.statement);
                 sqlHandler.evaluate(i.statement, -i.session - 2);
             } else {
-                System.out.println("??!! UNCOMMITTED ITEM session: " + i.session + " statement: " + i.statement);
+                logger.debug("Skip uncommitted session {}: {}", i.session, i.statement);
             }
         }
-
+        if (changes.isEmpty()) return;
+        long start = System.currentTimeMillis();
+        var database = get(databaseName);
+        database.load(changes.keySet(), pool);
+        var tasks = new ArrayList<ForkJoinTask<Integer>>();
+        for (var entry : changes.entrySet())
+            tasks.add(pool.submit(() -> {
+                Table table;
+                try {
+                    table = database.get(entry.getKey());
+                } catch (TableNotExistException e) { // dropped since
+                    return 0;
+                }
+                var items = entry.getValue();
+                for (var item : items)
+                    table.redo(item.change);
+                int undone = 0;
+                for (int k = items.size() - 1; k >= 0; k--) {
+                    if (items.get(k).committed) continue;
+                    table.undo(items.get(k).change);
+                    ++undone;
+                }
+                return undone;
+            }));
+        int undone = 0;
+        for (var task : tasks)
+            undone += task.join(); // a failed redo fails the recovery
+        logger.info("Redone the row changes of {} tables of database {} in {} ms, undone {} uncommitted",
+                changes.size(), databaseName, System.currentTimeMillis() - start, undone);
     }
 
+    /**
+     * Recovers the databases listed in the manager file, none on the first start.
+     * A database that can't be recovered fails the start with a DatabaseRecoveryException naming it.
+     */
     public synchronized void recover() {
+        var managerFile = new File(getManagerDataFilePath());
+        if (!managerFile.exists()) return;
+        List<String> databaseNames;
+        try {
+            databaseNames = Files.readAllLines(managerFile.toPath());
+        } catch (IOException e) {
+            throw new FileIOException(getManagerDataFilePath() + " on recovery");
+        }
+        long start = System.currentTimeMillis();
+        var pool = new ForkJoinPool(Global.recoveryThreads);
         try {
-            System.out.println("??!! try to recover manager");
-            var databases = Files.readAllLines(Path.of(getManagerDataFilePath()));
-            try {
-                for (var database : databases) {
-                    System.out.println("??!!" + database);
+            // tables are opened on first access, the ones with changes in a log in parallel by its replay
+            for (var database : databaseNames) {
+                try {
                     createDatabaseIfNotExists(database);
-                    readLog(database);
+                    readLog(database, pool);
+                } catch (IOException | RuntimeException e) {
+                    throw new DatabaseRecoveryException(database, e);
                 }
-            } catch (Exception e) {
-                e.printStackTrace();
             }
-        } catch (Exception ignored) {
+        } finally {
+            pool.shutdown();
         }
+        logger.info("Recovered {} databases in {} ms", databaseNames.size(), System.currentTimeMillis() - start);
     }
 
     // Get positions
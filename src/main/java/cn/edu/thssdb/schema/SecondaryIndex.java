@@ -0,0 +1,135 @@
+package cn.edu.thssdb.schema;
+
+import cn.edu.thssdb.index.IndexCursor;
+import cn.edu.thssdb.index.KeyRange;
+import cn.edu.thssdb.index.PageBPlusTree;
+import cn.edu.thssdb.storage.CellCodec;
+import cn.edu.thssdb.storage.PageCodec;
+import cn.edu.thssdb.storage.WriteAheadLog;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Index on a non-primary column, a PageBPlusTree from (column value, primary key) to record id.
+ * The primary key makes duplicate values distinct keys, NULL values sort first.
+ */
+public class SecondaryIndex {
+    public final String name;
+    public final int columnIndex;
+    private final int primaryIndex;
+    private final PageBPlusTree<Key, Long> tree;
+
+    SecondaryIndex(String name, String path, int columnIndex, Column column, int primaryIndex, Column primaryColumn) {
+        this.name = name;
+        this.columnIndex = columnIndex;
+        this.primaryIndex = primaryIndex;
+        tree = new PageBPlusTree<>(path, new KeyCodec(new CellCodec(column), new CellCodec(primaryColumn)), PageCodec.LONG);
+    }
+
+    // bytes of a key of an index on the column
+    static int keySize(Column column, Column primaryColumn) {
+        return new CellCodec(column).size() + new CellCodec(primaryColumn).size();
+    }
+
+    public int size() {
+        return tree.size();
+    }
+
+    void insert(Row row, long recordId) {
+        tree.put(key(row), recordId);
+    }
+
+    void delete(Row row) {
+        tree.remove(key(row));
+    }
+
+    private Key key(Row row) {
+        return new Key(row.getEntries().get(columnIndex), row.getEntries().get(primaryIndex), 0);
+    }
+
+    // record ids of rows whose value is in range, rows with NULL value are never in range
+    IndexCursor<Key, Long> cursor(KeyRange<Cell> range) {
+        var nullCell = new Cell(null);
+        var lower = range.lower == null ? new Key(nullCell, null, 1) : new Key(range.lower, null, range.lowerInclusive ? -1 : 1);
+        var upper = range.upper == null ? null : new Key(range.upper, null, range.upperInclusive ? 1 : -1);
+        return tree.cursor(lower, false, upper, false, false);
+    }
+
+    void logged(WriteAheadLog log, long lsn) {
+        tree.logged(log, lsn);
+    }
+
+    void flush() {
+        tree.flush();
+    }
+
+    void close() {
+        tree.close();
+    }
+
+    void discard() {
+        tree.discard();
+    }
+
+    /**
+     * Entry key, or a search bound placed before (bound -1) or after (bound 1) all primary keys of a value.
+     */
+    static class Key implements Comparable<Key> {
+        final Cell value;
+        final Cell primary;
+        final int bound;
+
+        Key(Cell value, Cell primary, int bound) {
+            this.value = value;
+            this.primary = primary;
+            this.bound = bound;
+        }
+
+        @Override
+        public int compareTo(Key k) {
+            if (value.value == null || k.value.value == null) {
+                int cmp = Boolean.compare(value.value != null, k.value.value != null);
+                if (cmp != 0) return cmp;
+            } else {
+                int cmp = value.compareTo(k.value);
+                if (cmp != 0) return cmp;
+            }
+            if (bound != 0 || k.bound != 0) return Integer.compare(bound, k.bound);
+            return primary.compareTo(k.primary);
+        }
+    }
+
+    private static class KeyCodec implements PageCodec<Key> {
+        private final CellCodec valueCodec;
+        private final CellCodec primaryCodec;
+
+        KeyCodec(CellCodec valueCodec, CellCodec primaryCodec) {
+            this.valueCodec = valueCodec;
+            this.primaryCodec = primaryCodec;
+        }
+
+        @Override
+        public int size() {
+            return valueCodec.size() + primaryCodec.size();
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, int offset, Key key) {
+            valueCodec.write(buffer, offset, key.value);
+            primaryCodec.write(buffer, offset + valueCodec.size(), key.primary);
+        }
+
+        @Override
+        public Key read(ByteBuffer buffer, int offset) {
+            return new Key(valueCodec.read(buffer, offset), primaryCodec.read(buffer, offset + valueCodec.size()), 0);
+        }
+
+        @Override
+        public int compare(ByteBuffer buffer, int offset, Key key) {
+            int cmp = valueCodec.compare(buffer, offset, key.value);
+            if (cmp != 0) return cmp;
+            if (key.bound != 0) return Integer.compare(0, key.bound);
+            return primaryCodec.compare(buffer, offset + valueCodec.size(), key.primary);
+        }
+    }
+}
@@ -1,11 +1,16 @@
 package cn.edu.thssdb.schema;
 
+import cn.edu.thssdb.common.Global;
+import cn.edu.thssdb.exception.LockWaitTimeoutException;
+
 import java.util.HashSet;
 import java.util.Set;
+import java.util.function.BooleanSupplier;
 
 public class SessionLock {
     private final Set<Long> XLockSession;
     private final Set<Long> SLockSessions;
+    private int waiting; // sessions waiting to acquire
 
     public SessionLock() {
         XLockSession = new HashSet<>();
@@ -14,7 +19,7 @@ public class SessionLock {
 
     public synchronized void XAcquire(long id) throws InterruptedException {
         // 已有X时while条件不满足，会被跳过
-        while (!canXAcquire(id)) wait(); // wait will release synchronized lock, safe!
+        await(() -> canXAcquire(id));
         // while exit case:
         // 0: 无锁, X=S={}
         // 1: 已有X, X={id}, S={}
@@ -24,10 +29,31 @@ public class SessionLock {
 
     public synchronized void SAcquire(long id) throws InterruptedException {
         // 已有X时while条件不满足，会被跳过
-        while (!canSAcquire(id)) wait(); // wait will release synchronized lock, safe!
+        await(() -> canSAcquire(id));
         SLockSessions.add(id); // 已有S时无效果，已有X时持有双锁s
     }
 
+    // a session waits at most Global.lockWaitTimeout ms: its statement fails instead of holding a worker of the server
+    // for as long as the lock is held, e.g. by a session whose commit waits for a worker
+    private void await(BooleanSupplier canAcquire) throws InterruptedException {
+        long timeout = Global.lockWaitTimeout;
+        long deadline = System.currentTimeMillis() + timeout;
+        waiting++;
+        try {
+            while (!canAcquire.getAsBoolean()) { // wait will release synchronized lock, safe!
+                if (timeout <= 0) {
+                    wait();
+                    continue;
+                }
+                long left = deadline - System.currentTimeMillis();
+                if (left <= 0) throw new LockWaitTimeoutException(timeout);
+                wait(left);
+            }
+        } finally {
+            waiting--;
+        }
+    }
+
     public synchronized void XRelease(long id) {
         XLockSession.remove(id);
         notifyAll();
@@ -52,6 +78,11 @@ public class SessionLock {
         return setIsEmptyExclude(XLockSession, id);
     }
 
+    // neither held nor waited for
+    public synchronized boolean isFree() {
+        return XLockSession.isEmpty() && SLockSessions.isEmpty() && waiting == 0;
+    }
+
     private static boolean setIsEmptyExclude(Set<Long> set, long id) {
         return set.isEmpty() || (set.size() == 1 && set.contains(id));
     }
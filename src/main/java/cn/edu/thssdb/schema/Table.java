@@ -1,11 +1,21 @@
 package cn.edu.thssdb.schema;
 
 import cn.edu.thssdb.exception.*;
-import cn.edu.thssdb.index.BPlusTree;
+import cn.edu.thssdb.index.IndexCursor;
+import cn.edu.thssdb.index.KeyRange;
+import cn.edu.thssdb.index.PageBPlusTree;
 import cn.edu.thssdb.common.Global;
-import cn.edu.thssdb.common.Pair;
+import cn.edu.thssdb.storage.CellCodec;
+import cn.edu.thssdb.storage.ColumnarTable;
+import cn.edu.thssdb.storage.HeapFile;
+import cn.edu.thssdb.storage.LogRecord;
+import cn.edu.thssdb.storage.PageCodec;
+import cn.edu.thssdb.storage.Page;
+import cn.edu.thssdb.storage.RowCodec;
 
 import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.util.*;
 
 import static cn.edu.thssdb.type.ColumnType.STRING;
@@ -13,19 +23,35 @@ import static cn.edu.thssdb.type.ColumnType.STRING;
 
 // Lock control logic is written in SQLHandler.evaluate
 public class Table implements Iterable<Row> {
+    private final Database database;
     private final String databaseName;
     public String tableName;
     public ArrayList<Column> columns;
-    public BPlusTree<Cell, Row> index;
+    public PageBPlusTree<Cell, Long> index; // primary key -> record id in heap
     public int primaryIndex;
+    public LinkedHashMap<String, SecondaryIndex> indexes; // index name -> secondary index
+    public TableStatistics statistics; // null until ANALYZE
+    private boolean columnar;
+    private ColumnarTable columnarCopy; // built by the first scan after a change
     public SessionLock lock;
+    private final HeapFile heap;
+    private boolean closed;
+    private final RowCodec rowCodec;
 
     // Initiate: Table, recover
-    public Table(String databaseName, String tableName, List<Column> columns) {
-        this.databaseName = databaseName;
+    public Table(Database database, String tableName, List<Column> columns) {
+        this(database, tableName, columns, false);
+    }
+
+    /**
+     * With rebuild, the index files are rebuilt from the heap: before a crash pages of the heap and the indexes
+     * are written back independently, recovery then redoes and undoes the logged changes by key.
+     */
+    Table(Database database, String tableName, List<Column> columns, boolean rebuild) {
+        this.database = database;
+        this.databaseName = database.getDatabaseName();
         this.tableName = tableName;
         this.columns = new ArrayList<>(columns);
-        this.index = new BPlusTree<>();
         this.primaryIndex = -1;
         lock = new SessionLock();
         for (int i = 0; i < this.columns.size(); i++) {
@@ -35,40 +61,127 @@ public class Table implements Iterable<Row> {
             }
         }
         if (this.primaryIndex < 0) throw new RuntimeException("There is no primary key in table");
-        ArrayList<Row> rowsOnDisk = deserialize();
-        for (Row row : rowsOnDisk)
-            index.put(row.getEntries().get(primaryIndex), row);
+        // rows never span pages: a schema whose rows may not fit is rejected by CREATE TABLE, before any file is written
+        if (RowCodec.maxEncodedSize(this.columns) > Page.maxRecordSize())
+            throw new RowSizeExceedException(tableName, RowCodec.maxEncodedSize(this.columns), Page.maxRecordSize());
+        var keyCodec = new CellCodec(this.columns.get(primaryIndex));
+        if (keyCodec.size() > PageBPlusTree.maxKeySize(PageCodec.LONG.size()))
+            throw new KeySizeExceedException(tableName, this.columns.get(primaryIndex).getColumnName(),
+                    keyCodec.size(), PageBPlusTree.maxKeySize(PageCodec.LONG.size()));
+        ArrayList<Row> legacyRows = deserializeLegacy();
+        rowCodec = new RowCodec(this.columns);
+        heap = new HeapFile(getTablePath(), rowCodec);
+        if (rebuild) deleteFile(getTableIndexPath());
+        boolean indexOnDisk = new File(getTableIndexPath()).length() > 0;
+        index = new PageBPlusTree<>(getTableIndexPath(), keyCodec, PageCodec.LONG);
+        if (!indexOnDisk) { // heap written before the index was persisted
+            var duplicates = new ArrayList<Long>();
+            for (var pair : heap) {
+                var key = pair.right.getEntries().get(primaryIndex);
+                if (index.contains(key)) duplicates.add(pair.left); // both copies of a row an update moved, redo fixes the row
+                else index.put(key, pair.left);
+            }
+            for (var recordId : duplicates)
+                heap.delete(recordId);
+        }
+        indexes = new LinkedHashMap<>();
+        loadIndexes(rebuild);
+        if (new File(getTableStatisticsPath()).isFile())
+            statistics = TableStatistics.read(getTableStatisticsPath(), this.columns);
+        columnar = new File(getTableColumnarPath()).isFile();
+        if (legacyRows != null) {
+            insert(legacyRows, -1);
+            persist();
+            deleteFile(getTableLegacyPath()); // migrated
+        }
     }
 
 
     // Operations: get, insert, delete, update, dropTable, you can add other operations.
     // lock in SQLHandler.evaluate
+    // changes of a session are logged as the row put or deleted, a negative session (recovery, migration) is not logged
+    // a change is logged and applied under the monitor of the table, so persist() sees all changes logged before it
+
+    public int size() {
+        return index.size();
+    }
 
     public Row get(Cell primaryCell) {
-        return this.index.get(primaryCell);
+        return heap.read(this.index.get(primaryCell));
     }
 
-    public void insert(List<Row> rows) {
+    public synchronized void insert(List<Row> rows, long session) {
         checkPutValid(rows, new TreeSet<>());
         // check all, then modify for atomic
         for (var row : rows)
-            index.put(row.getEntries().get(primaryIndex), row);
+            put(row, session);
     }
 
-    public void delete(List<Cell> keys) {
+    public synchronized void delete(List<Cell> keys, long session) {
         checkRemoveValid(keys);
         // check all, then modify for atomic
         for (var key : keys)
-            index.remove(key);
+            remove(key, session);
     }
 
-    public void update(List<Cell> oldKeys, List<Row> newRows) {
+    public synchronized void update(List<Cell> oldKeys, List<Row> newRows, long session) {
         checkPutValid(newRows, checkRemoveValid(oldKeys));
         // check all, then modify for atomic
         for (var key : oldKeys)
-            index.remove(key);
+            remove(key, session);
         for (var row : newRows)
-            index.put(row.getEntries().get(primaryIndex), row);
+            put(row, session);
+    }
+
+    /**
+     * Redoes a logged row change by its key: the row replaces the row with its key, or the row with the key is removed.
+     * Redoing a change again leaves the table as it is.
+     */
+    public synchronized void redo(LogRecord record) {
+        var row = rowCodec.decode(record.body());
+        var key = row.getEntries().get(primaryIndex);
+        if (index.contains(key)) remove(key, -1);
+        if (record.type() == LogRecord.PUT) put(row, -1);
+    }
+
+    /**
+     * Undoes a redone row change of a transaction that didn't commit, its changes are undone in reverse order.
+     * The row with the key is removed, or the deleted row is put back.
+     */
+    public synchronized void undo(LogRecord record) {
+        var row = rowCodec.decode(record.body());
+        var key = row.getEntries().get(primaryIndex);
+        if (index.contains(key)) remove(key, -1);
+        if (record.type() == LogRecord.DELETE) put(row, -1);
+    }
+
+    private void put(Row row, long session) {
+        if (session >= 0) logged(database.log().append(session, LogRecord.PUT, LogRecord.change(tableName, rowCodec.encode(row))));
+        columnarCopy = null;
+        long recordId = heap.insert(row);
+        index.put(row.getEntries().get(primaryIndex), recordId);
+        for (var secondary : indexes.values())
+            secondary.insert(row, recordId);
+    }
+
+    private void remove(Cell key, long session) {
+        long recordId = index.get(key);
+        var row = heap.read(recordId); // logged as the row before the change
+        if (session >= 0) logged(database.log().append(session, LogRecord.DELETE, LogRecord.change(tableName, rowCodec.encode(row))));
+        columnarCopy = null;
+        for (var secondary : indexes.values())
+            secondary.delete(row);
+        heap.delete(recordId);
+        index.remove(key);
+    }
+
+    // pages are written back only once the log is on disk up to the latest change they may hold
+    private void logged(long lsn) {
+        var log = database.log();
+        heap.logged(log, lsn);
+        index.logged(log, lsn);
+        for (var secondary : indexes.values())
+            secondary.logged(log, lsn);
     }
 
     private void checkPutValid(List<Row> rows, TreeSet<Cell> removed) {
@@ -91,61 +204,207 @@ public class Table implements Iterable<Row> {
         return keySet;
     }
 
-    private void serialize() {
+    // Tables written by ObjectOutputStream before the page format, migrated once on open.
+    // The old file is renamed to <table>.legacy, and deleted once its rows are persisted in the new files;
+    // a migration interrupted by a crash starts again from it.
+    private ArrayList<Row> deserializeLegacy() {
+        File tableFolder = new File(this.getTableFolderPath());
+        if (!tableFolder.exists() ? !tableFolder.mkdirs() : !tableFolder.isDirectory())
+            throw new FileIOException(this.getTableFolderPath() + " when deserialize");
+        File tableFile = new File(this.getTablePath());
+        File legacyFile = new File(this.getTableLegacyPath());
         try {
-            File tableFolder = new File(this.getTableFolderPath());
-            if (!tableFolder.exists() ? !tableFolder.mkdirs() : !tableFolder.isDirectory())
-                throw new FileIOException(this.getTableFolderPath() + " on serializing table in folder");
-            File tableFile = new File(this.getTablePath());
-            if (!tableFile.exists() ? !tableFile.createNewFile() : !tableFile.isFile())
-                throw new FileIOException(this.getTablePath() + " on serializing table to file");
-            FileOutputStream fileOutputStream = new FileOutputStream(this.getTablePath());
-            ObjectOutputStream objectOutputStream = new ObjectOutputStream(fileOutputStream);
-            for (Row row : this)
-                objectOutputStream.writeObject(row);
-            objectOutputStream.close();
-            fileOutputStream.close();
+            if (tableFile.isFile() && isLegacyFile(tableFile))
+                Files.move(tableFile.toPath(), legacyFile.toPath(), StandardCopyOption.ATOMIC_MOVE);
+            else if (!legacyFile.isFile()) return null;
+            deleteFile(this.getTablePath()); // written by an interrupted migration
+            deleteFile(this.getTableIndexPath());
         } catch (IOException e) {
-            throw new FileIOException(this.getTablePath() + " on serializing");
+            throw new FileIOException(this.getTablePath() + " when migrate");
         }
-    }
-
-    private ArrayList<Row> deserialize() {
         try {
-            File tableFolder = new File(this.getTableFolderPath());
-            if (!tableFolder.exists() ? !tableFolder.mkdirs() : !tableFolder.isDirectory())
-                throw new FileIOException(this.getTableFolderPath() + " when deserialize");
-            File tableFile = new File(this.getTablePath());
-            if (!tableFile.exists()) return new ArrayList<>();
-            FileInputStream fileInputStream = new FileInputStream(this.getTablePath());
+            FileInputStream fileInputStream = new FileInputStream(legacyFile);
             ObjectInputStream objectInputStream = new ObjectInputStream(fileInputStream);
             ArrayList<Row> rowsOnDisk = new ArrayList<>();
-            Object tmpObj;
-            while (fileInputStream.available() > 0) {
-                tmpObj = objectInputStream.readObject();
-                rowsOnDisk.add((Row) tmpObj);
-            }
+            while (fileInputStream.available() > 0)
+                rowsOnDisk.add((Row) objectInputStream.readObject());
             objectInputStream.close();
             fileInputStream.close();
             return rowsOnDisk;
         } catch (IOException e) {
-            throw new FileIOException(this.getTablePath() + " when deserialize");
+            throw new FileIOException(this.getTableLegacyPath() + " when deserialize");
         } catch (ClassNotFoundException e) {
-            throw new FileIOException(this.getTablePath() + " when deserialize(serialized object cannot be found)");
+            throw new FileIOException(this.getTableLegacyPath() + " when deserialize(serialized object cannot be found)");
+        }
+    }
+
+    private static boolean isLegacyFile(File file) {
+        try (var input = new DataInputStream(new FileInputStream(file))) {
+            return file.length() >= 2 && input.readShort() == ObjectStreamConstants.STREAM_MAGIC;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    // Secondary indexes: createIndex, dropIndex, definitions in <table>_indexes as "name,column" lines
+
+    public synchronized void createIndex(String name, String columnName) {
+        if (indexes.containsKey(name)) throw new DuplicateIndexException(name);
+        int columnIndex = -1;
+        for (int i = 0; i < columns.size(); i++)
+            if (columns.get(i).getColumnName().equals(columnName)) columnIndex = i;
+        if (columnIndex < 0) throw new RuntimeException("Column " + columnName + " doesn't exist in table " + tableName + " definition");
+        if (columnIndex == primaryIndex) throw new RuntimeException("Column " + columnName + " is the primary key and already indexed");
+        int keySize = SecondaryIndex.keySize(columns.get(columnIndex), columns.get(primaryIndex));
+        if (keySize > PageBPlusTree.maxKeySize(PageCodec.LONG.size()))
+            throw new KeySizeExceedException(tableName, columnName, keySize, PageBPlusTree.maxKeySize(PageCodec.LONG.size()));
+        File file = new File(getSecondaryIndexPath(name));
+        if (file.exists() && !file.delete()) // left by a crash before the definition was written
+            throw new FileIOException(file.getPath() + " when createIndex");
+        var secondary = openIndex(name, columnIndex);
+        indexes.put(name, secondary);
+        secondary.flush();
+        persistIndexes();
+    }
+
+    public synchronized void dropIndex(String name) {
+        var secondary = indexes.remove(name);
+        if (secondary == null) throw new IndexNotExistException(name);
+        persistIndexes();
+        secondary.discard();
+        File file = new File(getSecondaryIndexPath(name));
+        if (file.exists() && !file.delete())
+            throw new FileIOException(file.getPath() + " when dropIndex");
+    }
+
+    // open the index file, fill it from the heap if it is new
+    private SecondaryIndex openIndex(String name, int columnIndex) {
+        String path = getSecondaryIndexPath(name);
+        boolean onDisk = new File(path).length() > 0;
+        var secondary = new SecondaryIndex(name, path, columnIndex, columns.get(columnIndex), primaryIndex, columns.get(primaryIndex));
+        if (!onDisk)
+            for (var pair : heap)
+                secondary.insert(pair.right, pair.left);
+        return secondary;
+    }
+
+    private void loadIndexes(boolean rebuild) {
+        File file = new File(getTableIndexesPath());
+        if (!file.isFile()) return;
+        try (var reader = new BufferedReader(new InputStreamReader(new FileInputStream(file)))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty()) continue;
+                var parts = line.split(",");
+                int columnIndex = -1;
+                for (int i = 0; i < columns.size(); i++)
+                    if (columns.get(i).getColumnName().equals(parts[1])) columnIndex = i;
+                if (columnIndex < 0) throw new FileIOException(file.getPath() + " refers to unknown column " + parts[1]);
+                if (rebuild) deleteFile(getSecondaryIndexPath(parts[0]));
+                indexes.put(parts[0], openIndex(parts[0], columnIndex));
+            }
+        } catch (IOException e) {
+            throw new FileIOException(file.getPath() + " when loadIndexes");
+        }
+    }
+
+    private static void deleteFile(String path) {
+        File file = new File(path);
+        if (file.exists() && !file.delete()) throw new FileIOException(path + " when deleting");
+    }
+
+    private void persistIndexes() {
+        String filename = getTableIndexesPath();
+        try (var writer = new OutputStreamWriter(new FileOutputStream(filename))) {
+            for (var secondary : indexes.values())
+                writer.write(secondary.name + "," + columns.get(secondary.columnIndex).getColumnName() + "\n");
+        } catch (IOException e) {
+            throw new FileIOException(filename);
         }
     }
 
+    // Statistics: analyze collects them and writes <table>_stats, they are not maintained by later changes
+
+    public synchronized void analyze() {
+        var collected = TableStatistics.collect(this);
+        collected.write(getTableStatisticsPath(), columns);
+        statistics = collected;
+    }
+
+    // Columnar: a table set columnar keeps an in-memory ColumnarTable of its rows for vectorized scans,
+    // dropped on every change and rebuilt from the heap by the next scan. <table>_columnar records the setting
+
+    public boolean isColumnar() {
+        return columnar;
+    }
+
+    public synchronized void setColumnar(boolean columnar) {
+        var file = new File(getTableColumnarPath());
+        try {
+            if (columnar ? !file.isFile() && !file.createNewFile() : file.exists() && !file.delete())
+                throw new FileIOException(file.getPath() + " when setColumnar");
+        } catch (IOException e) {
+            throw new FileIOException(file.getPath() + " when setColumnar");
+        }
+        this.columnar = columnar;
+        columnarCopy = null;
+    }
+
+    // rows in primary key order, only for a columnar table
+    public synchronized ColumnarTable columnar() {
+        if (!columnar) throw new IllegalStateException("Table " + tableName + " is not columnar");
+        if (columnarCopy == null) columnarCopy = ColumnarTable.of(columns, this);
+        return columnarCopy;
+    }
+
+    // write back dirty pages only
     public synchronized void persist() {
-        serialize();
+        if (closed) return; // written back when closed, or dropped
+        heap.flush();
+        index.flush();
+        for (var secondary : indexes.values())
+            secondary.flush();
     }
 
-    public void dropTable() { // remove table data file
+    // write back and release the pages, the table is opened again to be used
+    public synchronized void close() {
+        closed = true;
+        heap.close();
+        index.close();
+        for (var secondary : indexes.values())
+            secondary.close();
+        columnarCopy = null;
+    }
+
+    public synchronized void dropTable() { // remove table data file
+        closed = true;
+        heap.discard();
+        index.discard();
+        for (var secondary : indexes.values())
+            secondary.discard();
         File tableFolder = new File(this.getTableFolderPath());
         if (!tableFolder.exists() ? !tableFolder.mkdirs() : !tableFolder.isDirectory())
             throw new FileIOException(this.getTableFolderPath() + " when dropTable");
         File tableFile = new File(this.getTablePath());
         if (tableFile.exists() && !tableFile.delete())
             throw new FileIOException(this.getTablePath() + " when dropTable");
+        File indexFile = new File(this.getTableIndexPath());
+        if (indexFile.exists() && !indexFile.delete())
+            throw new FileIOException(this.getTableIndexPath() + " when dropTable");
+        for (var name : indexes.keySet()) {
+            File file = new File(this.getSecondaryIndexPath(name));
+            if (file.exists() && !file.delete())
+                throw new FileIOException(file.getPath() + " when dropTable");
+        }
+        File indexesFile = new File(this.getTableIndexesPath());
+        if (indexesFile.exists() && !indexesFile.delete())
+            throw new FileIOException(this.getTableIndexesPath() + " when dropTable");
+        File statisticsFile = new File(this.getTableStatisticsPath());
+        if (statisticsFile.exists() && !statisticsFile.delete())
+            throw new FileIOException(this.getTableStatisticsPath() + " when dropTable");
+        File columnarFile = new File(this.getTableColumnarPath());
+        if (columnarFile.exists() && !columnarFile.delete())
+            throw new FileIOException(this.getTableColumnarPath() + " when dropTable");
     }
 
 
@@ -154,27 +413,56 @@ public class Table implements Iterable<Row> {
 
     // Operations
 
-    private static class TableIterator implements Iterator<Row> {
-        private final Iterator<Pair<Cell, Row>> iterator;
+    // rows with primary key in range, in key order
+    public Iterator<Row> scan(KeyRange<Cell> range) {
+        if (range.isEmpty()) return Collections.emptyIterator();
+        if (range.isPoint()) {
+            try {
+                return List.of(get(range.lower)).iterator();
+            } catch (KeyNotExistException e) {
+                return Collections.emptyIterator();
+            }
+        }
+        return new TableIterator(this, index.cursor(range.lower, range.lowerInclusive, range.upper, range.upperInclusive, false));
+    }
 
-        TableIterator(Table table) {
-            iterator = table.index.iterator();
+    // rows with value of the indexed column in range, in (value, primary key) order
+    public Iterator<Row> scan(SecondaryIndex secondary, KeyRange<Cell> range) {
+        if (range.isEmpty()) return Collections.emptyIterator();
+        return new TableIterator(this, secondary.cursor(range));
+    }
+
+    private static class TableIterator implements Iterator<Row> {
+        private final IndexCursor<?, Long> cursor;
+        private final HeapFile heap;
+        private boolean advanced;
+        private boolean hasNext;
+
+        TableIterator(Table table, IndexCursor<?, Long> cursor) {
+            this.cursor = cursor;
+            heap = table.heap;
         }
 
         @Override
         public boolean hasNext() {
-            return iterator.hasNext();
+            if (!advanced) {
+                hasNext = cursor.advance();
+                advanced = true;
+            }
+            return hasNext;
         }
 
         @Override
         public Row next() {
-            return iterator.next().right;
+            if (!hasNext()) throw new NoSuchElementException();
+            advanced = false;
+            return heap.read(cursor.value());
         }
     }
 
     @Override
     public Iterator<Row> iterator() {
-        return new TableIterator(this);
+        return scan(KeyRange.all());
     }
 
     private void checkRowValidInTable(Row row) {
@@ -203,13 +491,41 @@ public class Table implements Iterable<Row> {
         return this.getTableFolderPath() + File.separator + this.tableName;
     }
 
+    public String getTableLegacyPath() {
+        return this.getTablePath() + Global.LEGACY_SUFFIX;
+    }
+
     public String getTableMetaPath() {
         return this.getTablePath() + Global.META_SUFFIX;
     }
 
+    public String getTableIndexPath() {
+        return this.getTablePath() + Global.INDEX_SUFFIX;
+    }
+
+    public String getTableIndexesPath() {
+        return this.getTablePath() + Global.INDEXES_SUFFIX;
+    }
+
+    public String getTableStatisticsPath() {
+        return this.getTablePath() + Global.STATISTICS_SUFFIX;
+    }
+
+    public String getTableColumnarPath() {
+        return this.getTablePath() + Global.COLUMNAR_SUFFIX;
+    }
+
+    public String getSecondaryIndexPath(String indexName) {
+        return this.getTableIndexPath() + "_" + indexName;
+    }
+
     @Override
     public String toString() {
-        StringBuilder s = new StringBuilder("Table " + this.tableName + ": ");
+        return describe(tableName, columns);
+    }
+
+    static String describe(String tableName, List<Column> columns) {
+        StringBuilder s = new StringBuilder("Table " + tableName + ": ");
         for (var column : columns) s.append("\t(").append(column.toString()).append(')');
         return s + "\n";
     }
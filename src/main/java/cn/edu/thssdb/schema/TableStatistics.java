@@ -0,0 +1,200 @@
+package cn.edu.thssdb.schema;
+
+import cn.edu.thssdb.common.Global;
+import cn.edu.thssdb.exception.FileIOException;
+import cn.edu.thssdb.index.KeyRange;
+import cn.edu.thssdb.type.ColumnType;
+
+import java.io.*;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Statistics collected by ANALYZE: row count, and per column the number of distinct values, fraction of NULL,
+ * min, max and an equi-depth histogram. Distinct values and histogram come from a sample of Global.analyzeSampleRows rows.
+ */
+public class TableStatistics {
+    private static final int HISTOGRAM_BUCKETS = 32;
+
+    public final long rowCount;
+    public final List<ColumnStatistics> columns;
+
+    private TableStatistics(long rowCount, List<ColumnStatistics> columns) {
+        this.rowCount = rowCount;
+        this.columns = columns;
+    }
+
+    public static class ColumnStatistics {
+        public final double distinct; // of non-NULL values
+        public final double nullFraction;
+        private final Cell[] bounds; // bounds[0] is min, the last is max, each bucket holds the same number of values; empty if all NULL
+
+        ColumnStatistics(double distinct, double nullFraction, Cell[] bounds) {
+            this.distinct = distinct;
+            this.nullFraction = nullFraction;
+            this.bounds = bounds;
+        }
+
+        public Cell min() {
+            return bounds.length == 0 ? null : bounds[0];
+        }
+
+        public Cell max() {
+            return bounds.length == 0 ? null : bounds[bounds.length - 1];
+        }
+
+        // fraction of rows with value in range, NULL is in no range except the unrestricted one
+        public double selectivity(KeyRange<Cell> range) {
+            if (range.isAll()) return 1;
+            if (range.isEmpty() || bounds.length == 0) return 0;
+            if (range.isPoint()) {
+                if (range.lower.compareTo(min()) < 0 || range.lower.compareTo(max()) > 0) return 0;
+                return (1 - nullFraction) / Math.max(1, distinct);
+            }
+            double lower = range.lower == null ? 0 : fractionBelow(range.lower, !range.lowerInclusive);
+            double upper = range.upper == null ? 1 : fractionBelow(range.upper, range.upperInclusive);
+            return (1 - nullFraction) * Math.max(0, upper - lower);
+        }
+
+        // fraction of non-NULL values less than (or equal to) v
+        private double fractionBelow(Cell v, boolean inclusive) {
+            double equal = inclusive ? 1 / Math.max(1, distinct) : 0;
+            if (v.compareTo(min()) <= 0) return v.compareTo(min()) < 0 ? 0 : equal;
+            if (v.compareTo(max()) > 0) return 1;
+            int buckets = bounds.length - 1;
+            int i = 0;
+            while (bounds[i + 1].compareTo(v) < 0) i++; // bounds[i] < v <= bounds[i + 1]
+            double within = 0.5;
+            if (v.value instanceof Number) {
+                double low = ((Number) bounds[i].value).doubleValue();
+                double high = ((Number) bounds[i + 1].value).doubleValue();
+                within = (((Number) v.value).doubleValue() - low) / (high - low);
+            }
+            return Math.min(1, (i + within) / buckets + equal);
+        }
+    }
+
+    // full scan of the table, values of a reservoir sample of rows kept for distinct counts and histograms
+    static TableStatistics collect(Table table) {
+        int columnCount = table.columns.size();
+        int sampleSize = Math.max(1, Global.analyzeSampleRows);
+        var sample = new ArrayList<Row>();
+        var random = new Random();
+        long rowCount = 0;
+        long[] nulls = new long[columnCount];
+        Cell[] min = new Cell[columnCount];
+        Cell[] max = new Cell[columnCount];
+        var comparators = table.columns.stream().map(column -> Cell.comparator(column.getColumnType())).toList();
+        for (var row : table) {
+            rowCount++;
+            if (sample.size() < sampleSize) sample.add(row);
+            else {
+                long j = (long) (random.nextDouble() * rowCount);
+                if (j < sampleSize) sample.set((int) j, row);
+            }
+            for (int c = 0; c < columnCount; c++) {
+                var cell = row.getEntries().get(c);
+                if (cell.value == null) nulls[c]++;
+                else {
+                    var comparator = comparators.get(c);
+                    if (min[c] == null || comparator.compare(cell, min[c]) < 0) min[c] = cell;
+                    if (max[c] == null || comparator.compare(cell, max[c]) > 0) max[c] = cell;
+                }
+            }
+        }
+        var columns = new ArrayList<ColumnStatistics>();
+        for (int c = 0; c < columnCount; c++) {
+            var values = new ArrayList<Cell>();
+            for (var row : sample) {
+                var cell = row.getEntries().get(c);
+                if (cell.value != null) values.add(cell);
+            }
+            values.sort(comparators.get(c));
+            long nonNull = rowCount - nulls[c];
+            double distinct;
+            if (c == table.primaryIndex) distinct = nonNull;
+            else distinct = estimateDistinct(values, nonNull);
+            Cell[] bounds = new Cell[0];
+            if (!values.isEmpty()) {
+                int buckets = Math.min(HISTOGRAM_BUCKETS, values.size());
+                bounds = new Cell[buckets + 1];
+                for (int b = 0; b <= buckets; b++)
+                    bounds[b] = values.get((int) ((long) b * (values.size() - 1) / buckets));
+                bounds[0] = min[c];
+                bounds[buckets] = max[c];
+            }
+            columns.add(new ColumnStatistics(distinct, rowCount == 0 ? 0 : (double) nulls[c] / rowCount, bounds));
+        }
+        return new TableStatistics(rowCount, columns);
+    }
+
+    // distinct values among total values from sorted sample values, scaled up by the Duj1 estimator if the sample is partial
+    private static double estimateDistinct(List<Cell> values, long total) {
+        if (values.isEmpty()) return 0;
+        var counts = new HashMap<Object, Integer>();
+        for (var cell : values)
+            counts.merge(cell.value, 1, Integer::sum);
+        double d = counts.size();
+        int n = values.size();
+        if (n >= total) return d;
+        long f1 = counts.values().stream().filter(count -> count == 1).count();
+        double estimate = n * d / (n - f1 + (double) f1 * n / total);
+        return Math.max(d, Math.min(total, estimate));
+    }
+
+    void write(String path, List<Column> tableColumns) {
+        try (var output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(path)))) {
+            output.writeLong(rowCount);
+            for (int c = 0; c < columns.size(); c++) {
+                var column = columns.get(c);
+                output.writeDouble(column.distinct);
+                output.writeDouble(column.nullFraction);
+                output.writeInt(column.bounds.length);
+                for (var bound : column.bounds)
+                    writeValue(output, tableColumns.get(c).getColumnType(), bound.value);
+            }
+        } catch (IOException e) {
+            throw new FileIOException(path);
+        }
+    }
+
+    static TableStatistics read(String path, List<Column> tableColumns) {
+        try (var input = new DataInputStream(new BufferedInputStream(new FileInputStream(path)))) {
+            long rowCount = input.readLong();
+            var columns = new ArrayList<ColumnStatistics>();
+            for (var column : tableColumns) {
+                double distinct = input.readDouble();
+                double nullFraction = input.readDouble();
+                Cell[] bounds = new Cell[input.readInt()];
+                for (int b = 0; b < bounds.length; b++)
+                    bounds[b] = new Cell(readValue(input, column.getColumnType()));
+                columns.add(new ColumnStatistics(distinct, nullFraction, bounds));
+            }
+            return new TableStatistics(rowCount, columns);
+        } catch (IOException e) {
+            throw new FileIOException(path + " when read statistics");
+        }
+    }
+
+    private static void writeValue(DataOutputStream output, ColumnType type, Object value) throws IOException {
+        switch (type) {
+            case INT -> output.writeInt((Integer) value);
+            case LONG -> output.writeLong((Long) value);
+            case FLOAT -> output.writeFloat((Float) value);
+            case DOUBLE -> output.writeDouble((Double) value);
+            case STRING -> output.writeUTF((String) value);
+        }
+    }
+
+    private static Object readValue(DataInputStream input, ColumnType type) throws IOException {
+        return switch (type) {
+            case INT -> input.readInt();
+            case LONG -> input.readLong();
+            case FLOAT -> input.readFloat();
+            case DOUBLE -> input.readDouble();
+            case STRING -> input.readUTF();
+        };
+    }
+}
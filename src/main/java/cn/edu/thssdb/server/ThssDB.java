@@ -4,18 +4,33 @@ import cn.edu.thssdb.rpc.thrift.IService;
 import cn.edu.thssdb.schema.Manager;
 import cn.edu.thssdb.service.IServiceHandler;
 import cn.edu.thssdb.common.Global;
+import org.apache.commons.cli.CommandLine;
+import org.apache.commons.cli.DefaultParser;
+import org.apache.commons.cli.Option;
+import org.apache.commons.cli.Options;
+import org.apache.commons.cli.ParseException;
 import org.apache.thrift.protocol.TBinaryProtocol;
 import org.apache.thrift.server.TServer;
 import org.apache.thrift.server.TSimpleServer;
 import org.apache.thrift.server.TThreadPoolServer;
 import org.apache.thrift.server.TThreadedSelectorServer;
+import org.apache.thrift.transport.TFramedTransport;
 import org.apache.thrift.transport.TNonblockingServerSocket;
+import org.apache.thrift.transport.TNonblockingSocket;
 import org.apache.thrift.transport.TNonblockingTransport;
 import org.apache.thrift.transport.TServerSocket;
 import org.apache.thrift.transport.TTransportException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.nio.channels.SocketChannel;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
 public class ThssDB {
 
     private static final Logger logger = LoggerFactory.getLogger(ThssDB.class);
@@ -25,11 +40,40 @@ public class ThssDB {
     }
 
     public static void main(String[] args) {
+        parseCmd(args);
         ThssDB server = ThssDB.getInstance();
         server.start();
     }
 
+    // server mode and its limits, defaults from Global
+    private static void parseCmd(String[] args) {
+        Options options = new Options();
+        options.addOption(Option.builder("m").longOpt("mode").hasArg()
+                .desc("threadpool (a thread per connection) or selector (non-blocking, framed transport)").build());
+        options.addOption(Option.builder("s").longOpt("selectors").hasArg().desc("selector threads of the selector mode").build());
+        options.addOption(Option.builder("w").longOpt("workers").hasArg().desc("worker threads of the selector mode").build());
+        options.addOption(Option.builder("c").longOpt("connections").hasArg().desc("maximum number of connections").build());
+        try {
+            CommandLine cmd = new DefaultParser().parse(options, args);
+            Global.serverMode = cmd.getOptionValue("m", Global.serverMode);
+            Global.selectorThreads = Integer.parseInt(cmd.getOptionValue("s", String.valueOf(Global.selectorThreads)));
+            Global.workerThreads = Integer.parseInt(cmd.getOptionValue("w", String.valueOf(Global.workerThreads)));
+            Global.maxConnections = Integer.parseInt(cmd.getOptionValue("c", String.valueOf(Global.maxConnections)));
+            if (!Global.serverMode.equals("threadpool") && !Global.serverMode.equals("selector"))
+                throw new ParseException("Unknown server mode " + Global.serverMode);
+        } catch (ParseException | NumberFormatException e) {
+            logger.error(e.getMessage());
+            System.exit(-1);
+        }
+    }
+
     private void start() {
+        try {
+            Manager.getInstance(); // recovers the databases before the server starts
+        } catch (ExceptionInInitializerError e) {
+            logger.error("The server is not started: " + e.getCause().getMessage());
+            System.exit(-1);
+        }
         IServiceHandler handler = new IServiceHandler();
         var processor = new IService.Processor<>(handler);
         Runnable setup = () -> setUp(processor);
@@ -38,17 +82,79 @@ public class ThssDB {
 
     private static void setUp(IService.Processor<IServiceHandler> processor) {
         try {
-            TServerSocket transport = new TServerSocket(Global.DEFAULT_SERVER_PORT);
+            TServer server;
+            if (Global.serverMode.equals("selector")) {
+                // a bounded pool: requests beyond the queue are refused by closing their connection, and so are connections
+                // accepted while the queue is full. Selector threads never run requests, a request waits for a lock at most
+                // Global.lockWaitTimeout ms, so the commit releasing the lock gets a worker
+                var workers = new ThreadPoolExecutor(Global.workerThreads, Global.workerThreads, 0L, TimeUnit.MILLISECONDS,
+                        new ArrayBlockingQueue<>(Global.workerQueueSize), new ThreadPoolExecutor.AbortPolicy());
+                var args = new TThreadedSelectorServer.Args(new LimitedServerSocket(Global.DEFAULT_SERVER_PORT, Global.maxConnections))
+                        .selectorThreads(Global.selectorThreads)
+                        .executorService(workers)
+                        .acceptPolicy(TThreadedSelectorServer.Args.AcceptPolicy.FAIR_ACCEPT)
+                        .transportFactory(new TFramedTransport.Factory())
+                        .processor(processor);
+                args.maxReadBufferBytes = Global.maxReadBufferBytes;
+                server = new TThreadedSelectorServer(args);
+            } else {
+                TServerSocket transport = new TServerSocket(Global.DEFAULT_SERVER_PORT);
+                server = new TThreadPoolServer(new TThreadPoolServer.Args(transport).processor(processor)
+                        .maxWorkerThreads(Global.maxConnections));
+            }
 
-            var server = new TThreadPoolServer(new TThreadPoolServer.Args(transport).processor(processor));
-
-            logger.info("Starting ThssDB ...");
+            logger.info("Starting ThssDB in " + Global.serverMode + " mode ...");
             server.serve();
         } catch (TTransportException e) {
             logger.error(e.getMessage());
         }
     }
 
+    /**
+     * Server socket closing the connections accepted beyond the limit of open connections.
+     */
+    private static class LimitedServerSocket extends TNonblockingServerSocket {
+        private final int maxConnections;
+        private final AtomicInteger connections = new AtomicInteger();
+
+        LimitedServerSocket(int port, int maxConnections) throws TTransportException {
+            super(port);
+            this.maxConnections = maxConnections;
+        }
+
+        @Override
+        protected TNonblockingSocket acceptImpl() throws TTransportException {
+            TNonblockingSocket socket = super.acceptImpl();
+            if (socket == null) return null;
+            if (connections.incrementAndGet() > maxConnections) {
+                connections.decrementAndGet();
+                socket.close();
+                throw new TTransportException("refused a connection beyond " + maxConnections);
+            }
+            try {
+                return new CountedSocket(socket.getSocketChannel());
+            } catch (IOException e) {
+                connections.decrementAndGet();
+                socket.close();
+                throw new TTransportException(e);
+            }
+        }
+
+        private class CountedSocket extends TNonblockingSocket {
+            private final AtomicBoolean open = new AtomicBoolean(true);
+
+            CountedSocket(SocketChannel channel) throws IOException {
+                super(channel);
+            }
+
+            @Override
+            public void close() {
+                if (open.getAndSet(false)) connections.decrementAndGet();
+                super.close();
+            }
+        }
+    }
+
     private static class ThssDBHolder {
         private static final ThssDB INSTANCE = new ThssDB();
 
@@ -1,29 +1,64 @@
 package cn.edu.thssdb.service;
 
 import cn.edu.thssdb.parser.SQLHandler;
+import cn.edu.thssdb.query.Operator;
 import cn.edu.thssdb.query.QueryResult;
+import cn.edu.thssdb.rpc.thrift.CloseOperationReq;
+import cn.edu.thssdb.rpc.thrift.CloseOperationResp;
 import cn.edu.thssdb.rpc.thrift.ConnectReq;
 import cn.edu.thssdb.rpc.thrift.ConnectResp;
 import cn.edu.thssdb.rpc.thrift.DisconnetReq;
 import cn.edu.thssdb.rpc.thrift.DisconnetResp;
+import cn.edu.thssdb.rpc.thrift.ExecuteQueryReq;
+import cn.edu.thssdb.rpc.thrift.ExecuteQueryResp;
 import cn.edu.thssdb.rpc.thrift.ExecuteStatementReq;
 import cn.edu.thssdb.rpc.thrift.ExecuteStatementResp;
+import cn.edu.thssdb.rpc.thrift.FetchResultsReq;
+import cn.edu.thssdb.rpc.thrift.FetchResultsResp;
 import cn.edu.thssdb.rpc.thrift.GetTimeReq;
 import cn.edu.thssdb.rpc.thrift.GetTimeResp;
 import cn.edu.thssdb.rpc.thrift.IService;
 import cn.edu.thssdb.rpc.thrift.Status;
 import cn.edu.thssdb.schema.Manager;
 import cn.edu.thssdb.schema.Row;
+import cn.edu.thssdb.type.ColumnType;
 import cn.edu.thssdb.type.QueryResultType;
 import cn.edu.thssdb.common.Global;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 
 public class IServiceHandler implements IService.Iface {
     public static Manager manager;
     public long sessionCount = 0;
     public static SQLHandler sqlHandler;
+    private final AtomicLong queryCount = new AtomicLong();
+    private final Map<Long, Cursor> cursors = new ConcurrentHashMap<>();
+
+    /**
+     * Open query of a session, its plan is suspended between fetches. A query run in a transaction of its own keeps
+     * the transaction open until the query is closed: after its last row, by closeOperation, by the next statement
+     * of the session, or as idle; the transaction commits then. In a transaction of the session the query is closed
+     * when the transaction commits. Queries not fetched from for Global.cursorIdleTimeout ms are closed.
+     */
+    private static class Cursor {
+        final long queryId;
+        final long session;
+        final Operator<Row> plan;
+        final List<ColumnType> types;
+        final boolean autoCommit;
+        volatile long lastAccess = System.currentTimeMillis();
+
+        Cursor(long queryId, long session, Operator<Row> plan, List<ColumnType> types, boolean autoCommit) {
+            this.queryId = queryId;
+            this.session = session;
+            this.plan = plan;
+            this.types = types;
+            this.autoCommit = autoCommit;
+        }
+    }
 
     public IServiceHandler() {
         super();
@@ -52,6 +87,7 @@ public class IServiceHandler implements IService.Iface {
     @Override
     public DisconnetResp disconnect(DisconnetReq req) {
         // TODO
+        closeCursors(req.getSessionId());
         DisconnetResp resp = new DisconnetResp();
         resp.setStatus(new Status(Global.SUCCESS_CODE));
         return resp;
@@ -84,6 +120,8 @@ public class IServiceHandler implements IService.Iface {
         for (String statement : statements) {
             statement = statement.trim();
             if (statement.length() == 0) continue;
+            closeAutoCommitCursors(session);
+            if (statement.equalsIgnoreCase(Global.LOG_COMMIT)) closeCursors(session);
             QueryResult queryResult;
             if (!manager.inTransactionSessions.contains(session) && shouldAutoCommit(statement)) {
                 // transaction for all statement
@@ -124,4 +162,144 @@ public class IServiceHandler implements IService.Iface {
         }
         return resp;
     }
+
+    /**
+     * Runs a single statement; a SELECT is left open on the server and its rows are fetched with fetchResults.
+     */
+    @Override
+    public ExecuteQueryResp executeQuery(ExecuteQueryReq req) {
+        ExecuteQueryResp resp = new ExecuteQueryResp();
+        long session = req.getSessionId();
+        var statements = Arrays.stream(req.statement.split(";")).map(String::trim).filter(s -> !s.isEmpty()).toList();
+        String error = session < 0 || session >= sessionCount ? "please connect first."
+                : statements.size() != 1 ? "a query is exactly one statement." : null;
+        if (error != null) {
+            Status status = new Status(Global.FAILURE_CODE);
+            status.setMsg(error);
+            resp.setStatus(status);
+            return resp;
+        }
+
+        String statement = statements.get(0);
+        reapIdleCursors();
+        closeAutoCommitCursors(session);
+        if (statement.equalsIgnoreCase(Global.LOG_COMMIT)) closeCursors(session);
+        boolean autoCommit = !manager.inTransactionSessions.contains(session) && shouldAutoCommit(statement);
+        if (autoCommit) sqlHandler.evaluate("begin transaction", session);
+        QueryResult queryResult = sqlHandler.evaluateLazily(statement, session);
+        resp.setStatus(new Status(Global.SUCCESS_CODE));
+        if (queryResult == null) {
+            if (autoCommit) sqlHandler.evaluate("commit", session);
+            resp.setIsAbort(true);
+            return resp;
+        }
+        if (queryResult.resultType == QueryResultType.SELECT) {
+            var plan = queryResult.getPlan();
+            boolean opened = false;
+            try {
+                plan.open();
+                opened = true;
+            } catch (RuntimeException e) {
+                plan.close();
+                queryResult = new QueryResult(e.getMessage());
+            }
+            if (opened) { // streamed under the locks of its transaction, an auto-commit one commits when the query is closed
+                long queryId = queryCount.getAndIncrement();
+                var types = queryResult.getColumnTypes();
+                cursors.put(queryId, new Cursor(queryId, session, plan, types, autoCommit));
+                resp.setHasResult(true);
+                resp.setQueryId(queryId);
+                for (String column_name : queryResult.getColumnNames())
+                    resp.addToColumnsList(column_name);
+                for (ColumnType type : types)
+                    resp.addToColumnTypes(RowBatchCodec.dataType(type));
+                return resp;
+            }
+        }
+        if (autoCommit) sqlHandler.evaluate("commit", session);
+        resp.addToColumnsList(queryResult.message);
+        return resp;
+    }
+
+    /**
+     * Next rows of an open query, at most maxRows of them; the query is closed after its last row.
+     * The rows are sent as strings, or typed in a RowBatch if asked for.
+     */
+    @Override
+    public FetchResultsResp fetchResults(FetchResultsReq req) {
+        FetchResultsResp resp = new FetchResultsResp();
+        reapIdleCursors();
+        var cursor = cursors.get(req.getQueryId());
+        if (cursor == null || cursor.session != req.getSessionId()) {
+            Status status = new Status(Global.FAILURE_CODE);
+            status.setMsg("query " + req.getQueryId() + " is not open.");
+            resp.setStatus(status);
+            return resp;
+        }
+        cursor.lastAccess = System.currentTimeMillis();
+        int maxRows = req.getMaxRows() > 0 ? req.getMaxRows() : Global.fetchSize;
+        var rows = new ArrayList<Row>(Math.min(maxRows, Global.fetchSize));
+        boolean hasMore = true;
+        synchronized (cursor) {
+            try {
+                while (hasMore && rows.size() < maxRows) {
+                    Row row = cursor.plan.next();
+                    if (row == null) hasMore = false;
+                    else rows.add(row);
+                }
+            } catch (RuntimeException e) {
+                close(cursor);
+                Status status = new Status(Global.FAILURE_CODE);
+                status.setMsg(e.getMessage());
+                resp.setStatus(status);
+                return resp;
+            }
+        }
+        if (!hasMore) close(cursor);
+        resp.setStatus(new Status(Global.SUCCESS_CODE));
+        resp.setHasMore(hasMore);
+        if (req.isTyped()) resp.setBatch(RowBatchCodec.encode(rows, cursor.types));
+        else resp.setRowList(rows.stream().<List<String>>map(Row::toStringList).toList());
+        return resp;
+    }
+
+    /**
+     * Closes a query before its last row was fetched; closing a query that is not open does nothing.
+     */
+    @Override
+    public CloseOperationResp closeOperation(CloseOperationReq req) {
+        var cursor = cursors.get(req.getQueryId());
+        if (cursor != null && cursor.session == req.getSessionId()) close(cursor);
+        CloseOperationResp resp = new CloseOperationResp();
+        resp.setStatus(new Status(Global.SUCCESS_CODE));
+        return resp;
+    }
+
+    private void close(Cursor cursor) {
+        if (cursors.remove(cursor.queryId) == null) return;
+        synchronized (cursor) {
+            cursor.plan.close();
+        }
+        if (cursor.autoCommit) sqlHandler.evaluate("commit", cursor.session); // releases the locks it read under
+    }
+
+    // the query the session runs in a transaction of its own ends before its next statement
+    private void closeAutoCommitCursors(long session) {
+        for (var cursor : List.copyOf(cursors.values()))
+            if (cursor.session == session && cursor.autoCommit) close(cursor);
+    }
+
+    // queries of the session, before its transaction commits and releases the locks they read under
+    private void closeCursors(long session) {
+        for (var cursor : List.copyOf(cursors.values()))
+            if (cursor.session == session) close(cursor);
+    }
+
+    // queries whose client is gone or has forgotten them
+    private void reapIdleCursors() {
+        if (Global.cursorIdleTimeout <= 0) return;
+        long now = System.currentTimeMillis();
+        for (var cursor : List.copyOf(cursors.values()))
+            if (now - cursor.lastAccess > Global.cursorIdleTimeout) close(cursor);
+    }
 }
@@ -0,0 +1,128 @@
+package cn.edu.thssdb.service;
+
+import cn.edu.thssdb.rpc.thrift.ColumnBatch;
+import cn.edu.thssdb.rpc.thrift.DataType;
+import cn.edu.thssdb.rpc.thrift.RowBatch;
+import cn.edu.thssdb.schema.Cell;
+import cn.edu.thssdb.schema.Row;
+import cn.edu.thssdb.type.ColumnType;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * Rows of a query result as a RowBatch of typed columns: numbers packed in binary, strings dictionary encoded.
+ */
+public class RowBatchCodec {
+    public static RowBatch encode(List<Row> rows, List<ColumnType> types) {
+        var batch = new RowBatch();
+        batch.setRowCount(rows.size());
+        for (int i = 0; i < types.size(); ++i)
+            batch.addToColumns(encode(rows, i, types.get(i)));
+        return batch;
+    }
+
+    public static List<Row> decode(RowBatch batch) {
+        int count = batch.getRowCount();
+        var rows = new ArrayList<Row>(count);
+        for (int i = 0; i < count; ++i)
+            rows.add(new Row(new Cell[batch.getColumns().size()]));
+        for (int column = 0; column < batch.getColumns().size(); ++column) {
+            var cells = decode(batch.getColumns().get(column), count);
+            for (int i = 0; i < count; ++i)
+                rows.get(i).getEntries().set(column, cells[i]);
+        }
+        return rows;
+    }
+
+    public static DataType dataType(ColumnType type) {
+        return DataType.valueOf(type.name());
+    }
+
+    private static ColumnBatch encode(List<Row> rows, int column, ColumnType type) {
+        int count = rows.size();
+        byte[] nulls = new byte[(count + 7) >>> 3];
+        for (int i = 0; i < count; ++i)
+            if (rows.get(i).getEntries().get(column).value == null) nulls[i >>> 3] |= 1 << (i & 7);
+        var batch = new ColumnBatch();
+        batch.setType(dataType(type));
+        batch.setNulls(nulls);
+        if (type == ColumnType.STRING) {
+            var dictionary = new ArrayList<String>();
+            var dictionaryCodes = new HashMap<String, Integer>();
+            int[] codes = new int[count];
+            for (int i = 0; i < count; ++i) {
+                var value = (String) rows.get(i).getEntries().get(column).value;
+                if (value != null) codes[i] = dictionaryCodes.computeIfAbsent(value, s -> {
+                    dictionary.add(s);
+                    return dictionary.size() - 1;
+                });
+            }
+            int width = codeWidth(dictionary.size());
+            var buffer = ByteBuffer.allocate(count * width);
+            for (int code : codes) {
+                switch (width) {
+                    case 1 -> buffer.put((byte) code);
+                    case 2 -> buffer.putShort((short) code);
+                    default -> buffer.putInt(code);
+                }
+            }
+            batch.setDictionary(dictionary);
+            batch.setCodes(buffer.array());
+            return batch;
+        }
+        var buffer = ByteBuffer.allocate(count * width(type));
+        for (var row : rows) {
+            var value = row.getEntries().get(column).value;
+            switch (type) {
+                case INT -> buffer.putInt(value == null ? 0 : (Integer) value);
+                case LONG -> buffer.putLong(value == null ? 0 : (Long) value);
+                case FLOAT -> buffer.putFloat(value == null ? 0 : (Float) value);
+                case DOUBLE -> buffer.putDouble(value == null ? 0 : (Double) value);
+            }
+        }
+        batch.setValues(buffer.array());
+        return batch;
+    }
+
+    private static Cell[] decode(ColumnBatch batch, int count) {
+        var cells = new Cell[count];
+        byte[] nulls = batch.getNulls();
+        var type = ColumnType.valueOf(batch.getType().name());
+        ByteBuffer buffer = ByteBuffer.wrap(type == ColumnType.STRING ? batch.getCodes() : batch.getValues());
+        int width = type == ColumnType.STRING ? codeWidth(batch.getDictionary().size()) : width(type);
+        for (int i = 0; i < count; ++i) {
+            if ((nulls[i >>> 3] >>> (i & 7) & 1) != 0) {
+                cells[i] = new Cell(null);
+                continue;
+            }
+            int offset = i * width;
+            cells[i] = new Cell(switch (type) {
+                case INT -> buffer.getInt(offset);
+                case LONG -> buffer.getLong(offset);
+                case FLOAT -> buffer.getFloat(offset);
+                case DOUBLE -> buffer.getDouble(offset);
+                case STRING -> batch.getDictionary().get(switch (width) {
+                    case 1 -> buffer.get(offset) & 0xFF;
+                    case 2 -> buffer.getShort(offset) & 0xFFFF;
+                    default -> buffer.getInt(offset);
+                });
+            });
+        }
+        return cells;
+    }
+
+    private static int width(ColumnType type) {
+        return switch (type) {
+            case INT, FLOAT -> 4;
+            case LONG, DOUBLE -> 8;
+            case STRING -> throw new IllegalArgumentException();
+        };
+    }
+
+    private static int codeWidth(int dictionarySize) {
+        return dictionarySize <= 1 << 8 ? 1 : dictionarySize <= 1 << 16 ? 2 : 4;
+    }
+}
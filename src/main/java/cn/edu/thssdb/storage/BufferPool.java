@@ -0,0 +1,289 @@
+package cn.edu.thssdb.storage;
+
+import cn.edu.thssdb.common.Global;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+
+/**
+ * Shared cache of disk pages with a fixed number of frames (Global.bufferPoolSize / Global.pageSize).
+ * <p>
+ * Pages are pinned by fetch/allocate and must be unpinned after use, only unpinned pages can be evicted.
+ * Victims are chosen by the CLOCK algorithm, dirty victims are written back to their file first.
+ * <p>
+ * The monitor of the pool guards its tables only, page I/O is done outside it: a miss reserves a frame,
+ * marked loading until the victim is written back and the page is read, and other fetches of either page wait for it.
+ */
+public class BufferPool {
+    private final int capacity;
+    private final Page[] frames;
+    private final PageFile[] owners;
+    private final int[] pinCounts;
+    private final boolean[] referenced;
+    private final boolean[] loading;
+    private final Page[] evicted; // dirty victim to write back before the frame is loaded
+    private final PageFile[] evictedOwners;
+    private final HashMap<Long, Integer> pageTable; // (file id, page id) -> frame
+    private final HashMap<Long, PageFile> writingBack; // evicted pages being written
+    private final ArrayDeque<Integer> freeFrames;
+    private int hand;
+
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+    private long writeBackCount;
+
+    public static BufferPool getInstance() {
+        return BufferPoolHolder.INSTANCE;
+    }
+
+    public BufferPool(int capacity) {
+        if (capacity <= 0) throw new IllegalArgumentException("buffer pool needs at least one frame");
+        this.capacity = capacity;
+        frames = new Page[capacity];
+        owners = new PageFile[capacity];
+        pinCounts = new int[capacity];
+        referenced = new boolean[capacity];
+        loading = new boolean[capacity];
+        evicted = new Page[capacity];
+        evictedOwners = new PageFile[capacity];
+        pageTable = new HashMap<>();
+        writingBack = new HashMap<>();
+        freeFrames = new ArrayDeque<>();
+        for (int i = 0; i < capacity; i++)
+            freeFrames.add(i);
+        hand = 0;
+    }
+
+    private static long key(PageFile file, int pageId) {
+        return ((long) file.getId() << 32) | (pageId & 0xFFFFFFFFL);
+    }
+
+    // Operations: fetch, allocate, unpin, flush, discard
+
+    public Page fetch(PageFile file, int pageId) {
+        long key = key(file, pageId);
+        int frame;
+        synchronized (this) {
+            while (true) {
+                Integer cached = pageTable.get(key);
+                if (cached != null && !loading[cached]) {
+                    hitCount++;
+                    pinCounts[cached]++;
+                    referenced[cached] = true;
+                    return frames[cached];
+                }
+                if (cached == null && !writingBack.containsKey(key)) break;
+                await(); // read by another fetch, or written back
+            }
+            missCount++;
+            frame = victim();
+            reserve(frame, file, key);
+        }
+        return load(frame, file, pageId, null);
+    }
+
+    public Page allocate(PageFile file, byte type) {
+        int frame;
+        Page page;
+        synchronized (this) {
+            frame = victim();
+            page = file.allocate(type);
+            reserve(frame, file, key(file, page.getPageId()));
+        }
+        return load(frame, file, page.getPageId(), page);
+    }
+
+    public synchronized void unpin(PageFile file, Page page) {
+        Integer frame = pageTable.get(key(file, page.getPageId()));
+        if (frame == null || loading[frame] || pinCounts[frame] == 0)
+            throw new IllegalStateException("page " + page.getPageId() + " of " + file.getPath() + " is not pinned");
+        if (page.isDirty()) file.stamp(page);
+        pinCounts[frame]--;
+    }
+
+    /**
+     * Writes back dirty pages of the file and makes them durable.
+     * The caller keeps the pages of the file from changing, they are pinned while they are written outside the monitor.
+     */
+    public void flush(PageFile file) {
+        var dirty = new ArrayList<Integer>();
+        var pages = new ArrayList<Page>();
+        synchronized (this) {
+            awaitWriteBack(file);
+            for (int i = 0; i < capacity; i++) {
+                if (owners[i] != file || loading[i] || !frames[i].isDirty()) continue;
+                file.stamp(frames[i]);
+                pinCounts[i]++;
+                dirty.add(i);
+                pages.add(frames[i]);
+            }
+        }
+        int written = 0;
+        try {
+            for (var page : pages) {
+                file.write(page);
+                written++;
+            }
+        } finally {
+            synchronized (this) {
+                for (int frame : dirty)
+                    pinCounts[frame]--;
+                writeBackCount += written;
+            }
+        }
+        file.force();
+    }
+
+    // drop pages of a deleted or closed file without writing them
+    public synchronized void discard(PageFile file) {
+        awaitWriteBack(file);
+        for (int i = 0; i < capacity; i++) {
+            if (owners[i] != file || loading[i]) continue;
+            pageTable.remove(key(file, frames[i].getPageId()));
+            frames[i] = null;
+            owners[i] = null;
+            pinCounts[i] = 0;
+            referenced[i] = false;
+            freeFrames.add(i);
+        }
+    }
+
+    // with the monitor held, marks the frame loading the page, pinned by the caller
+    private void reserve(int frame, PageFile file, long key) {
+        frames[frame] = null;
+        owners[frame] = file;
+        pinCounts[frame] = 1;
+        referenced[frame] = true;
+        loading[frame] = true;
+        pageTable.put(key, frame);
+    }
+
+    // outside the monitor, writes back the victim of the frame and reads the page, unless it is allocated
+    private Page load(int frame, PageFile file, int pageId, Page allocated) {
+        Page victim = evicted[frame];
+        PageFile victimOwner = evictedOwners[frame];
+        boolean written = victim == null;
+        Page page = null;
+        try {
+            if (!written) {
+                victimOwner.write(victim);
+                written = true;
+            }
+            page = allocated != null ? allocated : file.read(pageId);
+        } finally {
+            synchronized (this) {
+                evicted[frame] = null;
+                evictedOwners[frame] = null;
+                if (victim != null) writingBack.remove(key(victimOwner, victim.getPageId()));
+                if (victim != null && written) writeBackCount++;
+                loading[frame] = false;
+                if (page != null) {
+                    frames[frame] = page;
+                } else {
+                    pageTable.remove(key(file, pageId));
+                    pinCounts[frame] = 0;
+                    referenced[frame] = false;
+                    if (written) {
+                        owners[frame] = null;
+                        freeFrames.add(frame);
+                    } else { // the victim stays, still dirty
+                        frames[frame] = victim;
+                        owners[frame] = victimOwner;
+                        pageTable.put(key(victimOwner, victim.getPageId()), frame);
+                    }
+                }
+                notifyAll();
+            }
+        }
+        return page;
+    }
+
+    private void awaitWriteBack(PageFile file) {
+        while (writingBack.containsValue(file))
+            await();
+    }
+
+    private void await() {
+        try {
+            wait();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("interrupted while waiting for buffer pool I/O");
+        }
+    }
+
+    // CLOCK: sweep the frames, give referenced pages a second chance, skip pinned pages
+    // a dirty victim is left in evicted to be written back by the caller
+    private int victim() {
+        if (!freeFrames.isEmpty()) return freeFrames.poll();
+        for (int i = 0; i < 2 * capacity; i++) {
+            int frame = hand;
+            hand = (hand + 1) % capacity;
+            if (pinCounts[frame] > 0) continue;
+            if (referenced[frame]) {
+                referenced[frame] = false;
+                continue;
+            }
+            Page page = frames[frame];
+            long key = key(owners[frame], page.getPageId());
+            if (page.isDirty()) {
+                evicted[frame] = page;
+                evictedOwners[frame] = owners[frame];
+                writingBack.put(key, owners[frame]);
+            }
+            pageTable.remove(key);
+            frames[frame] = null;
+            owners[frame] = null;
+            evictionCount++;
+            return frame;
+        }
+        throw new IllegalStateException("all " + capacity + " buffer pool frames are pinned");
+    }
+
+    // Statistics
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+
+    public synchronized long getEvictionCount() {
+        return evictionCount;
+    }
+
+    public synchronized long getWriteBackCount() {
+        return writeBackCount;
+    }
+
+    public synchronized int getPinnedCount() {
+        int pinned = 0;
+        for (int count : pinCounts)
+            if (count > 0) pinned++;
+        return pinned;
+    }
+
+    @Override
+    public synchronized String toString() {
+        long total = hitCount + missCount;
+        return "BufferPool: " + pageTable.size() + "/" + capacity + " frames used, hit " + hitCount + ", miss " + missCount
+                + (total == 0 ? "" : String.format(" (hit ratio %.2f%%)", 100.0 * hitCount / total))
+                + ", eviction " + evictionCount + ", write back " + writeBackCount;
+    }
+
+    private static class BufferPoolHolder {
+        private static final BufferPool INSTANCE = new BufferPool(Math.max(1, Global.bufferPoolSize / Global.pageSize));
+
+        private BufferPoolHolder() {
+
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package cn.edu.thssdb.storage;
+
+import cn.edu.thssdb.schema.Cell;
+import cn.edu.thssdb.schema.Column;
+import cn.edu.thssdb.type.ColumnType;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Fixed-size form of a cell for index pages, STRING is stored as UTF-16 chars padded to maxLength.
+ * A nullable column takes one more byte for the null flag.
+ * Stored cells are compared with a cell in place by the primitive comparison of the column type, NULL first.
+ */
+public class CellCodec implements PageCodec<Cell> {
+    private final ColumnType type;
+    private final int maxLength;
+    private final boolean nullable;
+    private final int size;
+
+    public CellCodec(Column column) {
+        this(column.getColumnType(), column.getMaxLength(), !column.notNull);
+    }
+
+    public CellCodec(ColumnType type, int maxLength, boolean nullable) {
+        this.type = type;
+        this.maxLength = maxLength;
+        this.nullable = nullable;
+        int valueSize = switch (type) {
+            case INT, FLOAT -> 4;
+            case LONG, DOUBLE -> 8;
+            case STRING -> 2 + 2 * maxLength;
+        };
+        this.size = valueSize + (nullable ? 1 : 0);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void write(ByteBuffer buffer, int offset, Cell cell) {
+        Object value = cell.value;
+        if (nullable) {
+            buffer.put(offset, (byte) (value == null ? 1 : 0));
+            offset++;
+        }
+        if (value == null) {
+            if (!nullable) throw new IllegalArgumentException("null value in not null index key");
+            return;
+        }
+        switch (type) {
+            case INT -> buffer.putInt(offset, (Integer) value);
+            case LONG -> buffer.putLong(offset, (Long) value);
+            case FLOAT -> buffer.putFloat(offset, (Float) value);
+            case DOUBLE -> buffer.putDouble(offset, (Double) value);
+            case STRING -> {
+                String s = (String) value;
+                if (s.length() > maxLength) throw new IllegalArgumentException("index key longer than " + maxLength);
+                buffer.putChar(offset, (char) s.length());
+                for (int i = 0; i < s.length(); i++)
+                    buffer.putChar(offset + 2 + 2 * i, s.charAt(i));
+            }
+        }
+    }
+
+    @Override
+    public Cell read(ByteBuffer buffer, int offset) {
+        if (nullable) {
+            if (buffer.get(offset) != 0) return new Cell(null);
+            offset++;
+        }
+        return new Cell(switch (type) {
+            case INT -> buffer.getInt(offset);
+            case LONG -> buffer.getLong(offset);
+            case FLOAT -> buffer.getFloat(offset);
+            case DOUBLE -> buffer.getDouble(offset);
+            case STRING -> {
+                char[] chars = new char[buffer.getChar(offset)];
+                for (int i = 0; i < chars.length; i++)
+                    chars[i] = buffer.getChar(offset + 2 + 2 * i);
+                yield new String(chars);
+            }
+        });
+    }
+
+    @Override
+    public int compare(ByteBuffer buffer, int offset, Cell cell) {
+        Object value = cell.value;
+        if (nullable) {
+            boolean isNull = buffer.get(offset) != 0;
+            if (isNull || value == null) return Boolean.compare(!isNull, value != null);
+            offset++;
+        }
+        if (value == null) throw new NullPointerException();
+        boolean sameType = switch (type) {
+            case INT -> value instanceof Integer;
+            case LONG -> value instanceof Long;
+            case FLOAT -> value instanceof Float;
+            case DOUBLE -> value instanceof Double;
+            case STRING -> value instanceof String;
+        };
+        if (!sameType) throw new ClassCastException("Different type value");
+        return switch (type) {
+            case INT -> Integer.compare(buffer.getInt(offset), (Integer) value);
+            case LONG -> Long.compare(buffer.getLong(offset), (Long) value);
+            case FLOAT -> Float.compare(buffer.getFloat(offset), (Float) value);
+            case DOUBLE -> Double.compare(buffer.getDouble(offset), (Double) value);
+            case STRING -> compareString(buffer, offset, (String) value);
+        };
+    }
+
+    // same result as String.compareTo
+    private static int compareString(ByteBuffer buffer, int offset, String s) {
+        int length = buffer.getChar(offset);
+        int common = Math.min(length, s.length());
+        for (int i = 0; i < common; i++) {
+            char c = buffer.getChar(offset + 2 + 2 * i);
+            if (c != s.charAt(i)) return c - s.charAt(i);
+        }
+        return length - s.length();
+    }
+}
@@ -0,0 +1,109 @@
+package cn.edu.thssdb.storage;
+
+import cn.edu.thssdb.schema.Cell;
+import cn.edu.thssdb.type.ColumnType;
+
+import java.util.Arrays;
+import java.util.HashMap;
+
+/**
+ * Values of one column of a ColumnarTable in a primitive array of the column type, NULL marked in a bitmap.
+ * STRING values are dictionary encoded, codes index the distinct strings in order of first appearance.
+ * Only the array of the column type is allocated, the arrays are not to be modified once built.
+ */
+public class ColumnVector {
+    public final ColumnType type;
+    public int[] ints;
+    public long[] longs;
+    public float[] floats;
+    public double[] doubles;
+    public int[] codes;
+    public String[] dictionary;
+    private long[] nulls;
+    private int size;
+    private HashMap<String, Integer> dictionaryCodes; // while building
+
+    ColumnVector(ColumnType type) {
+        this.type = type;
+        int capacity = 16;
+        switch (type) {
+            case INT -> ints = new int[capacity];
+            case LONG -> longs = new long[capacity];
+            case FLOAT -> floats = new float[capacity];
+            case DOUBLE -> doubles = new double[capacity];
+            case STRING -> {
+                codes = new int[capacity];
+                dictionary = new String[capacity];
+                dictionaryCodes = new HashMap<>();
+            }
+        }
+        nulls = new long[1];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isNull(int position) {
+        return (nulls[position >>> 6] >>> position & 1) != 0;
+    }
+
+    public Cell cell(int position) {
+        if (isNull(position)) return new Cell(null);
+        return new Cell(switch (type) {
+            case INT -> ints[position];
+            case LONG -> longs[position];
+            case FLOAT -> floats[position];
+            case DOUBLE -> doubles[position];
+            case STRING -> dictionary[codes[position]];
+        });
+    }
+
+    void append(Object value) {
+        if (size == capacity()) grow();
+        if (value == null) nulls[size >>> 6] |= 1L << size;
+        else switch (type) {
+            case INT -> ints[size] = (Integer) value;
+            case LONG -> longs[size] = (Long) value;
+            case FLOAT -> floats[size] = (Float) value;
+            case DOUBLE -> doubles[size] = (Double) value;
+            case STRING -> codes[size] = dictionaryCodes.computeIfAbsent((String) value, s -> {
+                int code = dictionaryCodes.size();
+                if (code == dictionary.length) dictionary = Arrays.copyOf(dictionary, code * 2);
+                dictionary[code] = s;
+                return code;
+            });
+        }
+        size++;
+    }
+
+    // drops the spare capacity and the building state
+    void finish() {
+        if (type == ColumnType.STRING) {
+            dictionary = Arrays.copyOf(dictionary, dictionaryCodes.size());
+            dictionaryCodes = null;
+        }
+    }
+
+    private int capacity() {
+        return switch (type) {
+            case INT -> ints.length;
+            case LONG -> longs.length;
+            case FLOAT -> floats.length;
+            case DOUBLE -> doubles.length;
+            case STRING -> codes.length;
+        };
+    }
+
+    private void grow() {
+        int capacity = capacity() * 2;
+        switch (type) {
+            case INT -> ints = Arrays.copyOf(ints, capacity);
+            case LONG -> longs = Arrays.copyOf(longs, capacity);
+            case FLOAT -> floats = Arrays.copyOf(floats, capacity);
+            case DOUBLE -> doubles = Arrays.copyOf(doubles, capacity);
+            case STRING -> codes = Arrays.copyOf(codes, capacity);
+        }
+        nulls = Arrays.copyOf(nulls, (capacity + 63) >>> 6);
+    }
+}
@@ -0,0 +1,48 @@
+package cn.edu.thssdb.storage;
+
+import cn.edu.thssdb.schema.Cell;
+import cn.edu.thssdb.schema.Column;
+import cn.edu.thssdb.schema.Row;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * In-memory copy of the rows of a table as one ColumnVector per column, for scans that filter a batch of values at a time.
+ * Rows keep the order they were added in, row i is at position i of every vector.
+ */
+public class ColumnarTable {
+    public final List<ColumnVector> vectors;
+    private int rowCount;
+
+    private ColumnarTable(List<ColumnVector> vectors) {
+        this.vectors = vectors;
+    }
+
+    public static ColumnarTable of(List<Column> columns, Iterable<Row> rows) {
+        var vectors = new ArrayList<ColumnVector>(columns.size());
+        for (var column : columns)
+            vectors.add(new ColumnVector(column.getColumnType()));
+        var table = new ColumnarTable(vectors);
+        for (var row : rows) {
+            var entries = row.getEntries();
+            for (int c = 0; c < vectors.size(); c++)
+                vectors.get(c).append(entries.get(c).value);
+            table.rowCount++;
+        }
+        for (var vector : vectors)
+            vector.finish();
+        return table;
+    }
+
+    public int rowCount() {
+        return rowCount;
+    }
+
+    public Row row(int position) {
+        var entries = new ArrayList<Cell>(vectors.size());
+        for (var vector : vectors)
+            entries.add(vector.cell(position));
+        return new Row(entries);
+    }
+}
@@ -0,0 +1,158 @@
+package cn.edu.thssdb.storage;
+
+import cn.edu.thssdb.common.Pair;
+import cn.edu.thssdb.schema.Row;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.NoSuchElementException;
+
+/**
+ * Unordered rows stored in slotted pages of a PageFile, accessed through the BufferPool.
+ * A row is addressed by its record id: page id in the high bits, slot in the low 16 bits.
+ * Only pages modified since the last flush are written back.
+ */
+public class HeapFile implements Iterable<Pair<Long, Row>> {
+    private final PageFile file;
+    private final RowCodec codec;
+    private final BufferPool pool;
+    // pages that got free space from deletion, space freed before a restart is found again by the next delete on that page
+    private final LinkedHashSet<Integer> pagesWithSpace;
+
+    public HeapFile(String path, RowCodec codec) {
+        this(path, codec, BufferPool.getInstance());
+    }
+
+    public HeapFile(String path, RowCodec codec, BufferPool pool) {
+        this.file = new PageFile(path);
+        this.codec = codec;
+        this.pool = pool;
+        this.pagesWithSpace = new LinkedHashSet<>();
+    }
+
+    public static long recordId(int pageId, int slot) {
+        return ((long) pageId << 16) | slot;
+    }
+
+    public static int pageOf(long recordId) {
+        return (int) (recordId >>> 16);
+    }
+
+    public static int slotOf(long recordId) {
+        return (int) (recordId & 0xFFFF);
+    }
+
+    // insert into a pinned page, unpin it afterwards, -1 if it is full
+    private long tryInsert(Page page, byte[] record) {
+        try {
+            int slot = page.insert(record);
+            return slot < 0 ? -1 : recordId(page.getPageId(), slot);
+        } finally {
+            pool.unpin(file, page);
+        }
+    }
+
+    public synchronized long insert(Row row) {
+        byte[] record = codec.encode(row);
+        if (record.length > Page.maxRecordSize())
+            throw new IllegalArgumentException("row of " + record.length + " bytes doesn't fit in a page");
+        // try the last page first, then pages that have room after deletion
+        int numPages = file.numPages();
+        if (numPages > 0) {
+            long recordId = tryInsert(pool.fetch(file, numPages - 1), record);
+            if (recordId >= 0) return recordId;
+        }
+        for (var it = pagesWithSpace.iterator(); it.hasNext(); ) {
+            long recordId = tryInsert(pool.fetch(file, it.next()), record);
+            if (recordId >= 0) return recordId;
+            it.remove();
+        }
+        return tryInsert(pool.allocate(file, Page.TYPE_HEAP), record);
+    }
+
+    public synchronized Row read(long recordId) {
+        Page page = pool.fetch(file, pageOf(recordId));
+        try {
+            return codec.decode(page.read(slotOf(recordId)));
+        } finally {
+            pool.unpin(file, page);
+        }
+    }
+
+    public synchronized void delete(long recordId) {
+        int pageId = pageOf(recordId);
+        Page page = pool.fetch(file, pageId);
+        try {
+            page.delete(slotOf(recordId));
+        } finally {
+            pool.unpin(file, page);
+        }
+        if (pageId != file.numPages() - 1) pagesWithSpace.add(pageId);
+    }
+
+    // changes from now on are logged at or before the LSN, see PageFile
+    public void logged(WriteAheadLog log, long lsn) {
+        file.logged(log, lsn);
+    }
+
+    // write dirty pages back and make them durable
+    public synchronized void flush() {
+        pool.flush(file);
+    }
+
+    public synchronized void close() {
+        pool.flush(file);
+        pool.discard(file);
+        file.close();
+    }
+
+    // drop cached pages without writing them, for drop table
+    public synchronized void discard() {
+        pool.discard(file);
+        file.close();
+    }
+
+    public String getPath() {
+        return file.getPath();
+    }
+
+    // decode one page at a time so that no page stays pinned between next() calls
+    private class HeapFileIterator implements Iterator<Pair<Long, Row>> {
+        private final ArrayList<Pair<Long, Row>> buffer = new ArrayList<>();
+        private int pageId = 0;
+        private int position = 0;
+
+        @Override
+        public boolean hasNext() {
+            while (position == buffer.size()) {
+                if (pageId >= file.numPages()) return false;
+                buffer.clear();
+                position = 0;
+                synchronized (HeapFile.this) {
+                    Page page = pool.fetch(file, pageId);
+                    try {
+                        for (int i = 0; i < page.slotCount(); i++)
+                            if (page.isUsed(i))
+                                buffer.add(new Pair<>(recordId(pageId, i), codec.decode(page.read(i))));
+                    } finally {
+                        pool.unpin(file, page);
+                    }
+                }
+                pageId++;
+            }
+            return true;
+        }
+
+        @Override
+        public Pair<Long, Row> next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            return buffer.get(position++);
+        }
+    }
+
+    @Override
+    public Iterator<Pair<Long, Row>> iterator() {
+        return new HeapFileIterator();
+    }
+}
@@ -0,0 +1,45 @@
+package cn.edu.thssdb.storage;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * Record of a WriteAheadLog. The LSN is the log address of the record, the transaction is the id of the session.
+ * A row change (PUT, DELETE) names its table, followed by the row after the change or the deleted row.
+ * DROP names a dropped table: changes logged before it belong to the dropped table, not to a table created since.
+ */
+public record LogRecord(long lsn, long transaction, byte type, byte[] payload) {
+    public static final byte BEGIN = 1;
+    public static final byte STATEMENT = 2; // payload is the statement in UTF-8, written by older versions
+    public static final byte COMMIT = 3;
+    public static final byte PUT = 4; // row encoded by the RowCodec of the table
+    public static final byte DELETE = 5; // deleted row encoded by the RowCodec of the table, to undo the change
+    public static final byte CHECKPOINT = 6; // transactions active at the checkpoint with the LSNs of their BEGIN
+    public static final byte DROP = 7; // table name as in a row change, without row
+
+    // payload of a checkpoint
+    public static byte[] checkpoint(Map<Long, Long> activeTransactions) {
+        var buffer = ByteBuffer.allocate(4 + 16 * activeTransactions.size()).putInt(activeTransactions.size());
+        activeTransactions.forEach((transaction, lsn) -> buffer.putLong(transaction).putLong(lsn));
+        return buffer.array();
+    }
+
+    // payload of a row change, or of a DROP with an empty body
+    public static byte[] change(String table, byte[] body) {
+        byte[] name = table.getBytes(StandardCharsets.UTF_8);
+        return ByteBuffer.allocate(2 + name.length + body.length).putShort((short) name.length).put(name).put(body).array();
+    }
+
+    // table of a row change or a DROP
+    public String table() {
+        int length = ByteBuffer.wrap(payload).getShort(0) & 0xFFFF;
+        return new String(payload, 2, length, StandardCharsets.UTF_8);
+    }
+
+    // row of a row change, at position 0
+    public ByteBuffer body() {
+        int length = ByteBuffer.wrap(payload).getShort(0) & 0xFFFF;
+        return ByteBuffer.wrap(payload, 2 + length, payload.length - 2 - length).slice();
+    }
+}
@@ -0,0 +1,214 @@
+package cn.edu.thssdb.storage;
+
+import cn.edu.thssdb.common.Global;
+
+import java.nio.ByteBuffer;
+import java.util.zip.CRC32;
+
+/**
+ * Fixed-size slotted page, the unit of disk I/O.
+ * <p>
+ * Header layout, offsets and lengths are unsigned 16-bit so pageSize must not exceed 32K:
+ * <pre>
+ *   0  int   page id
+ *   4  long  LSN of the last log record applied to this page
+ *   12 int   CRC32 of the whole page, computed with this field zeroed
+ *   16 byte  page type
+ *   18 short slot count
+ *   20 short free space end, records grow downward from the end of the page
+ *   24       slot directory, 4 bytes per slot: short offset, short length (offset 0 marks a free slot)
+ * </pre>
+ */
+public class Page {
+    public static final int HEADER_SIZE = 24;
+    public static final int SLOT_SIZE = 4;
+
+    public static final byte TYPE_FREE = 0;
+    public static final byte TYPE_HEAP = 1;
+    public static final byte TYPE_INDEX_META = 2;
+    public static final byte TYPE_INDEX_LEAF = 3;
+    public static final byte TYPE_INDEX_INTERNAL = 4;
+
+    private static final int PAGE_ID_OFFSET = 0;
+    private static final int LSN_OFFSET = 4;
+    private static final int CHECKSUM_OFFSET = 12;
+    private static final int TYPE_OFFSET = 16;
+    private static final int SLOT_COUNT_OFFSET = 18;
+    private static final int FREE_END_OFFSET = 20;
+
+    final byte[] data;
+    final ByteBuffer buffer;
+    private boolean dirty;
+
+    // new empty page
+    public Page(int pageId, byte type) {
+        data = new byte[Global.pageSize];
+        buffer = ByteBuffer.wrap(data);
+        buffer.putInt(PAGE_ID_OFFSET, pageId);
+        buffer.put(TYPE_OFFSET, type);
+        setSlotCount(0);
+        setFreeSpaceEnd(data.length);
+        dirty = true;
+    }
+
+    // page read from disk
+    Page(byte[] data) {
+        this.data = data;
+        buffer = ByteBuffer.wrap(data);
+        dirty = false;
+    }
+
+    public int getPageId() {
+        return buffer.getInt(PAGE_ID_OFFSET);
+    }
+
+    public long getLsn() {
+        return buffer.getLong(LSN_OFFSET);
+    }
+
+    public void setLsn(long lsn) {
+        buffer.putLong(LSN_OFFSET, lsn);
+        dirty = true;
+    }
+
+    public byte getType() {
+        return buffer.get(TYPE_OFFSET);
+    }
+
+    public boolean isDirty() {
+        return dirty;
+    }
+
+    public void markDirty() {
+        dirty = true;
+    }
+
+    void markClean() {
+        dirty = false;
+    }
+
+    public ByteBuffer getBuffer() {
+        return buffer;
+    }
+
+    // Slotted records
+
+    public int slotCount() {
+        return buffer.getChar(SLOT_COUNT_OFFSET);
+    }
+
+    private void setSlotCount(int count) {
+        buffer.putChar(SLOT_COUNT_OFFSET, (char) count);
+    }
+
+    private int getFreeSpaceEnd() {
+        return buffer.getChar(FREE_END_OFFSET);
+    }
+
+    private void setFreeSpaceEnd(int end) {
+        buffer.putChar(FREE_END_OFFSET, (char) end);
+    }
+
+    private int slotOffset(int slot) {
+        return buffer.getChar(HEADER_SIZE + slot * SLOT_SIZE);
+    }
+
+    private int slotLength(int slot) {
+        return buffer.getChar(HEADER_SIZE + slot * SLOT_SIZE + 2);
+    }
+
+    private void setSlot(int slot, int offset, int length) {
+        buffer.putChar(HEADER_SIZE + slot * SLOT_SIZE, (char) offset);
+        buffer.putChar(HEADER_SIZE + slot * SLOT_SIZE + 2, (char) length);
+    }
+
+    public boolean isUsed(int slot) {
+        return slot >= 0 && slot < slotCount() && slotOffset(slot) != 0;
+    }
+
+    public static int maxRecordSize() {
+        return Global.pageSize - HEADER_SIZE - SLOT_SIZE;
+    }
+
+    // contiguous space between slot directory and record area
+    private int contiguousFreeSpace() {
+        return getFreeSpaceEnd() - HEADER_SIZE - slotCount() * SLOT_SIZE;
+    }
+
+    // contiguous space plus holes left by deleted records
+    public int freeSpace() {
+        int used = 0;
+        int count = slotCount();
+        for (int i = 0; i < count; i++)
+            if (slotOffset(i) != 0) used += slotLength(i);
+        return data.length - HEADER_SIZE - count * SLOT_SIZE - used;
+    }
+
+    /**
+     * @return slot of the inserted record, or -1 if the page doesn't have enough space
+     */
+    public int insert(byte[] record) {
+        int count = slotCount();
+        int slot = 0;
+        while (slot < count && slotOffset(slot) != 0) slot++;
+        int needed = record.length + (slot == count ? SLOT_SIZE : 0);
+        if (contiguousFreeSpace() < needed) {
+            if (freeSpace() < needed) return -1;
+            compact();
+        }
+        int offset = getFreeSpaceEnd() - record.length;
+        System.arraycopy(record, 0, data, offset, record.length);
+        setFreeSpaceEnd(offset);
+        if (slot == count) setSlotCount(count + 1);
+        setSlot(slot, offset, record.length);
+        dirty = true;
+        return slot;
+    }
+
+    public ByteBuffer read(int slot) {
+        if (!isUsed(slot)) throw new IllegalArgumentException("slot " + slot + " of page " + getPageId() + " is empty");
+        return ByteBuffer.wrap(data, slotOffset(slot), slotLength(slot)).slice();
+    }
+
+    public void delete(int slot) {
+        if (!isUsed(slot)) throw new IllegalArgumentException("slot " + slot + " of page " + getPageId() + " is empty");
+        setSlot(slot, 0, 0);
+        int count = slotCount();
+        while (count > 0 && slotOffset(count - 1) == 0) count--; // trailing free slots can be dropped
+        setSlotCount(count);
+        dirty = true;
+    }
+
+    // move all records to the end of the page, merging the holes into the free space
+    private void compact() {
+        int count = slotCount();
+        byte[] copy = data.clone();
+        int end = data.length;
+        for (int i = 0; i < count; i++) {
+            int offset = slotOffset(i);
+            if (offset == 0) continue;
+            int length = slotLength(i);
+            end -= length;
+            System.arraycopy(copy, offset, data, end, length);
+            setSlot(i, end, length);
+        }
+        setFreeSpaceEnd(end);
+    }
+
+    // Checksum
+
+    private int computeChecksum() {
+        CRC32 crc = new CRC32();
+        crc.update(data, 0, CHECKSUM_OFFSET);
+        crc.update(data, CHECKSUM_OFFSET + 4, data.length - CHECKSUM_OFFSET - 4);
+        return (int) crc.getValue();
+    }
+
+    void updateChecksum() {
+        buffer.putInt(CHECKSUM_OFFSET, computeChecksum());
+    }
+
+    boolean verifyChecksum() {
+        return buffer.getInt(CHECKSUM_OFFSET) == computeChecksum();
+    }
+}
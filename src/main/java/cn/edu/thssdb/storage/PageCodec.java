@@ -0,0 +1,37 @@
+package cn.edu.thssdb.storage;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Fixed-size binary form of index keys and values, read and written in place inside a page.
+ */
+public interface PageCodec<T> {
+    int size();
+
+    void write(ByteBuffer buffer, int offset, T value);
+
+    T read(ByteBuffer buffer, int offset);
+
+    // sign of the comparison of the value stored at offset with value, codecs of keys may compare without decoding
+    @SuppressWarnings("unchecked")
+    default int compare(ByteBuffer buffer, int offset, T value) {
+        return ((Comparable<T>) read(buffer, offset)).compareTo(value);
+    }
+
+    PageCodec<Long> LONG = new PageCodec<>() {
+        @Override
+        public int size() {
+            return 8;
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, int offset, Long value) {
+            buffer.putLong(offset, value);
+        }
+
+        @Override
+        public Long read(ByteBuffer buffer, int offset) {
+            return buffer.getLong(offset);
+        }
+    };
+}
@@ -0,0 +1,134 @@
+package cn.edu.thssdb.storage;
+
+import cn.edu.thssdb.common.Global;
+import cn.edu.thssdb.exception.FileIOException;
+import cn.edu.thssdb.exception.PageCorruptException;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A file made of fixed-size pages, page i lives at offset i * pageSize.
+ * Pages are read and written with positional I/O, concurrently with each other.
+ * A file whose changes are logged knows the LSN of the latest one, the buffer pool stamps it on the pages it dirtied,
+ * and a page is written only once the log is on disk up to its LSN.
+ */
+public class PageFile {
+    private static final AtomicInteger nextId = new AtomicInteger();
+
+    private final int id; // distinguishes files in the buffer pool
+    private final String path;
+    private final FileChannel channel;
+    private int numPages;
+    private volatile WriteAheadLog log;
+    private volatile long lsn = -1; // of the latest logged change
+
+    public PageFile(String path) {
+        if (Global.pageSize > 32768 || Global.pageSize < 512)
+            throw new IllegalArgumentException("page size must be in [512, 32768]");
+        this.id = nextId.getAndIncrement();
+        this.path = path;
+        try {
+            File parent = new File(path).getParentFile();
+            if (parent != null && !parent.exists() && !parent.mkdirs())
+                throw new FileIOException(parent.getPath() + " on opening page file");
+            channel = FileChannel.open(Path.of(path), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            numPages = (int) (channel.size() / Global.pageSize); // a torn tail page is ignored
+        } catch (IOException e) {
+            throw new FileIOException(path + " on opening page file");
+        }
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public synchronized int numPages() {
+        return numPages;
+    }
+
+    // allocated page is only in memory until it is written
+    public synchronized Page allocate(byte type) {
+        return new Page(numPages++, type);
+    }
+
+    // changes of pages from now on are logged in the log at or before the LSN
+    public void logged(WriteAheadLog log, long lsn) {
+        this.log = log;
+        this.lsn = lsn;
+    }
+
+    // by the buffer pool when a dirty page is unpinned or flushed
+    void stamp(Page page) {
+        long latest = lsn;
+        if (latest > page.getLsn()) page.setLsn(latest);
+    }
+
+    public Page read(int pageId) {
+        synchronized (this) {
+            if (pageId < 0 || pageId >= numPages) throw new IllegalArgumentException("page " + pageId + " out of range in " + path);
+        }
+        byte[] data = new byte[Global.pageSize];
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(data);
+            long position = (long) pageId * Global.pageSize;
+            while (buffer.hasRemaining()) {
+                int n = channel.read(buffer, position + buffer.position());
+                if (n < 0) throw new FileIOException(path + " on reading page " + pageId);
+            }
+        } catch (IOException e) {
+            throw new FileIOException(path + " on reading page " + pageId);
+        }
+        if (isZeroed(data)) return new Page(pageId, Page.TYPE_FREE); // allocated but never written before a crash
+        Page page = new Page(data);
+        if (!page.verifyChecksum() || page.getPageId() != pageId) throw new PageCorruptException(path, pageId);
+        return page;
+    }
+
+    private static boolean isZeroed(byte[] data) {
+        for (byte b : data)
+            if (b != 0) return false;
+        return true;
+    }
+
+    // write-ahead: the changes of the page are logged on disk first
+    public void write(Page page) {
+        var covering = log;
+        if (covering != null) covering.force(page.getLsn());
+        page.updateChecksum();
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(page.data);
+            long position = (long) page.getPageId() * Global.pageSize;
+            while (buffer.hasRemaining())
+                channel.write(buffer, position + buffer.position());
+        } catch (IOException e) {
+            throw new FileIOException(path + " on writing page " + page.getPageId());
+        }
+        page.markClean();
+    }
+
+    public synchronized void force() {
+        try {
+            channel.force(false);
+        } catch (IOException e) {
+            throw new FileIOException(path + " on force");
+        }
+    }
+
+    public synchronized void close() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new FileIOException(path + " on close");
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package cn.edu.thssdb.storage;
+
+import cn.edu.thssdb.schema.Cell;
+import cn.edu.thssdb.schema.Column;
+import cn.edu.thssdb.schema.Row;
+import cn.edu.thssdb.type.ColumnType;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Binary row format driven by the table schema:
+ * null bitmap ((n + 7) / 8 bytes), then every non-null cell in column order,
+ * INT/FLOAT 4 bytes, LONG/DOUBLE 8 bytes, STRING unsigned short length + UTF-8 bytes.
+ */
+public class RowCodec {
+    private final ColumnType[] types;
+    private final int bitmapSize;
+
+    public RowCodec(List<Column> columns) {
+        types = new ColumnType[columns.size()];
+        for (int i = 0; i < types.length; i++)
+            types[i] = columns.get(i).getColumnType();
+        bitmapSize = (types.length + 7) / 8;
+    }
+
+    // upper bound of the encoded size, UTF-8 takes at most 3 bytes per UTF-16 char
+    public static int maxEncodedSize(List<Column> columns) {
+        int size = (columns.size() + 7) / 8;
+        for (var column : columns)
+            size += switch (column.getColumnType()) {
+                case INT, FLOAT -> 4;
+                case LONG, DOUBLE -> 8;
+                case STRING -> 2 + 3 * column.getMaxLength();
+            };
+        return size;
+    }
+
+    public byte[] encode(Row row) {
+        var entries = row.getEntries();
+        byte[][] strings = new byte[types.length][];
+        int size = bitmapSize;
+        for (int i = 0; i < types.length; i++) {
+            Object value = entries.get(i).value;
+            if (value == null) continue;
+            size += switch (types[i]) {
+                case INT, FLOAT -> 4;
+                case LONG, DOUBLE -> 8;
+                case STRING -> 2 + (strings[i] = ((String) value).getBytes(StandardCharsets.UTF_8)).length;
+            };
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.position(bitmapSize);
+        for (int i = 0; i < types.length; i++) {
+            Object value = entries.get(i).value;
+            if (value == null) {
+                buffer.put(i / 8, (byte) (buffer.get(i / 8) | (1 << (i % 8))));
+                continue;
+            }
+            switch (types[i]) {
+                case INT -> buffer.putInt((Integer) value);
+                case LONG -> buffer.putLong((Long) value);
+                case FLOAT -> buffer.putFloat((Float) value);
+                case DOUBLE -> buffer.putDouble((Double) value);
+                case STRING -> {
+                    buffer.putChar((char) strings[i].length);
+                    buffer.put(strings[i]);
+                }
+            }
+        }
+        return buffer.array();
+    }
+
+    public Row decode(ByteBuffer buffer) {
+        int base = buffer.position();
+        buffer.position(base + bitmapSize);
+        var entries = new ArrayList<Cell>(types.length);
+        for (int i = 0; i < types.length; i++) {
+            if ((buffer.get(base + i / 8) & (1 << (i % 8))) != 0) {
+                entries.add(new Cell(null));
+                continue;
+            }
+            entries.add(new Cell(switch (types[i]) {
+                case INT -> buffer.getInt();
+                case LONG -> buffer.getLong();
+                case FLOAT -> buffer.getFloat();
+                case DOUBLE -> buffer.getDouble();
+                case STRING -> {
+                    byte[] bytes = new byte[buffer.getChar()];
+                    buffer.get(bytes);
+                    yield new String(bytes, StandardCharsets.UTF_8);
+                }
+            }));
+        }
+        return new Row(entries);
+    }
+}
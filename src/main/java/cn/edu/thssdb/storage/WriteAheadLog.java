@@ -0,0 +1,419 @@
+package cn.edu.thssdb.storage;
+
+import cn.edu.thssdb.common.Global;
+import cn.edu.thssdb.exception.FileIOException;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32C;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Append-only log of binary records, kept open for the life of the database.
+ * The file starts with a header holding the LSN of its first record, the LSN of a record is that plus its offset
+ * after the header, so LSNs keep growing when the log is truncated. A record is
+ * length, CRC32C of the rest, LSN, transaction, type and payload; the log ends at the first record that doesn't check.
+ * Appended records are buffered, a flusher thread writes them in batches: commits waiting at the same time share
+ * one write and one force. When a commit returns depends on the sync policy (Global.walSyncPolicy):
+ * COMMIT after its record is forced to disk, INTERVAL and OS after it is written to the file,
+ * which INTERVAL forces every Global.walSyncInterval ms and OS leaves to the operating system.
+ * Before a changed page is written back, force(lsn) makes its records durable under any policy.
+ * A failed write fails all later commits. A checkpoint drops the records before the LSN it no longer needs
+ * by copying the rest to a new file that replaces the log, appends go on while the copy is made.
+ */
+public class WriteAheadLog {
+    private static final Logger logger = LoggerFactory.getLogger(WriteAheadLog.class);
+    private static final int MAGIC = 0x5457414C;
+    private static final int FILE_HEADER = 12; // magic, LSN of the first record
+    private static final int RECORD_HEADER = 25; // length, checksum, LSN, transaction, type
+    private static final int FLUSH_THRESHOLD = 1 << 20; // bytes buffered before they are written without a commit
+
+    public enum SyncPolicy {COMMIT, INTERVAL, OS}
+
+    private final String path;
+    private FileChannel channel; // replaced by truncate(long)
+    private final SyncPolicy policy;
+    private final Thread flusher;
+    private long startLsn; // of the first record in the file
+    private ByteBuffer pending = ByteBuffer.allocate(64 * 1024); // appended, not written yet
+    private ByteBuffer writing = ByteBuffer.allocate(64 * 1024); // being written by the flusher
+    private long nextLsn; // of the next appended record
+    private long writtenLsn; // records before are in the file
+    private long durableLsn; // records before are on disk
+    private long requestedLsn = -1; // waited for by a commit
+    private long forceLsn = -1; // waited for by a page write, forced whatever the policy
+    private boolean flushing;
+    private boolean truncating; // by truncate(long), copying records outside the lock
+    private boolean closed;
+    private IOException failure;
+
+    public WriteAheadLog(String path) {
+        this(path, SyncPolicy.valueOf(Global.walSyncPolicy.toUpperCase()));
+    }
+
+    public WriteAheadLog(String path, SyncPolicy policy) {
+        this.path = path;
+        this.policy = policy;
+        try {
+            File parent = new File(path).getParentFile();
+            if (parent != null && !parent.exists() && !parent.mkdirs())
+                throw new FileIOException(parent.getPath() + " on opening log");
+            channel = FileChannel.open(Path.of(path), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            if (channel.size() < FILE_HEADER) writeHeader(0);
+            var header = ByteBuffer.allocate(FILE_HEADER);
+            readFully(channel, header, 0);
+            if (header.getInt(0) != MAGIC) throw new FileIOException(path + " is not a log");
+            startLsn = header.getLong(4);
+            var records = scan(channel, startLsn);
+            nextLsn = records.isEmpty() ? startLsn : end(records.get(records.size() - 1));
+            long end = FILE_HEADER + nextLsn - startLsn;
+            if (channel.size() > end) // torn by a crash, or damaged: later records are lost either way
+                logger.warn("Log {} has {} bytes after LSN {} that are not whole records, they are discarded",
+                        path, channel.size() - end, nextLsn);
+            channel.truncate(end);
+            writtenLsn = durableLsn = nextLsn;
+        } catch (IOException e) {
+            throw new FileIOException(path + " on opening log");
+        }
+        flusher = new Thread(this::flushLoop, "log flusher " + path);
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    // whether the file starts like a log, a file written before the log existed doesn't
+    public static boolean isLog(String path) {
+        try (var channel = FileChannel.open(Path.of(path), StandardOpenOption.READ)) {
+            var header = ByteBuffer.allocate(4);
+            return channel.read(header, 0) == 4 && header.getInt(0) == MAGIC;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    // LSN of the appended record
+    public synchronized long append(long transaction, byte type, byte[] payload) {
+        if (closed) throw new IllegalStateException("log " + path + " is closed");
+        int length = RECORD_HEADER + payload.length;
+        if (pending.remaining() < length) {
+            var larger = ByteBuffer.allocate(Math.max(pending.capacity() * 2, pending.position() + length));
+            pending.flip();
+            pending = larger.put(pending);
+        }
+        long lsn = nextLsn;
+        int start = pending.position();
+        pending.putInt(length).putInt(0).putLong(lsn).putLong(transaction).put(type).put(payload);
+        var crc = new CRC32C();
+        crc.update(pending.array(), start + 8, length - 8);
+        pending.putInt(start + 4, (int) crc.getValue());
+        nextLsn += length;
+        if (pending.position() >= FLUSH_THRESHOLD) notifyAll();
+        return lsn;
+    }
+
+    // appends the commit record of the transaction and waits until it is as durable as the sync policy makes it
+    public void commit(long transaction) {
+        flush(append(transaction, LogRecord.COMMIT, new byte[0]));
+    }
+
+    // waits until the record at the LSN is written, and forced if the policy forces commits
+    public synchronized void flush(long lsn) {
+        requestedLsn = Math.max(requestedLsn, lsn);
+        notifyAll();
+        while ((policy == SyncPolicy.COMMIT ? durableLsn : writtenLsn) <= lsn) {
+            if (failure != null) throw new FileIOException(path + " on writing log");
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new FileIOException(path + " on writing log");
+            }
+        }
+    }
+
+    /**
+     * Waits until the record at the LSN is on disk whatever the sync policy, before a page changed by it is written.
+     * Returns at once for an LSN past the last record, e.g. of a page changed without logging.
+     */
+    public synchronized void force(long lsn) {
+        if (durableLsn > lsn || lsn >= nextLsn) return;
+        forceLsn = Math.max(forceLsn, lsn);
+        requestedLsn = Math.max(requestedLsn, lsn);
+        notifyAll();
+        while (durableLsn <= lsn) {
+            if (failure != null || closed) throw new FileIOException(path + " on writing log");
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new FileIOException(path + " on writing log");
+            }
+        }
+    }
+
+    // bytes of records in the file
+    public synchronized long size() {
+        return nextLsn - startLsn;
+    }
+
+    /**
+     * Records in the file, in order.
+     */
+    public synchronized List<LogRecord> records() {
+        forceAll();
+        try {
+            return scan(channel, startLsn);
+        } catch (IOException e) {
+            throw new FileIOException(path + " on reading log");
+        }
+    }
+
+    /**
+     * Drops all records, once what they did is persisted. LSNs continue after the last record.
+     */
+    public synchronized void truncate() {
+        awaitTruncation();
+        forceAll();
+        try {
+            startLsn = nextLsn;
+            writeHeader(startLsn); // records after the header don't match their LSNs any more
+            channel.truncate(FILE_HEADER);
+            channel.force(false);
+        } catch (IOException e) {
+            throw new FileIOException(path + " on truncating log");
+        }
+    }
+
+    /**
+     * Drops the records before the record at the LSN, once what they did is persisted.
+     * The records from the LSN on are copied to a new file, which is forced and then renamed over the log.
+     * Records up to the end of the log when the truncation starts are copied without the lock, appends go on meanwhile;
+     * the records appended since are copied under the lock before the rename.
+     */
+    public void truncate(long lsn) {
+        long start, end;
+        FileChannel source;
+        synchronized (this) {
+            awaitTruncation();
+            forceAll();
+            if (lsn <= startLsn) return;
+            if (lsn >= nextLsn) {
+                truncate();
+                return;
+            }
+            truncating = true;
+            start = startLsn;
+            end = nextLsn;
+            source = channel;
+        }
+        var copyPath = Path.of(path + ".tmp");
+        FileChannel copy = null;
+        try {
+            copy = FileChannel.open(copyPath, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+            var header = ByteBuffer.allocate(FILE_HEADER).putInt(MAGIC).putLong(lsn).flip();
+            while (header.hasRemaining())
+                copy.write(header);
+            transfer(source, FILE_HEADER + lsn - start, FILE_HEADER + end - start, copy);
+        } catch (IOException e) {
+            abandon(copy, copyPath);
+            throw new FileIOException(path + " on truncating log");
+        }
+        synchronized (this) {
+            try {
+                if (closed) throw new IOException("closed");
+                forceAll();
+                transfer(channel, FILE_HEADER + end - start, FILE_HEADER + nextLsn - start, copy);
+                copy.force(true);
+                copy.close();
+            } catch (IOException | RuntimeException e) {
+                abandon(copy, copyPath);
+                truncating = false;
+                notifyAll();
+                throw new FileIOException(path + " on truncating log");
+            }
+            try {
+                channel.close();
+                Files.move(copyPath, Path.of(path), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                channel = FileChannel.open(Path.of(path), StandardOpenOption.READ, StandardOpenOption.WRITE);
+                startLsn = lsn;
+            } catch (IOException e) {
+                failure = e; // the channel may be closed
+                throw new FileIOException(path + " on truncating log");
+            } finally {
+                truncating = false;
+                notifyAll();
+            }
+        }
+    }
+
+    private static void transfer(FileChannel source, long position, long end, FileChannel target) throws IOException {
+        while (position < end)
+            position += source.transferTo(position, end - position, target);
+    }
+
+    private static void abandon(FileChannel copy, Path copyPath) {
+        try {
+            if (copy != null) copy.close();
+            Files.deleteIfExists(copyPath);
+        } catch (IOException ignored) { // a later truncation overwrites it
+        }
+    }
+
+    // with the lock held, one truncation at a time
+    private void awaitTruncation() {
+        while (truncating) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new FileIOException(path + " on truncating log");
+            }
+        }
+    }
+
+    public void close() {
+        synchronized (this) {
+            if (closed) return;
+            forceAll();
+            closed = true;
+            notifyAll();
+        }
+        try {
+            flusher.join();
+            channel.close();
+        } catch (InterruptedException | IOException e) {
+            throw new FileIOException(path + " on closing log");
+        }
+    }
+
+    // with the lock held, waits until all appended records are on disk
+    private void forceAll() {
+        while (flushing || pending.position() > 0) {
+            if (failure != null) throw new FileIOException(path + " on writing log");
+            requestedLsn = Math.max(requestedLsn, nextLsn - 1);
+            notifyAll();
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new FileIOException(path + " on writing log");
+            }
+        }
+        if (failure != null) throw new FileIOException(path + " on writing log");
+        try {
+            channel.force(false);
+        } catch (IOException e) {
+            throw new FileIOException(path + " on writing log");
+        }
+        durableLsn = writtenLsn;
+        notifyAll();
+    }
+
+    private void flushLoop() {
+        long lastForce = System.currentTimeMillis();
+        while (true) {
+            ByteBuffer batch;
+            FileChannel file;
+            long batchLsn, start, end;
+            boolean force;
+            synchronized (this) {
+                try {
+                    while (!closed && requestedLsn < writtenLsn && forceLsn < durableLsn && pending.position() < FLUSH_THRESHOLD) {
+                        if (policy != SyncPolicy.INTERVAL) wait();
+                        else {
+                            long left = lastForce + Global.walSyncInterval - System.currentTimeMillis();
+                            if (left <= 0 && (pending.position() > 0 || durableLsn < writtenLsn)) break;
+                            wait(left > 0 ? left : Global.walSyncInterval);
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    return;
+                }
+                if (closed) return;
+                batch = pending;
+                pending = writing;
+                writing = batch;
+                file = channel;
+                batchLsn = writtenLsn;
+                start = startLsn;
+                end = nextLsn;
+                flushing = true;
+                force = policy == SyncPolicy.COMMIT || forceLsn >= durableLsn
+                        || policy == SyncPolicy.INTERVAL && System.currentTimeMillis() - lastForce >= Global.walSyncInterval;
+            }
+            IOException error = null;
+            try {
+                batch.flip();
+                long position = FILE_HEADER + batchLsn - start;
+                while (batch.hasRemaining())
+                    position += file.write(batch, position);
+                if (force) {
+                    file.force(false);
+                    lastForce = System.currentTimeMillis();
+                }
+            } catch (IOException e) {
+                error = e;
+            }
+            batch.clear();
+            synchronized (this) {
+                flushing = false;
+                notifyAll();
+                if (error != null) {
+                    failure = error; // the log can't go on after a lost batch
+                    return;
+                }
+                writtenLsn = end;
+                if (force) durableLsn = end;
+            }
+        }
+    }
+
+    private void writeHeader(long lsn) throws IOException {
+        var header = ByteBuffer.allocate(FILE_HEADER).putInt(MAGIC).putLong(lsn).flip();
+        while (header.hasRemaining())
+            channel.write(header, header.position());
+    }
+
+    private static long end(LogRecord record) {
+        return record.lsn() + RECORD_HEADER + record.payload().length;
+    }
+
+    // records from the header on, up to the first one that is torn, corrupt or left from before a truncation
+    private static List<LogRecord> scan(FileChannel channel, long startLsn) throws IOException {
+        var records = new ArrayList<LogRecord>();
+        long size = channel.size();
+        long position = FILE_HEADER;
+        var header = ByteBuffer.allocate(RECORD_HEADER);
+        while (position + RECORD_HEADER <= size) {
+            header.clear();
+            readFully(channel, header, position);
+            int length = header.getInt(0);
+            if (length < RECORD_HEADER || position + length > size) break;
+            var record = ByteBuffer.allocate(length);
+            readFully(channel, record, position);
+            var crc = new CRC32C();
+            crc.update(record.array(), 8, length - 8);
+            long lsn = record.getLong(8);
+            if (record.getInt(4) != (int) crc.getValue() || lsn != startLsn + position - FILE_HEADER) break;
+            byte[] payload = new byte[length - RECORD_HEADER];
+            record.get(RECORD_HEADER, payload);
+            records.add(new LogRecord(lsn, record.getLong(16), record.get(24), payload));
+            position += length;
+        }
+        return records;
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining())
+            if (channel.read(buffer, position + buffer.position()) < 0) throw new IOException("end of file");
+    }
+}
@@ -45,9 +45,77 @@ struct ExecuteStatementResp{
   5: optional list<list<string>> rowList
 }
 
+enum DataType {
+  INT,
+  LONG,
+  FLOAT,
+  DOUBLE,
+  STRING
+}
+
+// values of a column for the rows of a RowBatch, a NULL has its bit set in nulls and a zero value or code
+struct ColumnBatch{
+  1: required DataType type
+  // bit i % 8 of byte i / 8 for row i
+  2: required binary nulls
+  // INT, LONG, FLOAT, DOUBLE: values packed big-endian
+  3: optional binary values
+  // STRING: distinct values, and index of the value of each row packed big-endian
+  // in 1 byte for at most 256 distinct values, in 2 bytes for at most 65536, else in 4
+  4: optional list<string> dictionary
+  5: optional binary codes
+}
+
+struct RowBatch{
+  1: required i32 rowCount
+  2: required list<ColumnBatch> columns
+}
+
+struct ExecuteQueryReq {
+  1: required i64 sessionId
+  2: required string statement
+}
+
+struct ExecuteQueryResp{
+  1: required Status status
+  2: required bool isAbort
+  3: required bool hasResult
+  // only for query, rows are fetched with the query id
+  4: optional i64 queryId
+  5: optional list<string> columnsList
+  6: optional list<DataType> columnTypes
+}
+
+struct FetchResultsReq {
+  1: required i64 sessionId
+  2: required i64 queryId
+  3: required i32 maxRows
+  // rows in batch instead of rowList
+  4: optional bool typed
+}
+
+struct FetchResultsResp{
+  1: required Status status
+  2: required bool hasMore
+  3: optional list<list<string>> rowList
+  4: optional RowBatch batch
+}
+
+struct CloseOperationReq {
+  1: required i64 sessionId
+  2: required i64 queryId
+}
+
+struct CloseOperationResp{
+  1: required Status status
+}
+
 service IService {
   GetTimeResp getTime(1: GetTimeReq req);
   ConnectResp connect(1: ConnectReq req);
   DisconnetResp disconnect(1: DisconnetReq req);
   ExecuteStatementResp executeStatement(1: ExecuteStatementReq req);
+  ExecuteQueryResp executeQuery(1: ExecuteQueryReq req);
+  FetchResultsResp fetchResults(1: FetchResultsReq req);
+  CloseOperationResp closeOperation(1: CloseOperationReq req);
 }
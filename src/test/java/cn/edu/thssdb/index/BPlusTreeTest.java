@@ -6,8 +6,11 @@ import org.junit.Test;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.NavigableMap;
+import java.util.TreeMap;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 public class BPlusTreeTest {
@@ -69,4 +72,36 @@ public class BPlusTreeTest {
     }
     assertEquals(values.size(), c);
   }
+
+  @Test
+  public void testCursor() {
+    for (int i = 0; i < keys.size(); i += 3) {
+      // removal merges leaves, the chain must stay linked both ways
+      tree.remove(keys.get(i));
+      map.remove(keys.get(i));
+    }
+    TreeMap<Integer, Integer> sorted = new TreeMap<>(map);
+    for (int i = 0; i < 100; i++) {
+      int lower = (int) (Math.random() * 10000);
+      int upper = lower + (int) (Math.random() * 2000);
+      boolean lowerInclusive = i % 2 == 0;
+      boolean upperInclusive = i % 3 == 0;
+      boolean reverse = i % 4 < 2;
+      NavigableMap<Integer, Integer> expected = sorted.subMap(lower, lowerInclusive, upper, upperInclusive);
+      if (reverse) expected = expected.descendingMap();
+      IndexCursor<Integer, Integer> cursor = tree.cursor(lower, lowerInclusive, upper, upperInclusive, reverse);
+      for (var entry : expected.entrySet()) {
+        assertTrue(cursor.advance());
+        assertEquals(entry.getKey(), cursor.key());
+        assertEquals(entry.getValue(), cursor.value());
+      }
+      assertFalse(cursor.advance());
+    }
+    IndexCursor<Integer, Integer> cursor = tree.cursor(null, true, null, true, true);
+    for (var key : sorted.descendingKeySet()) {
+      assertTrue(cursor.advance());
+      assertEquals(key, cursor.key());
+    }
+    assertFalse(cursor.advance());
+  }
 }
@@ -0,0 +1,33 @@
+package cn.edu.thssdb.index;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class KeyRangeTest {
+  @Test
+  public void testIntersect() {
+    KeyRange<Integer> range = KeyRange.<Integer>atLeast(3, false).intersect(KeyRange.atMost(7, true));
+    assertEquals("(3, 7]", range.toString());
+    assertEquals("[5, 7]", range.intersect(KeyRange.atLeast(5, true)).toString());
+    assertEquals("(3, 5)", range.intersect(KeyRange.atMost(5, false)).toString());
+    assertEquals("(3, 7]", range.intersect(KeyRange.all()).toString());
+    assertEquals("(3, 7]", range.intersect(KeyRange.atLeast(3, true)).toString());
+    assertTrue(range.intersect(KeyRange.atLeast(7, false)).isEmpty());
+    assertTrue(range.intersect(KeyRange.atLeast(7, true)).isPoint());
+    assertTrue(range.intersect(KeyRange.empty()).isEmpty());
+  }
+
+  @Test
+  public void testSpan() {
+    KeyRange<Integer> range = KeyRange.<Integer>atLeast(3, false).intersect(KeyRange.atMost(7, true));
+    assertEquals("[1, 7]", range.span(KeyRange.of(1, true, 2, true)).toString());
+    assertEquals("[3, 7]", range.span(KeyRange.of(3, true, 3, true)).toString());
+    assertEquals("(3, +inf)", range.span(KeyRange.atLeast(5, false)).toString());
+    assertTrue(range.span(KeyRange.atMost(0, true)).span(KeyRange.atLeast(9, true)).isAll());
+    assertEquals("(3, 7]", range.span(KeyRange.empty()).toString());
+    assertFalse(range.span(KeyRange.empty()).isEmpty());
+  }
+}
@@ -0,0 +1,162 @@
+package cn.edu.thssdb.index;
+
+import cn.edu.thssdb.common.Pair;
+import cn.edu.thssdb.schema.Cell;
+import cn.edu.thssdb.storage.BufferPool;
+import cn.edu.thssdb.storage.CellCodec;
+import cn.edu.thssdb.storage.PageCodec;
+import cn.edu.thssdb.type.ColumnType;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+public class PageBPlusTreeTest {
+  private File file;
+  private BufferPool pool;
+  private PageBPlusTree<Cell, Long> tree;
+  private ArrayList<Integer> keys;
+  private HashMap<Integer, Long> map;
+
+  @Before
+  public void setUp() throws Exception {
+    file = File.createTempFile("index", null);
+    pool = new BufferPool(8);
+    tree = open();
+    keys = new ArrayList<>();
+    map = new HashMap<>();
+    HashSet<Integer> set = new HashSet<>();
+    int size = 10000;
+    for (int i = 0; i < size; i++) {
+      double random = Math.random();
+      set.add((int) (random * size));
+    }
+    for (Integer key : set) {
+      long value = key * 31L;
+      keys.add(key);
+      tree.put(new Cell(key), value);
+      map.put(key, value);
+    }
+  }
+
+  @After
+  public void tearDown() {
+    tree.discard();
+    assertTrue(file.delete());
+  }
+
+  // small fanout for a deep tree
+  private PageBPlusTree<Cell, Long> open() {
+    return new PageBPlusTree<>(file.getPath(), new CellCodec(ColumnType.INT, 0, false), PageCodec.LONG, 16, pool);
+  }
+
+  @Test
+  public void testMaxKeySize() {
+    int max = PageBPlusTree.maxKeySize(PageCodec.LONG.size());
+    var fits = new CellCodec(ColumnType.STRING, (max - 2) / 2, (max - 2) % 2 == 1);
+    assertEquals(max, fits.size());
+    var tooLarge = new CellCodec(ColumnType.STRING, (max - 2) / 2 + 1, false);
+    var path = file.getPath() + ".key";
+    var largest = new PageBPlusTree<>(path, fits, PageCodec.LONG, Integer.MAX_VALUE, pool);
+    largest.discard();
+    assertTrue(new File(path).delete());
+    assertThrows(IllegalArgumentException.class, () -> new PageBPlusTree<>(path, tooLarge, PageCodec.LONG, Integer.MAX_VALUE, pool));
+    assertFalse(new File(path).exists()); // no file left for a key too large
+  }
+
+  @Test
+  public void testGet() {
+    for (Integer key : keys) {
+      assertEquals(map.get(key), tree.get(new Cell(key)));
+    }
+    assertEquals(keys.size(), tree.size());
+    assertEquals(0, pool.getPinnedCount());
+  }
+
+  @Test
+  public void testRemove() {
+    int size = keys.size();
+    for (int i = 0; i < size; i += 2) {
+      tree.remove(new Cell(keys.get(i)));
+    }
+    assertEquals(size / 2, tree.size());
+    for (int i = 0; i < size; i++) {
+      if (i % 2 == 0) assertFalse(tree.contains(new Cell(keys.get(i))));
+      else assertEquals(map.get(keys.get(i)), tree.get(new Cell(keys.get(i))));
+    }
+  }
+
+  @Test
+  public void testIterator() {
+    Iterator<Pair<Cell, Long>> iterator = tree.iterator();
+    int c = 0;
+    Cell last = null;
+    while (iterator.hasNext()) {
+      var pair = iterator.next();
+      if (last != null) assertTrue(last.compareTo(pair.left) < 0);
+      assertEquals(map.get((Integer) pair.left.value), pair.right);
+      last = pair.left;
+      c++;
+    }
+    assertEquals(keys.size(), c);
+  }
+
+  @Test
+  public void testReopen() {
+    for (int i = 0; i < keys.size(); i += 3) {
+      tree.remove(new Cell(keys.get(i)));
+      map.remove(keys.get(i));
+    }
+    tree.close();
+    tree = open();
+    assertEquals(map.size(), tree.size());
+    for (var entry : map.entrySet()) {
+      assertEquals(entry.getValue(), tree.get(new Cell(entry.getKey())));
+    }
+  }
+
+  @Test
+  public void testCursor() {
+    for (int i = 0; i < keys.size(); i += 3) {
+      // leaves left empty by removal are skipped
+      tree.remove(new Cell(keys.get(i)));
+      map.remove(keys.get(i));
+    }
+    TreeMap<Integer, Long> sorted = new TreeMap<>(map);
+    for (int i = 0; i < 100; i++) {
+      int lower = (int) (Math.random() * 10000);
+      int upper = lower + (int) (Math.random() * 2000);
+      boolean lowerInclusive = i % 2 == 0;
+      boolean upperInclusive = i % 3 == 0;
+      boolean reverse = i % 4 < 2;
+      NavigableMap<Integer, Long> expected = sorted.subMap(lower, lowerInclusive, upper, upperInclusive);
+      if (reverse) expected = expected.descendingMap();
+      IndexCursor<Cell, Long> cursor = tree.cursor(new Cell(lower), lowerInclusive, new Cell(upper), upperInclusive, reverse);
+      for (var entry : expected.entrySet()) {
+        assertTrue(cursor.advance());
+        assertEquals(entry.getKey(), cursor.key().value);
+        assertEquals(entry.getValue(), cursor.value());
+      }
+      assertFalse(cursor.advance());
+    }
+    IndexCursor<Cell, Long> cursor = tree.cursor(null, true, null, true, true);
+    for (var key : sorted.descendingKeySet()) {
+      assertTrue(cursor.advance());
+      assertEquals(key, cursor.key().value);
+    }
+    assertFalse(cursor.advance());
+    assertEquals(0, pool.getPinnedCount());
+  }
+}
@@ -0,0 +1,95 @@
+package cn.edu.thssdb.query;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertEquals;
+
+public class AggregateOperatorTest {
+  private static class ListOperator extends IteratorOperator<Integer> {
+    private final List<Integer> items;
+
+    ListOperator(List<Integer> items) {
+      this.items = items;
+    }
+
+    @Override
+    protected Iterator<Integer> start() {
+      return items.iterator();
+    }
+  }
+
+  // (key, count, sum) of a group of items, grouped by item % modulus
+  private static AggregateOperator.Accumulator<Integer, long[]> accumulator(int modulus) {
+    return new AggregateOperator.Accumulator<>() {
+      private final long[] result = new long[3];
+
+      @Override
+      public void add(Integer item) {
+        result[0] = item % modulus;
+        result[1]++;
+        result[2] += item;
+      }
+
+      @Override
+      public long[] result() {
+        return result;
+      }
+    };
+  }
+
+  private static Map<Long, List<Long>> aggregate(List<Integer> items, int modulus, boolean sorted, int bufferGroups) {
+    Function<Integer, byte[]> encoder = item -> ByteBuffer.allocate(4).putInt(item).array();
+    var operator = new AggregateOperator<>(new ListOperator(items), item -> item % modulus, () -> accumulator(modulus), sorted,
+        encoder, ByteBuffer::getInt, bufferGroups);
+    var groups = new TreeMap<Long, List<Long>>();
+    try (operator) {
+      operator.open();
+      for (var result = operator.next(); result != null; result = operator.next())
+        assertEquals(null, groups.put(result[0], List.of(result[1], result[2])));
+    }
+    return groups;
+  }
+
+  private static Map<Long, List<Long>> expected(List<Integer> items, int modulus) {
+    return items.stream().collect(Collectors.groupingBy(item -> (long) (item % modulus), TreeMap::new,
+        Collectors.collectingAndThen(Collectors.toList(),
+            group -> List.of((long) group.size(), group.stream().mapToLong(Integer::longValue).sum()))));
+  }
+
+  @Test
+  public void testHash() {
+    var items = IntStream.range(0, 5000).map(i -> (i * 7919) % 5000).boxed().toList();
+    assertEquals(expected(items, 300), aggregate(items, 300, false, 1000));
+    // most groups spilled, partitions spilled again
+    assertEquals(expected(items, 300), aggregate(items, 300, false, 4));
+    assertEquals(expected(items, 300), aggregate(items, 300, false, 1));
+  }
+
+  @Test
+  public void testSorted() {
+    var items = new ArrayList<Integer>(); // in groups of equal key
+    for (int key = 0; key < 50; key++)
+      for (int i = 0; i < key % 4 + 1; i++) items.add(key + 50 * i);
+    assertEquals(expected(items, 50), aggregate(items, 50, true, 1));
+  }
+
+  @Test
+  public void testAll() {
+    var operator = new AggregateOperator<Integer, long[]>(new ListOperator(List.of()), null, () -> accumulator(1), false, null, null);
+    operator.open();
+    var result = operator.next();
+    assertEquals(0, result[1]);
+    assertEquals(null, operator.next());
+    operator.close();
+  }
+}
@@ -0,0 +1,84 @@
+package cn.edu.thssdb.query;
+
+import cn.edu.thssdb.schema.Cell;
+import cn.edu.thssdb.schema.Row;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.Assert.assertEquals;
+
+public class HashJoinIteratorTest {
+  private static Row row(Object... values) {
+    var entries = new ArrayList<Cell>();
+    for (var v : values) entries.add(new Cell(v));
+    return new Row(entries);
+  }
+
+  private static List<Object> key(Row row, int column) {
+    var v = row.getEntries().get(column).value;
+    return v == null ? null : List.of(HashJoinIterator.comparisonKey(v));
+  }
+
+  // joined tuples as "left id, right id", in output order
+  private static List<String> joinInOrder(List<Row> left, List<Row> right, boolean cross) {
+    var leftTuples = left.stream().<List<Row>>map(List::of).iterator();
+    Function<List<Row>, List<Object>> leftKey = rows -> cross ? List.of() : key(rows.get(0), 1);
+    Function<Row, List<Object>> rightKey = row -> cross ? List.of() : key(row, 1);
+    var result = new ArrayList<String>();
+    var iterator = new HashJoinIterator(leftTuples, right.iterator(), leftKey, rightKey);
+    while (iterator.hasNext()) {
+      var tuple = iterator.next();
+      assertEquals(2, tuple.size());
+      result.add(tuple.get(0).getEntries().get(0) + "," + tuple.get(1).getEntries().get(0));
+    }
+    return result;
+  }
+
+  // joined tuples counted by "left id, right id"
+  private static HashMap<String, Integer> join(List<Row> left, List<Row> right, boolean cross) {
+    var result = new HashMap<String, Integer>();
+    for (var pair : joinInOrder(left, right, cross))
+      result.merge(pair, 1, Integer::sum);
+    return result;
+  }
+
+  private static HashMap<String, Integer> nestedLoop(List<Row> left, List<Row> right) throws Exception {
+    var result = new HashMap<String, Integer>();
+    for (var l : left)
+      for (var r : right)
+        if (l.getEntries().get(1).SQLCompareTo(r.getEntries().get(1), List.of(0)))
+          result.merge(l.getEntries().get(0) + "," + r.getEntries().get(0), 1, Integer::sum);
+    return result;
+  }
+
+  @Test
+  public void testEquiJoin() throws Exception {
+    var left = new ArrayList<Row>();
+    var right = new ArrayList<Row>();
+    for (int i = 0; i < 300; i++)
+      left.add(row(i, i % 7 == 0 ? null : i % 50));
+    for (int i = 0; i < 100; i++)
+      right.add(row(i, (double) (i % 60)));
+    assertEquals(nestedLoop(left, right), join(left, right, false));
+    assertEquals(nestedLoop(right, left), join(right, left, false));
+  }
+
+  @Test
+  public void testLeftOrder() {
+    var left = List.of(row(1, 2), row(2, 1), row(3, 2));
+    var right = List.of(row(4, 2), row(5, 1), row(6, 2));
+    // matches of a left tuple in right order
+    assertEquals(List.of("1,4", "1,6", "2,5", "3,4", "3,6"), joinInOrder(left, right, false));
+  }
+
+  @Test
+  public void testCrossJoin() {
+    var left = List.of(row(1, 1), row(2, 2), row(3, null));
+    var right = List.of(row(4, 1), row(5, null));
+    assertEquals(6, join(left, right, true).size());
+  }
+}
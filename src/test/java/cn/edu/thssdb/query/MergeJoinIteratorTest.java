@@ -0,0 +1,93 @@
+package cn.edu.thssdb.query;
+
+import cn.edu.thssdb.schema.Cell;
+import cn.edu.thssdb.schema.Row;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+
+import static org.junit.Assert.assertEquals;
+
+public class MergeJoinIteratorTest {
+  private static Row row(Object... values) {
+    var entries = new ArrayList<Cell>();
+    for (var v : values) entries.add(new Cell(v));
+    return new Row(entries);
+  }
+
+  private static List<Object> key(Row row) {
+    var v = row.getEntries().get(1).value;
+    return v == null ? null : List.of(v);
+  }
+
+  // rows (int id, int key) sorted by key through a sorter that spills every 16 rows
+  private static List<Row> sort(List<Row> rows) {
+    Comparator<Row> comparator = Comparator.comparing(row -> (Integer) row.getEntries().get(1).value,
+        Comparator.nullsFirst(Comparator.naturalOrder()));
+    Function<Row, byte[]> encoder = row -> {
+      var buffer = ByteBuffer.allocate(9);
+      var v = (Integer) row.getEntries().get(1).value;
+      buffer.putInt((Integer) row.getEntries().get(0).value).put((byte) (v == null ? 0 : 1)).putInt(v == null ? 0 : v);
+      return buffer.array();
+    };
+    Function<ByteBuffer, Row> decoder = buffer -> {
+      int id = buffer.getInt();
+      boolean present = buffer.get() != 0;
+      int v = buffer.getInt();
+      return row(id, present ? v : null);
+    };
+    var sorter = new ExternalSorter<>(comparator, encoder, decoder, 16);
+    rows.forEach(sorter::add);
+    assertEquals(rows.size() / 16, sorter.getRunCount());
+    var sorted = new ArrayList<Row>();
+    sorter.forEach(sorted::add);
+    return sorted;
+  }
+
+  @Test
+  public void testSort() {
+    var random = new Random(1);
+    var rows = new ArrayList<Row>();
+    for (int i = 0; i < 100; i++)
+      rows.add(row(i, random.nextInt(10) == 0 ? null : random.nextInt(1000)));
+    var sorted = sort(rows);
+    assertEquals(rows.size(), sorted.size());
+    for (int i = 1; i < sorted.size(); i++) {
+      var a = (Integer) sorted.get(i - 1).getEntries().get(1).value;
+      var b = (Integer) sorted.get(i).getEntries().get(1).value;
+      if (a != null) assertEquals(true, b != null && a <= b);
+    }
+  }
+
+  @Test
+  public void testJoin() {
+    var random = new Random(2);
+    var left = new ArrayList<Row>();
+    var right = new ArrayList<Row>();
+    for (int i = 0; i < 200; i++)
+      left.add(row(i, random.nextInt(8) == 0 ? null : random.nextInt(40)));
+    for (int i = 0; i < 80; i++)
+      right.add(row(i, random.nextInt(8) == 0 ? null : random.nextInt(40)));
+    var expected = new HashMap<String, Integer>();
+    for (var l : left)
+      for (var r : right)
+        if (key(l) != null && key(l).equals(key(r)))
+          expected.merge(l.getEntries().get(0) + "," + r.getEntries().get(0), 1, Integer::sum);
+
+    var leftTuples = sort(left).stream().map(List::of).iterator();
+    var iterator = new MergeJoinIterator(leftTuples, sort(right).iterator(), rows -> key(rows.get(0)),
+        MergeJoinIteratorTest::key, MergeJoinIterator::compareKeys);
+    var result = new HashMap<String, Integer>();
+    while (iterator.hasNext()) {
+      var tuple = iterator.next();
+      result.merge(tuple.get(0).getEntries().get(0) + "," + tuple.get(1).getEntries().get(0), 1, Integer::sum);
+    }
+    assertEquals(expected, result);
+  }
+}
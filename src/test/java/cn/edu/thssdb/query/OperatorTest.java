@@ -0,0 +1,105 @@
+package cn.edu.thssdb.query;
+
+import cn.edu.thssdb.exception.EvaluationException;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class OperatorTest {
+  private static class ListOperator extends IteratorOperator<Integer> {
+    private final List<Integer> items;
+    boolean closed;
+
+    ListOperator(List<Integer> items) {
+      this.items = items;
+    }
+
+    @Override
+    protected Iterator<Integer> start() {
+      closed = false;
+      return items.iterator();
+    }
+
+    @Override
+    public void close() {
+      super.close();
+      closed = true;
+    }
+  }
+
+  private static <T> List<T> collect(Operator<T> plan) {
+    var list = new ArrayList<T>();
+    try (plan) {
+      plan.open();
+      plan.iterator().forEachRemaining(list::add);
+    }
+    return list;
+  }
+
+  @Test
+  public void testPipeline() {
+    var scan = new ListOperator(IntStream.range(0, 100).map(i -> (i * 37) % 100).boxed().toList());
+    var filter = new FilterOperator<>(scan, i -> i % 3 == 0);
+    var sort = new SortOperator<>(filter, Comparator.<Integer>reverseOrder(),
+        i -> ByteBuffer.allocate(4).putInt(i).array(), ByteBuffer::getInt);
+    var project = new ProjectOperator<>(sort, i -> "v" + i);
+    var result = collect(project);
+    assertEquals(34, result.size());
+    assertEquals("v99", result.get(0));
+    assertEquals("v0", result.get(33));
+    assertTrue(scan.closed);
+    // reopen restarts the plan
+    assertEquals(result, collect(project));
+  }
+
+  @Test
+  public void testTopN() {
+    var items = IntStream.range(0, 1000).map(i -> (i * 37) % 1000).boxed().toList();
+    var scan = new ListOperator(items);
+    assertEquals(IntStream.range(0, 10).boxed().toList(), collect(new TopNOperator<>(scan, Comparator.naturalOrder(), 10)));
+    assertTrue(scan.closed);
+    assertEquals(List.of(999, 998, 997), collect(new TopNOperator<>(new ListOperator(items), Comparator.<Integer>reverseOrder(), 3)));
+    assertEquals(List.of(), collect(new TopNOperator<>(new ListOperator(items), Comparator.naturalOrder(), 0)));
+    assertEquals(List.of(1, 2), collect(new TopNOperator<>(new ListOperator(List.of(2, 1)), Comparator.naturalOrder(), 5)));
+  }
+
+  @Test
+  public void testLimit() {
+    var pulled = new ArrayList<Integer>();
+    var scan = new ProjectOperator<>(new ListOperator(IntStream.range(0, 100).boxed().toList()), i -> {
+      pulled.add(i);
+      return i;
+    });
+    assertEquals(List.of(3, 4, 5), collect(new LimitOperator<>(scan, 3, 3)));
+    assertEquals(6, pulled.size()); // stops pulling at the limit
+    assertEquals(List.of(98, 99), collect(new LimitOperator<>(new ListOperator(IntStream.range(0, 100).boxed().toList()), 98, 5)));
+    assertEquals(List.of(), collect(new LimitOperator<>(new ListOperator(List.of(1)), 0, 0)));
+  }
+
+  @Test
+  public void testEvaluationError() {
+    var filter = new FilterOperator<>(new ListOperator(List.of(1, 2)), i -> {
+      if (i == 2) throw new Exception("Compare between STRING and INT is not supported");
+      return true;
+    });
+    filter.open();
+    assertEquals(Integer.valueOf(1), filter.next());
+    try {
+      filter.next();
+    } catch (EvaluationException e) {
+      assertEquals("Compare between STRING and INT is not supported", e.getMessage());
+      return;
+    } finally {
+      filter.close();
+    }
+    throw new AssertionError();
+  }
+}
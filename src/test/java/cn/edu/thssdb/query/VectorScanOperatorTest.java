@@ -0,0 +1,103 @@
+package cn.edu.thssdb.query;
+
+import cn.edu.thssdb.common.Global;
+import cn.edu.thssdb.schema.Cell;
+import cn.edu.thssdb.schema.Column;
+import cn.edu.thssdb.schema.Row;
+import cn.edu.thssdb.storage.ColumnarTable;
+import cn.edu.thssdb.type.ColumnType;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class VectorScanOperatorTest {
+  private int batchSize;
+  private List<Row> rows;
+  private ColumnarTable table;
+
+  @Before
+  public void setUp() {
+    batchSize = Global.batchSize;
+    Global.batchSize = 64; // several batches, the last one partial
+    rows = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      var score = i % 7 == 0 ? null : (double) (i % 100);
+      var name = i % 11 == 0 ? null : "n" + i % 13;
+      rows.add(new Row(new Cell[]{new Cell(i), new Cell(score), new Cell(name)}));
+    }
+    table = ColumnarTable.of(List.of(
+            new Column("id", ColumnType.INT, true, true, 0),
+            new Column("score", ColumnType.DOUBLE, false, false, 0),
+            new Column("name", ColumnType.STRING, false, false, 8)), rows);
+  }
+
+  @After
+  public void tearDown() {
+    Global.batchSize = batchSize;
+  }
+
+  private List<String> scan(List<BatchPredicate> predicates) {
+    var result = new ArrayList<String>();
+    try (var scan = new VectorScanOperator(table, predicates)) {
+      scan.open();
+      scan.iterator().forEachRemaining(row -> result.add(row.toString()));
+    }
+    return result;
+  }
+
+  private List<String> expected(Predicate<Row> condition) {
+    return rows.stream().filter(condition).map(Row::toString).toList();
+  }
+
+  private static Object value(Row row, int column) {
+    return row.getEntries().get(column).value;
+  }
+
+  @Test
+  public void testScan() {
+    assertEquals(expected(row -> true), scan(List.of()));
+    assertEquals(expected(row -> false), scan(List.of(BatchPredicate.none())));
+  }
+
+  @Test
+  public void testCompare() {
+    var id = table.vectors.get(0);
+    var score = table.vectors.get(1);
+    var name = table.vectors.get(2);
+    var lessOrEqual = BatchPredicate.LESS | BatchPredicate.EQUAL;
+    var notEqual = BatchPredicate.LESS | BatchPredicate.GREATER;
+    assertEquals(expected(row -> (Integer) value(row, 0) <= 500),
+            scan(List.of(BatchPredicate.compare(id, lessOrEqual, 500.5))));
+    // NULL never matches, not even "<>"
+    assertEquals(expected(row -> value(row, 1) != null && (Double) value(row, 1) != 30),
+            scan(List.of(BatchPredicate.compare(score, notEqual, 30))));
+    assertEquals(expected(row -> value(row, 2) != null && ((String) value(row, 2)).compareTo("n5") > 0),
+            scan(List.of(BatchPredicate.compare(name, BatchPredicate.GREATER, "n5"))));
+    assertEquals(expected(row -> (Integer) value(row, 0) > 100 && "n3".equals(value(row, 2))),
+            scan(List.of(BatchPredicate.compare(id, BatchPredicate.GREATER, 100), BatchPredicate.compare(name, BatchPredicate.EQUAL, "n3"))));
+  }
+
+  @Test
+  public void testColumnarTakenOnOpen() {
+    var taken = new boolean[1];
+    try (var scan = new VectorScanOperator(() -> {
+      taken[0] = true;
+      return table;
+    }, columnar -> List.of(BatchPredicate.compare(columnar.vectors.get(0), BatchPredicate.LESS, 10)))) {
+      assertFalse(taken[0]);
+      scan.open();
+      assertTrue(taken[0]);
+      var result = new ArrayList<String>();
+      scan.iterator().forEachRemaining(row -> result.add(row.toString()));
+      assertEquals(expected(row -> (Integer) value(row, 0) < 10), result);
+    }
+  }
+}
@@ -0,0 +1,193 @@
+package cn.edu.thssdb.schema;
+
+import cn.edu.thssdb.common.Global;
+import cn.edu.thssdb.query.QueryResult;
+import cn.edu.thssdb.storage.BufferPool;
+import cn.edu.thssdb.storage.HeapFile;
+import cn.edu.thssdb.storage.RowCodec;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Crash recovery end to end, in child JVMs: the first changes a table through a buffer pool much smaller than the table,
+ * so that dirty pages of the heap and the indexes are written back independently, and halts without persisting.
+ * The second recovers and reports what it finds.
+ */
+public class RecoveryTest {
+  private File dir;
+
+  @Before
+  public void setUp() throws IOException {
+    dir = Files.createTempDirectory("recovery").toFile();
+  }
+
+  @After
+  public void tearDown() throws IOException {
+    try (var paths = Files.walk(dir.toPath())) {
+      paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+    }
+  }
+
+  @Test
+  public void testRecoverEvictedPages() throws Exception {
+    assertEquals(List.of("halt"), run("crash"));
+    assertEquals(List.of(
+            "rows 1500",
+            "deleted 0",
+            "v99 500",
+            "uncommitted 0 1",
+            "heap 1500 index 1500 secondary 1500",
+            "heap rows indexed true"), run("check"));
+    assertEquals(List.of(
+            "rows 1500",
+            "deleted 0",
+            "v99 500",
+            "uncommitted 0 1",
+            "heap 1500 index 1500 secondary 1500",
+            "heap rows indexed true"), run("check")); // recovered state is persisted
+  }
+
+  @Test
+  public void testRecoverRecreatedTable() throws Exception {
+    assertEquals(List.of("halt"), run("recreate"));
+    assertEquals(List.of("rows [3, c]"), run("check-recreated"));
+  }
+
+  // lines of the child starting with ">> ", without the prefix
+  private List<String> run(String phase) throws Exception {
+    var java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+    var process = new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"), RecoveryTest.class.getName(), phase)
+            .directory(dir).redirectErrorStream(true).start();
+    var lines = new ArrayList<String>();
+    var output = new StringBuilder();
+    try (var reader = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        output.append(line).append('\n');
+        if (line.startsWith(">> ")) lines.add(line.substring(3));
+      }
+    }
+    assertTrue("child timed out", process.waitFor(120, TimeUnit.SECONDS));
+    assertEquals(output.toString(), 0, process.exitValue());
+    return lines;
+  }
+
+  public static void main(String[] args) {
+    Global.bufferPoolSize = 16 * Global.pageSize;
+    Global.walSyncPolicy = "os"; // pages are written back before the log is forced by a commit
+    switch (args[0]) {
+      case "crash" -> crash();
+      case "recreate" -> recreate();
+      case "check-recreated" -> checkRecreated();
+      default -> check();
+    }
+  }
+
+  private static void crash() {
+    var manager = Manager.getInstance();
+    execute(0, "create database r");
+    execute(0, "use r");
+    autoCommit(0, "create table t (id int, v int, s string(64), primary key(id))");
+    autoCommit(0, "create index iv on t (v)");
+    execute(0, "begin transaction");
+    for (int i = 0; i < 2000; i++)
+      execute(0, "insert into t values (" + i + ", " + i % 7 + ", '" + "row".repeat(16) + i + "')");
+    execute(0, "commit");
+    autoCommit(0, "delete from t where id < 500");
+    autoCommit(0, "update t set v = 99 where id >= 1500");
+    execute(1, "use r");
+    execute(1, "begin transaction"); // never committed
+    execute(1, "insert into t values (5000, 99, 'open')");
+    execute(1, "delete from t where id = 700");
+    System.out.println(">> halt");
+    System.out.flush();
+    Runtime.getRuntime().halt(manager.inTransactionSessions.contains(1L) ? 0 : 1);
+  }
+
+  private static void check() {
+    var manager = Manager.getInstance();
+    execute(0, "use r");
+    report("rows " + count("select count(*) from t"));
+    report("deleted " + count("select count(*) from t where id < 500"));
+    report("v99 " + count("select count(*) from t where v = 99"));
+    report("uncommitted " + count("select count(*) from t where id = 5000") + " " + count("select count(*) from t where id = 700"));
+    var table = manager.get("r").get("t");
+    var heap = new HeapFile(table.getTablePath(), new RowCodec(table.columns), new BufferPool(4)); // persisted by recovery
+    int heapRows = 0;
+    boolean indexed = true;
+    for (var pair : heap) {
+      heapRows++;
+      var row = pair.right;
+      indexed &= row.toString().equals(table.get(row.getEntries().get(table.primaryIndex)).toString());
+    }
+    heap.close();
+    report("heap " + heapRows + " index " + table.size() + " secondary " + table.indexes.get("iv").size());
+    report("heap rows indexed " + indexed);
+    manager.quit();
+    System.exit(0);
+  }
+
+  // the rows of a dropped table are logged before those of the table of the same name created since, with another schema
+  private static void recreate() {
+    Manager.getInstance();
+    execute(0, "create database r");
+    execute(0, "use r");
+    autoCommit(0, "create table t (id int, v int, primary key(id))");
+    autoCommit(0, "insert into t values (1, 10)");
+    autoCommit(0, "insert into t values (2, 20)");
+    autoCommit(0, "drop table t");
+    autoCommit(0, "create table t (id int, s string(8), primary key(id))");
+    autoCommit(0, "insert into t values (3, 'c')");
+    System.out.println(">> halt");
+    System.out.flush();
+    Runtime.getRuntime().halt(0);
+  }
+
+  private static void checkRecreated() {
+    var manager = Manager.getInstance();
+    execute(0, "use r");
+    var rows = new ArrayList<String>();
+    for (var row : manager.get("r").get("t"))
+      rows.add(row.getEntries().toString());
+    report("rows " + String.join(" ", rows));
+    manager.quit();
+    System.exit(0);
+  }
+
+  private static QueryResult execute(long session, String statement) {
+    return Manager.sqlHandler.evaluate(statement, session);
+  }
+
+  private static void autoCommit(long session, String statement) {
+    execute(session, "begin transaction");
+    execute(session, statement);
+    execute(session, "commit");
+  }
+
+  private static String count(String statement) {
+    execute(0, "begin transaction");
+    var result = execute(0, statement);
+    var value = String.valueOf(result.results.get(0).getEntries().get(0).value);
+    execute(0, "commit");
+    return value;
+  }
+
+  private static void report(String line) {
+    System.out.println(">> " + line);
+  }
+}
@@ -0,0 +1,55 @@
+package cn.edu.thssdb.schema;
+
+import cn.edu.thssdb.common.Global;
+import cn.edu.thssdb.exception.LockWaitTimeoutException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+public class SessionLockTest {
+  private long lockWaitTimeout;
+
+  @Before
+  public void setUp() {
+    lockWaitTimeout = Global.lockWaitTimeout;
+    Global.lockWaitTimeout = 100;
+  }
+
+  @After
+  public void tearDown() {
+    Global.lockWaitTimeout = lockWaitTimeout;
+  }
+
+  @Test
+  public void testWaitTimesOut() throws InterruptedException {
+    var lock = new SessionLock();
+    lock.XAcquire(1);
+    assertThrows(LockWaitTimeoutException.class, () -> lock.SAcquire(2));
+    assertThrows(LockWaitTimeoutException.class, () -> lock.XAcquire(2));
+    lock.Release(1);
+    assertTrue(lock.isFree()); // no waiter left behind
+    lock.SAcquire(2);
+    lock.XAcquire(2);
+  }
+
+  @Test
+  public void testWaitEndsOnRelease() throws Exception {
+    Global.lockWaitTimeout = 10000;
+    var lock = new SessionLock();
+    lock.XAcquire(1);
+    var waiter = new Thread(() -> {
+      try {
+        lock.XAcquire(2);
+      } catch (InterruptedException ignored) {
+      }
+    });
+    waiter.start();
+    Thread.sleep(50);
+    lock.Release(1);
+    waiter.join(5000);
+    assertTrue(!waiter.isAlive() && !lock.canXAcquire(1));
+  }
+}
@@ -0,0 +1,34 @@
+package cn.edu.thssdb.schema;
+
+import cn.edu.thssdb.index.KeyRange;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class TableStatisticsTest {
+  // values 0, 10, ..., 1000 in 4 buckets, a tenth of the rows NULL
+  private static TableStatistics.ColumnStatistics uniform() {
+    var bounds = new Cell[5];
+    for (int i = 0; i < bounds.length; i++) bounds[i] = new Cell(i * 250);
+    return new TableStatistics.ColumnStatistics(101, 0.1, bounds);
+  }
+
+  private static Cell cell(int v) {
+    return new Cell(v);
+  }
+
+  @Test
+  public void testSelectivity() {
+    var column = uniform();
+    assertEquals(1, column.selectivity(KeyRange.all()), 0);
+    assertEquals(0, column.selectivity(KeyRange.empty()), 0);
+    assertEquals(0.9 / 101, column.selectivity(KeyRange.of(cell(500), true, cell(500), true)), 1e-9);
+    assertEquals(0, column.selectivity(KeyRange.of(cell(2000), true, cell(2000), true)), 0);
+    assertEquals(0.9 * 0.5, column.selectivity(KeyRange.atMost(cell(500), false)), 1e-9);
+    // an excluded bound excludes the rows equal to it
+    assertEquals(0.9 * (0.25 - 1.0 / 101), column.selectivity(KeyRange.of(cell(100), false, cell(350), false)), 1e-9);
+    assertEquals(0.9 * 0.25, column.selectivity(KeyRange.of(cell(100), true, cell(350), false)), 1e-9);
+    assertEquals(0.9, column.selectivity(KeyRange.atLeast(cell(-5), true)), 1e-9);
+    assertEquals(0, column.selectivity(KeyRange.atLeast(cell(1001), true)), 0);
+  }
+}
@@ -0,0 +1,45 @@
+package cn.edu.thssdb.service;
+
+import cn.edu.thssdb.schema.Cell;
+import cn.edu.thssdb.schema.Row;
+import cn.edu.thssdb.type.ColumnType;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class RowBatchCodecTest {
+  private static List<Object> values(Row row) {
+    return row.getEntries().stream().map(cell -> cell.value).toList();
+  }
+
+  @Test
+  public void testRoundTrip() {
+    var types = List.of(ColumnType.INT, ColumnType.LONG, ColumnType.FLOAT, ColumnType.DOUBLE, ColumnType.STRING);
+    var rows = new ArrayList<Row>();
+    for (int i = 0; i < 1000; i++) {
+      boolean isNull = i % 7 == 3;
+      rows.add(new Row(new Cell[]{new Cell(isNull ? null : i - 500), new Cell(isNull ? null : (long) i << 40),
+          new Cell(i % 5 == 0 ? null : i / 4f), new Cell(i * 0.5), new Cell(isNull ? null : "s" + i % 300)}));
+    }
+    var batch = RowBatchCodec.encode(rows, types);
+    assertEquals(300, batch.getColumns().get(4).getDictionary().size());
+    assertEquals(2 * 1000, batch.getColumns().get(4).getCodes().length); // two bytes a code above 256 strings
+    var decoded = RowBatchCodec.decode(batch);
+    assertEquals(rows.size(), decoded.size());
+    for (int i = 0; i < rows.size(); i++)
+      assertEquals(values(rows.get(i)), values(decoded.get(i)));
+  }
+
+  @Test
+  public void testSmallDictionary() {
+    var rows = List.of(new Row(new Cell[]{new Cell("a")}), new Row(new Cell[]{new Cell(null)}), new Row(new Cell[]{new Cell("a")}));
+    var batch = RowBatchCodec.encode(rows, List.of(ColumnType.STRING));
+    assertEquals(List.of("a"), batch.getColumns().get(0).getDictionary());
+    assertEquals(3, batch.getColumns().get(0).getCodes().length);
+    assertEquals(List.of("a"), values(RowBatchCodec.decode(batch).get(2)));
+    assertEquals(0, RowBatchCodec.decode(RowBatchCodec.encode(List.of(), List.of(ColumnType.INT))).size());
+  }
+}
@@ -0,0 +1,56 @@
+package cn.edu.thssdb.storage;
+
+import cn.edu.thssdb.schema.Cell;
+import cn.edu.thssdb.type.ColumnType;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class CellCodecTest {
+  // compare in place has the sign of decoding and comparing
+  private static void check(CellCodec codec, List<Cell> cells) {
+    var buffer = ByteBuffer.allocate(codec.size());
+    for (var stored : cells) {
+      codec.write(buffer, 0, stored);
+      for (var cell : cells)
+        assertEquals(stored + " " + cell, Integer.signum(stored.compareTo(cell)), Integer.signum(codec.compare(buffer, 0, cell)));
+    }
+  }
+
+  private static List<Cell> cells(Object... values) {
+    return Arrays.stream(values).map(Cell::new).toList();
+  }
+
+  @Test
+  public void testCompare() {
+    check(new CellCodec(ColumnType.INT, 0, false), cells(Integer.MIN_VALUE, -1, 0, 1, Integer.MAX_VALUE));
+    check(new CellCodec(ColumnType.LONG, 0, false), cells(Long.MIN_VALUE, -1L, 0L, 1L << 40, Long.MAX_VALUE));
+    check(new CellCodec(ColumnType.FLOAT, 0, false), cells(-1.5f, -0.0f, 0.0f, 2.25f, Float.NaN));
+    check(new CellCodec(ColumnType.DOUBLE, 0, false), cells(-1e300, -0.0, 0.0, 0.5, Double.POSITIVE_INFINITY));
+    check(new CellCodec(ColumnType.STRING, 8, false), cells("", "a", "ab", "abc", "b", "B", "中"));
+  }
+
+  @Test
+  public void testCompareNull() {
+    var codec = new CellCodec(ColumnType.INT, 0, true);
+    var buffer = ByteBuffer.allocate(codec.size());
+    codec.write(buffer, 0, new Cell(null));
+    assertEquals(0, codec.compare(buffer, 0, new Cell(null)));
+    assertEquals(-1, codec.compare(buffer, 0, new Cell(-5)));
+    codec.write(buffer, 0, new Cell(-5));
+    assertEquals(1, codec.compare(buffer, 0, new Cell(null)));
+    assertEquals(0, codec.compare(buffer, 0, new Cell(-5)));
+  }
+
+  @Test(expected = ClassCastException.class)
+  public void testCompareDifferentType() {
+    var codec = new CellCodec(ColumnType.INT, 0, false);
+    var buffer = ByteBuffer.allocate(codec.size());
+    codec.write(buffer, 0, new Cell(1));
+    codec.compare(buffer, 0, new Cell(1L));
+  }
+}
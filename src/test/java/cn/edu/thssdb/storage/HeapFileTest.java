@@ -0,0 +1,120 @@
+package cn.edu.thssdb.storage;
+
+import cn.edu.thssdb.schema.Cell;
+import cn.edu.thssdb.schema.Column;
+import cn.edu.thssdb.schema.Row;
+import cn.edu.thssdb.type.ColumnType;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class HeapFileTest {
+  private File file;
+  private RowCodec codec;
+  private BufferPool pool;
+  private HeapFile heap;
+  private HashMap<Integer, Long> recordIds;
+
+  @Before
+  public void setUp() throws Exception {
+    file = File.createTempFile("heap", null);
+    codec = new RowCodec(List.of(
+            new Column("id", ColumnType.INT, true, true, 0),
+            new Column("name", ColumnType.STRING, false, false, 32),
+            new Column("score", ColumnType.DOUBLE, false, false, 0)));
+    pool = new BufferPool(4); // much smaller than the table, forces eviction
+    heap = new HeapFile(file.getPath(), codec, pool);
+    recordIds = new HashMap<>();
+    for (int i = 0; i < 2000; i++)
+      recordIds.put(i, heap.insert(row(i)));
+  }
+
+  @After
+  public void tearDown() {
+    heap.close();
+    assertTrue(file.delete());
+  }
+
+  private static Row row(int i) {
+    return new Row(new Cell[]{new Cell(i), new Cell("name" + i), new Cell(i % 3 == 0 ? null : i * 0.5)});
+  }
+
+  @Test
+  public void testRead() {
+    for (int i = 0; i < 2000; i++) {
+      var entries = heap.read(recordIds.get(i)).getEntries();
+      assertEquals(i, entries.get(0).value);
+      assertEquals("name" + i, entries.get(1).value);
+      if (i % 3 == 0) assertNull(entries.get(2).value);
+      else assertEquals(i * 0.5, entries.get(2).value);
+    }
+    assertTrue(pool.getEvictionCount() > 0);
+    assertEquals(0, pool.getPinnedCount());
+  }
+
+  @Test
+  public void testDeleteAndReopen() {
+    for (int i = 0; i < 2000; i += 2)
+      heap.delete(recordIds.get(i));
+    for (int i = 2000; i < 2500; i++) // reuses the freed space
+      recordIds.put(i, heap.insert(row(i)));
+    heap.close();
+    heap = new HeapFile(file.getPath(), codec, pool);
+    int count = 0;
+    for (var pair : heap) {
+      int id = (Integer) pair.right.getEntries().get(0).value;
+      assertTrue(id % 2 == 1 || id >= 2000);
+      assertEquals(recordIds.get(id), pair.left);
+      count++;
+    }
+    assertEquals(1500, count);
+  }
+
+  @Test
+  public void testConcurrentReads() throws Exception {
+    var threads = new Thread[4];
+    var failures = new AtomicInteger();
+    for (int t = 0; t < threads.length; t++) {
+      int offset = t;
+      threads[t] = new Thread(() -> {
+        for (int i = offset; i < 2000; i += 3)
+          if (!heap.read(recordIds.get(i)).getEntries().get(0).value.equals(i)) failures.incrementAndGet();
+      });
+      threads[t].start();
+    }
+    for (var thread : threads)
+      thread.join();
+    assertEquals(0, failures.get());
+    assertEquals(0, pool.getPinnedCount());
+  }
+
+  @Test
+  public void testLoggedPagesWrittenAfterLog() throws Exception {
+    var logFile = File.createTempFile("log", null);
+    var log = new WriteAheadLog(logFile.getPath(), WriteAheadLog.SyncPolicy.OS);
+    try {
+      log.append(1, LogRecord.BEGIN, new byte[0]);
+      long lsn = log.append(1, LogRecord.PUT, new byte[8]);
+      heap.logged(log, lsn);
+      for (int i = 2000; i < 2500; i++) // evicts pages changed under the LSN
+        recordIds.put(i, heap.insert(row(i)));
+      heap.flush();
+      var pageFile = new PageFile(file.getPath());
+      assertEquals(lsn, pageFile.read(HeapFile.pageOf(recordIds.get(2499))).getLsn());
+      pageFile.close();
+      assertEquals(lsn, log.records().get(1).lsn());
+    } finally {
+      log.close();
+      assertTrue(logFile.delete());
+    }
+  }
+}
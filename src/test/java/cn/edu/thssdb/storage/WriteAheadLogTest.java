@@ -0,0 +1,183 @@
+package cn.edu.thssdb.storage;
+
+import cn.edu.thssdb.schema.Cell;
+import cn.edu.thssdb.schema.Column;
+import cn.edu.thssdb.schema.Row;
+import cn.edu.thssdb.type.ColumnType;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class WriteAheadLogTest {
+  private File file;
+
+  @Before
+  public void setUp() throws Exception {
+    file = File.createTempFile("log", null);
+    assertTrue(file.delete());
+  }
+
+  @After
+  public void tearDown() {
+    assertTrue(file.delete());
+  }
+
+  private static byte[] bytes(String s) {
+    return s.getBytes(StandardCharsets.UTF_8);
+  }
+
+  @Test
+  public void testReopen() throws Exception {
+    var log = new WriteAheadLog(file.getPath(), WriteAheadLog.SyncPolicy.COMMIT);
+    long begin = log.append(7, LogRecord.BEGIN, new byte[0]);
+    long statement = log.append(7, LogRecord.STATEMENT, bytes("insert into t values (1)"));
+    log.commit(7);
+    log.close();
+    long size = file.length();
+    try (var raw = new RandomAccessFile(file, "rw")) { // torn record at the end
+      raw.seek(size);
+      raw.write(new byte[]{0, 0, 0, 40, 1, 2});
+    }
+
+    log = new WriteAheadLog(file.getPath(), WriteAheadLog.SyncPolicy.OS);
+    assertEquals(size, file.length());
+    var records = log.records();
+    assertEquals(3, records.size());
+    assertEquals(begin, records.get(0).lsn());
+    assertEquals(statement, records.get(1).lsn());
+    assertEquals("insert into t values (1)", new String(records.get(1).payload(), StandardCharsets.UTF_8));
+    assertEquals(LogRecord.COMMIT, records.get(2).type());
+    assertEquals(7, records.get(2).transaction());
+    long next = log.append(8, LogRecord.BEGIN, new byte[0]);
+    assertTrue(next > records.get(2).lsn());
+    log.close();
+  }
+
+  @Test
+  public void testTruncate() {
+    var log = new WriteAheadLog(file.getPath(), WriteAheadLog.SyncPolicy.INTERVAL);
+    for (int i = 0; i < 100; i++)
+      log.append(1, LogRecord.STATEMENT, bytes("statement " + i));
+    log.commit(1);
+    long last = log.records().get(100).lsn();
+    log.truncate();
+    assertEquals(0, log.size());
+    assertEquals(0, log.records().size());
+    log.commit(2);
+    log.close();
+
+    log = new WriteAheadLog(file.getPath());
+    var records = log.records();
+    assertEquals(1, records.size());
+    assertTrue(records.get(0).lsn() > last); // LSNs go on after a truncation
+    log.close();
+  }
+
+  @Test
+  public void testTruncateBefore() {
+    var log = new WriteAheadLog(file.getPath(), WriteAheadLog.SyncPolicy.COMMIT);
+    var lsns = new ArrayList<Long>();
+    for (int i = 0; i < 10; i++)
+      lsns.add(log.append(1, LogRecord.STATEMENT, bytes("statement " + i)));
+    log.truncate(lsns.get(6));
+    log.commit(1);
+    var records = log.records();
+    assertEquals(5, records.size());
+    assertEquals((long) lsns.get(6), records.get(0).lsn());
+    log.close();
+
+    log = new WriteAheadLog(file.getPath());
+    records = log.records();
+    assertEquals(5, records.size());
+    assertEquals("statement 9", new String(records.get(3).payload(), StandardCharsets.UTF_8));
+    assertEquals(LogRecord.COMMIT, records.get(4).type());
+    log.close();
+  }
+
+  @Test
+  public void testTruncateWhileCommitting() throws Exception {
+    var log = new WriteAheadLog(file.getPath(), WriteAheadLog.SyncPolicy.COMMIT);
+    for (int i = 0; i < 2000; i++)
+      log.append(1, LogRecord.STATEMENT, bytes("old " + i));
+    long keep = log.append(1, LogRecord.STATEMENT, bytes("kept"));
+    var committer = new Thread(() -> {
+      for (int i = 0; i < 200; i++) {
+        log.append(2, LogRecord.STATEMENT, bytes("new " + i));
+        log.commit(2);
+      }
+    });
+    committer.start();
+    log.truncate(keep);
+    committer.join();
+    var records = log.records();
+    assertEquals(keep, records.get(0).lsn());
+    assertEquals(1 + 400, records.size());
+    log.close();
+
+    var reopened = new WriteAheadLog(file.getPath());
+    records = reopened.records();
+    assertEquals(401, records.size());
+    assertEquals("new 199", new String(records.get(399).payload(), StandardCharsets.UTF_8));
+    reopened.close();
+  }
+
+  @Test
+  public void testConcurrentCommits() throws Exception {
+    var log = new WriteAheadLog(file.getPath(), WriteAheadLog.SyncPolicy.COMMIT);
+    var threads = new ArrayList<Thread>();
+    for (int t = 0; t < 8; t++) {
+      long transaction = t;
+      threads.add(new Thread(() -> {
+        for (int i = 0; i < 50; i++) {
+          log.append(transaction, LogRecord.STATEMENT, bytes(transaction + " " + i));
+          log.commit(transaction);
+        }
+      }));
+    }
+    for (var thread : threads) thread.start();
+    for (var thread : threads) thread.join();
+    log.close();
+
+    var reopened = new WriteAheadLog(file.getPath());
+    var statements = new HashSet<String>();
+    for (var record : reopened.records())
+      if (record.type() == LogRecord.STATEMENT) statements.add(new String(record.payload(), StandardCharsets.UTF_8));
+    assertEquals(8 * 50, statements.size());
+    reopened.close();
+  }
+
+  @Test
+  public void testRowChanges() {
+    var columns = List.of(
+            new Column("id", ColumnType.INT, true, true, 0),
+            new Column("name", ColumnType.STRING, false, false, 32));
+    var rowCodec = new RowCodec(columns);
+    var keyCodec = new CellCodec(columns.get(0));
+    var key = ByteBuffer.allocate(keyCodec.size());
+    keyCodec.write(key, 0, new Cell(3));
+    var log = new WriteAheadLog(file.getPath(), WriteAheadLog.SyncPolicy.COMMIT);
+    log.append(1, LogRecord.PUT, LogRecord.change("student", rowCodec.encode(new Row(new Cell[]{new Cell(2), new Cell("bob")}))));
+    log.append(1, LogRecord.DELETE, LogRecord.change("student", key.array()));
+    log.commit(1);
+    log.close();
+
+    log = new WriteAheadLog(file.getPath());
+    var records = log.records();
+    assertEquals("student", records.get(0).table());
+    assertEquals("[2, bob]", rowCodec.decode(records.get(0).body()).getEntries().toString());
+    assertEquals(LogRecord.DELETE, records.get(1).type());
+    assertEquals(new Cell(3), keyCodec.read(records.get(1).body(), 0));
+    log.close();
+  }
+}